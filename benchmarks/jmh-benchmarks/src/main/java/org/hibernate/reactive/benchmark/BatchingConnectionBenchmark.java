@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.pool.BatchingConnection;
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * A flush of inserts through a {@link BatchingConnection}: every statement
+ * is executed {@code batchSize} times, and the statements are interleaved
+ * when {@code interleaved} is true, so that a new batch is started for
+ * each execution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchingConnectionBenchmark {
+
+	private static final String[] SQL = {
+			"insert into Book (title,isbn,id) values ($1,$2,$3)",
+			"insert into Author (name,id) values ($1,$2)",
+			"insert into Book_Author (book_id,author_id) values ($1,$2)"
+	};
+
+	private static final ReactiveConnection.Expectation EXPECTATION = (rowCount, batchPosition, sql) -> {
+		if ( rowCount != 1 ) {
+			throw new IllegalStateException( "Unexpected row count: " + rowCount );
+		}
+	};
+
+	@Param({ "10", "100" })
+	public int batchSize;
+
+	@Param({ "false", "true" })
+	public boolean pipelining;
+
+	@Param({ "false", "true" })
+	public boolean interleaved;
+
+	private StubReactiveConnection delegate;
+	private Object[] parameters;
+
+	@Setup
+	public void setup() {
+		delegate = new StubReactiveConnection();
+		// Pipelining only applies inside a transaction
+		delegate.beginTransaction().toCompletableFuture().join();
+		parameters = new Object[] { "Hibernate Reactive in Action", "978-1-61729-483-5", 1L };
+	}
+
+	@Benchmark
+	public void flush() {
+		final BatchingConnection connection = new BatchingConnection( delegate, batchSize, pipelining );
+		final int executions = batchSize * SQL.length;
+		loop( 0, executions, index -> connection.update( sql( index ), parameters, true, EXPECTATION ) )
+				.thenCompose( v -> connection.executeBatch() )
+				.toCompletableFuture().join();
+	}
+
+	private String sql(int index) {
+		return interleaved
+				? SQL[index % SQL.length]
+				: SQL[index / batchSize];
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.reactive.id.impl.BlockingIdentifierGenerator;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.service.ServiceRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Identifier generation with a {@link BlockingIdentifierGenerator} shared
+ * by multiple event loops. The database is replaced by a counter, so that
+ * only the cost of the allocation of the ids within a block is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class BlockingIdentifierGeneratorBenchmark {
+
+	private static final int IDS_PER_INVOCATION = 1000;
+
+	// The connection is never used by the stub generator
+	private static final ReactiveConnectionSupplier NO_CONNECTION = () -> {
+		throw new UnsupportedOperationException( "Not supported by the benchmark" );
+	};
+
+	@Param({ "50", "1000" })
+	public int blockSize;
+
+	@Param({ "false", "true" })
+	public boolean blockPerEventLoop;
+
+	private Vertx vertx;
+	private StandardServiceRegistry registry;
+	private StubGenerator generator;
+
+	@Setup
+	public void setup() {
+		vertx = Vertx.vertx();
+		registry = new StandardServiceRegistryBuilder()
+				.applySetting( Settings.ID_BLOCK_PER_EVENT_LOOP, blockPerEventLoop )
+				.build();
+		generator = new StubGenerator( registry, blockSize );
+	}
+
+	@TearDown
+	public void tearDown() {
+		StandardServiceRegistryBuilder.destroy( registry );
+		vertx.close().toCompletionStage().toCompletableFuture().join();
+	}
+
+	/**
+	 * The event loop used by a benchmark thread
+	 */
+	@State(Scope.Thread)
+	public static class EventLoop {
+		private Context context;
+
+		@Setup(Level.Trial)
+		public void setup(BlockingIdentifierGeneratorBenchmark benchmark) {
+			// Called from a non Vert.x thread, each call creates a new event loop context
+			context = benchmark.vertx.getOrCreateContext();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(IDS_PER_INVOCATION)
+	public long generate(EventLoop eventLoop) {
+		final CompletableFuture<Long> result = new CompletableFuture<>();
+		final long[] sum = { 0 };
+		// A new block might be allocated on the event loop, so we can't block it
+		eventLoop.context.runOnContext( v -> loop( 0, IDS_PER_INVOCATION, i -> generator
+				.generate( NO_CONNECTION, null )
+				.thenAccept( id -> sum[0] += id ) )
+				.whenComplete( (ignored, t) -> {
+					if ( t != null ) {
+						result.completeExceptionally( t );
+					}
+					else {
+						result.complete( sum[0] );
+					}
+				} )
+		);
+		return result.join();
+	}
+
+	private static class StubGenerator extends BlockingIdentifierGenerator {
+
+		private final int blockSize;
+		private final AtomicLong hiValue = new AtomicLong( 1 );
+
+		StubGenerator(ServiceRegistry serviceRegistry, int blockSize) {
+			super( serviceRegistry );
+			this.blockSize = blockSize;
+		}
+
+		@Override
+		protected int getBlockSize() {
+			return blockSize;
+		}
+
+		@Override
+		protected CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session) {
+			return completedFuture( hiValue.getAndAdd( blockSize ) );
+		}
+	}
+}
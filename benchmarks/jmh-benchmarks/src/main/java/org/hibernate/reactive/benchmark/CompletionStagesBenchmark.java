@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.whileLoop;
+
+/**
+ * The loops in {@link org.hibernate.reactive.util.impl.CompletionStages},
+ * and the {@link org.hibernate.reactive.util.async.impl.AsyncTrampoline}
+ * they are built on, with steps that complete immediately.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompletionStagesBenchmark {
+
+	@Param({ "10", "1000" })
+	public int size;
+
+	private Object[] array;
+	private List<Object> list;
+
+	@Setup
+	public void setup() {
+		array = new Object[size];
+		list = new ArrayList<>( size );
+		for ( int i = 0; i < size; i++ ) {
+			array[i] = i;
+			list.add( i );
+		}
+	}
+
+	@Benchmark
+	public void loopOverArray(Blackhole blackhole) {
+		loop( array, element -> {
+			blackhole.consume( element );
+			return voidFuture();
+		} ).toCompletableFuture().join();
+	}
+
+	@Benchmark
+	public void loopOverList(Blackhole blackhole) {
+		loop( list, element -> {
+			blackhole.consume( element );
+			return voidFuture();
+		} ).toCompletableFuture().join();
+	}
+
+	@Benchmark
+	public void loopOverRange(Blackhole blackhole) {
+		loop( 0, size, index -> {
+			blackhole.consume( index );
+			return voidFuture();
+		} ).toCompletableFuture().join();
+	}
+
+	@Benchmark
+	public void whileLoopWithCounter(Blackhole blackhole) {
+		final int[] counter = { 0 };
+		whileLoop( () -> {
+			blackhole.consume( counter[0] );
+			return completedFuture( ++counter[0] < size );
+		} ).toCompletableFuture().join();
+	}
+}
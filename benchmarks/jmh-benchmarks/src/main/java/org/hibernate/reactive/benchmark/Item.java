@@ -0,0 +1,38 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * The entity used by {@link SessionBenchmark}.
+ */
+@Entity(name = "Item")
+@Table(name = "Item")
+public class Item {
+
+	@Id
+	private Long id;
+
+	private String name;
+
+	public Item() {
+	}
+
+	public Item(Long id, String name) {
+		this.id = id;
+		this.name = name;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+}
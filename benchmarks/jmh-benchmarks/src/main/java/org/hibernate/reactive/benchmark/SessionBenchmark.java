@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.reactive.vertx.VertxInstance;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import jakarta.persistence.SharedCacheMode;
+
+/**
+ * The overhead of Hibernate Reactive for loading entities, from the
+ * creation of the session to the conversion of the result set into
+ * entities. The database is replaced by {@link StubConnectionPool},
+ * so that the results don't depend on the network or on the database.
+ * <p>
+ * The cache-hit benchmarks find an entity that is already in the
+ * persistence context of an open session, or in the second-level cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SessionBenchmark {
+
+	@Param({ "1", "100" })
+	public int resultSize;
+
+	private Vertx vertx;
+	private Context context;
+	private StandardServiceRegistry registry;
+	private StandardServiceRegistry cachingRegistry;
+	private Stage.SessionFactory sessionFactory;
+	// Caches the entities in the second-level cache
+	private Stage.SessionFactory cachingSessionFactory;
+	// A session that has already loaded the item
+	private Stage.Session loadedSession;
+
+	private List<Object[]> singleRow;
+	private List<Object[]> rows;
+
+	// The rows returned by the next query
+	private volatile List<Object[]> nextRows;
+
+	@Setup
+	public void setup() {
+		singleRow = List.<Object[]>of( new Object[] { 1L, "Item 1" } );
+		rows = new ArrayList<>( resultSize );
+		for ( long id = 1; id <= resultSize; id++ ) {
+			rows.add( new Object[] { id, "Item " + id } );
+		}
+		nextRows = rows;
+
+		vertx = Vertx.vertx();
+		context = vertx.getOrCreateContext();
+
+		final Configuration configuration = new Configuration()
+				.addAnnotatedClass( Item.class )
+				.setProperty( AvailableSettings.DIALECT, PostgreSQLDialect.class.getName() )
+				// The stub connections don't have any metadata to offer
+				.setProperty( AvailableSettings.ALLOW_METADATA_ON_BOOT, "false" )
+				.setProperty( AvailableSettings.HBM2DDL_AUTO, "none" );
+		final Supplier<ResultSet> resultSets = () -> StubResultSet.of( nextRows );
+		registry = new ReactiveServiceRegistryBuilder()
+				.applySettings( configuration.getProperties() )
+				.addService( ReactiveConnectionPool.class, new StubConnectionPool( resultSets ) )
+				.addService( VertxInstance.class, (VertxInstance) () -> vertx )
+				.build();
+		sessionFactory = configuration.buildSessionFactory( registry ).unwrap( Stage.SessionFactory.class );
+
+		final Configuration cachingConfiguration = new Configuration()
+				.addProperties( configuration.getProperties() )
+				.addAnnotatedClass( Item.class )
+				.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" )
+				.setProperty( AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ALL.name() )
+				.setProperty( AvailableSettings.CACHE_REGION_FACTORY, "org.hibernate.cache.jcache.JCacheRegionFactory" )
+				.setProperty( "hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider" )
+				.setProperty( "hibernate.javax.cache.missing_cache_strategy", "create" );
+		cachingRegistry = new ReactiveServiceRegistryBuilder()
+				.applySettings( cachingConfiguration.getProperties() )
+				.addService( ReactiveConnectionPool.class, new StubConnectionPool( resultSets ) )
+				.addService( VertxInstance.class, (VertxInstance) () -> vertx )
+				.build();
+		cachingSessionFactory = cachingConfiguration.buildSessionFactory( cachingRegistry ).unwrap( Stage.SessionFactory.class );
+
+		// Load the item in the persistence context and in the second-level cache
+		nextRows = singleRow;
+		loadedSession = onContext( () -> sessionFactory.openSession() );
+		onContext( () -> loadedSession.find( Item.class, 1L ) );
+		onContext( () -> cachingSessionFactory.withSession( session -> session.find( Item.class, 1L ) ) );
+		nextRows = rows;
+	}
+
+	@TearDown
+	public void tearDown() {
+		onContext( () -> loadedSession.close() );
+		cachingSessionFactory.close();
+		sessionFactory.close();
+		ReactiveServiceRegistryBuilder.destroy( cachingRegistry );
+		ReactiveServiceRegistryBuilder.destroy( registry );
+		vertx.close().toCompletionStage().toCompletableFuture().join();
+	}
+
+	@Benchmark
+	public Item find() {
+		nextRows = singleRow;
+		return onContext( () -> sessionFactory.withSession( session -> session.find( Item.class, 1L ) ) );
+	}
+
+	@Benchmark
+	public Item findInPersistenceContext() {
+		nextRows = singleRow;
+		return onContext( () -> loadedSession.find( Item.class, 1L ) );
+	}
+
+	@Benchmark
+	public Item findInSecondLevelCache() {
+		nextRows = singleRow;
+		return onContext( () -> cachingSessionFactory.withSession( session -> session.find( Item.class, 1L ) ) );
+	}
+
+	@Benchmark
+	public List<Item> statelessQuery() {
+		nextRows = rows;
+		return onContext( () -> sessionFactory.withStatelessSession( session -> session
+				.createSelectionQuery( "from Item", Item.class )
+				.getResultList() ) );
+	}
+
+	@Benchmark
+	public List<Item> query() {
+		nextRows = rows;
+		return onContext( () -> sessionFactory.withSession( session -> session
+				.createSelectionQuery( "from Item", Item.class )
+				.getResultList() ) );
+	}
+
+	// Sessions must be used on a Vert.x event loop
+	private <T> T onContext(Supplier<CompletionStage<T>> work) {
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		context.runOnContext( v -> work.get().whenComplete( (value, t) -> {
+			if ( t != null ) {
+				result.completeExceptionally( t );
+			}
+			else {
+				result.complete( value );
+			}
+		} ) );
+		return result.join();
+	}
+}
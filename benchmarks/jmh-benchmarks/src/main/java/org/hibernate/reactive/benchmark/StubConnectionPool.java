@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.sql.ResultSet;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * A {@link ReactiveConnectionPool} returning a new {@link StubReactiveConnection}
+ * for each request.
+ */
+public class StubConnectionPool implements ReactiveConnectionPool {
+
+	private final Supplier<ResultSet> resultSets;
+
+	public StubConnectionPool(Supplier<ResultSet> resultSets) {
+		this.resultSets = resultSets;
+	}
+
+	private ReactiveConnection newConnection() {
+		return new StubReactiveConnection( resultSets );
+	}
+
+	@Override
+	public ReactiveConnection getProxyConnection() {
+		return newConnection();
+	}
+
+	@Override
+	public ReactiveConnection getProxyConnection(SqlExceptionHelper sqlExceptionHelper) {
+		return newConnection();
+	}
+
+	@Override
+	public ReactiveConnection getProxyConnection(String tenantId) {
+		return newConnection();
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection(SqlExceptionHelper sqlExceptionHelper) {
+		return completedFuture( newConnection() );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection(String tenantId) {
+		return completedFuture( newConnection() );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection() {
+		return completedFuture( newConnection() );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection(String tenantId, SqlExceptionHelper sqlExceptionHelper) {
+		return completedFuture( newConnection() );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbcOutsideTransaction(String sql, Object[] paramValues) {
+		return completedFuture( resultSets.get() );
+	}
+
+	@Override
+	public CompletionStage<Void> getCloseFuture() {
+		return voidFuture();
+	}
+}
@@ -0,0 +1,212 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.hibernate.reactive.pool.BatchingConnection;
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import io.vertx.sqlclient.spi.DatabaseMetadata;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * An in-memory {@link ReactiveConnection} that never talks to a database.
+ * Every update affects exactly one row, and every query returns the rows
+ * produced by the given supplier.
+ */
+public class StubReactiveConnection implements ReactiveConnection {
+
+	private static final DatabaseMetadata METADATA = new DatabaseMetadata() {
+		@Override
+		public String productName() {
+			return "PostgreSQL";
+		}
+
+		@Override
+		public String fullVersion() {
+			return "17.0";
+		}
+
+		@Override
+		public int majorVersion() {
+			return 17;
+		}
+
+		@Override
+		public int minorVersion() {
+			return 0;
+		}
+	};
+
+	private final Supplier<ResultSet> resultSets;
+	private boolean transactionInProgress;
+
+	public StubReactiveConnection() {
+		this( () -> StubResultSet.of( Collections.emptyList() ) );
+	}
+
+	public StubReactiveConnection(Supplier<ResultSet> resultSets) {
+		this.resultSets = resultSets;
+	}
+
+	@Override
+	public boolean isTransactionInProgress() {
+		return transactionInProgress;
+	}
+
+	@Override
+	public DatabaseMetadata getDatabaseMetadata() {
+		return METADATA;
+	}
+
+	@Override
+	public CompletionStage<Void> execute(String sql) {
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> executeOutsideTransaction(String sql) {
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> executeUnprepared(String sql) {
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql) {
+		return completedFuture( 1 );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		return completedFuture( 1 );
+	}
+
+	@Override
+	public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
+		expectation.verifyOutcome( 1, -1, sql );
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		final int[] rowCounts = new int[paramValues.size()];
+		Arrays.fill( rowCounts, 1 );
+		return completedFuture( rowCounts );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql) {
+		return completedFuture( EmptyResult.INSTANCE );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql, Object[] paramValues) {
+		return completedFuture( EmptyResult.INSTANCE );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		return completedFuture( resultSets.get() );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql) {
+		return completedFuture( resultSets.get() );
+	}
+
+	@Override
+	public <T> CompletionStage<T> insertAndSelectIdentifier(String sql, Object[] paramValues, Class<T> idClass, String idColumnName) {
+		return failedFuture( new UnsupportedOperationException( "Not supported by the stub connection" ) );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> insertAndSelectIdentifierAsResultSet(String sql, Object[] paramValues, Class<?> idClass, String idColumnName) {
+		return failedFuture( new UnsupportedOperationException( "Not supported by the stub connection" ) );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> executeAndSelectGeneratedValues(String sql, Object[] paramValues, List<Class<?>> idClass, List<String> generatedColumnName) {
+		return failedFuture( new UnsupportedOperationException( "Not supported by the stub connection" ) );
+	}
+
+	@Override
+	public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues, Class<T> idClass) {
+		return failedFuture( new UnsupportedOperationException( "Not supported by the stub connection" ) );
+	}
+
+	@Override
+	public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues, int fetchSize) {
+		return failedFuture( new UnsupportedOperationException( "Not supported by the stub connection" ) );
+	}
+
+	@Override
+	public CompletionStage<Void> beginTransaction() {
+		transactionInProgress = true;
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> commitTransaction() {
+		transactionInProgress = false;
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackTransaction() {
+		transactionInProgress = false;
+		return voidFuture();
+	}
+
+	@Override
+	public ReactiveConnection withBatchSize(int batchSize) {
+		return batchSize <= 1
+				? this
+				: new BatchingConnection( this, batchSize );
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> close() {
+		return voidFuture();
+	}
+
+	private static final class EmptyResult implements Result {
+		private static final EmptyResult INSTANCE = new EmptyResult();
+
+		private final Iterator<Object[]> iterator = Collections.emptyIterator();
+
+		@Override
+		public int size() {
+			return 0;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return iterator.hasNext();
+		}
+
+		@Override
+		public Object[] next() {
+			return iterator.next();
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.List;
+
+/**
+ * A read-only JDBC {@link ResultSet} over rows kept in memory.
+ * <p>
+ * Only the methods used by Hibernate to read the values of the
+ * basic types are implemented, the others throw an
+ * {@link UnsupportedOperationException}.
+ */
+public final class StubResultSet {
+
+	private StubResultSet() {
+	}
+
+	public static ResultSet of(List<Object[]> rows) {
+		final State state = new State( rows );
+		return (ResultSet) Proxy.newProxyInstance(
+				StubResultSet.class.getClassLoader(),
+				new Class<?>[] { ResultSet.class },
+				(proxy, method, args) -> switch ( method.getName() ) {
+					case "next" -> ++state.row < rows.size();
+					case "wasNull" -> state.wasNull;
+					case "close" -> {
+						state.closed = true;
+						yield null;
+					}
+					case "isClosed" -> state.closed;
+					case "getMetaData" -> metaData( rows );
+					case "getObject", "getString", "getLong", "getInt", "getBoolean", "getDouble" ->
+							state.value( (Integer) args[0], method.getReturnType() );
+					case "unwrap" -> proxy;
+					case "isWrapperFor" -> false;
+					case "hashCode" -> System.identityHashCode( proxy );
+					case "equals" -> proxy == args[0];
+					case "toString" -> "StubResultSet[" + rows.size() + " rows]";
+					default -> throw new UnsupportedOperationException( "Not supported by the stub result set: " + method );
+				}
+		);
+	}
+
+	private static ResultSetMetaData metaData(List<Object[]> rows) {
+		final int columnCount = rows.isEmpty() ? 0 : rows.get( 0 ).length;
+		return (ResultSetMetaData) Proxy.newProxyInstance(
+				StubResultSet.class.getClassLoader(),
+				new Class<?>[] { ResultSetMetaData.class },
+				(proxy, method, args) -> {
+					if ( method.getName().equals( "getColumnCount" ) ) {
+						return columnCount;
+					}
+					throw new UnsupportedOperationException( "Not supported by the stub result set: " + method );
+				}
+		);
+	}
+
+	private static final class State {
+		private final List<Object[]> rows;
+		private int row = -1;
+		private boolean wasNull;
+		private boolean closed;
+
+		private State(List<Object[]> rows) {
+			this.rows = rows;
+		}
+
+		private Object value(int column, Class<?> type) {
+			final Object value = rows.get( row )[column - 1];
+			wasNull = value == null;
+			if ( value == null && type.isPrimitive() ) {
+				// Same as JDBC, the default value for the primitive type
+				return defaultValue( type );
+			}
+			if ( value instanceof Number number ) {
+				if ( type == long.class ) {
+					return number.longValue();
+				}
+				if ( type == int.class ) {
+					return number.intValue();
+				}
+				if ( type == double.class ) {
+					return number.doubleValue();
+				}
+			}
+			return value;
+		}
+
+		private static Object defaultValue(Class<?> primitiveType) {
+			if ( primitiveType == boolean.class ) {
+				return false;
+			}
+			if ( primitiveType == long.class ) {
+				return 0L;
+			}
+			if ( primitiveType == double.class ) {
+				return 0d;
+			}
+			return 0;
+		}
+	}
+}
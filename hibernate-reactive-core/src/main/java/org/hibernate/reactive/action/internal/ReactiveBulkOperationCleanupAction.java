@@ -9,14 +9,22 @@
 import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.sqm.tree.SqmDmlStatement;
+import org.hibernate.reactive.engine.ReactiveAfterTransactionCompletionProcess;
 import org.hibernate.reactive.session.ReactiveSession;
 
+import static org.hibernate.reactive.cache.impl.ReactiveSecondLevelCache.evictEntityRegions;
+import static org.hibernate.reactive.cache.impl.ReactiveSecondLevelCache.isEnabled;
+
 /**
  * Helper class to schedule bulk operation cleanup actions in the reactive action queue.
  * <p>
  * This delegates to Hibernate ORM's {@link BulkOperationCleanupAction} for the actual
  * cleanup logic, but ensures the action is added to {@link org.hibernate.reactive.engine.ReactiveActionQueue}
  * instead of the standard {@link org.hibernate.engine.spi.ActionQueue}.
+ * <p>
+ * The regions of the affected entities are also evicted from the
+ * {@link org.hibernate.reactive.cache.ReactiveRegionAccessFactory}, if
+ * there is one, when the local regions are evicted for the last time.
  */
 public class ReactiveBulkOperationCleanupAction {
 
@@ -49,10 +57,17 @@ private static void schedule(SharedSessionContractImplementor session, BulkOpera
 			// Regular session - add action to the reactive action queue
 			ReactiveSession reactiveSession = session.unwrap( ReactiveSession.class );
 			reactiveSession.getReactiveActionQueue().addAction( action );
+			if ( isEnabled( session.getFactory() ) ) {
+				final ReactiveAfterTransactionCompletionProcess evictReactiveRegions =
+						(success, s) -> evictEntityRegions( action.getPropertySpaces(), session.getFactory() );
+				reactiveSession.getReactiveActionQueue().registerProcess( evictReactiveRegions );
+			}
 		}
 		else {
 			// Stateless session - execute cleanup immediately
 			action.getAfterTransactionCompletionProcess().doAfterTransactionCompletion( true, session );
+			// There's no transaction completion to wait for
+			evictEntityRegions( action.getPropertySpaces(), session.getFactory() );
 		}
 	}
 }
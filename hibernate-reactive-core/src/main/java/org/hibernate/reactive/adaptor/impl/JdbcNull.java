@@ -15,6 +15,14 @@ public class JdbcNull {
     }
 
     public NullValue toNullValue() {
+        return toNullValue( jdbcTypeCode );
+    }
+
+    /**
+     * @return the Vert.x {@link NullValue} for the given JDBC type code,
+     *         or {@code null} if there isn't one
+     */
+    public static NullValue toNullValue(int jdbcTypeCode) {
         switch ( jdbcTypeCode ) {
             case Types.BOOLEAN:
             case Types.BIT: //we misuse BIT in H5
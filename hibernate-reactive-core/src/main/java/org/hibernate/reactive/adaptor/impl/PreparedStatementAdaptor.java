@@ -4,7 +4,6 @@
  */
 package org.hibernate.reactive.adaptor.impl;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
@@ -31,6 +30,8 @@
 import java.time.temporal.Temporal;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.Function;
 
 import org.hibernate.AssertionFailure;
@@ -56,8 +57,31 @@ public interface Binder {
 	}
 
 	public static Object[] bind(Binder binder) {
+		return bind( 0, binder );
+	}
+
+	/**
+	 * Bind the parameters of the given SQL statement, allocating the
+	 * array of parameters with the size used the last time the same
+	 * statement was executed.
+	 */
+	public static Object[] bind(String sql, Binder binder) {
+		final Map<String, Integer> parameterCounts = PARAMETER_COUNTS.get();
+		final Integer expectedParameterCount = parameterCounts.get( sql );
+		final Object[] params = bind( expectedParameterCount == null ? 0 : expectedParameterCount, binder );
+		if ( expectedParameterCount == null || expectedParameterCount != params.length ) {
+			parameterCounts.put( sql, params.length );
+		}
+		return params;
+	}
+
+	/**
+	 * Bind the parameters, allocating the array of parameters with
+	 * the expected size. The array grows if there are more parameters.
+	 */
+	public static Object[] bind(int expectedParameterCount, Binder binder) {
 		try {
-			PreparedStatementAdaptor statement = new PreparedStatementAdaptor();
+			PreparedStatementAdaptor statement = new PreparedStatementAdaptor( expectedParameterCount );
 			binder.bind( statement );
 			return statement.getParametersAsArray();
 		}
@@ -68,11 +92,36 @@ public static Object[] bind(Binder binder) {
 
 	static final Object[] NO_PARAMS = new Object[0];
 
-	Object[] params = NO_PARAMS;
+	// The number of parameters of the statements executed most recently by
+	// each thread. Statements are bound on the thread of the event loop that
+	// executes them, so each thread only needs the counts of its own
+	// statements, and the least recently used ones are forgotten.
+	private static final int MAX_PARAMETER_COUNTS = 1024;
+	private static final ThreadLocal<Map<String, Integer>> PARAMETER_COUNTS = ThreadLocal.withInitial(
+			() -> new LinkedHashMap<>( 16, 0.75f, true ) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+					return size() > MAX_PARAMETER_COUNTS;
+				}
+			}
+	);
+
+	// The size of the chunks read from the streams bound to the statement
+	private static final int STREAM_CHUNK_SIZE = 8192;
+
+	Object[] params;
 	int size = 0;
 
+	public PreparedStatementAdaptor() {
+		this( 0 );
+	}
+
+	PreparedStatementAdaptor(int expectedParameterCount) {
+		params = expectedParameterCount > 0 ? new Object[expectedParameterCount] : NO_PARAMS;
+	}
+
 	void put(int parameterIndex, Object parameter) {
-		if ( params.length <= parameterIndex ) {
+		if ( params.length < parameterIndex ) {
 			params = Arrays.copyOf(params, 4 + parameterIndex * 2);
 		}
 		params[parameterIndex-1] = parameter;
@@ -86,7 +135,10 @@ void clear() {
 	}
 
 	public Object[] getParametersAsArray() {
-		return Arrays.copyOf(params, size);
+		// No need to copy the array if it has the expected size
+		return size == params.length
+				? params
+				: Arrays.copyOf( params, size );
 	}
 
 	@Override
@@ -101,7 +153,8 @@ public int executeUpdate() {
 
 	@Override
 	public void setNull(int parameterIndex, int sqlType) {
-		put( parameterIndex, new JdbcNull(sqlType) );
+		// Vert.x needs to know the type of the null values
+		put( parameterIndex, JdbcNull.toNullValue( sqlType ) );
 	}
 
 	@Override
@@ -200,7 +253,7 @@ public void setUnicodeStream(int parameterIndex, InputStream x, int length) {
 
 	@Override
 	public void setBinaryStream(int parameterIndex, InputStream x, int length) {
-		throw new UnsupportedOperationException();
+		setBinaryStream( parameterIndex, x, (long) length );
 	}
 
 	@Override
@@ -230,7 +283,7 @@ public void addBatch() {
 
 	@Override
 	public void setCharacterStream(int parameterIndex, Reader reader, int length) {
-		throw new UnsupportedOperationException();
+		setCharacterStream( parameterIndex, reader, (long) length );
 	}
 
 	@Override
@@ -270,7 +323,7 @@ public void setDate(int parameterIndex, Date x, Calendar cal) {
 
 	@Override
 	public void setNull(int parameterIndex, int sqlType, String typeName) {
-		put( parameterIndex, new JdbcNull( sqlType ) );
+		put( parameterIndex, JdbcNull.toNullValue( sqlType ) );
 	}
 
 	@Override
@@ -305,12 +358,12 @@ public void setNClob(int parameterIndex, NClob value) {
 
 	@Override
 	public void setClob(int parameterIndex, Reader reader, long length) {
-		throw new UnsupportedOperationException();
+		setCharacterStream( parameterIndex, reader, length );
 	}
 
 	@Override
 	public void setBlob(int parameterIndex, InputStream inputStream, long length) {
-		throw new UnsupportedOperationException();
+		setBinaryStream( parameterIndex, inputStream, length );
 	}
 
 	@Override
@@ -336,22 +389,37 @@ public void setAsciiStream(int parameterIndex, InputStream x, long length) {
 	@Override
 	public void setBinaryStream(int parameterIndex, InputStream is, long length) {
 		try {
-			put( parameterIndex, convertToBuffer( is ) );
+			put( parameterIndex, convertToBuffer( is, length ) );
 		}
 		catch (IOException e) {
 			throw new HibernateException( e );
 		}
 	}
 
-	private static Buffer convertToBuffer(InputStream is) throws IOException {
-		ByteArrayOutputStream bytesStream = new ByteArrayOutputStream();
+	/**
+	 * Copy the stream, a chunk at a time, directly into the {@link Buffer}
+	 * bound to the statement. When the length is known, the buffer is
+	 * allocated once with the right size, and at most {@code length}
+	 * bytes are read.
+	 * <p>
+	 * The Vert.x SQL clients need the whole value of each parameter, so
+	 * the value is still held in memory, but only once.
+	 *
+	 * @param is the stream with the value
+	 * @param length the length of the value, or a negative number if unknown
+	 */
+	private static Buffer convertToBuffer(InputStream is, long length) throws IOException {
+		final boolean knownLength = length >= 0 && length <= Integer.MAX_VALUE;
+		final Buffer buffer = knownLength ? Buffer.buffer( (int) length ) : Buffer.buffer();
+		final byte[] data = new byte[STREAM_CHUNK_SIZE];
+		long remaining = knownLength ? length : Long.MAX_VALUE;
 		int nRead;
-		byte[] data = new byte[1024];
-		while ( ( nRead = is.read( data, 0, data.length ) ) != -1 ) {
-			bytesStream.write( data, 0, nRead );
+		while ( remaining > 0
+				&& ( nRead = is.read( data, 0, (int) Math.min( data.length, remaining ) ) ) != -1 ) {
+			buffer.appendBytes( data, 0, nRead );
+			remaining -= nRead;
 		}
-		bytesStream.flush();
-		return Buffer.buffer( bytesStream.toByteArray() );
+		return buffer;
 	}
 
 	@Override
@@ -384,12 +452,28 @@ public void setAsciiStream(int parameterIndex, InputStream x) {
 
 	@Override
 	public void setBinaryStream(int parameterIndex, InputStream x) {
-		throw new UnsupportedOperationException();
+		setBinaryStream( parameterIndex, x, -1L );
 	}
 
+	/**
+	 * The Vert.x SQL clients need the whole value of each parameter as
+	 * a {@link String}, so the characters are collected and then copied
+	 * into one.
+	 */
 	@Override
 	public void setCharacterStream(int parameterIndex, Reader reader) {
-		throw new UnsupportedOperationException();
+		try {
+			final StringBuilder builder = new StringBuilder();
+			final char[] chars = new char[STREAM_CHUNK_SIZE];
+			int n;
+			while ( ( n = reader.read( chars, 0, chars.length ) ) != -1 ) {
+				builder.append( chars, 0, n );
+			}
+			setString( parameterIndex, builder.toString() );
+		}
+		catch (IOException e) {
+			throw new HibernateException( e );
+		}
 	}
 
 	@Override
@@ -399,12 +483,12 @@ public void setNCharacterStream(int parameterIndex, Reader value) {
 
 	@Override
 	public void setClob(int parameterIndex, Reader reader) {
-		throw new UnsupportedOperationException();
+		setCharacterStream( parameterIndex, reader );
 	}
 
 	@Override
 	public void setBlob(int parameterIndex, InputStream inputStream) {
-		throw new UnsupportedOperationException();
+		setBinaryStream( parameterIndex, inputStream, -1L );
 	}
 
 	@Override
@@ -6,6 +6,7 @@
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.net.URL;
 import java.sql.Array;
@@ -134,6 +135,21 @@ public ResultSetAdaptor(RowSet<Row> rows) {
 		this.columnDescriptors = rows.columnDescriptors();
 	}
 
+	/**
+	 * A result set over some of the rows read from another result set,
+	 * with the same columns.
+	 *
+	 * @param columnsFrom the result set the rows have been read from
+	 * @param rows the rows, as returned by {@link #getCurrentRow()}
+	 */
+	public ResultSetAdaptor(ResultSetAdaptor columnsFrom, List<? extends Row> rows) {
+		requireNonNull( columnsFrom );
+		requireNonNull( rows );
+		this.iterator = rows.iterator();
+		this.columnNames = columnsFrom.columnNames;
+		this.columnDescriptors = columnsFrom.columnDescriptors;
+	}
+
 	public ResultSetAdaptor(RowSet<Row> rows, PropertyKind<Row> propertyKind, List<String> generatedColumnNames, List<Class<?>> generatedColumnClasses) {
 		this( rows, rows.property( propertyKind ), generatedColumnNames, generatedColumnClasses );
 	}
@@ -210,6 +226,16 @@ public boolean next() {
 		return false;
 	}
 
+	/**
+	 * The Vert.x {@link Row} at the current position, so that the values
+	 * can be read without going through the JDBC getters.
+	 *
+	 * @return the current row, or {@code null} before the first call to {@link #next()}
+	 */
+	public Row getCurrentRow() {
+		return row;
+	}
+
 	@Override
 	public void close() {
 	}
@@ -715,12 +741,14 @@ public InputStream getBinaryStream(String columnLabel) {
 
 	@Override
 	public Reader getCharacterStream(int columnIndex) {
-		throw new UnsupportedOperationException();
+		String string = getString( columnIndex );
+		return string == null ? null : new StringReader( string );
 	}
 
 	@Override
 	public Reader getCharacterStream(String columnLabel) {
-		throw new UnsupportedOperationException();
+		String string = getString( columnLabel );
+		return string == null ? null : new StringReader( string );
 	}
 
 	@Override
@@ -806,7 +834,9 @@ private Blob blob(Function<Row, Object> getValue, Function<Row, Buffer> getBuffe
 
 	@Override
 	public Clob getClob(String columnLabel) {
-		throw new UnsupportedOperationException();
+		Clob clob = clob( row -> caseInsensitiveGet( columnLabel, row::getString ) );
+		wasNull = clob == null;
+		return clob;
 	}
 
 	@Override
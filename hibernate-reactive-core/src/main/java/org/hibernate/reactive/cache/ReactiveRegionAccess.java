@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.Incubating;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Non-blocking access to a region of a cache, typically a remote
+ * or distributed one.
+ * <p>
+ * The keys and the values are the same objects stored by Hibernate
+ * in the regions of the second-level cache: the cache keys generated
+ * by the {@link org.hibernate.cache.spi.access.EntityDataAccess}, and
+ * the (possibly structured) cache entries of the entities. They are all
+ * serializable.
+ * <p>
+ * The methods of this interface are called on the Vert.x event loop,
+ * and must not block.
+ *
+ * @see ReactiveRegionAccessFactory
+ */
+@Incubating
+public interface ReactiveRegionAccess {
+
+	/**
+	 * @return the cached value, or {@code null} if there isn't one
+	 */
+	CompletionStage<Object> get(Object key);
+
+	/**
+	 * Get the values of many keys. The default implementation calls
+	 * {@link #get(Object)} for each key, one after the other, but an
+	 * implementation could fetch all the values with a single round trip.
+	 *
+	 * @return the cached values, with {@code null} for the missing keys,
+	 *         in the same order as the keys
+	 */
+	default CompletionStage<List<Object>> getAll(List<?> keys) {
+		final List<Object> values = new ArrayList<>( keys.size() );
+		return loop( keys, key -> get( key ).thenAccept( values::add ) )
+				.thenApply( v -> values );
+	}
+
+	CompletionStage<Void> put(Object key, Object value);
+
+	CompletionStage<Void> evict(Object key);
+
+	CompletionStage<Void> evictAll();
+}
@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+import org.hibernate.Incubating;
+import org.hibernate.service.Service;
+
+/**
+ * A Hibernate {@link Service} that provides non-blocking access to
+ * the regions of a cache that sits behind the second-level cache.
+ * <p>
+ * The regions of the {@link org.hibernate.cache.spi.RegionFactory}
+ * configured for Hibernate are accessed synchronously, and so they
+ * must be kept in-process to avoid blocking the event loop. When this
+ * service is available, they become the first tier of a two-tier cache:
+ * <ul>
+ * <li>before looking for an entity in the second-level cache, Hibernate
+ *     Reactive fetches the missing entries from the {@link ReactiveRegionAccess}
+ *     with the same name of the region, without blocking,
+ * <li>after loading the entities from the database, it copies their
+ *     entries to the {@link ReactiveRegionAccess}, without waiting for
+ *     the result,
+ * <li>it evicts the entries of the entities updated or deleted, before
+ *     the end of the flush, and again after the transaction completes,
+ * <li>it evicts the regions of the entities affected by a bulk update
+ *     or delete, or by a native statement, after the transaction
+ *     completes, and
+ * <li>the eviction methods of the {@link org.hibernate.Cache} returned by
+ *     {@code getCache()} of the Mutiny and Stage session factories evict
+ *     the entities from both tiers, without waiting for the result.
+ * </ul>
+ * Only the regions of entities have a second tier. The cached results of
+ * a query are only valid if none of the tables it reads has been updated
+ * since, but the update timestamps are only tracked by the local regions
+ * of each node.
+ * <p>
+ * When several nodes share the regions of this service, an update or a
+ * delete executed by a node only evicts the entry from the shared region
+ * and from the local region of that node. The other nodes keep reading
+ * the stale entry from their local regions until it expires. So the
+ * local regions of the {@code RegionFactory} must be configured to
+ * expire their entries after a short time, shorter than the staleness
+ * that the application can tolerate, while the shared regions can keep
+ * them for longer.
+ * <p>
+ * The service isn't available unless an implementation is contributed,
+ * for example, by calling {@link org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder#addService}:
+ *
+ * <pre>
+ * new ReactiveServiceRegistryBuilder()
+ *     .applySettings( properties )
+ *     .addService( ReactiveRegionAccessFactory.class, new LocalReactiveRegionAccessFactory( 10_000, Duration.ofMinutes( 10 ) ) )
+ *     .build();
+ * </pre>
+ *
+ * @see org.hibernate.reactive.cache.impl.LocalReactiveRegionAccessFactory
+ */
+@Incubating
+public interface ReactiveRegionAccessFactory extends Service {
+
+	/**
+	 * @param regionName the name of a region of the second-level cache
+	 *
+	 * @return the access to the region, or {@code null} if the region
+	 *         should only be cached by the second-level cache
+	 */
+	ReactiveRegionAccess getRegionAccess(String regionName);
+}
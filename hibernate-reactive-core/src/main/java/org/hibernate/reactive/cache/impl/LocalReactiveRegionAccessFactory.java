@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.hibernate.reactive.cache.ReactiveRegionAccess;
+import org.hibernate.reactive.cache.ReactiveRegionAccessFactory;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * A reference implementation of {@link ReactiveRegionAccessFactory}
+ * that keeps the entries in memory. Each region keeps, at most, the
+ * given number of entries, evicting the least recently used ones, and
+ * an entry expires after the given time since it was cached.
+ * <p>
+ * Since the stages it returns are always completed, it's mostly useful
+ * for testing, or as a starting point for a remote implementation.
+ */
+public class LocalReactiveRegionAccessFactory implements ReactiveRegionAccessFactory {
+
+	private final Map<String, LocalRegionAccess> regions = new ConcurrentHashMap<>();
+	private final int maxEntries;
+	private final long timeToLiveNanos;
+	private final LongSupplier clock;
+
+	/**
+	 * @param maxEntries the maximum number of entries of each region
+	 * @param timeToLive how long an entry stays in the cache
+	 */
+	public LocalReactiveRegionAccessFactory(int maxEntries, Duration timeToLive) {
+		this( maxEntries, timeToLive, System::nanoTime );
+	}
+
+	/**
+	 * @param clock the source of the current time, in nanoseconds
+	 */
+	public LocalReactiveRegionAccessFactory(int maxEntries, Duration timeToLive, LongSupplier clock) {
+		if ( maxEntries <= 0 ) {
+			throw new IllegalArgumentException( "The maximum number of entries must be positive: " + maxEntries );
+		}
+		this.maxEntries = maxEntries;
+		this.timeToLiveNanos = timeToLive.toNanos();
+		this.clock = clock;
+	}
+
+	@Override
+	public ReactiveRegionAccess getRegionAccess(String regionName) {
+		return regions.computeIfAbsent( regionName, name -> new LocalRegionAccess() );
+	}
+
+	private record Entry(Object value, long expiresAt) {
+	}
+
+	private class LocalRegionAccess implements ReactiveRegionAccess {
+
+		// The access order makes it an LRU cache
+		private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+				return size() > maxEntries;
+			}
+		};
+
+		@Override
+		public CompletionStage<Object> get(Object key) {
+			synchronized ( entries ) {
+				final Entry entry = entries.get( key );
+				if ( entry == null ) {
+					return completedFuture( null );
+				}
+				if ( entry.expiresAt() - clock.getAsLong() <= 0 ) {
+					entries.remove( key );
+					return completedFuture( null );
+				}
+				return completedFuture( entry.value() );
+			}
+		}
+
+		@Override
+		public CompletionStage<Void> put(Object key, Object value) {
+			synchronized ( entries ) {
+				entries.put( key, new Entry( value, clock.getAsLong() + timeToLiveNanos ) );
+			}
+			return voidFuture();
+		}
+
+		@Override
+		public CompletionStage<Void> evict(Object key) {
+			synchronized ( entries ) {
+				entries.remove( key );
+			}
+			return voidFuture();
+		}
+
+		@Override
+		public CompletionStage<Void> evictAll() {
+			synchronized ( entries ) {
+				entries.clear();
+			}
+			return voidFuture();
+		}
+	}
+}
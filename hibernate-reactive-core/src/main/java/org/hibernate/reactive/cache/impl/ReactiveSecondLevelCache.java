@@ -0,0 +1,351 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.Cache;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.cache.ReactiveRegionAccess;
+import org.hibernate.reactive.cache.ReactiveRegionAccessFactory;
+import org.hibernate.reactive.engine.ReactiveAfterTransactionCompletionProcess;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.session.ReactiveSession;
+
+import static java.util.Collections.emptyList;
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Copies the entries of the entities between the regions of the
+ * second-level cache, which are accessed synchronously, and the regions
+ * provided by the {@link ReactiveRegionAccessFactory}, if there is one.
+ * <p>
+ * The results of queries aren't copied: they can only be checked against
+ * the update timestamps of the local regions, which don't know about the
+ * updates executed by the other nodes.
+ * <p>
+ * A failure reading from, or writing to, a {@link ReactiveRegionAccess}
+ * is logged and treated as a cache miss. A failure evicting an entry is
+ * propagated, since the region would keep a stale entry, unless the
+ * transaction has already completed: then it can only be logged.
+ *
+ * @see ReactiveRegionAccessFactory
+ */
+public final class ReactiveSecondLevelCache {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private ReactiveSecondLevelCache() {
+	}
+
+	/**
+	 * Copy the cached entry of the entity to the second-level cache,
+	 * if it's only in the {@link ReactiveRegionAccess}.
+	 */
+	public static CompletionStage<Void> prefetchEntity(EntityPersister persister, Object id, SharedSessionContractImplementor session) {
+		final ReactiveRegionAccess regionAccess = readableRegionAccess( persister, session );
+		if ( regionAccess == null ) {
+			return voidFuture();
+		}
+
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		final Object cacheKey = cacheKey( persister, id, session );
+		if ( cacheAccess.get( session, cacheKey ) != null ) {
+			return voidFuture();
+		}
+		return regionAccess.get( cacheKey )
+				.handle( (entry, throwable) -> {
+					if ( throwable != null ) {
+						logFailure( cacheAccess.getRegion().getName(), throwable );
+					}
+					else {
+						putFromLoad( persister, cacheKey, entry, session );
+					}
+					return null;
+				} );
+	}
+
+	/**
+	 * Copy the cached entries of the entities to the second-level cache,
+	 * if they are only in the {@link ReactiveRegionAccess}.
+	 *
+	 * @return the identifiers of the entities that aren't cached, and should be
+	 *         {@linkplain #publishEntities published} after loading them
+	 */
+	public static CompletionStage<List<Object>> prefetchEntities(EntityPersister persister, Object[] ids, SharedSessionContractImplementor session) {
+		final ReactiveRegionAccess regionAccess = readableRegionAccess( persister, session );
+		if ( regionAccess == null ) {
+			return completedFuture( emptyList() );
+		}
+
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		final List<Object> missingIds = new ArrayList<>();
+		final List<Object> missingKeys = new ArrayList<>();
+		for ( Object id : ids ) {
+			if ( id != null ) {
+				final Object cacheKey = cacheKey( persister, id, session );
+				if ( cacheAccess.get( session, cacheKey ) == null ) {
+					missingIds.add( id );
+					missingKeys.add( cacheKey );
+				}
+			}
+		}
+		if ( missingKeys.isEmpty() ) {
+			return completedFuture( emptyList() );
+		}
+		return regionAccess.getAll( missingKeys )
+				.handle( (entries, throwable) -> {
+					if ( throwable != null ) {
+						logFailure( cacheAccess.getRegion().getName(), throwable );
+						return missingIds;
+					}
+					final List<Object> uncachedIds = new ArrayList<>();
+					for ( int i = 0; i < missingKeys.size(); i++ ) {
+						final Object entry = entries.get( i );
+						if ( entry == null ) {
+							uncachedIds.add( missingIds.get( i ) );
+						}
+						else {
+							putFromLoad( persister, missingKeys.get( i ), entry, session );
+						}
+					}
+					return uncachedIds;
+				} );
+	}
+
+	/**
+	 * Copy the entry of an entity loaded from the database, and put in
+	 * the second-level cache, to the {@link ReactiveRegionAccess}.
+	 * It doesn't wait for the operation to complete.
+	 */
+	public static void publishEntity(EntityPersister persister, Object id, SharedSessionContractImplementor session) {
+		final ReactiveRegionAccess regionAccess = writableRegionAccess( persister, session );
+		if ( regionAccess != null ) {
+			publish( regionAccess, persister, id, session );
+		}
+	}
+
+	/**
+	 * @see #publishEntity(EntityPersister, Object, SharedSessionContractImplementor)
+	 */
+	public static void publishEntities(EntityPersister persister, List<Object> ids, SharedSessionContractImplementor session) {
+		if ( !ids.isEmpty() ) {
+			final ReactiveRegionAccess regionAccess = writableRegionAccess( persister, session );
+			if ( regionAccess != null ) {
+				for ( Object id : ids ) {
+					publish( regionAccess, persister, id, session );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Evict the entry of an entity that has been updated or deleted, and
+	 * evict it again after the transaction completes: until then, another
+	 * node can copy the entry of the previous state back to the region.
+	 * <p>
+	 * Only the entry of the {@link ReactiveRegionAccess} is evicted: the
+	 * local regions of the other nodes might keep a stale entry until it
+	 * expires.
+	 */
+	public static CompletionStage<Void> evictEntity(EntityPersister persister, Object id, SharedSessionContractImplementor session) {
+		if ( !persister.canWriteToCache() ) {
+			return voidFuture();
+		}
+		final String regionName = persister.getCacheAccessStrategy().getRegion().getName();
+		final ReactiveRegionAccess regionAccess = regionAccess( regionName, session );
+		if ( regionAccess == null ) {
+			return voidFuture();
+		}
+		final Object cacheKey = cacheKey( persister, id, session );
+		if ( session instanceof ReactiveSession reactiveSession ) {
+			final ReactiveAfterTransactionCompletionProcess evictAgain =
+					(success, s) -> evictAndLog( regionAccess, regionName, cacheKey );
+			reactiveSession.getReactiveActionQueue().registerProcess( evictAgain );
+		}
+		return regionAccess.evict( cacheKey );
+	}
+
+	private static CompletionStage<Void> evictAndLog(ReactiveRegionAccess regionAccess, String regionName, Object cacheKey) {
+		return regionAccess.evict( cacheKey )
+				.handle( (v, throwable) -> {
+					if ( throwable != null ) {
+						logFailure( regionName, throwable );
+					}
+					return null;
+				} );
+	}
+
+	/**
+	 * Evict the reactive regions of the entities stored in the given tables,
+	 * after a bulk update or delete, or a native statement, has modified them.
+	 * A failure is logged.
+	 */
+	public static CompletionStage<Void> evictEntityRegions(Serializable[] spaces, SessionFactoryImplementor factory) {
+		if ( !isEnabled( factory ) ) {
+			return voidFuture();
+		}
+		final Set<Serializable> affectedSpaces = new LinkedHashSet<>( Arrays.asList( spaces ) );
+		final Set<String> regionNames = new LinkedHashSet<>();
+		factory.getMappingMetamodel().forEachEntityDescriptor( persister -> {
+			if ( persister.canWriteToCache() ) {
+				for ( Serializable space : persister.getQuerySpaces() ) {
+					if ( affectedSpaces.contains( space ) ) {
+						regionNames.add( persister.getCacheAccessStrategy().getRegion().getName() );
+						break;
+					}
+				}
+			}
+		} );
+		return evictRegions( regionNames, factory );
+	}
+
+	/**
+	 * Evict the reactive regions of all the cached entities. A failure is logged.
+	 */
+	public static CompletionStage<Void> evictEntityRegions(SessionFactoryImplementor factory) {
+		if ( !isEnabled( factory ) ) {
+			return voidFuture();
+		}
+		final Set<String> regionNames = new LinkedHashSet<>();
+		factory.getMappingMetamodel().forEachEntityDescriptor( persister -> {
+			if ( persister.canWriteToCache() ) {
+				regionNames.add( persister.getCacheAccessStrategy().getRegion().getName() );
+			}
+		} );
+		return evictRegions( regionNames, factory );
+	}
+
+	/**
+	 * Evict the reactive region of the entity, and of the entities sharing
+	 * the same region. A failure is logged.
+	 */
+	static CompletionStage<Void> evictEntityRegion(EntityPersister persister, SessionFactoryImplementor factory) {
+		return persister.canWriteToCache()
+				? evictRegions( Set.of( persister.getCacheAccessStrategy().getRegion().getName() ), factory )
+				: voidFuture();
+	}
+
+	/**
+	 * Evict the entry of an entity from the reactive region, outside a session.
+	 * A failure is logged.
+	 */
+	static CompletionStage<Void> evictEntity(EntityPersister persister, Object id, SessionFactoryImplementor factory) {
+		if ( !persister.canWriteToCache() ) {
+			return voidFuture();
+		}
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		final String regionName = cacheAccess.getRegion().getName();
+		final ReactiveRegionAccess regionAccess = regionAccess( regionName, factory );
+		return regionAccess == null
+				? voidFuture()
+				: evictAndLog( regionAccess, regionName, cacheAccess.generateCacheKey( id, persister, factory, null ) );
+	}
+
+	/**
+	 * Evict the given reactive regions, if they exist. A failure is logged.
+	 */
+	static CompletionStage<Void> evictRegions(Set<String> regionNames, SessionFactoryImplementor factory) {
+		return loop( regionNames, regionName -> {
+			final ReactiveRegionAccess regionAccess = regionAccess( regionName, factory );
+			return regionAccess == null
+					? voidFuture()
+					: regionAccess.evictAll()
+							.handle( (v, throwable) -> {
+								if ( throwable != null ) {
+									logFailure( regionName, throwable );
+								}
+								return null;
+							} );
+		} );
+	}
+
+	/**
+	 * @return the {@link Cache} of the factory, which also evicts the
+	 *         entries of the reactive regions, if there are any
+	 */
+	public static Cache cache(SessionFactoryImplementor factory) {
+		return isEnabled( factory ) ? new TwoTierCache( factory ) : factory.getCache();
+	}
+
+	/**
+	 * @return {@code true} if there is a {@link ReactiveRegionAccessFactory}
+	 */
+	public static boolean isEnabled(SessionFactoryImplementor factory) {
+		return factory.getServiceRegistry().getService( ReactiveRegionAccessFactory.class ) != null;
+	}
+
+	private static void publish(
+			ReactiveRegionAccess regionAccess,
+			EntityPersister persister,
+			Object id,
+			SharedSessionContractImplementor session) {
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		final Object cacheKey = cacheKey( persister, id, session );
+		final Object entry = cacheAccess.get( session, cacheKey );
+		if ( entry != null ) {
+			regionAccess.put( cacheKey, entry )
+					.whenComplete( (v, throwable) -> {
+						if ( throwable != null ) {
+							logFailure( cacheAccess.getRegion().getName(), throwable );
+						}
+					} );
+		}
+	}
+
+	private static void putFromLoad(EntityPersister persister, Object cacheKey, Object entry, SharedSessionContractImplementor session) {
+		if ( entry != null ) {
+			final CacheEntry cacheEntry = (CacheEntry) persister.getCacheEntryStructure()
+					.destructure( entry, session.getFactory() );
+			persister.getCacheAccessStrategy()
+					.putFromLoad( session, cacheKey, entry, cacheEntry.getVersion() );
+		}
+	}
+
+	private static ReactiveRegionAccess readableRegionAccess(EntityPersister persister, SharedSessionContractImplementor session) {
+		return persister.canReadFromCache() && session.getCacheMode().isGetEnabled()
+				? regionAccess( persister.getCacheAccessStrategy().getRegion().getName(), session )
+				: null;
+	}
+
+	private static ReactiveRegionAccess writableRegionAccess(EntityPersister persister, SharedSessionContractImplementor session) {
+		return persister.canWriteToCache() && session.getCacheMode().isPutEnabled()
+				? regionAccess( persister.getCacheAccessStrategy().getRegion().getName(), session )
+				: null;
+	}
+
+	private static ReactiveRegionAccess regionAccess(String regionName, SharedSessionContractImplementor session) {
+		return regionAccess( regionName, session.getFactory() );
+	}
+
+	private static ReactiveRegionAccess regionAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+		final ReactiveRegionAccessFactory factory = sessionFactory.getServiceRegistry()
+				.getService( ReactiveRegionAccessFactory.class );
+		return factory == null ? null : factory.getRegionAccess( regionName );
+	}
+
+	private static Object cacheKey(EntityPersister persister, Object id, SharedSessionContractImplementor session) {
+		return persister.getCacheAccessStrategy()
+				.generateCacheKey( id, persister, session.getFactory(), session.getTenantIdentifier() );
+	}
+
+	private static void logFailure(String regionName, Throwable throwable) {
+		LOG.errorAccessingReactiveCacheRegion( regionName, throwable.getMessage(), throwable );
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.Set;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import static org.hibernate.reactive.cache.impl.ReactiveSecondLevelCache.evictEntity;
+import static org.hibernate.reactive.cache.impl.ReactiveSecondLevelCache.evictEntityRegion;
+import static org.hibernate.reactive.cache.impl.ReactiveSecondLevelCache.evictEntityRegions;
+import static org.hibernate.reactive.cache.impl.ReactiveSecondLevelCache.evictRegions;
+
+/**
+ * The {@link Cache} of a session factory with a
+ * {@link org.hibernate.reactive.cache.ReactiveRegionAccessFactory}.
+ * Evicting the entities also evicts them from the reactive regions,
+ * otherwise the next lookup would copy them back to the second-level
+ * cache.
+ * <p>
+ * The methods of {@link Cache} don't return a result, so the entries of
+ * the reactive regions are evicted without waiting, and a failure is
+ * logged. The other methods only check the second-level cache.
+ */
+@SuppressWarnings("rawtypes")
+final class TwoTierCache implements Cache {
+
+	private final SessionFactoryImplementor factory;
+	private final Cache delegate;
+
+	TwoTierCache(SessionFactoryImplementor factory) {
+		this.factory = factory;
+		this.delegate = factory.getCache();
+	}
+
+	@Override
+	public SessionFactory getSessionFactory() {
+		return delegate.getSessionFactory();
+	}
+
+	@Override
+	public boolean containsEntity(Class entityClass, Object identifier) {
+		return delegate.containsEntity( entityClass, identifier );
+	}
+
+	@Override
+	public boolean containsEntity(String entityName, Object identifier) {
+		return delegate.containsEntity( entityName, identifier );
+	}
+
+	@Override
+	public void evictEntityData(Class entityClass, Object identifier) {
+		delegate.evictEntityData( entityClass, identifier );
+		evictEntity( persister( entityClass ), identifier, factory );
+	}
+
+	@Override
+	public void evictEntityData(String entityName, Object identifier) {
+		delegate.evictEntityData( entityName, identifier );
+		evictEntity( persister( entityName ), identifier, factory );
+	}
+
+	@Override
+	public void evictEntityData(Class entityClass) {
+		delegate.evictEntityData( entityClass );
+		evictEntityRegion( persister( entityClass ), factory );
+	}
+
+	@Override
+	public void evictEntityData(String entityName) {
+		delegate.evictEntityData( entityName );
+		evictEntityRegion( persister( entityName ), factory );
+	}
+
+	@Override
+	public void evictEntityData() {
+		delegate.evictEntityData();
+		evictEntityRegions( factory );
+	}
+
+	@Override
+	public void evictNaturalIdData(Class entityClass) {
+		delegate.evictNaturalIdData( entityClass );
+	}
+
+	@Override
+	public void evictNaturalIdData(String entityName) {
+		delegate.evictNaturalIdData( entityName );
+	}
+
+	@Override
+	public void evictNaturalIdData() {
+		delegate.evictNaturalIdData();
+	}
+
+	@Override
+	public boolean containsCollection(String role, Object ownerIdentifier) {
+		return delegate.containsCollection( role, ownerIdentifier );
+	}
+
+	@Override
+	public void evictCollectionData(String role, Object ownerIdentifier) {
+		delegate.evictCollectionData( role, ownerIdentifier );
+	}
+
+	@Override
+	public void evictCollectionData(String role) {
+		delegate.evictCollectionData( role );
+	}
+
+	@Override
+	public void evictCollectionData() {
+		delegate.evictCollectionData();
+	}
+
+	@Override
+	public boolean containsQuery(String regionName) {
+		return delegate.containsQuery( regionName );
+	}
+
+	@Override
+	public void evictDefaultQueryRegion() {
+		delegate.evictDefaultQueryRegion();
+	}
+
+	@Override
+	public void evictQueryRegion(String regionName) {
+		delegate.evictQueryRegion( regionName );
+	}
+
+	@Override
+	public void evictQueryRegions() {
+		delegate.evictQueryRegions();
+	}
+
+	@Override
+	public void evictRegion(String regionName) {
+		delegate.evictRegion( regionName );
+		evictRegions( Set.of( regionName ), factory );
+	}
+
+	@Override
+	public void evictAllRegions() {
+		delegate.evictAllRegions();
+		evictEntityRegions( factory );
+	}
+
+	@Override
+	public boolean contains(Class cls, Object primaryKey) {
+		return containsEntity( cls, primaryKey );
+	}
+
+	@Override
+	public void evict(Class cls, Object primaryKey) {
+		evictEntityData( cls, primaryKey );
+	}
+
+	@Override
+	public void evict(Class cls) {
+		evictEntityData( cls );
+	}
+
+	@Override
+	public void evictAll() {
+		delegate.evictAll();
+		evictEntityRegions( factory );
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> type) {
+		return type.isInstance( this ) ? type.cast( this ) : delegate.unwrap( type );
+	}
+
+	private EntityPersister persister(Class<?> entityClass) {
+		return factory.getMappingMetamodel().getEntityDescriptor( entityClass );
+	}
+
+	private EntityPersister persister(String entityName) {
+		return factory.getMappingMetamodel().getEntityDescriptor( entityName );
+	}
+}
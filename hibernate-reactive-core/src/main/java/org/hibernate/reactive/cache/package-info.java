@@ -0,0 +1,9 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+/**
+ * A non-blocking tier for the second-level cache, accessed via
+ * {@link org.hibernate.reactive.cache.ReactiveRegionAccess}.
+ */
+package org.hibernate.reactive.cache;
@@ -5,9 +5,11 @@
 package org.hibernate.reactive.engine;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
@@ -23,6 +25,8 @@
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.engine.spi.ActionQueue;
 import org.hibernate.engine.spi.ComparableExecutable;
@@ -42,10 +46,13 @@
 import org.hibernate.reactive.engine.impl.ReactiveEntityUpdateAction;
 import org.hibernate.reactive.engine.impl.ReactiveOrphanRemovalAction;
 import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.session.ReactiveSession;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.hibernate.reactive.logging.impl.LoggerFactory.make;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
@@ -81,6 +88,10 @@ public class ReactiveActionQueue {
 	// ordering is improved.
 	private ExecutableList<ReactiveOrphanRemovalAction> orphanRemovals;
 	private transient boolean isTransactionCoordinatorShared;
+
+	// Lazily read from the configuration, see isFlushPipeliningEnabled()
+	private transient Boolean flushPipelining;
+
 	private AfterTransactionCompletionProcessQueue afterTransactionProcesses;
 	private BeforeTransactionCompletionProcessQueue beforeTransactionProcesses;
 
@@ -624,20 +635,10 @@ private <E extends ComparableExecutable> CompletionStage<Void> executeActions(Ex
 		// todo : consider ways to improve the double iteration of Executables here:
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
-		return loop( 0, list.size(),
-					 index -> {
-						 final ReactiveExecutable e = (ReactiveExecutable) list.get( index );
-						 return e.reactiveExecute()
-								 .whenComplete( (v2, x1) -> {
-									 if ( e.getBeforeTransactionCompletionProcess() != null ) {
-										 beforeTransactionProcesses().register( e.getBeforeTransactionCompletionProcess() );
-									 }
-									 if ( e.getAfterTransactionCompletionProcess() != null ) {
-										 afterTransactionProcesses().register( e.getAfterTransactionCompletionProcess() );
-									 }
-								 } );
-					 }
-		)
+		final CompletionStage<Void> executed = list == updates && isFlushPipeliningEnabled()
+				? executePipelined( list )
+				: loop( 0, list.size(), index -> executeAndRegister( (ReactiveExecutable) list.get( index ) ) );
+		return executed
 		.whenComplete( (v, x) -> {
 			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
@@ -651,6 +652,62 @@ private <E extends ComparableExecutable> CompletionStage<Void> executeActions(Ex
 		.thenCompose( v -> session.getReactiveConnection().executeBatch() );
 	}
 
+	private CompletionStage<Void> executeAndRegister(ReactiveExecutable e) {
+		return e.reactiveExecute()
+				.whenComplete( (v, x) -> {
+					if ( e.getBeforeTransactionCompletionProcess() != null ) {
+						beforeTransactionProcesses().register( e.getBeforeTransactionCompletionProcess() );
+					}
+					if ( e.getAfterTransactionCompletionProcess() != null ) {
+						afterTransactionProcesses().register( e.getAfterTransactionCompletionProcess() );
+					}
+				} );
+	}
+
+	/**
+	 * Start each action without waiting for the result of the previous one,
+	 * and wait for all of them at the end. The statements are still executed
+	 * in order on the connection, but we don't pay a round trip for each one.
+	 * Each action verifies the outcome of its own statements as usual.
+	 */
+	private <E extends ComparableExecutable> CompletionStage<Void> executePipelined(ExecutableList<E> list) {
+		final CompletableFuture<?>[] executions = new CompletableFuture<?>[list.size()];
+		for ( int i = 0; i < executions.length; i++ ) {
+			try {
+				executions[i] = executeAndRegister( (ReactiveExecutable) list.get( i ) ).toCompletableFuture();
+			}
+			catch (Throwable t) {
+				// Don't start the remaining actions, but wait for the ones we have already started
+				executions[i] = failedFuture( t ).toCompletableFuture();
+				return CompletableFuture.allOf( Arrays.copyOf( executions, i + 1 ) );
+			}
+		}
+		return CompletableFuture.allOf( executions );
+	}
+
+	/**
+	 * Pipelining is only used for updates, because they don't depend on
+	 * each other, and only when a transaction is in progress, so that
+	 * a failure rolls back the statements that have already been sent.
+	 * The connection must also accept an update before the previous one
+	 * has completed, which isn't the case for a {@link org.hibernate.reactive.pool.BatchingConnection}
+	 * that doesn't pipeline its batches.
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#FLUSH_PIPELINING
+	 */
+	private boolean isFlushPipeliningEnabled() {
+		if ( flushPipelining == null ) {
+			flushPipelining = session.getFactory().getServiceRegistry()
+					.requireService( ConfigurationService.class )
+					.getSetting( Settings.FLUSH_PIPELINING, StandardConverters.BOOLEAN, false );
+		}
+		if ( !flushPipelining ) {
+			return false;
+		}
+		final ReactiveConnection connection = session.getReactiveConnection();
+		return connection.isTransactionInProgress() && connection.supportsPipelinedUpdates();
+	}
+
 	/**
 	 * @param executable The action to execute
 	 */
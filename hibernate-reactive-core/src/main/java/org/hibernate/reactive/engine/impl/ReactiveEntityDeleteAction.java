@@ -18,6 +18,7 @@
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
+import static org.hibernate.reactive.cache.impl.ReactiveSecondLevelCache.evictEntity;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -83,7 +84,7 @@ public CompletionStage<Void> reactiveExecute() throws HibernateException {
 			if ( statistics.isStatisticsEnabled() && !veto ) {
 				statistics.deleteEntity( getPersister().getEntityName() );
 			}
-		} );
+		} ).thenCompose( v -> evictEntity( persister, id, session ) );
 	}
 
 	private CompletionStage<Void> deleteStep(
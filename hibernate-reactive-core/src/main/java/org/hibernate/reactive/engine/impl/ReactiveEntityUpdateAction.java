@@ -21,6 +21,7 @@
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.TypeHelper;
 
+import static org.hibernate.reactive.cache.impl.ReactiveSecondLevelCache.evictEntity;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -103,7 +104,8 @@ public CompletionStage<Void> reactiveExecute() throws HibernateException {
 								}
 							} );
 
-				} );
+				} )
+				.thenCompose( v -> evictEntity( persister, id, session ) );
 	}
 
 	private CompletionStage<Void> reactiveHandleGeneratedProperties(EntityEntry entry, GeneratedValues generatedValues) {
@@ -188,7 +188,7 @@ default CompletionStage<Void> performReactiveNonBatchedMutation(
 		}
 
 		// If we get here the statement is needed - make sure it is resolved
-		Object[] params = PreparedStatementAdaptor.bind( statement -> {
+		Object[] params = PreparedStatementAdaptor.bind( statementDetails.getSqlString(), statement -> {
 			PreparedStatementDetails details = new PrepareStatementDetailsAdaptor( statementDetails, statement, session.getJdbcServices() );
 			valueBindings.beforeStatement( details );
 		} );
@@ -60,7 +60,7 @@ public CompletionStage<Void> performReactiveBatchedOperations(
 		}
 
 		// If we get here the statement is needed - make sure it is resolved
-		Object[] paramValues = PreparedStatementAdaptor.bind(statement -> {
+		Object[] paramValues = PreparedStatementAdaptor.bind( statementDetails.getSqlString(), statement -> {
 			PreparedStatementDetails details = new PrepareStatementDetailsAdaptor( statementDetails, statement, session.getJdbcServices() );
 			valueBindings.beforeStatement( details );
 		} );
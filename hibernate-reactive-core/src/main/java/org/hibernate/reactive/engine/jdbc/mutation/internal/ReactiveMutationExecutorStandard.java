@@ -102,7 +102,7 @@ public CompletionStage<Void> performReactiveBatchedOperations(
 					  }
 
 					  // If we get here the statement is needed - make sure it is resolved
-					  final Object[] paramValues = PreparedStatementAdaptor.bind( statement -> {
+					  final Object[] paramValues = PreparedStatementAdaptor.bind( statementDetails.getSqlString(), statement -> {
 						  PreparedStatementDetails details = new PrepareStatementDetailsAdaptor(
 								  statementDetails,
 								  statement,
@@ -320,7 +320,7 @@ public CompletionStage<Void> performReactiveNonBatchedMutation(
 			);
 		}
 
-		Object[] params = PreparedStatementAdaptor.bind( statement -> {
+		Object[] params = PreparedStatementAdaptor.bind( statementDetails.getSqlString(), statement -> {
 			PreparedStatementDetails details = new PrepareStatementDetailsAdaptor( statementDetails, statement, session.getJdbcServices() );
 			valueBindings.beforeStatement( details );
 		} );
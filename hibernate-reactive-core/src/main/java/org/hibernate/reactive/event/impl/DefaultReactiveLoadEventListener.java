@@ -48,6 +48,8 @@
 import static org.hibernate.loader.internal.CacheLoadHelper.loadFromSecondLevelCache;
 import static org.hibernate.reactive.loader.internal.ReactiveCacheLoadHelper.loadFromSessionCache;
 import static org.hibernate.pretty.MessageHelper.infoString;
+import static org.hibernate.reactive.cache.impl.ReactiveSecondLevelCache.prefetchEntity;
+import static org.hibernate.reactive.cache.impl.ReactiveSecondLevelCache.publishEntity;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
 import static org.hibernate.reactive.session.impl.SessionUtil.throwEntityNotFound;
@@ -689,6 +691,15 @@ private CompletionStage<Object> loadFromCacheOrDatasource(
 			LoadEvent event,
 			EntityPersister persister,
 			EntityKey keyToLoad) {
+		// The entity might be cached by the reactive tier of the second-level cache
+		return prefetchEntity( persister, event.getEntityId(), event.getSession() )
+				.thenCompose( v -> loadFromSecondLevelCacheOrDatasource( event, persister, keyToLoad ) );
+	}
+
+	private CompletionStage<Object> loadFromSecondLevelCacheOrDatasource(
+			LoadEvent event,
+			EntityPersister persister,
+			EntityKey keyToLoad) {
 		final EventSource session = event.getSession();
 		final Object entity = session
 				.loadFromSecondLevelCache( persister, keyToLoad, event.getInstanceToLoad(), event.getLockMode() );
@@ -713,6 +724,7 @@ private CompletionStage<Object> loadFromCacheOrDatasource(
 					.thenApply( optional -> {
 						if ( optional != null ) {
 							cacheNaturalId( event, persister, session, optional );
+							publishEntity( persister, event.getEntityId(), session );
 						}
 						return optional;
 					} );
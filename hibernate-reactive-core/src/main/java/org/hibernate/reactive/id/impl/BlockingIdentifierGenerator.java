@@ -8,11 +8,18 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.EventType;
 import org.hibernate.reactive.id.ReactiveIdentifierGenerator;
 import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.service.ServiceRegistry;
 
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
@@ -31,6 +38,12 @@
  * blocks of ids. A block is identified by its "hi" value (the first id in
  * the block). While a new block is being allocated, concurrent streams will
  * defer the operation without blocking.
+ * <p>
+ * If {@value Settings#ID_BLOCK_PER_EVENT_LOOP} is enabled, each Vert.x
+ * event loop allocates and uses its own block, so that generating an id
+ * never requires any synchronization between event loops. In this case,
+ * {@value Settings#ID_BLOCK_PREFETCH_WATERMARK} can be used to fetch
+ * the next block in the background before the current one is exhausted.
  *
  * @author Gavin King
  * @author Davide D'Alto
@@ -54,6 +67,34 @@ public abstract class BlockingIdentifierGenerator implements ReactiveIdentifierG
 	//service in Hibernate ORM, but using a non-blocking cooperative design.
 	private final CombinerExecutor<GeneratorState> executor = new CombinerExecutor<>( state );
 
+	private final boolean blockPerEventLoop;
+
+	// The percentage of a block that can be used before fetching the next one
+	private final int prefetchWatermark;
+
+	// The blocks used when blockPerEventLoop is enabled: each event loop only
+	// ever accesses its own block, from its own thread.
+	private final ThreadLocal<EventLoopBlock> eventLoopBlocks = ThreadLocal.withInitial( EventLoopBlock::new );
+
+	protected BlockingIdentifierGenerator() {
+		this.blockPerEventLoop = false;
+		this.prefetchWatermark = 0;
+	}
+
+	/**
+	 * @param serviceRegistry used to read the configuration of the block allocation
+	 *
+	 * @see Settings#ID_BLOCK_PER_EVENT_LOOP
+	 * @see Settings#ID_BLOCK_PREFETCH_WATERMARK
+	 */
+	protected BlockingIdentifierGenerator(ServiceRegistry serviceRegistry) {
+		final ConfigurationService configurationService = serviceRegistry.requireService( ConfigurationService.class );
+		this.blockPerEventLoop = configurationService
+				.getSetting( Settings.ID_BLOCK_PER_EVENT_LOOP, StandardConverters.BOOLEAN, false );
+		this.prefetchWatermark = configurationService
+				.getSetting( Settings.ID_BLOCK_PREFETCH_WATERMARK, StandardConverters.INTEGER, 0 );
+	}
+
 	/**
 	 * Allocate a new block, by obtaining the next "hi" value from the database
 	 */
@@ -96,6 +137,14 @@ private synchronized long next(long hi) {
 	public CompletionStage<Long> generate(ReactiveConnectionSupplier connectionSupplier, Object ignored) {
 		Objects.requireNonNull( connectionSupplier );
 
+		if ( blockPerEventLoop && getBlockSize() > 1 && Context.isOnEventLoopThread() ) {
+			final Context context = Vertx.currentContext();
+			if ( context != null ) {
+				// No need to synchronize, the block is only used by this event loop
+				return eventLoopBlocks.get().next( connectionSupplier, context );
+			}
+		}
+
 		//Before submitting a task to the executor, let's try our luck via the fast-path
 		//(this does actually hit a synchronization, but it's extremely short)
 		final long next = next();
@@ -182,6 +231,125 @@ private void generateNewHiValue(Void v) {
 		}
 	}
 
+	/**
+	 * The block of ids owned by a single event loop. It's only accessed
+	 * from the thread of the event loop, so it doesn't need to be guarded.
+	 */
+	private final class EventLoopBlock {
+
+		private final Thread owner = Thread.currentThread();
+
+		private int loValue;
+		private long hiValue;
+
+		// The next "hi" value, if we have already started to fetch it
+		private CompletableFuture<Long> nextBlock;
+
+		CompletionStage<Long> next(ReactiveConnectionSupplier connectionSupplier, Context context) {
+			if ( loValue > 0 && loValue < getBlockSize() ) {
+				final int lo = loValue++;
+				if ( lo == prefetchLoValue() && nextBlock == null ) {
+					prefetch( connectionSupplier );
+				}
+				return completedFuture( hiValue + lo );
+			}
+
+			if ( nextBlock == null ) {
+				nextBlock = supplyStage( () -> nextHiValue( connectionSupplier ) ).toCompletableFuture();
+			}
+			final CompletableFuture<Long> fetch = nextBlock;
+			if ( fetch.isDone() && !fetch.isCompletedExceptionally() ) {
+				// The next block has been prefetched, or the prefetch has failed
+				nextBlock = null;
+				final Long hi = fetch.join();
+				return hi == null
+						? next( connectionSupplier, context )
+						: completedFuture( useBlock( hi ) );
+			}
+
+			final CompletableFuture<Long> result = new CompletableFuture<>();
+			fetch.whenComplete( (hi, t) -> runOnOwner( context, () -> {
+				final boolean first = nextBlock == fetch;
+				if ( first ) {
+					nextBlock = null;
+				}
+				if ( t != null ) {
+					complete( result, null, t );
+				}
+				else if ( first && hi != null ) {
+					// This is the first stream to see the new block
+					complete( result, useBlock( hi ), null );
+				}
+				else {
+					// Another stream has already started using the new block,
+					// or the prefetch has failed and we need to fetch it again
+					next( connectionSupplier, context )
+							.whenComplete( (id, e) -> complete( result, id, e ) );
+				}
+			} ) );
+			return result;
+		}
+
+		private long useBlock(long hi) {
+			hiValue = hi;
+			loValue = 1;
+			return hi;
+		}
+
+		private int prefetchLoValue() {
+			return prefetchWatermark > 0
+					? Math.max( 1, (int) ( (long) getBlockSize() * prefetchWatermark / 100 ) )
+					: -1;
+		}
+
+		/**
+		 * Start fetching the next block. If the prefetch fails, the block
+		 * is {@code null}, and the stream that exhausts the current block
+		 * fetches the next one using its own connection.
+		 */
+		private void prefetch(ReactiveConnectionSupplier connectionSupplier) {
+			if ( connectionSupplier instanceof SharedSessionContractImplementor session ) {
+				nextBlock = supplyStage( () -> prefetchHiValue( session ) )
+						.handle( (hi, t) -> {
+							if ( t != null ) {
+								LOG.errorPrefetchingIdentifiers( t.getMessage(), t );
+								return null;
+							}
+							return hi;
+						} )
+						.toCompletableFuture();
+			}
+		}
+
+		private void runOnOwner(Context context, Runnable runnable) {
+			if ( Thread.currentThread() == owner ) {
+				runnable.run();
+			}
+			else {
+				context.runOnContext( v -> runnable.run() );
+			}
+		}
+	}
+
+	/**
+	 * Fetch the next "hi" value using a new connection, so that the
+	 * operation doesn't depend on the transaction, or the lifecycle,
+	 * of the current session.
+	 */
+	private CompletionStage<Long> prefetchHiValue(SharedSessionContractImplementor session) {
+		final ReactiveConnectionPool pool = session.getFactory().getServiceRegistry()
+				.requireService( ReactiveConnectionPool.class );
+		final String tenantId = session.getTenantIdentifier();
+		final CompletionStage<ReactiveConnection> connectionStage = tenantId == null
+				? pool.getConnection()
+				: pool.getConnection( tenantId );
+		return connectionStage.thenCompose( connection -> supplyStage( () -> nextHiValue( () -> connection ) )
+				.handle( CompletionStages::handle )
+				.thenCompose( handler -> connection.close()
+						.thenCompose( handler::getResultAsCompletionStage ) )
+		);
+	}
+
 	private static <T> void complete(CompletableFuture<T> future, final T result, final Throwable throwable) {
 		if ( throwable != null ) {
 			future.completeExceptionally( throwable );
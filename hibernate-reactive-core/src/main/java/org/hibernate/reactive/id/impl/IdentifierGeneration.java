@@ -5,21 +5,73 @@
 package org.hibernate.reactive.id.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.type.descriptor.java.IntegerJavaType;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.java.LongJavaType;
 import org.hibernate.type.descriptor.java.ShortJavaType;
 import org.hibernate.type.descriptor.java.StringJavaType;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
 
 public class IdentifierGeneration {
 
 	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	/**
+	 * Before persisting or inserting multiple entities, fetch all the
+	 * sequence values they need with one query for each sequence, if
+	 * {@value Settings#ID_SEQUENCE_RESERVE_VALUES} is enabled. The values
+	 * are only used by the given session during the operation, and the
+	 * ones the operation hasn't used are discarded when it completes.
+	 *
+	 * @see ReactiveSequenceIdentifierGenerator#reserveValues(ReactiveConnectionSupplier, int)
+	 */
+	public static CompletionStage<Void> withReservedSequenceValues(
+			SharedSessionContractImplementor session,
+			Object[] entities,
+			Supplier<CompletionStage<Void>> operation) {
+		if ( entities.length < 2 || !isReserveSequenceValuesEnabled( session ) ) {
+			return operation.get();
+		}
+		final Map<ReactiveSequenceIdentifierGenerator, Integer> counts = new LinkedHashMap<>();
+		for ( Object entity : entities ) {
+			if ( entity != null ) {
+				final EntityPersister persister = session.getEntityPersister( null, entity );
+				if ( persister.getGenerator() instanceof ReactiveSequenceIdentifierGenerator generator
+						&& persister.getIdentifier( entity, session ) == null ) {
+					counts.merge( generator, 1, Integer::sum );
+				}
+			}
+		}
+		if ( counts.isEmpty() ) {
+			return operation.get();
+		}
+		final ReactiveConnectionSupplier connectionSupplier = (ReactiveConnectionSupplier) session;
+		return loop( counts.entrySet(), entry -> entry.getKey().reserveValues( connectionSupplier, entry.getValue() ) )
+				.thenCompose( v -> operation.get() )
+				.whenComplete( (v, throwable) -> counts.keySet()
+						.forEach( generator -> generator.releaseValues( connectionSupplier ) ) );
+	}
+
+	private static boolean isReserveSequenceValuesEnabled(SharedSessionContractImplementor session) {
+		return session.getFactory().getServiceRegistry().requireService( ConfigurationService.class )
+				.getSetting( Settings.ID_SEQUENCE_RESERVE_VALUES, StandardConverters.BOOLEAN, false );
+	}
+
 	public static Object castToIdentifierType(Object generatedId, EntityPersister persister) {
 		return generatedId instanceof Long
 				? castLongIdToIdentifierType( (Long) generatedId, persister )
@@ -4,17 +4,28 @@
  */
 package org.hibernate.reactive.id.impl;
 
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.dialect.CockroachDialect;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.OracleDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.BulkInsertionCapableIdentifierGenerator;
 import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.id.enhanced.DatabaseStructure;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
 /**
  * Support for JPA's {@link jakarta.persistence.SequenceGenerator}.
  * <p>
@@ -22,6 +33,10 @@
  * <p>
  * This implementation supports block allocation, but does not
  * guarantee that generated identifiers are sequential.
+ * <p>
+ * When the increment of the sequence is 1, the values for many entities
+ * can be fetched with a single query, see {@link #reserveValues} and
+ * {@link org.hibernate.reactive.provider.Settings#ID_SEQUENCE_RESERVE_VALUES}.
  */
 public class ReactiveSequenceIdentifierGenerator extends BlockingIdentifierGenerator
 		implements IdentifierGenerator, BulkInsertionCapableIdentifierGenerator {
@@ -34,8 +49,15 @@ public class ReactiveSequenceIdentifierGenerator extends BlockingIdentifierGener
 	private final boolean supportsBulkInsertion;
 
 	private String sql;
+	// Null if the database can't fetch multiple values with one query
+	private String multipleValuesSql;
+
+	// Values fetched by reserveValues() but not used yet, for each session and tenant.
+	// A session is never used concurrently, so its queue doesn't need to be guarded.
+	private final Map<Reservation, Queue<Long>> reservedValues = new ConcurrentHashMap<>();
 
 	public ReactiveSequenceIdentifierGenerator(DatabaseStructure structure, RuntimeModelCreationContext creationContext) {
+		super( creationContext.getServiceRegistry() );
 		qualifiedName = structure.getPhysicalName();
 		increment = structure.getIncrementSize();
 		dialect = creationContext.getDialect();
@@ -49,6 +71,13 @@ protected int getBlockSize() {
 
 	@Override
 	protected CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session) {
+		if ( !reservedValues.isEmpty() ) {
+			final Queue<Long> reserved = reservedValues.get( new Reservation( session ) );
+			final Long value = reserved == null ? null : reserved.poll();
+			if ( value != null ) {
+				return completedFuture( value );
+			}
+		}
 		return session.getReactiveConnection().selectIdentifier( sql, NO_PARAMS, Long.class );
 	}
 
@@ -56,6 +85,62 @@ protected CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session)
 	@Override
 	public void initialize(SqlStringGenerationContext context) {
 		sql = dialect.getSequenceSupport().getSequenceNextValString( context.format( qualifiedName ) );
+		multipleValuesSql = multipleValuesSql( dialect, context.format( qualifiedName ) );
+	}
+
+	private static String multipleValuesSql(Dialect dialect, String sequenceName) {
+		if ( dialect instanceof PostgreSQLDialect || dialect instanceof CockroachDialect ) {
+			return "select " + dialect.getSequenceSupport().getSelectSequenceNextValString( sequenceName )
+					+ " from generate_series(1, $1)";
+		}
+		if ( dialect instanceof OracleDialect ) {
+			return "select " + dialect.getSequenceSupport().getSelectSequenceNextValString( sequenceName )
+					+ " from dual connect by level <= :1";
+		}
+		return null;
+	}
+
+	/**
+	 * Fetch the given number of values from the sequence with a single
+	 * query, and keep them for the next identifiers generated by this
+	 * generator for the given session, until {@link #releaseValues} is
+	 * called. It does nothing if the increment of the sequence is
+	 * greater than 1, or if the database doesn't support it; in these
+	 * cases, the values are fetched one block at a time as usual.
+	 *
+	 * @param count the number of identifiers that are about to be generated
+	 */
+	public CompletionStage<Void> reserveValues(ReactiveConnectionSupplier session, int count) {
+		if ( increment > 1 || multipleValuesSql == null || count < 2 ) {
+			return voidFuture();
+		}
+		return session.getReactiveConnection()
+				.select( multipleValuesSql, new Object[] { count } )
+				.thenAccept( result -> {
+					final Queue<Long> values = new ArrayDeque<>( count );
+					while ( result.hasNext() ) {
+						values.add( ( (Number) result.next()[0] ).longValue() );
+					}
+					reservedValues.put( new Reservation( session ), values );
+				} );
+	}
+
+	/**
+	 * Discard the values reserved for the given session that haven't been used.
+	 */
+	public void releaseValues(ReactiveConnectionSupplier session) {
+		reservedValues.remove( new Reservation( session ) );
+	}
+
+	/**
+	 * The values of the sequence in a database are only valid for that
+	 * database, so the tenant is part of the key even if a session never
+	 * changes tenant.
+	 */
+	private record Reservation(ReactiveConnectionSupplier session, String tenantId) {
+		Reservation(ReactiveConnectionSupplier session) {
+			this( session, session instanceof SharedSessionContractImplementor shared ? shared.getTenantIdentifier() : null );
+		}
 	}
 
 	@Override
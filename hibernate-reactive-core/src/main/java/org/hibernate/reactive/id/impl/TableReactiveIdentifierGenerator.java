@@ -58,6 +58,7 @@ public class TableReactiveIdentifierGenerator extends BlockingIdentifierGenerato
 	public TableReactiveIdentifierGenerator(
 			TableGenerator generator,
 			RuntimeModelCreationContext runtimeModelCreationContext) {
+		super( runtimeModelCreationContext.getServiceRegistry() );
 		ServiceRegistry serviceRegistry = runtimeModelCreationContext.getServiceRegistry();
 		segmentColumnName = generator.getSegmentColumnName();
 		valueColumnName = generator.getValueColumnName();
@@ -77,6 +78,7 @@ public TableReactiveIdentifierGenerator(
 	public TableReactiveIdentifierGenerator(
 			SequenceStyleGenerator generator,
 			RuntimeModelCreationContext runtimeModelCreationContext) {
+		super( runtimeModelCreationContext.getServiceRegistry() );
 		ServiceRegistry serviceRegistry = runtimeModelCreationContext.getServiceRegistry();
 		JdbcEnvironment jdbcEnvironment = serviceRegistry.getService( JdbcEnvironment.class );
 		Dialect dialect = jdbcEnvironment.getDialect();
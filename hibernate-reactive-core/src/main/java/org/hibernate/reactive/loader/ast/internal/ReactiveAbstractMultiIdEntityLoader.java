@@ -13,8 +13,12 @@
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.reactive.loader.ast.spi.ReactiveMultiIdEntityLoader;
 
+import static org.hibernate.reactive.cache.impl.ReactiveSecondLevelCache.prefetchEntities;
+import static org.hibernate.reactive.cache.impl.ReactiveSecondLevelCache.publishEntities;
+
 /**
  * @see org.hibernate.loader.ast.internal.AbstractMultiIdEntityLoader
  */
@@ -52,6 +56,22 @@ public EntityMappingType getLoadable() {
 	public final <K> CompletionStage<List<T>> reactiveLoad(K[] ids, MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session) {
 		Objects.requireNonNull( ids );
 
+		if ( !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			return performMultiLoad( ids, loadOptions, session );
+		}
+
+		// Some entities might be cached by the reactive tier of the second-level cache
+		final EntityPersister persister = getEntityDescriptor().getEntityPersister();
+		return prefetchEntities( persister, ids, session )
+				.thenCompose( uncachedIds -> performMultiLoad( ids, loadOptions, session )
+						.thenApply( result -> {
+							publishEntities( persister, uncachedIds, session );
+							return result;
+						} )
+				);
+	}
+
+	private <K> CompletionStage<List<T>> performMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session) {
 		return loadOptions.isOrderReturnEnabled()
 				? performOrderedMultiLoad( ids, loadOptions, session )
 				: performUnorderedMultiLoad( ids, loadOptions, session );
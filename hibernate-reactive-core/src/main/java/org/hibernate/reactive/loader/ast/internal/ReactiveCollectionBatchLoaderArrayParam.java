@@ -116,6 +116,26 @@ public CompletionStage<PersistentCollection<?>> reactiveLoad(Object key, SharedS
 				} );
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveLoadAll(Object[] keys, SharedSessionContractImplementor session) {
+		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
+			MULTI_KEY_LOAD_LOGGER.debugf(
+					"Loading %s collections `%s`",
+					keys.length,
+					getLoadable().getNavigableRole().getFullPath()
+			);
+		}
+
+		final Object[] keysToInitialize = (Object[]) Array.newInstance( arrayElementType, keys.length );
+		System.arraycopy( keys, 0, keysToInitialize, 0, keys.length );
+		return initializeKeys( keysToInitialize, session )
+				.thenAccept( v -> {
+					for ( Object key : keysToInitialize ) {
+						finishInitializingKey( key, session );
+					}
+				} );
+	}
+
 	private Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImplementor session) {
 		final Object[] keysToInitialize = (Object[]) Array.newInstance( arrayElementType, getDomainBatchSize() );
 		session.getPersistenceContextInternal().getBatchFetchQueue().collectBatchLoadableCollectionKeys(
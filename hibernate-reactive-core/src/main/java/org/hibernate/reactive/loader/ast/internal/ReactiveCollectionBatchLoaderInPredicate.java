@@ -20,12 +20,14 @@
 import org.hibernate.loader.ast.internal.LoaderSelectBuilder;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.spi.JdbcSelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
  * @see org.hibernate.loader.ast.internal.CollectionBatchLoaderInPredicate
@@ -126,6 +128,19 @@ public CompletionStage<PersistentCollection<?>> reactiveLoad(Object key, SharedS
 				} );
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveLoadAll(Object[] keys, SharedSessionContractImplementor session) {
+		if ( keys.length == 0 ) {
+			return voidFuture();
+		}
+		if ( keys.length == 1 ) {
+			prepareSingleKeyLoaderIfNeeded();
+			return singleKeyLoader.reactiveLoad( keys[0], session )
+					.thenCompose( CompletionStages::voidFuture );
+		}
+		return initializeKeys( keys[0], keys, keys.length, session );
+	}
+
 	private void prepareSingleKeyLoaderIfNeeded() {
 		if ( singleKeyLoader == null ) {
 			singleKeyLoader = new ReactiveCollectionLoaderSingleKey( getLoadable(), getInfluencers(), getSessionFactory() );
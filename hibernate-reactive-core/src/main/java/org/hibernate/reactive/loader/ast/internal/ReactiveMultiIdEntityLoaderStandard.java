@@ -11,6 +11,7 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -46,6 +47,7 @@
 
 import static org.hibernate.event.spi.LoadEventListener.GET;
 import static org.hibernate.loader.internal.CacheLoadHelper.loadFromSessionCache;
+import static org.hibernate.reactive.loader.ast.internal.ReactiveMultiKeyLoadChunker.isPipeliningEnabled;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
@@ -101,6 +103,8 @@ protected CompletionStage<List<T>> performOrderedMultiLoad(
 
 		final List<Object> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
+		// With pipelining, the full batches are loaded at the end, all together
+		final List<List<Object>> batches = isPipeliningEnabled( session ) ? new ArrayList<>() : null;
 
 		final boolean coerce = isIdCoercionEnabled();
 		return loop( 0, ids.length, i -> {
@@ -148,10 +152,15 @@ protected CompletionStage<List<T>> performOrderedMultiLoad(
 
 			CompletionStage<Void> loopResult = voidFuture();
 			if ( idsInBatch.size() >= maxBatchSize ) {
-				// we've hit the allotted max-batch-size, perform an "intermediate load"
-				loopResult = loadEntitiesById( idsInBatch, lockOptions, session )
-						.thenAccept( v -> idsInBatch.clear() );
-
+				if ( batches != null ) {
+					batches.add( new ArrayList<>( idsInBatch ) );
+					idsInBatch.clear();
+				}
+				else {
+					// we've hit the allotted max-batch-size, perform an "intermediate load"
+					loopResult = loadEntitiesById( idsInBatch, lockOptions, session )
+							.thenAccept( v -> idsInBatch.clear() );
+				}
 			}
 
 			return loopResult.thenAccept( v -> {
@@ -161,6 +170,12 @@ protected CompletionStage<List<T>> performOrderedMultiLoad(
 				elementPositionsLoadedByBatch.add( i );
 			} );
 		} ).thenCompose( v -> {
+			if ( batches != null ) {
+				if ( !idsInBatch.isEmpty() ) {
+					batches.add( idsInBatch );
+				}
+				return loadEntitiesByIdPipelined( batches, lockOptions, session, list -> {} );
+			}
 			if ( !idsInBatch.isEmpty() ) {
 				// we still have ids to load from the processing above since the last max-batch-size trigger,
 				// perform a load for them
@@ -192,16 +207,49 @@ protected CompletionStage<List<T>> performOrderedMultiLoad(
 		} );
 	}
 
+	/**
+	 * Send the queries for all the batches without waiting for the results
+	 * of the previous ones, and process the results in order.
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#MULTI_LOAD_PIPELINING
+	 */
+	private CompletionStage<Void> loadEntitiesByIdPipelined(
+			List<List<Object>> batches,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session,
+			Consumer<List<T>> resultConsumer) {
+		CompletionStage<Void> previous = voidFuture();
+		for ( List<Object> idsInBatch : batches ) {
+			previous = loadEntitiesById( idsInBatch, lockOptions, session, previous )
+					.thenAccept( resultConsumer );
+		}
+		return previous;
+	}
+
 	private CompletionStage<List<T>> loadEntitiesById(
 			List<Object> idsInBatch,
 			LockOptions lockOptions,
 			SharedSessionContractImplementor session) {
+		return loadEntitiesById( idsInBatch, lockOptions, session, null );
+	}
+
+	/**
+	 * @param processAfter if not null, the query is sent immediately, but the
+	 * results are only processed after this stage has completed
+	 */
+	private CompletionStage<List<T>> loadEntitiesById(
+			List<Object> idsInBatch,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session,
+			CompletionStage<Void> processAfter) {
 		assert idsInBatch != null;
 		assert !idsInBatch.isEmpty();
 
 		final int numberOfIdsInBatch = idsInBatch.size();
 		if ( numberOfIdsInBatch == 1 ) {
-			return performSingleMultiLoad( idsInBatch.get( 0 ), lockOptions, session );
+			return processAfter == null
+					? performSingleMultiLoad( idsInBatch.get( 0 ), lockOptions, session )
+					: processAfter.thenCompose( v -> performSingleMultiLoad( idsInBatch.get( 0 ), lockOptions, session ) );
 		}
 
 		if ( LOG.isTraceEnabled() ) {
@@ -261,13 +309,24 @@ private CompletionStage<List<T>> loadEntitiesById(
 			subSelectFetchableKeysHandler = null;
 		}
 
-		return StandardReactiveSelectExecutor.INSTANCE.list(
-				jdbcSelect,
-				jdbcParameterBindings,
-				new ExecutionContextWithSubselectFetchHandler( session, subSelectFetchableKeysHandler ),
-				RowTransformerStandardImpl.instance(),
-				ReactiveListResultsConsumer.UniqueSemantic.FILTER
-		);
+		final ExecutionContextWithSubselectFetchHandler executionContext =
+				new ExecutionContextWithSubselectFetchHandler( session, subSelectFetchableKeysHandler );
+		return processAfter == null
+				? StandardReactiveSelectExecutor.INSTANCE.list(
+						jdbcSelect,
+						jdbcParameterBindings,
+						executionContext,
+						RowTransformerStandardImpl.instance(),
+						ReactiveListResultsConsumer.UniqueSemantic.FILTER
+				)
+				: StandardReactiveSelectExecutor.INSTANCE.list(
+						jdbcSelect,
+						jdbcParameterBindings,
+						executionContext,
+						RowTransformerStandardImpl.instance(),
+						ReactiveListResultsConsumer.UniqueSemantic.FILTER,
+						processAfter
+				);
 	}
 
 	private CompletionStage<List<T>> performSingleMultiLoad(
@@ -393,6 +452,16 @@ protected CompletionStage<List<T>> performUnorderedMultiLoad(
 
 		int[] idPosition = { 0 };
 
+		if ( numberOfIdsLeft[0] > maxBatchSize && isPipeliningEnabled( session ) ) {
+			final List<List<Object>> batches = new ArrayList<>();
+			for ( int start = 0; start < identifiers.length; start += maxBatchSize ) {
+				final int batchSize = Math.min( identifiers.length - start, maxBatchSize );
+				batches.add( Arrays.asList( identifiers ).subList( start, start + batchSize ) );
+			}
+			return loadEntitiesByIdPipelined( batches, lockOptions, session, result::addAll )
+					.thenApply( v -> result );
+		}
+
 		return whileLoop( () -> numberOfIdsLeft[0] > 0, () -> {
 			final int batchSize = Math.min( numberOfIdsLeft[0], maxBatchSize );
 
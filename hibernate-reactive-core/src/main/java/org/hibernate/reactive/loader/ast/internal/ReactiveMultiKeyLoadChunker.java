@@ -4,10 +4,14 @@
  */
 package org.hibernate.reactive.loader.ast.internal;
 
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.Bindable;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.sql.exec.internal.StandardReactiveSelectExecutor;
 import org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
@@ -22,6 +26,13 @@
 import static org.hibernate.reactive.util.impl.CompletionStages.whileLoop;
 
 /**
+ * Loads the keys by chunks, one query for each chunk.
+ * <p>
+ * When {@link Settings#MULTI_LOAD_PIPELINING} is enabled, the queries for
+ * all the chunks are sent to the database without waiting for the results
+ * of the previous ones, but the results are still processed one chunk at
+ * a time, in order.
+ *
  * @see org.hibernate.loader.ast.internal.MultiKeyLoadChunker
  */
 public class ReactiveMultiKeyLoadChunker<K> {
@@ -88,6 +99,22 @@ public CompletionStage<Void> processChunks(
 			ReactiveMultiKeyLoadChunker.ChunkStartListener startListener,
 			ReactiveMultiKeyLoadChunker.ChunkBoundaryListener boundaryListener,
 			SharedSessionContractImplementor session) {
+		if ( nonNullElementCount > chunkSize && isPipeliningEnabled( session ) ) {
+			CompletionStage<Void> previous = voidFuture();
+			for ( int start = 0; start < nonNullElementCount; start += chunkSize ) {
+				previous = processChunk(
+						keys,
+						start,
+						sqlExecutionContextCreator,
+						keyCollector,
+						startListener,
+						boundaryListener,
+						session,
+						previous
+				);
+			}
+			return previous;
+		}
 		int[] numberOfKeysLeft = { nonNullElementCount };
 		int[] start = { 0 };
 		if ( numberOfKeysLeft[0] > 0 ) {
@@ -98,7 +125,8 @@ public CompletionStage<Void> processChunks(
 									  keyCollector,
 									  startListener,
 									  boundaryListener,
-									  session
+									  session,
+									  null
 							  )
 					.thenApply( unused -> {
 						start[0] += chunkSize;
@@ -117,7 +145,8 @@ private CompletionStage<Void> processChunk(
 			ReactiveMultiKeyLoadChunker.KeyCollector<K> keyCollector,
 			ReactiveMultiKeyLoadChunker.ChunkStartListener startListener,
 			ReactiveMultiKeyLoadChunker.ChunkBoundaryListener boundaryListener,
-			SharedSessionContractImplementor session) {
+			SharedSessionContractImplementor session,
+			CompletionStage<Void> processAfter) {
 		startListener.chunkStartNotification( startIndex );
 
 		final int parameterCount = chunkSize * keyColumnCount;
@@ -143,17 +172,36 @@ private CompletionStage<Void> processChunk(
 
 		if ( nonNullCounter == 0 ) {
 			// there are no non-null keys in the chunk
-			return voidFuture();
+			return processAfter == null ? voidFuture() : processAfter;
 		}
 
 		final int finalNonNullCounter = nonNullCounter;
-		return StandardReactiveSelectExecutor.INSTANCE.list(
-				jdbcSelect,
-				jdbcParameterBindings,
-				sqlExecutionContextCreator.createContext( jdbcParameterBindings, session ),
-				RowTransformerStandardImpl.instance(),
-				ReactiveListResultsConsumer.UniqueSemantic.FILTER
-		)
-				.thenAccept( objects -> boundaryListener.chunkBoundaryNotification( startIndex, finalNonNullCounter ) );
+		final ExecutionContext executionContext = sqlExecutionContextCreator.createContext( jdbcParameterBindings, session );
+		final CompletionStage<List<Object>> list = processAfter == null
+				? StandardReactiveSelectExecutor.INSTANCE.list(
+						jdbcSelect,
+						jdbcParameterBindings,
+						executionContext,
+						RowTransformerStandardImpl.instance(),
+						ReactiveListResultsConsumer.UniqueSemantic.FILTER
+				)
+				: StandardReactiveSelectExecutor.INSTANCE.list(
+						jdbcSelect,
+						jdbcParameterBindings,
+						executionContext,
+						RowTransformerStandardImpl.instance(),
+						ReactiveListResultsConsumer.UniqueSemantic.FILTER,
+						processAfter
+				);
+		return list.thenAccept( objects -> boundaryListener.chunkBoundaryNotification( startIndex, finalNonNullCounter ) );
+	}
+
+	/**
+	 * @see Settings#MULTI_LOAD_PIPELINING
+	 */
+	static boolean isPipeliningEnabled(SharedSessionContractImplementor session) {
+		return session.getFactory().getServiceRegistry()
+				.requireService( ConfigurationService.class )
+				.getSetting( Settings.MULTI_LOAD_PIPELINING, StandardConverters.BOOLEAN, false );
 	}
 }
@@ -4,6 +4,9 @@
  */
 package org.hibernate.reactive.loader.ast.spi;
 
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.ast.spi.BatchLoader;
 import org.hibernate.loader.ast.spi.CollectionBatchLoader;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoader;
@@ -12,4 +15,13 @@
  * @see org.hibernate.loader.ast.spi.CollectionBatchLoader
  */
 public interface ReactiveCollectionBatchLoader extends CollectionBatchLoader, BatchLoader, ReactiveCollectionLoader {
+
+	/**
+	 * Initialize the collections with the given keys, instead of the keys
+	 * queued for batch fetching in the persistence context.
+	 *
+	 * @param keys the keys of uninitialized collections already associated
+	 *             with the session
+	 */
+	CompletionStage<Void> reactiveLoadAll(Object[] keys, SharedSessionContractImplementor session);
 }
@@ -288,6 +288,50 @@ public interface Log extends BasicLogger {
 	@Message(id = 91, value = "Can't begin a new transaction as an active transaction is already associated to this connection")
 	IllegalStateException liveTransactionDetectedOnBeginTransaction();
 
+	@LogMessage(level = WARN)
+	@Message(id = 92, value = "Error closing the cursor for query: %1$s")
+	void errorClosingCursor(String sql, @Cause Throwable throwable);
+
+	@Message(id = 93, value = "Streaming the results is not supported for queries with collection fetches: %1$s")
+	HibernateException streamingWithCollectionFetch(String queryString);
+
+	@Message(id = 94, value = "Streaming the results is not supported by this query: %1$s")
+	UnsupportedOperationException streamingNotSupported(String queryString);
+
+	@LogMessage(level = WARN)
+	@Message(id = 95, value = "Failed to prefetch the next block of identifiers: %1$s")
+	void errorPrefetchingIdentifiers(String message, @Cause Throwable throwable);
+
+	@LogMessage(level = WARN)
+	@Message(id = 96, value = "Failed to access the reactive cache region '%1$s': %2$s")
+	void errorAccessingReactiveCacheRegion(String regionName, String message, @Cause Throwable throwable);
+
+	@LogMessage(level = WARN)
+	@Message(id = 97, value = "Failed to obtain a connection to the read replica [%1$s], using the primary database: %2$s")
+	void replicaUnavailable(String url, String message, @Cause Throwable throwable);
+
+	@LogMessage(level = INFO)
+	@Message(id = 98, value = "SQL Client read replica URL [\u001b[34m%1$s\u001b[0m]")
+	void sqlClientReplicaUrl(String url);
+
+	@Message(id = 99, value = "The schema of tenant '%1$s' is not a valid identifier: %2$s")
+	IllegalArgumentException invalidTenantSchema(String tenantId, String schema);
+
+	@LogMessage(level = INFO)
+	@Message(id = 100, value = "Translated %1$s queries in %2$s ms")
+	void queryWarmupCompleted(int count, long millis);
+
+	@LogMessage(level = WARN)
+	@Message(id = 101, value = "Failed to translate query during the warm-up: %1$s")
+	void queryWarmupFailed(String hql, @Cause Throwable throwable);
+
+	@LogMessage(level = INFO)
+	@Message(id = 102, value = "Executed %1$s DDL commands in %2$s ms using %3$s connections")
+	void schemaExportCompleted(int count, long millis, int connections);
+
+	@Message(id = 103, value = "The lazy associations to fetch belong to different sessions")
+	IllegalArgumentException fetchAllWithDifferentSessions();
+
 	// Same method that exists in CoreMessageLogger
 	@LogMessage(level = WARN)
 	@Message(id = 104, value = "firstResult/maxResults specified with collection fetch; applying in memory!" )
@@ -5,6 +5,7 @@
 package org.hibernate.reactive.mutiny;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -33,6 +34,7 @@
 import org.hibernate.reactive.session.impl.ReactiveQueryExecutorLookup;
 import org.hibernate.stat.Statistics;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -218,6 +220,47 @@ interface AbstractQuery {
 		 */
 		Uni<List<R>> getResultList();
 
+		/**
+		 * Execute this query, returning the query results as a
+		 * {@link Multi} that emits each row as soon as it has been
+		 * read. The rows are read from a server-side cursor, a chunk
+		 * at a time, as they are requested by the subscriber, so that
+		 * the whole result set never needs to be held in memory.
+		 * <p>
+		 * The size of the chunks is the value of
+		 * {@value org.hibernate.cfg.AvailableSettings#STATEMENT_FETCH_SIZE},
+		 * if set, or 100 rows.
+		 * <p>
+		 * The session must not be used for other operations until the
+		 * {@code Multi} completes or the subscription is cancelled.
+		 * On PostgreSQL, the query must be executed inside a
+		 * transaction. Queries with collection fetches cannot be
+		 * streamed.
+		 * <p>
+		 * Only a {@link StatelessSession} keeps the memory used by the
+		 * stream bounded. A {@link Session} keeps every entity it has
+		 * read in its persistence context, until it is cleared or closed,
+		 * so it eventually holds the whole result set.
+		 *
+		 * @return the resulting rows as a {@link Multi}
+		 *
+		 * @see jakarta.persistence.Query#getResultStream()
+		 */
+		@Incubating
+		Multi<R> getResultMulti();
+
+		/**
+		 * Execute this query, returning the query results as a
+		 * {@link Multi}, reading at most the given number of rows
+		 * from the cursor with each round trip to the database.
+		 *
+		 * @param fetchSize the number of rows to read with each round trip
+		 *
+		 * @see #getResultMulti()
+		 */
+		@Incubating
+		Multi<R> getResultMulti(int fetchSize);
+
 		/**
 		 * Set the read-only/modifiable mode for entities and proxies
 		 * loaded by this Query. This setting overrides the default setting
@@ -803,6 +846,53 @@ sealed interface QueryProducer extends Closeable permits Session, StatelessSessi
 		 * @since 3
 		 */
 		CriteriaBuilder getCriteriaBuilder();
+
+		/**
+		 * Create a PostgreSQL large object, and write to it the chunks
+		 * emitted by the given {@link Multi}. The next chunk is
+		 * requested only after the previous one has been written, so
+		 * the whole content is never held in memory.
+		 * <p>
+		 * The large object is written with the connection of this
+		 * session, as part of its transaction, if any. If the content
+		 * can't be written, the large object is deleted.
+		 * <p>
+		 * An entity refers to a large object by storing the returned
+		 * OID in a column of type {@code oid} or {@code bigint}.
+		 *
+		 * @param content the chunks of the content
+		 *
+		 * @return the OID of the new large object
+		 *
+		 * @throws UnsupportedOperationException if the database is not PostgreSQL
+		 */
+		@Incubating
+		Uni<Long> createLargeObject(Multi<byte[]> content);
+
+		/**
+		 * Read the content of a PostgreSQL large object, a chunk of the
+		 * given size at a time. A chunk is read from the database only
+		 * when it has been requested by the subscriber.
+		 *
+		 * @param oid the OID of the large object
+		 * @param chunkSize the maximum number of bytes in a chunk
+		 *
+		 * @return the chunks of the content
+		 *
+		 * @throws UnsupportedOperationException if the database is not PostgreSQL
+		 */
+		@Incubating
+		Multi<byte[]> readLargeObject(long oid, int chunkSize);
+
+		/**
+		 * Delete a PostgreSQL large object.
+		 *
+		 * @param oid the OID of the large object
+		 *
+		 * @throws UnsupportedOperationException if the database is not PostgreSQL
+		 */
+		@Incubating
+		Uni<Void> deleteLargeObject(long oid);
 	}
 
 	/**
@@ -1236,6 +1326,24 @@ default Uni<Void> lock(Object entity, LockModeType lockModeType) {
 		 */
 		<E, T> Uni<T> fetch(E entity, Attribute<E, T> field);
 
+		/**
+		 * Asynchronously fetch many associations configured for lazy loading.
+		 * Uninitialized proxies are grouped by entity type and uninitialized
+		 * collections by role, and each group is fetched with a single query,
+		 * where the dialect supports array parameters, or with a query per
+		 * chunk of identifiers otherwise.
+		 *
+		 * <pre>
+		 * {@code session.fetchAll(books.stream().map(Book::getAuthor).toList())}
+		 * </pre>
+		 *
+		 * @param associations lazy-loaded associations, or proxies
+		 *
+		 * @see #fetch(Object)
+		 * @see Mutiny#fetchAll(Collection)
+		 */
+		Uni<Void> fetchAll(Collection<?> associations);
+
 		/**
 		 * Asynchronously fetch an association that's configured for lazy loading,
 		 * and unwrap the underlying entity implementation from any proxy.
@@ -1688,6 +1796,22 @@ default <T> Uni<T> get(Class<T> entityClass, Object id, LockModeType lockModeTyp
 		 */
 		Uni<Void> insertMultiple(List<?> entities);
 
+		/**
+		 * Insert the entities emitted by the given {@link Multi}, in batches
+		 * of the given size. The next batch is requested from the source only
+		 * after the previous batch has been inserted, so that no more than one
+		 * batch of entities is held in memory at any time.
+		 * <p>
+		 * Each batch can be sent to the database as a single statement by
+		 * enabling {@value org.hibernate.reactive.provider.Settings#MULTI_ROW_INSERT}.
+		 *
+		 * @param entities a stream of new transient instances
+		 * @param batchSize the batch size
+		 *
+		 * @see org.hibernate.StatelessSession#insert(Object)
+		 */
+		Uni<Void> insertMultiple(Multi<?> entities, int batchSize);
+
 		/**
 		 * Delete a row.
 		 *
@@ -2419,6 +2543,74 @@ static <T> Uni<T> fetch(T association) {
 			return Uni.createFrom().nullItem();
 		}
 
+		final SharedSessionContractImplementor session = lazySession( association );
+		if ( session == null ) {
+			return Uni.createFrom().item( association );
+		}
+		return Uni.createFrom().completionStage(
+				ReactiveQueryExecutorLookup.extract( session ).reactiveFetch( association, false )
+		);
+	}
+
+	/**
+	 * Asynchronously fetch many associations configured for lazy loading.
+	 * Proxies of the same entity type, and collections with the same role,
+	 * are fetched together, using a single query when possible.
+	 *
+	 * <pre>
+	 * {@code Mutiny.fetchAll(books.stream().map(Book::getAuthor).toList())}
+	 * </pre>
+	 *
+	 * @param associations lazy-loaded associations belonging to the same session
+	 *
+	 * @return a {@link Uni} that fails with an {@link IllegalArgumentException}
+	 *         if the associations belong to different sessions
+	 *
+	 * @see Session#fetchAll(Collection)
+	 */
+	static Uni<Void> fetchAll(Collection<?> associations) {
+		final SharedSessionContractImplementor session;
+		try {
+			session = fetchAllSession( associations );
+		}
+		catch (IllegalArgumentException e) {
+			return Uni.createFrom().failure( e );
+		}
+		return session == null
+				? Uni.createFrom().voidItem()
+				: Uni.createFrom().completionStage(
+						ReactiveQueryExecutorLookup.extract( session ).reactiveFetchAll( associations )
+				);
+	}
+
+	/**
+	 * @return the session of the lazy associations, or {@code null} if
+	 *         none of them is a lazy association
+	 *
+	 * @throws IllegalArgumentException if the lazy associations belong
+	 *         to different sessions
+	 */
+	private static SharedSessionContractImplementor fetchAllSession(Collection<?> associations) {
+		SharedSessionContractImplementor result = null;
+		for ( Object association : associations ) {
+			final SharedSessionContractImplementor session = lazySession( association );
+			if ( session != null ) {
+				if ( result == null ) {
+					result = session;
+				}
+				else if ( result != session ) {
+					throw LoggerFactory.make( Log.class, MethodHandles.lookup() ).fetchAllWithDifferentSessions();
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the session of a lazy association, or {@code null} if it
+	 *         isn't a lazy association
+	 */
+	private static SharedSessionContractImplementor lazySession(Object association) {
 		final SharedSessionContractImplementor session;
 		if ( association instanceof HibernateProxy proxy ) {
 			session = proxy.getHibernateLazyInitializer().getSession();
@@ -2434,17 +2626,15 @@ else if ( isPersistentAttributeInterceptable( association ) ) {
 				session = lazinessInterceptor.getLinkedSession();
 			}
 			else {
-				return Uni.createFrom().item( association );
+				return null;
 			}
 		}
 		else {
-			return Uni.createFrom().item( association );
+			return null;
 		}
 		if ( session == null ) {
 			throw LoggerFactory.make( Log.class, MethodHandles.lookup() ).sessionClosedLazyInitializationException();
 		}
-		return Uni.createFrom().completionStage(
-				ReactiveQueryExecutorLookup.extract( session ).reactiveFetch( association, false )
-		);
+		return session;
 	}
 }
@@ -4,6 +4,7 @@
  */
 package org.hibernate.reactive.mutiny.delegation;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -23,6 +24,7 @@
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.mutiny.Mutiny;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 
@@ -164,6 +166,18 @@ public CriteriaBuilder getCriteriaBuilder() {
         return delegate().getCriteriaBuilder();
     }
 
+    public Uni<Long> createLargeObject(Multi<byte[]> content) {
+        return delegate().createLargeObject(content);
+    }
+
+    public Multi<byte[]> readLargeObject(long oid, int chunkSize) {
+        return delegate().readLargeObject(oid, chunkSize);
+    }
+
+    public Uni<Void> deleteLargeObject(long oid) {
+        return delegate().deleteLargeObject(oid);
+    }
+
     public Mutiny.SessionFactory getFactory() {
         return delegate().getFactory();
     }
@@ -344,6 +358,10 @@ public <T> Uni<T> fetch(T association) {
         return delegate().fetch(association);
     }
 
+    public Uni<Void> fetchAll(Collection<?> associations) {
+        return delegate().fetchAll(associations);
+    }
+
     public Uni<Void> persistAll(Object... entities) {
         return delegate().persistAll(entities);
     }
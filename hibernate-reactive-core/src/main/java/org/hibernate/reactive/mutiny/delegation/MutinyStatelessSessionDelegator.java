@@ -4,6 +4,7 @@
  */
 package org.hibernate.reactive.mutiny.delegation;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.persistence.EntityGraph;
 import jakarta.persistence.LockModeType;
@@ -68,6 +69,18 @@ public CriteriaBuilder getCriteriaBuilder() {
         return delegate().getCriteriaBuilder();
     }
 
+    public Uni<Long> createLargeObject(Multi<byte[]> content) {
+        return delegate().createLargeObject(content);
+    }
+
+    public Multi<byte[]> readLargeObject(long oid, int chunkSize) {
+        return delegate().readLargeObject(oid, chunkSize);
+    }
+
+    public Uni<Void> deleteLargeObject(long oid) {
+        return delegate().deleteLargeObject(oid);
+    }
+
     public Uni<Void> insertAll(Object... entities) {
         return delegate().insertAll(entities);
     }
@@ -236,6 +249,10 @@ public Uni<Void> insertMultiple(List<?> entities) {
         return delegate().insertMultiple(entities);
     }
 
+    public Uni<Void> insertMultiple(Multi<?> entities, int batchSize) {
+        return delegate().insertMultiple(entities, batchSize);
+    }
+
     public Uni<Void> refresh(Object entity, LockMode lockMode) {
         return delegate().refresh(entity, lockMode);
     }
@@ -13,7 +13,9 @@
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.mutiny.Mutiny.Query;
 import org.hibernate.reactive.query.ReactiveQuery;
+import org.hibernate.reactive.query.internal.ReactiveResultsPublisher;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -54,6 +56,16 @@ public Uni<List<R>> getResultList() {
 		return uni( delegate::getReactiveResultList );
 	}
 
+	@Override
+	public Multi<R> getResultMulti() {
+		return getResultMulti( 0 );
+	}
+
+	@Override
+	public Multi<R> getResultMulti(int fetchSize) {
+		return factory.multi( new ReactiveResultsPublisher<R>( sink -> delegate.reactiveStream( fetchSize, sink ) ) );
+	}
+
 	@Override
 	public FlushMode getFlushMode() {
 		return delegate.getHibernateFlushMode();
@@ -12,7 +12,9 @@
 import org.hibernate.query.Page;
 import org.hibernate.reactive.mutiny.Mutiny.SelectionQuery;
 import org.hibernate.reactive.query.ReactiveSelectionQuery;
+import org.hibernate.reactive.query.internal.ReactiveResultsPublisher;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -52,6 +54,16 @@ public Uni<List<R>> getResultList() {
 		return uni( delegate::getReactiveResultList );
 	}
 
+	@Override
+	public Multi<R> getResultMulti() {
+		return getResultMulti( 0 );
+	}
+
+	@Override
+	public Multi<R> getResultMulti(int fetchSize) {
+		return factory.multi( new ReactiveResultsPublisher<R>( sink -> delegate.reactiveStream( fetchSize, sink ) ) );
+	}
+
 	@Override
 	public FlushMode getFlushMode() {
 		return delegate.getHibernateFlushMode();
@@ -7,17 +7,21 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.hibernate.Cache;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.creation.internal.SessionBuilderImpl;
 import org.hibernate.engine.creation.internal.SessionCreationOptions;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.internal.SessionImpl;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.reactive.cache.impl.ReactiveSecondLevelCache;
 import org.hibernate.reactive.common.spi.Implementor;
 import org.hibernate.reactive.context.Context;
 import org.hibernate.reactive.context.impl.BaseKey;
@@ -27,6 +31,7 @@
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.session.ReactiveStatelessSession;
 import org.hibernate.reactive.session.impl.ReactiveSessionImpl;
@@ -34,10 +39,12 @@
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.stat.Statistics;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.persistence.metamodel.Metamodel;
 
 import static org.hibernate.reactive.common.InternalStateAssertions.assertUseOnEventLoop;
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 
 /**
  * Implementation of {@link Mutiny.SessionFactory}.
@@ -50,6 +57,7 @@ public class MutinySessionFactoryImpl implements Mutiny.SessionFactory, Implemen
 
 	private final SessionFactoryImpl delegate;
 	private final ReactiveConnectionPool connectionPool;
+	private final boolean lazyConnection;
 	private final Context context;
 
 	/**
@@ -66,6 +74,8 @@ public MutinySessionFactoryImpl(SessionFactoryImpl delegate) {
 		this.delegate = delegate;
 		context = delegate.getServiceRegistry().getService( Context.class );
 		connectionPool = delegate.getServiceRegistry().getService( ReactiveConnectionPool.class );
+		lazyConnection = delegate.getServiceRegistry().requireService( ConfigurationService.class )
+				.getSetting( Settings.LAZY_CONNECTION, StandardConverters.BOOLEAN, false );
 		contextKeyForSession = new BaseKey<>( Mutiny.Session.class, delegate.getUuid() );
 		contextKeyForStatelessSession = new BaseKey<>( Mutiny.StatelessSession.class, delegate.getUuid() );
 	}
@@ -74,6 +84,10 @@ <T> Uni<T> uni(Supplier<CompletionStage<T>> stageSupplier) {
 		return Uni.createFrom().completionStage( stageSupplier ).runSubscriptionOn( context );
 	}
 
+	<T> Multi<T> multi(Flow.Publisher<T> publisher) {
+		return Multi.createFrom().publisher( publisher ).runSubscriptionOn( context );
+	}
+
 	@Override
 	public String getUuid() {
 		return delegate.getUuid();
@@ -188,6 +202,10 @@ protected SessionImplementor createSession() {
 
 	private CompletionStage<ReactiveConnection> connection(String tenantId) {
 		assertUseOnEventLoop();
+		if ( lazyConnection ) {
+			// The connection is obtained from the pool when the first statement is executed
+			return completedFuture( connectionPool.getReleasingProxyConnection( tenantId ) );
+		}
 		return tenantId == null
 				? connectionPool.getConnection()
 				: connectionPool.getConnection( tenantId );
@@ -311,7 +329,7 @@ public Metamodel getMetamodel() {
 
 	@Override
 	public Cache getCache() {
-		return delegate.getCache();
+		return ReactiveSecondLevelCache.cache( delegate );
 	}
 
 	@Override
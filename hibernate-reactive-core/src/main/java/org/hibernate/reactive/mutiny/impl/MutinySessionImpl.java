@@ -24,7 +24,9 @@
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.reactive.session.ReactiveQueryProducer;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.session.impl.LargeObjects;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -38,6 +40,7 @@
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.CriteriaUpdate;
 import jakarta.persistence.metamodel.Attribute;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
@@ -80,6 +83,11 @@ public <E, T> Uni<T> fetch(E entity, Attribute<E, T> field) {
 		return uni( () -> delegate.reactiveFetch( entity, field ) );
 	}
 
+	@Override
+	public Uni<Void> fetchAll(Collection<?> associations) {
+		return uni( () -> delegate.reactiveFetchAll( associations ) );
+	}
+
 	@Override
 	public <T> Uni<T> unproxy(T association) {
 		return uni( () -> delegate.reactiveFetch( association, true ) );
@@ -261,12 +269,12 @@ public Uni<Void> persist(String entityName, Object entity) {
 
 	@Override
 	public Uni<Void> persistAll(Object... entities) {
-		return uni( () -> applyToAll( delegate::reactivePersist, entities ) );
+		return uni( () -> delegate.reactivePersistAll( entities ) );
 	}
 
 	@Override
 	public Uni<Void> persistMultiple(List<?> entities) {
-		return uni( () -> applyToAll( delegate::reactivePersist, entities.toArray() ) );
+		return uni( () -> delegate.reactivePersistAll( entities.toArray() ) );
 	}
 
 	@Override
@@ -586,6 +594,21 @@ public CriteriaBuilder getCriteriaBuilder() {
 		return getFactory().getCriteriaBuilder();
 	}
 
+	@Override
+	public Uni<Long> createLargeObject(Multi<byte[]> content) {
+		return uni( () -> LargeObjects.create( delegate, content ) );
+	}
+
+	@Override
+	public Multi<byte[]> readLargeObject(long oid, int chunkSize) {
+		return factory.multi( LargeObjects.read( delegate, oid, chunkSize ) );
+	}
+
+	@Override
+	public Uni<Void> deleteLargeObject(long oid) {
+		return uni( () -> LargeObjects.delete( delegate, oid ) );
+	}
+
 	@Override
 	public <T> ResultSetMapping<T> getResultSetMapping(Class<T> resultType, String mappingName) {
 		return delegate.getResultSetMapping( resultType, mappingName );
@@ -15,7 +15,9 @@
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.query.ReactiveQuery;
 import org.hibernate.reactive.session.ReactiveStatelessSession;
+import org.hibernate.reactive.session.impl.LargeObjects;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.persistence.EntityGraph;
 import jakarta.persistence.TypedQueryReference;
@@ -189,6 +191,18 @@ public Uni<Void> insertMultiple(List<?> entities) {
 		return insertAll( entities.size(), entities.toArray() );
 	}
 
+	@Override
+	public Uni<Void> insertMultiple(Multi<?> entities, int batchSize) {
+		if ( batchSize < 1 ) {
+			return Uni.createFrom().failure( new IllegalArgumentException( "Batch size must be positive: " + batchSize ) );
+		}
+		return entities
+				.group().intoLists().of( batchSize )
+				// One batch at a time, in the order they are emitted
+				.onItem().transformToUniAndConcatenate( batch -> insertAll( batchSize, batch.toArray() ) )
+				.onItem().ignoreAsUni();
+	}
+
 	@Override
 	public Uni<Void> delete(Object entity) {
 		return uni( () -> delegate.reactiveDelete( entity ) );
@@ -374,6 +388,21 @@ public CriteriaBuilder getCriteriaBuilder() {
 		return getFactory().getCriteriaBuilder();
 	}
 
+	@Override
+	public Uni<Long> createLargeObject(Multi<byte[]> content) {
+		return uni( () -> LargeObjects.create( delegate, content ) );
+	}
+
+	@Override
+	public Multi<byte[]> readLargeObject(long oid, int chunkSize) {
+		return factory.multi( LargeObjects.read( delegate, oid, chunkSize ) );
+	}
+
+	@Override
+	public Uni<Void> deleteLargeObject(long oid) {
+		return uni( () -> LargeObjects.delete( delegate, oid ) );
+	}
+
 	@Override
 	public <T> ResultSetMapping<T> getResultSetMapping(Class<T> resultType, String mappingName) {
 		return delegate.getResultSetMapping( resultType, mappingName );
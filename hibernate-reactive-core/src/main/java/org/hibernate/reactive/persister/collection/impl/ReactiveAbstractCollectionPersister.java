@@ -9,11 +9,13 @@
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.BatchLoaderFactory;
 import org.hibernate.loader.ast.spi.CollectionLoader;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoaderNamedQuery;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoaderSingleKey;
+import org.hibernate.reactive.loader.ast.spi.ReactiveCollectionBatchLoader;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 
@@ -41,6 +43,26 @@ default CollectionLoader createSingleKeyCollectionLoader(LoadQueryInfluencers lo
         return new ReactiveCollectionLoaderSingleKey( getAttributeMapping(), loadQueryInfluencers, getFactory() );
     }
 
+    /**
+     * Create the loader used by {@link #reactiveInitializeAll(Object[], SharedSessionContractImplementor)}:
+     * it binds all the keys to a single array parameter when the dialect supports it,
+     * otherwise it splits them in chunks of keys for an in-predicate.
+     */
+    default ReactiveCollectionBatchLoader createMultiKeyCollectionLoader(LoadQueryInfluencers loadQueryInfluencers) {
+        // Only affects the size of the chunks when the dialect doesn't support arrays
+        final int batchSize = Math.max( getBatchSize(), 128 );
+        return (ReactiveCollectionBatchLoader) getFactory().getServiceRegistry()
+                .requireService( BatchLoaderFactory.class )
+                .createCollectionBatchLoader( batchSize, loadQueryInfluencers, getAttributeMapping(), getFactory() );
+    }
+
+    /**
+     * Initialize the collections with the given keys using as few queries as possible.
+     *
+     * @param keys the keys of uninitialized collections associated with the session
+     */
+    CompletionStage<Void> reactiveInitializeAll(Object[] keys, SharedSessionContractImplementor session);
+
     /**
      * @see org.hibernate.persister.collection.AbstractCollectionPersister#recreate(PersistentCollection, Object, SharedSessionContractImplementor)
      */
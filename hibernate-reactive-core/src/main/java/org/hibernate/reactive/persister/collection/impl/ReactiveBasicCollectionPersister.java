@@ -22,6 +22,7 @@
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoader;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoaderSubSelectFetch;
+import org.hibernate.reactive.loader.ast.spi.ReactiveCollectionBatchLoader;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinator;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinatorNoOp;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinatorStandard;
@@ -48,6 +49,8 @@ public class ReactiveBasicCollectionPersister extends BasicCollectionPersister i
 	private final ReactiveDeleteRowsCoordinator deleteRowsCoordinator;
 	private final ReactiveRemoveCoordinator removeCoordinator;
 
+	private ReactiveCollectionBatchLoader multiKeyLoader;
+
 	public ReactiveBasicCollectionPersister(
 			Collection collectionBinding,
 			CollectionDataAccess cacheAccessStrategy,
@@ -139,6 +142,19 @@ public CompletionStage<Void> reactiveInitialize(Object key, SharedSessionContrac
 				.thenCompose( CompletionStages::voidFuture );
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveInitializeAll(Object[] keys, SharedSessionContractImplementor session) {
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		if ( influencers.hasEnabledFilters() || influencers.hasEnabledFetchProfiles() ) {
+			// The loader depends on the state of the session
+			return createMultiKeyCollectionLoader( influencers ).reactiveLoadAll( keys, session );
+		}
+		if ( multiKeyLoader == null ) {
+			multiKeyLoader = createMultiKeyCollectionLoader( new LoadQueryInfluencers( getFactory() ) );
+		}
+		return multiKeyLoader.reactiveLoadAll( keys, session );
+	}
+
 	/**
 	 * @see org.hibernate.persister.collection.BasicCollectionPersister#remove(Object, SharedSessionContractImplementor)
 	 */
@@ -30,6 +30,7 @@
 import org.hibernate.reactive.engine.jdbc.env.internal.ReactiveMutationExecutor;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoader;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoaderSubSelectFetch;
+import org.hibernate.reactive.loader.ast.spi.ReactiveCollectionBatchLoader;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinator;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinatorNoOp;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinatorStandard;
@@ -62,6 +63,8 @@ public class ReactiveOneToManyPersister extends OneToManyPersister
 	private final ReactiveDeleteRowsCoordinator deleteRowsCoordinator;
 	private final ReactiveRemoveCoordinator removeCoordinator;
 
+	private ReactiveCollectionBatchLoader multiKeyLoader;
+
 	public ReactiveOneToManyPersister(
 			Collection collectionBinding,
 			CollectionDataAccess cacheAccessStrategy,
@@ -167,6 +170,19 @@ public CompletionStage<Void> reactiveInitialize(Object key, SharedSessionContrac
 				.thenCompose( CompletionStages::voidFuture );
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveInitializeAll(Object[] keys, SharedSessionContractImplementor session) {
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		if ( influencers.hasEnabledFilters() || influencers.hasEnabledFetchProfiles() ) {
+			// The loader depends on the state of the session
+			return createMultiKeyCollectionLoader( influencers ).reactiveLoadAll( keys, session );
+		}
+		if ( multiKeyLoader == null ) {
+			multiKeyLoader = createMultiKeyCollectionLoader( new LoadQueryInfluencers( getFactory() ) );
+		}
+		return multiKeyLoader.reactiveLoadAll( keys, session );
+	}
+
 	@Override
 	public boolean isRowDeleteEnabled() {
 		return super.isRowDeleteEnabled();
@@ -5,18 +5,36 @@
 package org.hibernate.reactive.persister.entity.impl;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.generator.Generator;
+import org.hibernate.metamodel.mapping.AttributeMappingsList;
 import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.mutation.UpdateCoordinatorStandard;
+import org.hibernate.reactive.persister.entity.mutation.MutationShapeCache;
 import org.hibernate.reactive.persister.entity.mutation.ReactiveScopedUpdateCoordinator;
 import org.hibernate.reactive.persister.entity.mutation.ReactiveUpdateCoordinator;
 import org.hibernate.reactive.persister.entity.mutation.ReactiveUpdateCoordinatorStandard;
 
 final class ReactiveUpdateCoordinatorStandardScopeFactory extends UpdateCoordinatorStandard implements ReactiveUpdateCoordinator {
 
+	// Null if the values generated on execution might change the updated columns
+	private final MutationShapeCache dynamicUpdateGroups;
+
 	public ReactiveUpdateCoordinatorStandardScopeFactory(
 			AbstractEntityPersister entityPersister,
 			SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
+		this.dynamicUpdateGroups = hasValuesGeneratedOnUpdate( entityPersister ) ? null : new MutationShapeCache();
+	}
+
+	private static boolean hasValuesGeneratedOnUpdate(AbstractEntityPersister entityPersister) {
+		final AttributeMappingsList attributeMappings = entityPersister.getAttributeMappings();
+		for ( int i = 0; i < attributeMappings.size(); i++ ) {
+			final Generator generator = attributeMappings.get( i ).getGenerator();
+			if ( generator != null && generator.generatesOnUpdate() && generator.generatedOnExecution() ) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@Override
@@ -27,7 +45,8 @@ public ReactiveScopedUpdateCoordinator makeScopedCoordinator() {
 				this.getStaticMutationOperationGroup(),
 				this.getBatchKey(),
 				this.getVersionUpdateGroup(),
-				this.getVersionUpdateBatchkey()
+				this.getVersionUpdateBatchkey(),
+				dynamicUpdateGroups
 		);
 	}
 
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.persister.entity.mutation;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.hibernate.Internal;
+import org.hibernate.sql.model.MutationOperationGroup;
+
+/**
+ * A bounded cache of the {@link MutationOperationGroup}s generated by a
+ * mutation coordinator of an entity for a dynamic insert, update, or
+ * delete. A group holds the SQL of the statement for each table and the
+ * layout of its parameters, and it's determined by the {@link Shape} of
+ * the mutation: which attributes are included, and which values are null.
+ * <p>
+ * Once the cache is full, the groups for new shapes are generated every
+ * time, but aren't cached.
+ */
+@Internal
+public final class MutationShapeCache {
+
+	/**
+	 * The maximum number of shapes cached for an entity and an operation
+	 */
+	public static final int DEFAULT_MAX_SIZE = 256;
+
+	private final Map<Shape, MutationOperationGroup> groups = new ConcurrentHashMap<>();
+	private final int maxSize;
+
+	public MutationShapeCache() {
+		this( DEFAULT_MAX_SIZE );
+	}
+
+	public MutationShapeCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * @return the cached group for the given shape, or the one created by
+	 * the generator if there isn't one
+	 */
+	public MutationOperationGroup get(Shape shape, Supplier<MutationOperationGroup> generator) {
+		final MutationOperationGroup cached = groups.get( shape );
+		if ( cached != null ) {
+			return cached;
+		}
+		final MutationOperationGroup group = generator.get();
+		if ( groups.size() < maxSize ) {
+			groups.putIfAbsent( shape, group );
+		}
+		return group;
+	}
+
+	/**
+	 * The shape of a mutation, a sequence of bits.
+	 */
+	public static final class Shape {
+		private final BitSet bits = new BitSet();
+		private int length;
+
+		public Shape add(boolean bit) {
+			if ( bit ) {
+				bits.set( length );
+			}
+			length++;
+			return this;
+		}
+
+		public Shape add(boolean[] bits) {
+			for ( boolean bit : bits ) {
+				add( bit );
+			}
+			return this;
+		}
+
+		/**
+		 * Add a bit for each value, set if the value is null
+		 */
+		public Shape addNulls(Object[] values) {
+			add( values == null );
+			if ( values != null ) {
+				for ( Object value : values ) {
+					add( value == null );
+				}
+			}
+			return this;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			return object instanceof Shape shape
+					&& length == shape.length
+					&& bits.equals( shape.bits );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * bits.hashCode() + length;
+		}
+	}
+}
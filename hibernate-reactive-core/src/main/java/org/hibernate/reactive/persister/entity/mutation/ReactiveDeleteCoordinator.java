@@ -35,6 +35,8 @@ public class ReactiveDeleteCoordinator extends DeleteCoordinatorStandard impleme
 
 	private CompletionStage<Void> stage;
 
+	private final MutationShapeCache dynamicDeleteGroups = new MutationShapeCache();
+
 	public ReactiveDeleteCoordinator(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
 	}
@@ -62,7 +64,11 @@ public CompletionStage<Void> reactiveDelete(Object entity, Object id, Object ver
 	@Override
 	protected void doDynamicDelete(Object entity, Object id, Object rowId, Object[] loadedState, SharedSessionContractImplementor session) {
 		stage = new CompletableFuture<>();
-		final MutationOperationGroup operationGroup = generateOperationGroup( null, loadedState, true, session );
+		// The group only depends on the nullness of the loaded state
+		final MutationOperationGroup operationGroup = dynamicDeleteGroups.get(
+				new MutationShapeCache.Shape().addNulls( loadedState ),
+				() -> generateOperationGroup( null, loadedState, true, session )
+		);
 		final ReactiveMutationExecutor mutationExecutor = mutationExecutor( session, operationGroup );
 
 		for ( int i = 0; i < operationGroup.getNumberOfOperations(); i++ ) {
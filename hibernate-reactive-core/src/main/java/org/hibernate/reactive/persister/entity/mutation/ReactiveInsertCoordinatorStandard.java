@@ -57,6 +57,8 @@ public class ReactiveInsertCoordinatorStandard extends AbstractMutationCoordinat
 		InsertCoordinator {
 	private final MutationOperationGroup staticInsertGroup;
 	private final BasicBatchKey batchKey;
+	// Null if the dynamic inserts depend on the values generated on execution
+	private final MutationShapeCache dynamicInsertGroups;
 
 	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -80,6 +82,17 @@ public ReactiveInsertCoordinatorStandard(AbstractEntityPersister entityPersister
 			staticInsertGroup = generateStaticOperationGroup();
 		}
 
+		dynamicInsertGroups = hasValuesGeneratedOnExecution( entityPersister ) ? null : new MutationShapeCache();
+	}
+
+	private static boolean hasValuesGeneratedOnExecution(AbstractEntityPersister entityPersister) {
+		final AttributeMappingsList attributeMappings = entityPersister.getAttributeMappings();
+		for ( int i = 0; i < attributeMappings.size(); i++ ) {
+			if ( isValueGenerated( attributeMappings.get( i ).getGenerator() ) ) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@Override
@@ -207,7 +220,7 @@ protected CompletionStage<GeneratedValues> doDynamicInserts(
 			boolean forceIdentifierBinding,
 			boolean isIdentityInsert) {
 		final boolean[] insertability = getPropertiesToInsert( values );
-		final MutationOperationGroup insertGroup = generateDynamicInsertSqlGroup( insertability, object, session, forceIdentifierBinding );
+		final MutationOperationGroup insertGroup = dynamicInsertGroup( insertability, object, session, forceIdentifierBinding );
 		final ReactiveMutationExecutor mutationExecutor = getReactiveMutationExecutor( session, insertGroup, true );
 
 		final InsertValuesAnalysis insertValuesAnalysis = new InsertValuesAnalysis( entityPersister(), values );
@@ -331,6 +344,28 @@ public boolean[] getPropertiesToInsert(Object[] fields) {
 		return notNull;
 	}
 
+	/**
+	 * The group for a dynamic insert of the given attributes, generated
+	 * only the first time the same attributes are inserted.
+	 */
+	private MutationOperationGroup dynamicInsertGroup(
+			boolean[] insertable,
+			Object object,
+			SharedSessionContractImplementor session,
+			boolean forceIdentifierBinding) {
+		if ( dynamicInsertGroups == null ) {
+			// The generators might add other attributes to the insert
+			return generateDynamicInsertSqlGroup( insertable, object, session, forceIdentifierBinding );
+		}
+		final MutationShapeCache.Shape shape = new MutationShapeCache.Shape()
+				.add( insertable )
+				.add( forceIdentifierBinding );
+		return dynamicInsertGroups.get(
+				shape,
+				() -> generateDynamicInsertSqlGroup( insertable, object, session, forceIdentifierBinding )
+		);
+	}
+
 	protected MutationOperationGroup generateDynamicInsertSqlGroup(
 			boolean[] insertable,
 			Object object,
@@ -18,6 +18,7 @@
 import org.hibernate.generator.BeforeExecutionGenerator;
 import org.hibernate.generator.Generator;
 import org.hibernate.generator.values.GeneratedValues;
+import org.hibernate.metamodel.mapping.AttributeMappingsList;
 import org.hibernate.metamodel.mapping.EntityVersionMapping;
 import org.hibernate.metamodel.mapping.SingularAttributeMapping;
 import org.hibernate.persister.entity.EntityPersister;
@@ -44,6 +45,9 @@ public class ReactiveUpdateCoordinatorStandard extends UpdateCoordinatorStandard
 
 	private CompletableFuture<GeneratedValues> updateResultStage;
 
+	// Shared by the coordinators of the same entity, null if the groups can't be cached
+	private final MutationShapeCache dynamicUpdateGroups;
+
 	public ReactiveUpdateCoordinatorStandard(
 			EntityPersister entityPersister,
 			SessionFactoryImplementor factory,
@@ -51,7 +55,19 @@ public ReactiveUpdateCoordinatorStandard(
 			BatchKey batchKey,
 			MutationOperationGroup versionUpdateGroup,
 			BatchKey versionUpdateBatchkey) {
+		this( entityPersister, factory, staticUpdateGroup, batchKey, versionUpdateGroup, versionUpdateBatchkey, null );
+	}
+
+	public ReactiveUpdateCoordinatorStandard(
+			EntityPersister entityPersister,
+			SessionFactoryImplementor factory,
+			MutationOperationGroup staticUpdateGroup,
+			BatchKey batchKey,
+			MutationOperationGroup versionUpdateGroup,
+			BatchKey versionUpdateBatchkey,
+			MutationShapeCache dynamicUpdateGroups) {
 		super( entityPersister, factory, staticUpdateGroup, batchKey, versionUpdateGroup, versionUpdateBatchkey );
+		this.dynamicUpdateGroups = dynamicUpdateGroups;
 	}
 
 	// Utility method to use method reference
@@ -300,11 +316,12 @@ protected GeneratedValues doDynamicUpdate(
 			SharedSessionContractImplementor session) {
 		this.updateResultStage = new CompletableFuture<>();
 		// Create the JDBC operation descriptors
-		final MutationOperationGroup dynamicUpdateGroup = generateDynamicUpdateGroup(
+		final MutationOperationGroup dynamicUpdateGroup = dynamicUpdateGroup(
 				entity,
 				id,
 				rowId,
 				oldValues,
+				dirtinessChecker,
 				valuesAnalysis,
 				session
 		);
@@ -359,6 +376,48 @@ protected GeneratedValues doDynamicUpdate(
 		return null;
 	}
 
+	/**
+	 * The group for a dynamic update, generated only the first time an
+	 * update with the same shape is executed. The shape is determined by
+	 * the attributes to set, the attributes used for optimistic locking,
+	 * the tables to update, and the nullness of the old values when they
+	 * are used for optimistic locking.
+	 */
+	private MutationOperationGroup dynamicUpdateGroup(
+			Object entity,
+			Object id,
+			Object rowId,
+			Object[] oldValues,
+			UpdateCoordinatorStandard.InclusionChecker dirtinessChecker,
+			UpdateCoordinatorStandard.UpdateValuesAnalysisImpl valuesAnalysis,
+			SharedSessionContractImplementor session) {
+		if ( dynamicUpdateGroups == null ) {
+			return generateDynamicUpdateGroup( entity, id, rowId, oldValues, valuesAnalysis, session );
+		}
+		final MutationShapeCache.Shape shape = new MutationShapeCache.Shape().add( rowId != null );
+		final AttributeMappingsList attributeMappings = entityPersister().getAttributeMappings();
+		for ( int i = 0; i < attributeMappings.size(); i++ ) {
+			if ( attributeMappings.get( i ) instanceof SingularAttributeMapping attribute ) {
+				shape.add( dirtinessChecker.include( i, attribute ) );
+			}
+		}
+		for ( AttributeAnalysis analysis : valuesAnalysis.getAttributeAnalyses() ) {
+			shape.add( analysis.includeInLocking() );
+		}
+		entityPersister().forEachMutableTable( tableMapping -> shape
+				.add( valuesAnalysis.getTablesNeedingUpdate().contains( tableMapping ) )
+				.add( valuesAnalysis.getTablesWithNonNullValues().contains( tableMapping ) )
+				.add( valuesAnalysis.getTablesWithPreviousNonNullValues().contains( tableMapping ) )
+		);
+		if ( entityPersister().optimisticLockStyle().isAllOrDirty() ) {
+			shape.addNulls( oldValues );
+		}
+		return dynamicUpdateGroups.get(
+				shape,
+				() -> generateDynamicUpdateGroup( entity, id, rowId, oldValues, valuesAnalysis, session )
+		);
+	}
+
 	@Override
 	protected GeneratedValues doStaticUpdate(
 			Object entity,
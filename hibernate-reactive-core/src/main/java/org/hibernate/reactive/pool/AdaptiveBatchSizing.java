@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool;
+
+import java.util.Map;
+
+import org.hibernate.Incubating;
+import org.hibernate.service.Service;
+
+/**
+ * A Hibernate {@link Service} that chooses the size of the batches sent
+ * by the {@link BatchingConnection} for each SQL statement, based on the
+ * observed time of the execution of the previous batches of the same
+ * statement.
+ * <p>
+ * Adaptive sizing is disabled unless {@value org.hibernate.reactive.provider.Settings#BATCH_SIZE_ADAPTIVE}
+ * is enabled, and it only applies when batching is enabled, for example, by
+ * setting {@value org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE}.
+ * <p>
+ * The methods of this interface are called on the Vert.x event loop, and
+ * must not block.
+ *
+ * @see org.hibernate.reactive.provider.Settings#BATCH_SIZE_ADAPTIVE
+ * @see org.hibernate.reactive.provider.Settings#BATCH_SIZE_MIN
+ * @see org.hibernate.reactive.provider.Settings#BATCH_SIZE_MAX
+ */
+@Incubating
+public interface AdaptiveBatchSizing extends Service {
+
+	/**
+	 * The implementation used when adaptive sizing is disabled
+	 */
+	AdaptiveBatchSizing NONE = new AdaptiveBatchSizing() {
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+
+		@Override
+		public int batchSize(String sql, int configuredBatchSize) {
+			return configuredBatchSize;
+		}
+
+		@Override
+		public void batchExecuted(String sql, int batchSize, long durationNanos) {
+		}
+
+		@Override
+		public Map<String, Integer> getBatchSizes() {
+			return Map.of();
+		}
+	};
+
+	/**
+	 * @return {@code false} if the configured batch size should always be used
+	 */
+	boolean isEnabled();
+
+	/**
+	 * @param sql the SQL statement of the batch
+	 * @param configuredBatchSize the batch size set for the session
+	 *
+	 * @return the maximum number of executions of the statement in a batch
+	 */
+	int batchSize(String sql, int configuredBatchSize);
+
+	/**
+	 * A batch has been executed.
+	 *
+	 * @param sql the SQL statement of the batch
+	 * @param batchSize the number of executions of the statement in the batch
+	 * @param durationNanos the time between sending the batch and receiving its result
+	 */
+	void batchExecuted(String sql, int batchSize, long durationNanos);
+
+	/**
+	 * @return the current batch size for each SQL statement, for monitoring
+	 */
+	Map<String, Integer> getBatchSizes();
+}
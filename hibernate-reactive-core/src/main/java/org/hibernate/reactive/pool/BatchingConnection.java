@@ -6,6 +6,7 @@
 
 
 import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.pool.impl.MultiRowInsert;
 
 import java.sql.ResultSet;
 import java.util.ArrayList;
@@ -15,6 +16,7 @@
 
 import io.vertx.sqlclient.spi.DatabaseMetadata;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -29,21 +31,73 @@
  * and the {@link org.hibernate.engine.jdbc.batch.spi.Batch} interface.
  * However, the model used there is not easily adaptable to the reactive
  * paradigm.
+ * <p>
+ * When a batch is interrupted by a statement with different SQL, the
+ * batch is normally executed, and its outcome verified, before the next
+ * statement is accepted. If pipelining is enabled, and a transaction is
+ * in progress, the batch is instead sent to the database without waiting
+ * for its result, so that batches for different statements are executed
+ * one after the other on the connection, in the original order, without
+ * waiting for a round trip between them. The outcomes of the pending
+ * batches are verified by the next call to {@link #executeBatch()}, or
+ * before any other statement is executed.
+ * <p>
+ * If multi-row inserts are enabled, a batch of executions of the same
+ * insert statement is sent as a single statement with multiple rows in
+ * the {@code values} clause, when the statement can be rewritten.
+ * <p>
+ * If adaptive sizing is enabled, the maximum size of a batch is chosen
+ * for each statement by the given {@link AdaptiveBatchSizing}, starting
+ * from the configured batch size, and the execution time of each batch
+ * is reported to it.
+ *
+ * @see org.hibernate.reactive.provider.Settings#BATCH_PIPELINING
+ * @see org.hibernate.reactive.provider.Settings#MULTI_ROW_INSERT
+ * @see org.hibernate.reactive.provider.Settings#BATCH_SIZE_ADAPTIVE
  *
  * @author Gavin King
  */
 public class BatchingConnection implements ReactiveConnection {
 
 	private final ReactiveConnection delegate;
+	private final boolean pipelining;
+	private final boolean multiRowInserts;
+	private final AdaptiveBatchSizing adaptiveBatchSizing;
 	private int batchSize;
 
 	private String batchedSql;
+	// The maximum size of the current batch
+	private int batchedSize;
 	private Expectation batchedExpectation;
 	private List<Object[]> batchParamValues;
 
+	// The batches already sent to the database,
+	// but whose outcome hasn't been verified yet
+	private CompletionStage<Void> pendingBatches;
+
 	public BatchingConnection(ReactiveConnection delegate, int batchSize) {
+		this( delegate, batchSize, false );
+	}
+
+	public BatchingConnection(ReactiveConnection delegate, int batchSize, boolean pipelining) {
+		this( delegate, batchSize, pipelining, false );
+	}
+
+	public BatchingConnection(ReactiveConnection delegate, int batchSize, boolean pipelining, boolean multiRowInserts) {
+		this( delegate, batchSize, pipelining, multiRowInserts, AdaptiveBatchSizing.NONE );
+	}
+
+	public BatchingConnection(
+			ReactiveConnection delegate,
+			int batchSize,
+			boolean pipelining,
+			boolean multiRowInserts,
+			AdaptiveBatchSizing adaptiveBatchSizing) {
 		this.delegate = delegate;
 		this.batchSize = batchSize;
+		this.pipelining = pipelining;
+		this.multiRowInserts = multiRowInserts;
+		this.adaptiveBatchSizing = adaptiveBatchSizing;
 	}
 
 	@Override
@@ -56,6 +110,22 @@ public boolean isTransactionInProgress() {
 		return delegate.isTransactionInProgress();
 	}
 
+	/**
+	 * An update that interrupts the current batch must wait for the
+	 * outcome of the batch, unless the batch is pipelined. So we only
+	 * accept pipelined updates when batches are pipelined too.
+	 */
+	@Override
+	public boolean supportsPipelinedUpdates() {
+		return ( batchSize <= 0 || pipelining && delegate.isTransactionInProgress() )
+				&& delegate.supportsPipelinedUpdates();
+	}
+
+	@Override
+	public ReactiveConnectionMetrics getMetrics() {
+		return delegate.getMetrics();
+	}
+
 	@Override
 	public ReactiveConnection withBatchSize(int batchSize) {
 		if ( batchSize <= 1 ) {
@@ -67,32 +137,107 @@ public ReactiveConnection withBatchSize(int batchSize) {
 		}
 	}
 
+	@Override
+	public ReactiveConnection readOnly() {
+		// The queries must see the statements in the batch
+		return hasBatch() ? this : delegate.readOnly();
+	}
+
 	@Override
 	public CompletionStage<Void> executeBatch() {
-		if ( !hasBatch() ) {
+		if ( batchedSql != null ) {
+			sendBatch();
+		}
+		if ( pendingBatches == null ) {
 			return voidFuture();
 		}
 		else {
-			String sql = batchedSql;
-			Expectation expectation = batchedExpectation;
-			List<Object[]> paramValues = batchParamValues;
-			batchedSql = null;
-			batchParamValues = null;
-			batchedExpectation = null;
-
-			if ( paramValues.size() == 1 ) {
-				return update( sql, paramValues.get( 0 ) )
-						.thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
-			}
-			else {
-				return update( sql, paramValues )
-						.thenAccept( rowCounts -> {
-							for ( int i = 0; i < rowCounts.length; i++ ) {
-								expectation.verifyOutcome( rowCounts[i], i, sql );
-							}
-						} );
+			final CompletionStage<Void> pending = pendingBatches;
+			pendingBatches = null;
+			return pending;
+		}
+	}
+
+	/**
+	 * Send the current batch to the database, and add it to the
+	 * pending batches.
+	 */
+	private void sendBatch() {
+		final CompletionStage<Void> sent = doSendBatch();
+		pendingBatches = pendingBatches == null
+				? sent
+				// If more than one batch fails, we report the first failure
+				: pendingBatches.thenCombine( sent, (v1, v2) -> null );
+	}
+
+	private CompletionStage<Void> doSendBatch() {
+		String sql = batchedSql;
+		Expectation expectation = batchedExpectation;
+		List<Object[]> paramValues = batchParamValues;
+		batchedSql = null;
+		batchParamValues = null;
+		batchedExpectation = null;
+
+		final ReactiveConnectionMetrics metrics = delegate.getMetrics();
+		if ( metrics.isEnabled() ) {
+			metrics.batchExecuted( ReactiveConnectionMetrics.fingerprint( sql ), paramValues.size() );
+		}
+
+		if ( paramValues.size() == 1 ) {
+			return delegate.update( sql, paramValues.get( 0 ) )
+					.thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
+		}
+		else if ( adaptiveBatchSizing.isEnabled() ) {
+			final long start = System.nanoTime();
+			return updateBatch( sql, expectation, paramValues )
+					.thenAccept( v -> adaptiveBatchSizing
+							.batchExecuted( sql, paramValues.size(), System.nanoTime() - start ) );
+		}
+		else {
+			return updateBatch( sql, expectation, paramValues );
+		}
+	}
+
+	private CompletionStage<Void> updateBatch(String sql, Expectation expectation, List<Object[]> paramValues) {
+		if ( multiRowInserts ) {
+			final MultiRowInsert insert = MultiRowInsert.parse( sql );
+			if ( insert != null
+					&& insert.getMaxRows() > 1
+					&& insert.getParameterCount() == paramValues.get( 0 ).length ) {
+				return sendMultiRowInserts( insert, sql, expectation, paramValues );
 			}
 		}
+		return delegate.update( sql, paramValues )
+				.thenAccept( rowCounts -> {
+					for ( int i = 0; i < rowCounts.length; i++ ) {
+						expectation.verifyOutcome( rowCounts[i], i, sql );
+					}
+				} );
+	}
+
+	private CompletionStage<Void> sendMultiRowInserts(
+			MultiRowInsert insert,
+			String sql,
+			Expectation expectation,
+			List<Object[]> paramValues) {
+		final int maxRows = insert.getMaxRows();
+		final int statements = ( paramValues.size() + maxRows - 1 ) / maxRows;
+		return loop( 0, statements, index -> {
+			final int first = index * maxRows;
+			final List<Object[]> rows = paramValues.subList( first, Math.min( first + maxRows, paramValues.size() ) );
+			return delegate.update( insert.sql( rows.size() ), insert.parameters( rows ) )
+					.thenAccept( rowCount -> {
+						if ( rowCount == rows.size() ) {
+							// A single statement inserts either all the rows or none
+							for ( int i = 0; i < rows.size(); i++ ) {
+								expectation.verifyOutcome( 1, first + i, sql );
+							}
+						}
+						else {
+							expectation.verifyOutcome( rowCount, -1, sql );
+						}
+					} );
+		} );
 	}
 
 	@Override
@@ -100,15 +245,22 @@ public CompletionStage<Void> update(
 			String sql, Object[] paramValues,
 			boolean allowBatching, Expectation expectation) {
 		if ( allowBatching && batchSize > 0 ) {
-			if ( !hasBatch() ) {
+			if ( batchedSql == null ) {
 				newBatch( sql, paramValues, expectation );
 				return voidFuture();
 			}
 			else {
-				if ( batchedSql.equals( sql ) && batchParamValues.size() < batchSize ) {
+				if ( batchedSql.equals( sql ) && batchParamValues.size() < batchedSize ) {
 					batchParamValues.add( paramValues );
 					return voidFuture();
 				}
+				else if ( pipelining && delegate.isTransactionInProgress() ) {
+					// Statements sent on the same connection are executed in order,
+					// so we don't need to wait for the result of the current batch
+					sendBatch();
+					newBatch( sql, paramValues, expectation );
+					return voidFuture();
+				}
 				else {
 					return executeBatch()
 							.thenAccept( v -> newBatch( sql, paramValues, expectation ) );
@@ -122,13 +274,16 @@ public CompletionStage<Void> update(
 
 	private void newBatch(String sql, Object[] paramValues, Expectation expectation) {
 		batchedSql = sql;
+		batchedSize = adaptiveBatchSizing.isEnabled()
+				? adaptiveBatchSizing.batchSize( sql, batchSize )
+				: batchSize;
 		batchedExpectation = expectation;
 		batchParamValues = new ArrayList<>();
 		batchParamValues.add( paramValues );
 	}
 
 	private boolean hasBatch() {
-		return batchedSql != null;
+		return batchedSql != null || pendingBatches != null;
 	}
 
 	@Override
@@ -222,6 +377,13 @@ public CompletionStage<ResultSet> selectJdbc(String sql) {
 				: delegate.selectJdbc( sql );
 	}
 
+	@Override
+	public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues, int fetchSize) {
+		return hasBatch()
+				? executeBatch().thenCompose( v -> delegate.selectJdbcCursor( sql, paramValues, fetchSize ) )
+				: delegate.selectJdbcCursor( sql, paramValues, fetchSize );
+	}
+
 	@Override
 	public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues, Class<T> idClass) {
 		// Do not want to execute the batch here
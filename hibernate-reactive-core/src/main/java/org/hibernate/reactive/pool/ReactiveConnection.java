@@ -13,6 +13,8 @@
 
 import io.vertx.sqlclient.spi.DatabaseMetadata;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+
 /**
  * Abstracts over reactive database connections, defining
  * operations that allow queries to be executed asynchronously
@@ -80,10 +82,50 @@ interface Expectation {
 
 	<T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues, Class<T> idClass);
 
+	/**
+	 * Execute the given query using a server-side cursor which
+	 * fetches at most {@code fetchSize} rows per round trip.
+	 * <p>
+	 * Some databases, including PostgreSQL, only support cursors
+	 * inside a transaction.
+	 *
+	 * @return a failed stage, by default, if cursors aren't supported
+	 *         by this connection
+	 *
+	 * @see Cursor
+	 */
+	default CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues, int fetchSize) {
+		return failedFuture( new UnsupportedOperationException( "Server-side cursors are not supported by this connection" ) );
+	}
+
 	interface Result extends Iterator<Object[]> {
 		int size();
 	}
 
+	/**
+	 * A server-side cursor, opened by {@link #selectJdbcCursor}.
+	 * Rows are read in chunks, each chunk exposed as a JDBC
+	 * {@link ResultSet}. The cursor must be {@linkplain #close()
+	 * closed} when it's not needed anymore.
+	 */
+	interface Cursor {
+		/**
+		 * Read the next chunk of rows.
+		 *
+		 * @return a {@link ResultSet} containing at most
+		 *         {@code fetchSize} rows
+		 */
+		CompletionStage<ResultSet> read();
+
+		/**
+		 * @return {@code true} if there are rows that haven't
+		 *         been {@linkplain #read() read} yet
+		 */
+		boolean hasMore();
+
+		CompletionStage<Void> close();
+	}
+
 	CompletionStage<Void> beginTransaction();
 
 	CompletionStage<Void> commitTransaction();
@@ -95,4 +137,39 @@ interface Result extends Iterator<Object[]> {
 	CompletionStage<Void> executeBatch();
 
 	CompletionStage<Void> close();
+
+	/**
+	 * A connection for executing queries that only read data. When
+	 * no transaction is in progress, the queries might be executed
+	 * by a read replica of the database.
+	 * <p>
+	 * The default implementation returns this connection.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.ReplicaRoutingSqlClientPool
+	 */
+	default ReactiveConnection readOnly() {
+		return this;
+	}
+
+	/**
+	 * @return the {@link ReactiveConnectionMetrics} recording the
+	 *         activity of this connection
+	 */
+	default ReactiveConnectionMetrics getMetrics() {
+		return ReactiveConnectionMetrics.NONE;
+	}
+
+	/**
+	 * Whether {@link #update(String, Object[], boolean, Expectation)}
+	 * may be called again before the stage returned by the previous
+	 * call has completed. The statements must then be executed in the
+	 * order of the calls.
+	 * <p>
+	 * The default implementation returns {@code false}.
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#FLUSH_PIPELINING
+	 */
+	default boolean supportsPipelinedUpdates() {
+		return false;
+	}
 }
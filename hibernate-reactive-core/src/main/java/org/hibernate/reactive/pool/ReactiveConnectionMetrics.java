@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool;
+
+import org.hibernate.Incubating;
+import org.hibernate.reactive.pool.impl.StatementFingerprint;
+import org.hibernate.service.Service;
+
+/**
+ * A Hibernate {@link Service} that records the activity of the
+ * {@link ReactiveConnection reactive connections}: the latency of
+ * each round trip to the database, the number of rows returned,
+ * the size of the batches sent by {@link BatchingConnection}, the
+ * time spent waiting for a connection from the pool, and the time
+ * each connection is held by a session.
+ * <p>
+ * Statements are identified by a {@linkplain StatementFingerprint
+ * fingerprint} of their SQL, where parameter markers are normalized
+ * and lists of parameters of different length are collapsed, so that
+ * it can be safely used as the key, or the tag, of a metric.
+ * <p>
+ * Metrics are disabled unless an implementation is contributed, for
+ * example, by calling {@link org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder#addService}:
+ *
+ * <pre>
+ * new ReactiveServiceRegistryBuilder()
+ *     .applySettings( properties )
+ *     .addService( ReactiveConnectionMetrics.class, new MyConnectionMetrics() )
+ *     .build();
+ * </pre>
+ *
+ * When metrics are disabled, the connections don't read the clock
+ * or compute fingerprints.
+ * <p>
+ * The methods of this interface are called on the Vert.x event loop,
+ * and must not block.
+ */
+@Incubating
+public interface ReactiveConnectionMetrics extends Service {
+
+	/**
+	 * The implementation used when metrics are disabled
+	 */
+	ReactiveConnectionMetrics NONE = new ReactiveConnectionMetrics() {
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+	};
+
+	/**
+	 * @return {@code false} if nothing should be recorded
+	 */
+	default boolean isEnabled() {
+		return true;
+	}
+
+	/**
+	 * A statement, or a batch of statements, has been executed.
+	 *
+	 * @param fingerprint the fingerprint of the SQL statement
+	 * @param durationNanos the time between sending the statement and receiving the result
+	 * @param rows the number of rows returned by a query, or affected by a mutation
+	 * @param failed if the execution of the statement has failed
+	 */
+	default void statementExecuted(String fingerprint, long durationNanos, int rows, boolean failed) {
+	}
+
+	/**
+	 * A batch has been sent to the database by a {@link BatchingConnection}.
+	 *
+	 * @param fingerprint the fingerprint of the SQL statement
+	 * @param batchSize the number of executions of the statement in the batch
+	 */
+	default void batchExecuted(String fingerprint, int batchSize) {
+	}
+
+	/**
+	 * A connection has been obtained from the pool.
+	 *
+	 * @param waitNanos the time spent waiting for the connection
+	 */
+	default void connectionAcquired(long waitNanos) {
+	}
+
+	/**
+	 * A connection has been returned to the pool.
+	 *
+	 * @param heldNanos the time the connection has been held
+	 */
+	default void connectionReleased(long heldNanos) {
+	}
+
+	/**
+	 * @return the {@link StatementFingerprint fingerprint} of the given SQL statement
+	 */
+	static String fingerprint(String sql) {
+		return StatementFingerprint.of( sql );
+	}
+}
@@ -56,6 +56,24 @@ public interface ReactiveConnectionPool extends Service {
 	 */
 	ReactiveConnection getProxyConnection(String tenantId);
 
+	/**
+	 * Obtain a lazily-initializing reactive connection for the given
+	 * tenant id, or for the default tenant if the tenant id is null.
+	 * The actual connection is obtained from the pool when the first
+	 * statement is executed, and returned to the pool as soon as no
+	 * statement is running and no transaction or cursor is open.
+	 * <p>
+	 * The default implementation returns {@link #getProxyConnection(String)},
+	 * which holds the connection until it's closed.
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#LAZY_CONNECTION
+	 */
+	default ReactiveConnection getReleasingProxyConnection(String tenantId) {
+		return tenantId == null
+				? getProxyConnection()
+				: getProxyConnection( tenantId );
+	}
+
 	/**
 	 * Obtain a reactive connection, returning the connection
 	 * via a {@link CompletionStage} and overriding the default
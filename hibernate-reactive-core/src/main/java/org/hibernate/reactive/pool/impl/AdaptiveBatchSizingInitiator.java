@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.pool.AdaptiveBatchSizing;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A Hibernate {@linkplain StandardServiceInitiator service initiator} for
+ * the {@link AdaptiveBatchSizing}. Adaptive sizing is disabled unless
+ * {@link Settings#BATCH_SIZE_ADAPTIVE} is enabled.
+ */
+public class AdaptiveBatchSizingInitiator implements StandardServiceInitiator<AdaptiveBatchSizing> {
+
+	public static final AdaptiveBatchSizingInitiator INSTANCE = new AdaptiveBatchSizingInitiator();
+
+	private static final int DEFAULT_MIN_BATCH_SIZE = 2;
+	private static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
+	@Override
+	public AdaptiveBatchSizing initiateService(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+		if ( !ConfigurationHelper.getBoolean( Settings.BATCH_SIZE_ADAPTIVE, configurationValues, false ) ) {
+			return AdaptiveBatchSizing.NONE;
+		}
+		return new DefaultAdaptiveBatchSizing(
+				ConfigurationHelper.getInt( Settings.BATCH_SIZE_MIN, configurationValues, DEFAULT_MIN_BATCH_SIZE ),
+				ConfigurationHelper.getInt( Settings.BATCH_SIZE_MAX, configurationValues, DEFAULT_MAX_BATCH_SIZE )
+		);
+	}
+
+	@Override
+	public Class<AdaptiveBatchSizing> getServiceInitiated() {
+		return AdaptiveBatchSizing.class;
+	}
+}
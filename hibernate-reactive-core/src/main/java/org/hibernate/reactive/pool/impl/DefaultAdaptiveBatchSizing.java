@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.reactive.pool.AdaptiveBatchSizing;
+
+/**
+ * The default {@link AdaptiveBatchSizing}, which searches the batch size
+ * with the highest throughput, in rows per second, for each statement.
+ * <p>
+ * The throughput is measured over a few full batches. If it's lower than
+ * the throughput of the previous size, the direction of the search is
+ * reversed. The size is then increased by half, or decreased by a third,
+ * within the given bounds. Batches smaller than the current size, usually
+ * the last batch of a flush, aren't used to measure the throughput.
+ */
+public class DefaultAdaptiveBatchSizing implements AdaptiveBatchSizing {
+
+	/**
+	 * The number of full batches executed before the size is changed
+	 */
+	private static final int SAMPLE_BATCHES = 4;
+
+	/**
+	 * The maximum number of statements tracked
+	 */
+	private static final int MAX_STATEMENTS = 1000;
+
+	private final int minBatchSize;
+	private final int maxBatchSize;
+	private final Map<String, Statement> statements = new ConcurrentHashMap<>();
+
+	public DefaultAdaptiveBatchSizing(int minBatchSize, int maxBatchSize) {
+		this.minBatchSize = Math.max( 2, minBatchSize );
+		this.maxBatchSize = Math.max( this.minBatchSize, maxBatchSize );
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	@Override
+	public int batchSize(String sql, int configuredBatchSize) {
+		Statement statement = statements.get( sql );
+		if ( statement == null ) {
+			if ( statements.size() >= MAX_STATEMENTS ) {
+				return configuredBatchSize;
+			}
+			statement = statements.computeIfAbsent( sql, s -> new Statement( clamp( configuredBatchSize ) ) );
+		}
+		return statement.size();
+	}
+
+	@Override
+	public void batchExecuted(String sql, int batchSize, long durationNanos) {
+		final Statement statement = statements.get( sql );
+		if ( statement != null ) {
+			statement.executed( batchSize, durationNanos );
+		}
+	}
+
+	@Override
+	public Map<String, Integer> getBatchSizes() {
+		final Map<String, Integer> sizes = new HashMap<>();
+		statements.forEach( (sql, statement) -> sizes.put( sql, statement.size() ) );
+		return sizes;
+	}
+
+	private int clamp(int batchSize) {
+		return Math.min( maxBatchSize, Math.max( minBatchSize, batchSize ) );
+	}
+
+	/**
+	 * The state of the search for a single statement
+	 */
+	private class Statement {
+		private int size;
+		private boolean growing = true;
+		private double previousThroughput;
+
+		private int batches;
+		private long rows;
+		private long nanos;
+
+		Statement(int size) {
+			this.size = size;
+		}
+
+		synchronized int size() {
+			return size;
+		}
+
+		synchronized void executed(int batchSize, long durationNanos) {
+			if ( batchSize < size ) {
+				return;
+			}
+			batches++;
+			rows += batchSize;
+			nanos += durationNanos;
+			if ( batches >= SAMPLE_BATCHES ) {
+				final double throughput = (double) rows / Math.max( 1, nanos );
+				if ( throughput < previousThroughput ) {
+					growing = !growing;
+				}
+				previousThroughput = throughput;
+				batches = 0;
+				rows = 0;
+				nanos = 0;
+				size = clamp( growing ? size + Math.max( 1, size / 2 ) : size - Math.max( 1, size / 3 ) );
+			}
+		}
+	}
+}
@@ -21,6 +21,7 @@
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.ReactiveConnectionMetrics;
 import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.vertx.VertxInstance;
 import org.hibernate.service.spi.Configurable;
@@ -30,11 +31,13 @@
 import org.hibernate.service.spi.Stoppable;
 
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.SqlConnectOptions;
+import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.impl.Utils;
 import io.vertx.sqlclient.spi.Driver;
 
@@ -111,6 +114,8 @@ public static VertxDriver findByClassName(String className) {
 	private Pool pools;
 	private SqlStatementLogger sqlStatementLogger;
 	private SqlExceptionHelper sqlExceptionHelper;
+	private ReactiveConnectionMetrics metrics = ReactiveConnectionMetrics.NONE;
+	private PreparedStatementWarmup preparedStatementWarmup = PreparedStatementWarmup.NONE;
 	private URI uri;
 	private ServiceRegistryImplementor serviceRegistry;
 
@@ -124,11 +129,19 @@ public DefaultSqlClientPool() {}
 	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		this.serviceRegistry = serviceRegistry;
 		this.sqlStatementLogger = serviceRegistry.getService( SqlStatementLogger.class );
+		final ReactiveConnectionMetrics metrics = serviceRegistry.getService( ReactiveConnectionMetrics.class );
+		if ( metrics != null ) {
+			this.metrics = metrics;
+		}
 	}
 
 	@Override
 	public void configure(Map<String, Object> configuration) {
 		uri = jdbcUrl( configuration );
+		final int warmupSize = ConfigurationHelper.getInt( Settings.PREPARED_STATEMENT_CACHE_WARMUP_SIZE, configuration, 0 );
+		if ( warmupSize > 0 ) {
+			preparedStatementWarmup = new PreparedStatementWarmup( warmupSize );
+		}
 	}
 
 	@Override
@@ -153,6 +166,16 @@ protected SqlStatementLogger getSqlStatementLogger() {
 		return sqlStatementLogger;
 	}
 
+	@Override
+	protected ReactiveConnectionMetrics getMetrics() {
+		return metrics;
+	}
+
+	@Override
+	protected PreparedStatementWarmup getPreparedStatementWarmup() {
+		return preparedStatementWarmup;
+	}
+
 	@Override
 	public SqlExceptionHelper getSqlExceptionHelper() {
 		if ( sqlExceptionHelper == null ) {
@@ -190,6 +213,15 @@ protected Pool createPool(URI uri) {
 	 * @return the new {@link Pool}
 	 */
 	protected <T extends SqlConnectOptions> Pool createPool(URI uri, T connectOptions, PoolOptions poolOptions, Vertx vertx) {
+		final Handler<SqlConnection> connectHandler = connectOptions.getCachePreparedStatements()
+				? getPreparedStatementWarmup().connectHandler()
+				: null;
+		if ( connectHandler != null ) {
+			// The connect handler can only be passed to the driver
+			final Driver<SqlConnectOptions> driver = findDriver( uri, null );
+			Supplier<Future<SqlConnectOptions>> database = Utils.singletonSupplier( driver.downcast( connectOptions ) );
+			return driver.createPool( vertx, database, poolOptions, new NetClientOptions(), connectHandler );
+		}
 		try {
 			// First try to load the Pool using the standard ServiceLoader pattern
 			// This only works if exactly 1 Driver is on the classpath.
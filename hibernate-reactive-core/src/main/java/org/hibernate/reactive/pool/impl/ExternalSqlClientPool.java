@@ -14,6 +14,7 @@
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
 import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.pool.ReactiveConnectionMetrics;
 import org.hibernate.reactive.stage.Stage;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
@@ -59,11 +60,21 @@ public final class ExternalSqlClientPool extends SqlClientPool {
 	private final Pool pool;
 	private final SqlStatementLogger sqlStatementLogger;
 	private final SqlExceptionHelper sqlExceptionHelper;
+	private final ReactiveConnectionMetrics metrics;
 
 	public ExternalSqlClientPool(Pool pool, SqlStatementLogger sqlStatementLogger, SqlExceptionHelper sqlExceptionHelper) {
+		this( pool, sqlStatementLogger, sqlExceptionHelper, ReactiveConnectionMetrics.NONE );
+	}
+
+	public ExternalSqlClientPool(
+			Pool pool,
+			SqlStatementLogger sqlStatementLogger,
+			SqlExceptionHelper sqlExceptionHelper,
+			ReactiveConnectionMetrics metrics) {
 		this.pool = pool;
 		this.sqlStatementLogger = sqlStatementLogger;
 		this.sqlExceptionHelper = sqlExceptionHelper;
+		this.metrics = metrics;
 	}
 
 	@Override
@@ -76,6 +87,11 @@ protected SqlStatementLogger getSqlStatementLogger() {
 		return sqlStatementLogger;
 	}
 
+	@Override
+	protected ReactiveConnectionMetrics getMetrics() {
+		return metrics;
+	}
+
 	@Override
 	public SqlExceptionHelper getSqlExceptionHelper() {
 		return sqlExceptionHelper;
@@ -0,0 +1,194 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites a batch of executions of the same single-row insert statement
+ * into a single insert statement with multiple rows in the {@code values}
+ * clause. For example:
+ * <pre>
+ * insert into Book (title,id) values ($1,$2)
+ * </pre>
+ * executed for three rows becomes:
+ * <pre>
+ * insert into Book (title,id) values ($1,$2),($3,$4),($5,$6)
+ * </pre>
+ * Only statements where the {@code values} clause is the last clause,
+ * and all the parameters are in the {@code values} clause, are rewritten.
+ *
+ * @see org.hibernate.reactive.pool.BatchingConnection
+ */
+public final class MultiRowInsert {
+
+	// The parameter markers used by the supported databases
+	private static final Pattern MARKER = Pattern.compile( "\\?|\\$(\\d+)|@P(\\d+)|(?<!:):(\\d+)" );
+
+	// Most databases have a limit on the number of parameters
+	// of a statement, and SQL Server on the number of rows
+	private static final int MAX_ROWS = 1000;
+	private static final int MAX_PARAMETERS = 2000;
+	private static final int MAX_PARAMETERS_POSTGRESQL = 32767;
+
+	private final String prefix;
+	private final List<String> fragments;
+	private final int[] parameterPositions;
+	// Null for JDBC-style markers
+	private final String markerPrefix;
+	private final int parameterCount;
+
+	private MultiRowInsert(
+			String prefix,
+			List<String> fragments,
+			int[] parameterPositions,
+			String markerPrefix,
+			int parameterCount) {
+		this.prefix = prefix;
+		this.fragments = fragments;
+		this.parameterPositions = parameterPositions;
+		this.markerPrefix = markerPrefix;
+		this.parameterCount = parameterCount;
+	}
+
+	/**
+	 * @return the {@link MultiRowInsert} for the given statement,
+	 *         or {@code null} if the statement can't be rewritten
+	 */
+	public static MultiRowInsert parse(String sql) {
+		final String lowerCaseSql = sql.toLowerCase( Locale.ROOT );
+		if ( !lowerCaseSql.startsWith( "insert " ) ) {
+			return null;
+		}
+		final int valuesIndex = lowerCaseSql.lastIndexOf( " values (" );
+		if ( valuesIndex < 0 ) {
+			return null;
+		}
+		final int tupleStart = valuesIndex + " values ".length();
+		if ( closingParenthesis( sql, tupleStart ) != sql.length() - 1 ) {
+			// There's something after the values clause
+			return null;
+		}
+		final String prefix = sql.substring( 0, tupleStart );
+		final String tuple = sql.substring( tupleStart );
+		if ( tuple.indexOf( '\'' ) >= 0 || MARKER.matcher( prefix ).find() ) {
+			// We don't want to deal with literals, or with parameters outside the values clause
+			return null;
+		}
+
+		final List<String> fragments = new ArrayList<>();
+		final List<Integer> positions = new ArrayList<>();
+		String markerPrefix = null;
+		boolean jdbcStyle = false;
+		int parameterCount = 0;
+		int fragmentStart = 0;
+		final Matcher matcher = MARKER.matcher( tuple );
+		while ( matcher.find() ) {
+			final String marker = matcher.group();
+			final String currentPrefix;
+			final int position;
+			if ( marker.equals( "?" ) ) {
+				currentPrefix = null;
+				position = positions.size() + 1;
+				jdbcStyle = true;
+			}
+			else {
+				currentPrefix = marker.startsWith( "$" ) ? "$" : marker.startsWith( "@P" ) ? "@P" : ":";
+				position = Integer.parseInt( marker.substring( currentPrefix.length() ) );
+				if ( markerPrefix == null ) {
+					markerPrefix = currentPrefix;
+				}
+			}
+			if ( jdbcStyle && currentPrefix != null || markerPrefix != null && !markerPrefix.equals( currentPrefix ) ) {
+				// Different styles of markers in the same statement
+				return null;
+			}
+			fragments.add( tuple.substring( fragmentStart, matcher.start() ) );
+			positions.add( position );
+			parameterCount = Math.max( parameterCount, position );
+			fragmentStart = matcher.end();
+		}
+		if ( positions.isEmpty() ) {
+			return null;
+		}
+		fragments.add( tuple.substring( fragmentStart ) );
+
+		final int[] parameterPositions = new int[positions.size()];
+		for ( int i = 0; i < parameterPositions.length; i++ ) {
+			parameterPositions[i] = positions.get( i );
+		}
+		return new MultiRowInsert( prefix, fragments, parameterPositions, markerPrefix, parameterCount );
+	}
+
+	private static int closingParenthesis(String sql, int start) {
+		int depth = 0;
+		for ( int i = start; i < sql.length(); i++ ) {
+			final char c = sql.charAt( i );
+			if ( c == '(' ) {
+				depth++;
+			}
+			else if ( c == ')' ) {
+				depth--;
+				if ( depth == 0 ) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the number of parameters for each row
+	 */
+	public int getParameterCount() {
+		return parameterCount;
+	}
+
+	/**
+	 * @return the maximum number of rows in a single statement
+	 */
+	public int getMaxRows() {
+		final int maxParameters = "$".equals( markerPrefix ) ? MAX_PARAMETERS_POSTGRESQL : MAX_PARAMETERS;
+		return Math.min( MAX_ROWS, maxParameters / parameterCount );
+	}
+
+	/**
+	 * @return the SQL inserting the given number of rows
+	 */
+	public String sql(int rows) {
+		final StringBuilder sql = new StringBuilder( prefix );
+		for ( int row = 0; row < rows; row++ ) {
+			if ( row > 0 ) {
+				sql.append( ',' );
+			}
+			for ( int i = 0; i < parameterPositions.length; i++ ) {
+				sql.append( fragments.get( i ) );
+				if ( markerPrefix == null ) {
+					sql.append( '?' );
+				}
+				else {
+					sql.append( markerPrefix ).append( parameterPositions[i] + row * parameterCount );
+				}
+			}
+			sql.append( fragments.get( parameterPositions.length ) );
+		}
+		return sql.toString();
+	}
+
+	/**
+	 * @return the parameters of all the rows, in the order expected by {@link #sql(int)}
+	 */
+	public Object[] parameters(List<Object[]> rows) {
+		final Object[] parameters = new Object[rows.size() * parameterCount];
+		for ( int row = 0; row < rows.size(); row++ ) {
+			System.arraycopy( rows.get( row ), 0, parameters, row * parameterCount, parameterCount );
+		}
+		return parameters;
+	}
+}
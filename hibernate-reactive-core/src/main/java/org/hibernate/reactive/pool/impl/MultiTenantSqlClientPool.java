@@ -0,0 +1,598 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.net.URI;
+import java.sql.ResultSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.internal.util.config.ConfigurationException;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.BatchingConnection;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionMetrics;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.reactive.vertx.VertxInstance;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnectOptions;
+import io.vertx.sqlclient.spi.DatabaseMetadata;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.rethrow;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * A pool of reactive connections for multitenancy, which isolates
+ * the connections of each tenant. The connections for the default
+ * tenant are obtained from the pool of {@link DefaultSqlClientPool}.
+ * <p>
+ * By default, each tenant has its own database, and its own Vert.x
+ * {@link Pool}, created when it's first needed. The options for
+ * connecting to the database of a tenant are returned by
+ * {@link #tenantConnectOptions(String, SqlConnectOptions)}. At most
+ * {@value Settings#TENANT_POOL_MAX_POOLS} pools are kept open: the
+ * pool of the least recently used tenant is closed when a new one is
+ * needed, and the pool of a tenant that hasn't used it for
+ * {@value Settings#TENANT_POOL_IDLE_TIMEOUT} milliseconds is closed.
+ * The pool of a tenant is never closed while its connections are in
+ * use.
+ * <p>
+ * If {@value Settings#TENANT_POOL_SHARED} is enabled, the tenants
+ * share a single {@code Pool}, and each tenant has its own schema.
+ * The current schema of a connection is set, using the statement
+ * returned by {@link #setSchemaStatement(String)}, whenever it's
+ * obtained for a tenant.
+ * <p>
+ * In both cases, the number of connections used at the same time by a
+ * single tenant is limited by {@value Settings#TENANT_POOL_MAX_SIZE}.
+ *
+ * @see Settings#TENANT_POOL_SHARED
+ * @see Settings#TENANT_POOL_MAX_POOLS
+ * @see Settings#TENANT_POOL_IDLE_TIMEOUT
+ * @see Settings#TENANT_POOL_MAX_SIZE
+ */
+public class MultiTenantSqlClientPool extends DefaultSqlClientPool {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final int DEFAULT_MAX_POOLS = 100;
+	private static final int DEFAULT_IDLE_TIMEOUT = 10 * 60 * 1000;
+	private static final long MIN_EVICTION_PERIOD = TimeUnit.SECONDS.toMillis( 1 );
+	private static final Pattern IDENTIFIER = Pattern.compile( "[A-Za-z_][A-Za-z0-9_$]*" );
+
+	private ServiceRegistryImplementor serviceRegistry;
+	private URI uri;
+	private boolean shared;
+	private int maxPools;
+	private long idleTimeout;
+	private int maxTenantSize;
+
+	private Vertx vertx;
+	private SqlClientPoolConfiguration poolConfiguration;
+	private PoolOptions tenantPoolOptions;
+	private Pool sharedPool;
+	private long evictionTimer = -1;
+
+	// The access order makes it an LRU map, guarded by itself
+	private final LinkedHashMap<String, Tenant> tenants = new LinkedHashMap<>( 16, 0.75f, true );
+
+	private volatile Future<Void> tenantsCloseFuture = Future.succeededFuture();
+
+	public MultiTenantSqlClientPool() {}
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		super.injectServices( serviceRegistry );
+		this.serviceRegistry = serviceRegistry;
+	}
+
+	@Override
+	public void configure(Map<String, Object> configuration) {
+		super.configure( configuration );
+		shared = ConfigurationHelper.getBoolean( Settings.TENANT_POOL_SHARED, configuration, false );
+		maxPools = ConfigurationHelper.getInt( Settings.TENANT_POOL_MAX_POOLS, configuration, DEFAULT_MAX_POOLS );
+		idleTimeout = ConfigurationHelper.getInt( Settings.TENANT_POOL_IDLE_TIMEOUT, configuration, DEFAULT_IDLE_TIMEOUT );
+		maxTenantSize = ConfigurationHelper.getInt( Settings.TENANT_POOL_MAX_SIZE, configuration, 0 );
+	}
+
+	@Override
+	protected Pool createPool(URI uri) {
+		this.uri = uri;
+		return super.createPool( uri );
+	}
+
+	@Override
+	public void start() {
+		super.start();
+		if ( poolConfiguration == null ) {
+			vertx = serviceRegistry.getService( VertxInstance.class ).getVertx();
+			poolConfiguration = serviceRegistry.getService( SqlClientPoolConfiguration.class );
+			tenantPoolOptions = new PoolOptions( poolConfiguration.poolOptions() );
+			if ( shared ) {
+				if ( scheme().startsWith( "sqlserver" ) ) {
+					throw new ConfigurationException( "A pool shared by the tenants is not supported for SQL Server" );
+				}
+				sharedPool = createPool( uri, poolConfiguration.connectOptions( uri ), tenantPoolOptions, vertx );
+			}
+			else if ( maxTenantSize > 0 ) {
+				tenantPoolOptions.setMaxSize( maxTenantSize );
+			}
+			if ( idleTimeout > 0 ) {
+				evictionTimer = vertx.setPeriodic( Math.max( MIN_EVICTION_PERIOD, idleTimeout / 2 ), id -> evictIdleTenants() );
+			}
+		}
+	}
+
+	@Override
+	public void stop() {
+		super.stop();
+		if ( evictionTimer >= 0 ) {
+			vertx.cancelTimer( evictionTimer );
+			evictionTimer = -1;
+		}
+		final List<Future<Void>> closing = new ArrayList<>();
+		synchronized ( tenants ) {
+			for ( Tenant tenant : tenants.values() ) {
+				if ( tenant.pool != null ) {
+					closing.add( tenant.pool.close() );
+				}
+			}
+			tenants.clear();
+		}
+		if ( sharedPool != null ) {
+			closing.add( sharedPool.close() );
+		}
+		tenantsCloseFuture = Future.all( closing ).mapEmpty();
+	}
+
+	@Override
+	public CompletionStage<Void> getCloseFuture() {
+		return super.getCloseFuture()
+				.thenCompose( v -> tenantsCloseFuture.toCompletionStage() );
+	}
+
+	/**
+	 * The options for connecting to the database of the given tenant,
+	 * when each tenant has its own {@link Pool}. By default, the name
+	 * of the database is the tenant id.
+	 *
+	 * @param tenantId the id of the tenant
+	 * @param connectOptions a new instance of the options for connecting
+	 *                       to the database of the default tenant
+	 */
+	protected SqlConnectOptions tenantConnectOptions(String tenantId, SqlConnectOptions connectOptions) {
+		return connectOptions.setDatabase( tenantId );
+	}
+
+	/**
+	 * The schema of the given tenant, when the tenants share a single
+	 * {@link Pool}. By default, the tenant id.
+	 *
+	 * @param tenantId the id of the tenant
+	 */
+	protected String tenantSchema(String tenantId) {
+		return tenantId;
+	}
+
+	/**
+	 * The statement that sets the current schema of a connection to the
+	 * schema of the given tenant, when the tenants share a single
+	 * {@link Pool}.
+	 *
+	 * @param tenantId the id of the tenant
+	 */
+	protected String setSchemaStatement(String tenantId) {
+		final String schema = tenantSchema( tenantId );
+		if ( schema == null || !IDENTIFIER.matcher( schema ).matches() ) {
+			throw LOG.invalidTenantSchema( tenantId, schema );
+		}
+		final String scheme = scheme();
+		if ( scheme.startsWith( "postgre" ) || scheme.startsWith( "cockroach" ) ) {
+			return "set search_path to " + schema;
+		}
+		if ( scheme.equals( "mysql" ) || scheme.equals( "mariadb" ) ) {
+			return "use " + schema;
+		}
+		if ( scheme.equals( "oracle" ) ) {
+			return "alter session set current_schema = " + schema;
+		}
+		return "set schema " + schema;
+	}
+
+	private String scheme() {
+		return uri.getScheme().toLowerCase();
+	}
+
+	@Override
+	protected Pool getTenantPool(String tenantId) {
+		if ( shared ) {
+			return sharedPool;
+		}
+		final List<Pool> evicted = new ArrayList<>();
+		final Pool pool;
+		synchronized ( tenants ) {
+			pool = tenant( tenantId, evicted ).pool;
+		}
+		evicted.forEach( Pool::close );
+		return pool;
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection(String tenantId) {
+		return getTenantConnection( tenantId, this::getConnectionFromPool );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection(String tenantId, SqlExceptionHelper sqlExceptionHelper) {
+		return getTenantConnection( tenantId, pool -> getConnectionFromPool( pool, sqlExceptionHelper ) );
+	}
+
+	private CompletionStage<ReactiveConnection> getTenantConnection(
+			String tenantId,
+			Function<Pool, CompletionStage<ReactiveConnection>> connectionFromPool) {
+		final String schemaStatement;
+		final CompletionStage<Tenant> acquired;
+		try {
+			schemaStatement = shared ? setSchemaStatement( tenantId ) : null;
+			acquired = acquire( tenantId );
+		}
+		catch (RuntimeException e) {
+			return failedFuture( e );
+		}
+		// The connection must come from the pool of the tenant we have
+		// acquired, which can't be closed until we release it
+		return acquired.thenCompose( tenant -> connectionFromPool
+				.apply( shared ? sharedPool : tenant.pool )
+				.thenCompose( connection -> schemaStatement == null
+						? completedFuture( connection )
+						: setSchema( connection, schemaStatement ) )
+				.<ReactiveConnection>handle( (connection, throwable) -> {
+					if ( throwable != null ) {
+						tenant.release();
+						return rethrow( throwable );
+					}
+					return new TenantConnection( connection, tenant );
+				} )
+		);
+	}
+
+	private static CompletionStage<ReactiveConnection> setSchema(ReactiveConnection connection, String schemaStatement) {
+		return connection.executeUnprepared( schemaStatement )
+				.handle( CompletionStages::handle )
+				.thenCompose( handler -> {
+					if ( handler.hasFailed() ) {
+						return connection.close()
+								.thenCompose( v -> CompletionStages.<ReactiveConnection>failedFuture( handler.getThrowable() ) );
+					}
+					return completedFuture( connection );
+				} );
+	}
+
+	/**
+	 * Look up the given tenant, and reserve one of its connections,
+	 * in a single critical section, so that the tenant can't be evicted
+	 * in between.
+	 *
+	 * @return a stage that completes with the tenant when it can use one
+	 *         more connection
+	 */
+	private CompletionStage<Tenant> acquire(String tenantId) {
+		final List<Pool> evicted = new ArrayList<>();
+		final Tenant tenant;
+		final CompletionStage<Void> permit;
+		synchronized ( tenants ) {
+			tenant = tenant( tenantId, evicted );
+			permit = tenant.acquire();
+		}
+		evicted.forEach( Pool::close );
+		return permit.thenApply( v -> tenant );
+	}
+
+	/**
+	 * Must be called while holding the lock on the tenants.
+	 *
+	 * @param evicted the pools of the evicted tenants, to be closed once
+	 *                the lock has been released
+	 *
+	 * @return the state of the given tenant, creating its pool if needed
+	 */
+	private Tenant tenant(String tenantId, List<Pool> evicted) {
+		final Tenant existing = tenants.get( tenantId );
+		if ( existing != null ) {
+			return existing;
+		}
+		final Tenant tenant = new Tenant( shared ? null : createTenantPool( tenantId ), shared ? maxTenantSize : 0 );
+		tenants.put( tenantId, tenant );
+		// Evict the least recently used tenants that aren't using the pool
+		final Iterator<Tenant> iterator = tenants.values().iterator();
+		while ( tenants.size() > maxPools && iterator.hasNext() ) {
+			final Tenant eldest = iterator.next();
+			if ( eldest != tenant && eldest.isIdle() ) {
+				iterator.remove();
+				if ( eldest.pool != null ) {
+					evicted.add( eldest.pool );
+				}
+			}
+		}
+		return tenant;
+	}
+
+	private Pool createTenantPool(String tenantId) {
+		final SqlConnectOptions connectOptions = tenantConnectOptions( tenantId, poolConfiguration.connectOptions( uri ) );
+		return createPool( uri, connectOptions, new PoolOptions( tenantPoolOptions ), vertx );
+	}
+
+	private void evictIdleTenants() {
+		final long now = System.nanoTime();
+		final long timeout = TimeUnit.MILLISECONDS.toNanos( idleTimeout );
+		final List<Pool> evicted = new ArrayList<>();
+		synchronized ( tenants ) {
+			final Iterator<Tenant> iterator = tenants.values().iterator();
+			while ( iterator.hasNext() ) {
+				final Tenant tenant = iterator.next();
+				if ( tenant.isIdle() && now - tenant.lastUsed >= timeout ) {
+					iterator.remove();
+					if ( tenant.pool != null ) {
+						evicted.add( tenant.pool );
+					}
+				}
+			}
+		}
+		evicted.forEach( Pool::close );
+	}
+
+	/**
+	 * The pool of a tenant, and the connections it's using.
+	 * The state is guarded by the map of the tenants.
+	 */
+	private class Tenant {
+		// Null if the tenants share the pool
+		private final Pool pool;
+		// The maximum number of connections in use, 0 if it's only limited by the pool
+		private final int maxSize;
+		private final ArrayDeque<Runnable> waiting = new ArrayDeque<>();
+		private int inUse;
+		private long lastUsed = System.nanoTime();
+
+		Tenant(Pool pool, int maxSize) {
+			this.pool = pool;
+			this.maxSize = maxSize;
+		}
+
+		boolean isIdle() {
+			return inUse == 0 && waiting.isEmpty();
+		}
+
+		/**
+		 * Called while holding the lock on the tenants, see
+		 * {@link MultiTenantSqlClientPool#acquire(String)}.
+		 *
+		 * @return a stage that completes when the tenant can use one more connection
+		 */
+		CompletionStage<Void> acquire() {
+			synchronized ( tenants ) {
+				lastUsed = System.nanoTime();
+				if ( maxSize <= 0 || inUse < maxSize ) {
+					inUse++;
+					return voidFuture();
+				}
+				// Resume on the Vert.x context of the caller
+				final ContextInternal context = ContextInternal.current();
+				final CompletableFuture<Void> permit = new CompletableFuture<>();
+				waiting.add( () -> {
+					if ( context == null ) {
+						permit.complete( null );
+					}
+					else {
+						context.runOnContext( v -> permit.complete( null ) );
+					}
+				} );
+				return permit;
+			}
+		}
+
+		void release() {
+			final Runnable next;
+			synchronized ( tenants ) {
+				lastUsed = System.nanoTime();
+				next = waiting.poll();
+				if ( next == null ) {
+					inUse--;
+				}
+			}
+			if ( next != null ) {
+				// The connection is passed to the next waiting session
+				next.run();
+			}
+		}
+	}
+
+	/**
+	 * A connection of a tenant, which can be used by another session
+	 * of the tenant once it's closed.
+	 */
+	private static class TenantConnection implements ReactiveConnection {
+
+		private final ReactiveConnection delegate;
+		private final Tenant tenant;
+		private boolean closed;
+
+		TenantConnection(ReactiveConnection delegate, Tenant tenant) {
+			this.delegate = delegate;
+			this.tenant = tenant;
+		}
+
+		@Override
+		public boolean isTransactionInProgress() {
+			return delegate.isTransactionInProgress();
+		}
+
+		@Override
+		public DatabaseMetadata getDatabaseMetadata() {
+			return delegate.getDatabaseMetadata();
+		}
+
+		@Override
+		public ReactiveConnectionMetrics getMetrics() {
+			return delegate.getMetrics();
+		}
+
+		@Override
+		public boolean supportsPipelinedUpdates() {
+			return delegate.supportsPipelinedUpdates();
+		}
+
+		@Override
+		public CompletionStage<Void> execute(String sql) {
+			return delegate.execute( sql );
+		}
+
+		@Override
+		public CompletionStage<Void> executeOutsideTransaction(String sql) {
+			return delegate.executeOutsideTransaction( sql );
+		}
+
+		@Override
+		public CompletionStage<Void> executeUnprepared(String sql) {
+			return delegate.executeUnprepared( sql );
+		}
+
+		@Override
+		public CompletionStage<Integer> update(String sql) {
+			return delegate.update( sql );
+		}
+
+		@Override
+		public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+			return delegate.update( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
+			return delegate.update( sql, paramValues, allowBatching, expectation );
+		}
+
+		@Override
+		public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+			return delegate.update( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<Result> select(String sql) {
+			return delegate.select( sql );
+		}
+
+		@Override
+		public CompletionStage<Result> select(String sql, Object[] paramValues) {
+			return delegate.select( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+			return delegate.selectJdbc( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> selectJdbc(String sql) {
+			return delegate.selectJdbc( sql );
+		}
+
+		@Override
+		public <T> CompletionStage<T> insertAndSelectIdentifier(
+				String sql,
+				Object[] paramValues,
+				Class<T> idClass,
+				String idColumnName) {
+			return delegate.insertAndSelectIdentifier( sql, paramValues, idClass, idColumnName );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> insertAndSelectIdentifierAsResultSet(
+				String sql,
+				Object[] paramValues,
+				Class<?> idClass,
+				String idColumnName) {
+			return delegate.insertAndSelectIdentifierAsResultSet( sql, paramValues, idClass, idColumnName );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> executeAndSelectGeneratedValues(
+				String sql,
+				Object[] paramValues,
+				List<Class<?>> idClass,
+				List<String> generatedColumnName) {
+			return delegate.executeAndSelectGeneratedValues( sql, paramValues, idClass, generatedColumnName );
+		}
+
+		@Override
+		public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues, Class<T> idClass) {
+			return delegate.selectIdentifier( sql, paramValues, idClass );
+		}
+
+		@Override
+		public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues, int fetchSize) {
+			return delegate.selectJdbcCursor( sql, paramValues, fetchSize );
+		}
+
+		@Override
+		public CompletionStage<Void> beginTransaction() {
+			return delegate.beginTransaction();
+		}
+
+		@Override
+		public CompletionStage<Void> commitTransaction() {
+			return delegate.commitTransaction();
+		}
+
+		@Override
+		public CompletionStage<Void> rollbackTransaction() {
+			return delegate.rollbackTransaction();
+		}
+
+		@Override
+		public ReactiveConnection withBatchSize(int batchSize) {
+			return batchSize <= 1
+					? this
+					: new BatchingConnection( this, batchSize );
+		}
+
+		@Override
+		public CompletionStage<Void> executeBatch() {
+			return delegate.executeBatch();
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			if ( closed ) {
+				return delegate.close();
+			}
+			closed = true;
+			return delegate.close()
+					.whenComplete( (v, throwable) -> tenant.release() );
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.sqlclient.SqlConnection;
+
+/**
+ * Keeps track of the statements executed by the {@link SqlClientConnection}s,
+ * and prepares the most frequently executed ones on each new connection
+ * before it's added to the pool, so that the prepared statement cache of
+ * the connection isn't cold after the pool has been resized, or after a
+ * failover.
+ * <p>
+ * Only the first {@value #MAX_TRACKED_STATEMENTS} distinct statements are
+ * tracked. Statements that fail to prepare are ignored.
+ *
+ * @see org.hibernate.reactive.provider.Settings#PREPARED_STATEMENT_CACHE_WARMUP_SIZE
+ */
+public class PreparedStatementWarmup {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * Doesn't track or prepare any statement
+	 */
+	public static final PreparedStatementWarmup NONE = new PreparedStatementWarmup( 0 );
+
+	/**
+	 * The maximum number of statements tracked
+	 */
+	public static final int MAX_TRACKED_STATEMENTS = 1000;
+
+	private final int size;
+	private final Map<String, LongAdder> executions = new ConcurrentHashMap<>();
+
+	/**
+	 * @param size the number of statements to prepare on each new connection
+	 */
+	public PreparedStatementWarmup(int size) {
+		this.size = Math.max( 0, size );
+	}
+
+	/**
+	 * @return {@code true} if statements are tracked and prepared
+	 */
+	public boolean isEnabled() {
+		return size > 0;
+	}
+
+	/**
+	 * A statement has been executed as a prepared statement.
+	 *
+	 * @param sql the SQL of the statement
+	 */
+	public void statementExecuted(String sql) {
+		if ( isEnabled() ) {
+			LongAdder counter = executions.get( sql );
+			if ( counter == null ) {
+				if ( executions.size() >= MAX_TRACKED_STATEMENTS ) {
+					return;
+				}
+				counter = executions.computeIfAbsent( sql, s -> new LongAdder() );
+			}
+			counter.increment();
+		}
+	}
+
+	/**
+	 * @return the most frequently executed statements, up to the configured size
+	 */
+	public List<String> getStatements() {
+		final List<Map.Entry<String, Long>> entries = new ArrayList<>( executions.size() );
+		executions.forEach( (sql, counter) -> entries.add( Map.entry( sql, counter.sum() ) ) );
+		entries.sort( Map.Entry.<String, Long>comparingByValue( Comparator.reverseOrder() ) );
+		final List<String> statements = new ArrayList<>( Math.min( size, entries.size() ) );
+		for ( int i = 0; i < size && i < entries.size(); i++ ) {
+			statements.add( entries.get( i ).getKey() );
+		}
+		return statements;
+	}
+
+	/**
+	 * The handler to pass to the Vert.x {@link io.vertx.sqlclient.Pool} when
+	 * it's created. It prepares the statements returned by {@link #getStatements()}
+	 * on the new connection, and then releases the connection to the pool.
+	 *
+	 * @return the connect handler, or {@code null} if the warm-up is disabled
+	 */
+	public Handler<SqlConnection> connectHandler() {
+		return isEnabled() ? this::warmUp : null;
+	}
+
+	private void warmUp(SqlConnection connection) {
+		final List<String> statements = getStatements();
+		final List<Future<?>> prepared = new ArrayList<>( statements.size() );
+		for ( String sql : statements ) {
+			// The prepared statement is kept in the cache of the connection, so we don't close it
+			prepared.add( connection.prepare( sql )
+					.onFailure( throwable -> LOG.debugf( throwable, "Unable to prepare statement on new connection: %1$s", sql ) ) );
+		}
+		// The connection is added to the pool when it's closed by the handler
+		Future.join( prepared ).onComplete( ignore -> connection.close() );
+	}
+}
@@ -39,7 +39,9 @@ public ReactiveConnectionPoolInitiator() {
 	public ReactiveConnectionPool initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
 		Object configValue = configurationValues.get( Settings.SQL_CLIENT_POOL );
 		if ( configValue == null ) {
-			return new DefaultSqlClientPool();
+			return configurationValues.get( Settings.REPLICA_URLS ) == null
+					? new DefaultSqlClientPool()
+					: new ReplicaRoutingSqlClientPool();
 		}
 
 		if ( configValue instanceof ReactiveConnectionPool ) {
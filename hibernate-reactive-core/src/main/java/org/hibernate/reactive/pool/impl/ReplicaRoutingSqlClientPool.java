@@ -0,0 +1,534 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.net.URI;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionMetrics;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.reactive.vertx.VertxInstance;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.spi.DatabaseMetadata;
+
+/**
+ * A pool of reactive connections to a primary database, which sends
+ * the queries that only read data to its read replicas, when no
+ * transaction is in progress.
+ * <p>
+ * A query is sent to a replica when it's executed by a
+ * {@linkplain ReactiveConnection#readOnly() read-only connection}, that
+ * is, when it's executed by a read-only session, when it's a read-only
+ * query, or when it's executed by a stateless session, and it doesn't
+ * lock any row. Each query is executed by the replica with the least
+ * number of queries in progress. If a connection to the replica can't
+ * be obtained, the query is executed by the primary database, and the
+ * replica is ignored for the next {@value #RETRY_AFTER_SECONDS} seconds.
+ * <p>
+ * The replicas are configured using the property
+ * {@value Settings#REPLICA_URLS}, and this pool is used by default
+ * when it's set. The {@link io.vertx.sqlclient.Pool} of each replica
+ * is configured by the {@link SqlClientPoolConfiguration} returned by
+ * {@link #replicaConfiguration(URI)}.
+ * <p>
+ * Multitenancy is not supported by this pool.
+ *
+ * @see Settings#REPLICA_URLS
+ */
+public class ReplicaRoutingSqlClientPool extends DefaultSqlClientPool {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final long RETRY_AFTER_SECONDS = 10;
+
+	private ServiceRegistryImplementor serviceRegistry;
+	private List<URI> replicaUris = List.of();
+	private List<Replica> replicas = List.of();
+
+	private volatile Future<Void> replicasCloseFuture = Future.succeededFuture();
+
+	public ReplicaRoutingSqlClientPool() {}
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		super.injectServices( serviceRegistry );
+		this.serviceRegistry = serviceRegistry;
+	}
+
+	@Override
+	public void configure(Map<String, Object> configuration) {
+		super.configure( configuration );
+		replicaUris = replicaUrls( configuration );
+	}
+
+	@Override
+	public void start() {
+		super.start();
+		if ( replicas.isEmpty() && !replicaUris.isEmpty() ) {
+			final VertxInstance vertx = serviceRegistry.getService( VertxInstance.class );
+			final List<Replica> created = new ArrayList<>( replicaUris.size() );
+			for ( URI uri : replicaUris ) {
+				final SqlClientPoolConfiguration configuration = replicaConfiguration( uri );
+				created.add( new Replica(
+						uri,
+						createPool( uri, configuration.connectOptions( uri ), configuration.poolOptions(), vertx.getVertx() )
+				) );
+			}
+			replicas = created;
+		}
+	}
+
+	@Override
+	public void stop() {
+		super.stop();
+		if ( !replicas.isEmpty() ) {
+			final List<Future<Void>> closing = new ArrayList<>( replicas.size() );
+			for ( Replica replica : replicas ) {
+				closing.add( replica.pool.close() );
+			}
+			replicasCloseFuture = Future.all( closing ).mapEmpty();
+		}
+	}
+
+	@Override
+	public CompletionStage<Void> getCloseFuture() {
+		return super.getCloseFuture()
+				.thenCompose( v -> replicasCloseFuture.toCompletionStage() );
+	}
+
+	/**
+	 * Determine the JDBC URLs or database URIs of the read replicas
+	 * from the given configuration.
+	 *
+	 * @param configurationValues the configuration properties
+	 *
+	 * @return the JDBC URLs as a list of {@link URI}s
+	 */
+	protected List<URI> replicaUrls(Map<?, ?> configurationValues) {
+		final String urls = ConfigurationHelper.getString( Settings.REPLICA_URLS, configurationValues );
+		if ( urls == null || urls.isBlank() ) {
+			return List.of();
+		}
+		final List<URI> uris = new ArrayList<>();
+		for ( String url : urls.split( "," ) ) {
+			if ( !url.isBlank() ) {
+				LOG.sqlClientReplicaUrl( url.trim() );
+				uris.add( parse( url.trim() ) );
+			}
+		}
+		return uris;
+	}
+
+	/**
+	 * The {@link SqlClientPoolConfiguration} for the {@link Pool} of the
+	 * read replica with the given URI. By default, the same configuration
+	 * service used for the primary database.
+	 *
+	 * @param uri the JDBC URL or database URI of the replica
+	 */
+	protected SqlClientPoolConfiguration replicaConfiguration(URI uri) {
+		return serviceRegistry.getService( SqlClientPoolConfiguration.class );
+	}
+
+	@Override
+	public ReactiveConnection getProxyConnection() {
+		return new ReplicaRoutingConnection( super.getProxyConnection(), false );
+	}
+
+	@Override
+	public ReactiveConnection getProxyConnection(String tenantId) {
+		return new ReplicaRoutingConnection( super.getProxyConnection( tenantId ), false );
+	}
+
+	@Override
+	public ReactiveConnection getProxyConnection(SqlExceptionHelper sqlExceptionHelper) {
+		return new ReplicaRoutingConnection( super.getProxyConnection( sqlExceptionHelper ), false );
+	}
+
+	@Override
+	public ReactiveConnection getReleasingProxyConnection(String tenantId) {
+		return new ReplicaRoutingConnection( super.getReleasingProxyConnection( tenantId ), false );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection() {
+		return super.getConnection().thenApply( connection -> new ReplicaRoutingConnection( connection, false ) );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection(SqlExceptionHelper sqlExceptionHelper) {
+		return super.getConnection( sqlExceptionHelper )
+				.thenApply( connection -> new ReplicaRoutingConnection( connection, false ) );
+	}
+
+	/**
+	 * @return the available replica with the least number of queries
+	 *         in progress, or {@code null} if there are none
+	 */
+	private Replica selectReplica() {
+		final long now = System.nanoTime();
+		Replica selected = null;
+		for ( Replica replica : replicas ) {
+			if ( replica.isAvailable( now )
+					&& ( selected == null || replica.outstanding.get() < selected.outstanding.get() ) ) {
+				selected = replica;
+			}
+		}
+		return selected;
+	}
+
+	/**
+	 * Execute the given read-only operation with a connection to a
+	 * replica, or with the given fallback if there isn't a replica
+	 * available.
+	 */
+	private <T> CompletionStage<T> onReplica(
+			Function<ReactiveConnection, CompletionStage<T>> operation,
+			Supplier<CompletionStage<T>> fallback) {
+		final Replica replica = selectReplica();
+		if ( replica == null ) {
+			return fallback.get();
+		}
+		replica.outstanding.incrementAndGet();
+		return replica.connection()
+				.thenCompose( connection -> {
+					if ( connection == null ) {
+						replica.outstanding.decrementAndGet();
+						return fallback.get();
+					}
+					return operation.apply( connection )
+							.handle( CompletionStages::handle )
+							.thenCompose( result -> connection.close()
+									.thenCompose( result::getResultAsCompletionStage ) )
+							.whenComplete( (r, t) -> replica.outstanding.decrementAndGet() );
+				} );
+	}
+
+	/**
+	 * A read replica and its {@link Pool}.
+	 */
+	private class Replica extends SqlClientPool {
+		private final URI uri;
+		private final Pool pool;
+		// The number of queries in progress
+		private final AtomicInteger outstanding = new AtomicInteger();
+		private volatile long unavailableUntil;
+
+		Replica(URI uri, Pool pool) {
+			this.uri = uri;
+			this.pool = pool;
+		}
+
+		boolean isAvailable(long now) {
+			return unavailableUntil == 0 || now - unavailableUntil >= 0;
+		}
+
+		/**
+		 * @return a connection to the replica, or {@code null} if it's
+		 *         not available
+		 */
+		CompletionStage<ReactiveConnection> connection() {
+			return getConnection()
+					.handle( (connection, throwable) -> {
+						if ( throwable != null ) {
+							unavailableUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos( RETRY_AFTER_SECONDS );
+							LOG.replicaUnavailable( uri.toString(), throwable.getMessage(), throwable );
+							return null;
+						}
+						return connection;
+					} );
+		}
+
+		@Override
+		protected Pool getPool() {
+			return pool;
+		}
+
+		@Override
+		protected SqlStatementLogger getSqlStatementLogger() {
+			return ReplicaRoutingSqlClientPool.this.getSqlStatementLogger();
+		}
+
+		@Override
+		protected SqlExceptionHelper getSqlExceptionHelper() {
+			return ReplicaRoutingSqlClientPool.this.getSqlExceptionHelper();
+		}
+
+		@Override
+		protected ReactiveConnectionMetrics getMetrics() {
+			return ReplicaRoutingSqlClientPool.this.getMetrics();
+		}
+
+		@Override
+		protected PreparedStatementWarmup getPreparedStatementWarmup() {
+			return ReplicaRoutingSqlClientPool.this.getPreparedStatementWarmup();
+		}
+
+		@Override
+		public CompletionStage<Void> getCloseFuture() {
+			return pool.close().toCompletionStage();
+		}
+	}
+
+	/**
+	 * A connection to the primary database which, when it's
+	 * {@linkplain #readOnly() read-only}, executes the queries
+	 * with a connection to a replica if no transaction is in
+	 * progress.
+	 */
+	private class ReplicaRoutingConnection implements ReactiveConnection {
+
+		private final ReactiveConnection primary;
+		private final boolean readOnly;
+
+		ReplicaRoutingConnection(ReactiveConnection primary, boolean readOnly) {
+			this.primary = primary;
+			this.readOnly = readOnly;
+		}
+
+		private boolean useReplica() {
+			return readOnly && !primary.isTransactionInProgress();
+		}
+
+		private <T> CompletionStage<T> read(
+				Function<ReactiveConnection, CompletionStage<T>> operation,
+				Supplier<CompletionStage<T>> onPrimary) {
+			return useReplica() ? onReplica( operation, onPrimary ) : onPrimary.get();
+		}
+
+		@Override
+		public ReactiveConnection readOnly() {
+			return readOnly ? this : new ReplicaRoutingConnection( primary, true );
+		}
+
+		@Override
+		public boolean isTransactionInProgress() {
+			return primary.isTransactionInProgress();
+		}
+
+		@Override
+		public DatabaseMetadata getDatabaseMetadata() {
+			return primary.getDatabaseMetadata();
+		}
+
+		@Override
+		public ReactiveConnectionMetrics getMetrics() {
+			return primary.getMetrics();
+		}
+
+		@Override
+		public boolean supportsPipelinedUpdates() {
+			return primary.supportsPipelinedUpdates();
+		}
+
+		@Override
+		public CompletionStage<Void> execute(String sql) {
+			return primary.execute( sql );
+		}
+
+		@Override
+		public CompletionStage<Void> executeOutsideTransaction(String sql) {
+			return primary.executeOutsideTransaction( sql );
+		}
+
+		@Override
+		public CompletionStage<Void> executeUnprepared(String sql) {
+			return primary.executeUnprepared( sql );
+		}
+
+		@Override
+		public CompletionStage<Integer> update(String sql) {
+			return primary.update( sql );
+		}
+
+		@Override
+		public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+			return primary.update( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
+			return primary.update( sql, paramValues, allowBatching, expectation );
+		}
+
+		@Override
+		public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+			return primary.update( sql, paramValues );
+		}
+
+		@Override
+		public CompletionStage<Result> select(String sql) {
+			return read( conn -> conn.select( sql ), () -> primary.select( sql ) );
+		}
+
+		@Override
+		public CompletionStage<Result> select(String sql, Object[] paramValues) {
+			return read( conn -> conn.select( sql, paramValues ), () -> primary.select( sql, paramValues ) );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+			return read( conn -> conn.selectJdbc( sql, paramValues ), () -> primary.selectJdbc( sql, paramValues ) );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> selectJdbc(String sql) {
+			return read( conn -> conn.selectJdbc( sql ), () -> primary.selectJdbc( sql ) );
+		}
+
+		@Override
+		public <T> CompletionStage<T> insertAndSelectIdentifier(
+				String sql,
+				Object[] paramValues,
+				Class<T> idClass,
+				String idColumnName) {
+			return primary.insertAndSelectIdentifier( sql, paramValues, idClass, idColumnName );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> insertAndSelectIdentifierAsResultSet(
+				String sql,
+				Object[] paramValues,
+				Class<?> idClass,
+				String idColumnName) {
+			return primary.insertAndSelectIdentifierAsResultSet( sql, paramValues, idClass, idColumnName );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> executeAndSelectGeneratedValues(
+				String sql,
+				Object[] paramValues,
+				List<Class<?>> idClass,
+				List<String> generatedColumnName) {
+			return primary.executeAndSelectGeneratedValues( sql, paramValues, idClass, generatedColumnName );
+		}
+
+		@Override
+		public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues, Class<T> idClass) {
+			return primary.selectIdentifier( sql, paramValues, idClass );
+		}
+
+		@Override
+		public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues, int fetchSize) {
+			// The connection to the replica must stay open until the cursor is closed
+			return useReplica()
+					? replicaCursor( sql, paramValues, fetchSize )
+					: primary.selectJdbcCursor( sql, paramValues, fetchSize );
+		}
+
+		private CompletionStage<Cursor> replicaCursor(String sql, Object[] paramValues, int fetchSize) {
+			final Replica replica = selectReplica();
+			if ( replica == null ) {
+				return primary.selectJdbcCursor( sql, paramValues, fetchSize );
+			}
+			return replica.connection()
+					.thenCompose( connection -> {
+						if ( connection == null ) {
+							return primary.selectJdbcCursor( sql, paramValues, fetchSize );
+						}
+						replica.outstanding.incrementAndGet();
+						return connection.selectJdbcCursor( sql, paramValues, fetchSize )
+								.handle( CompletionStages::handle )
+								.thenCompose( result -> {
+									if ( result.hasFailed() ) {
+										replica.outstanding.decrementAndGet();
+										return connection.close().thenCompose( result::getResultAsCompletionStage );
+									}
+									return result.getResultAsCompletionStage()
+											.thenApply( cursor -> new ReplicaCursor( cursor, connection, replica ) );
+								} );
+					} );
+		}
+
+		@Override
+		public CompletionStage<Void> beginTransaction() {
+			return primary.beginTransaction();
+		}
+
+		@Override
+		public CompletionStage<Void> commitTransaction() {
+			return primary.commitTransaction();
+		}
+
+		@Override
+		public CompletionStage<Void> rollbackTransaction() {
+			return primary.rollbackTransaction();
+		}
+
+		@Override
+		public ReactiveConnection withBatchSize(int batchSize) {
+			final ReactiveConnection batching = primary.withBatchSize( batchSize );
+			return batching == primary ? this : new ReplicaRoutingConnection( batching, readOnly );
+		}
+
+		@Override
+		public CompletionStage<Void> executeBatch() {
+			return primary.executeBatch();
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			return primary.close();
+		}
+	}
+
+	/**
+	 * A cursor that closes the connection to the replica when it's closed.
+	 */
+	private static class ReplicaCursor implements ReactiveConnection.Cursor {
+		private final ReactiveConnection.Cursor delegate;
+		private final ReactiveConnection connection;
+		private final Replica replica;
+		private boolean closed;
+
+		ReplicaCursor(ReactiveConnection.Cursor delegate, ReactiveConnection connection, Replica replica) {
+			this.delegate = delegate;
+			this.connection = connection;
+			this.replica = replica;
+		}
+
+		@Override
+		public CompletionStage<ResultSet> read() {
+			return delegate.read();
+		}
+
+		@Override
+		public boolean hasMore() {
+			return delegate.hasMore();
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			if ( closed ) {
+				return delegate.close();
+			}
+			closed = true;
+			return delegate.close()
+					.handle( CompletionStages::handle )
+					.thenCompose( handler -> connection.close()
+							.thenCompose( handler::getResultAsCompletionStage ) )
+					.whenComplete( (v, t) -> replica.outstanding.decrementAndGet() );
+		}
+	}
+}
@@ -15,12 +15,12 @@
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
-import org.hibernate.reactive.adaptor.impl.JdbcNull;
 import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.pool.BatchingConnection;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionMetrics;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import io.vertx.core.internal.ContextInternal;
@@ -29,6 +29,7 @@
 import io.vertx.sqlclient.DatabaseException;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PrepareOptions;
+import io.vertx.sqlclient.PreparedStatement;
 import io.vertx.sqlclient.PropertyKind;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowIterator;
@@ -57,6 +58,10 @@ public class SqlClientConnection implements ReactiveConnection {
 
 	private final SqlStatementLogger sqlStatementLogger;
 	private final SqlExceptionHelper sqlExceptionHelper;
+	private final ReactiveConnectionMetrics metrics;
+	private final PreparedStatementWarmup preparedStatementWarmup;
+	// When the connection has been obtained from the pool, if metrics are enabled
+	private final long acquiredAt;
 
 	private final Pool pool;
 	private final SqlConnection connection;
@@ -72,12 +77,17 @@ public class SqlClientConnection implements ReactiveConnection {
 			Pool pool,
 			SqlStatementLogger sqlStatementLogger,
 			SqlExceptionHelper sqlExceptionHelper,
-			ContextInternal connectionContext) {
+			ContextInternal connectionContext,
+			ReactiveConnectionMetrics metrics,
+			PreparedStatementWarmup preparedStatementWarmup) {
 		this.connectionContext = connectionContext;
 		this.pool = pool;
 		this.sqlStatementLogger = sqlStatementLogger;
 		this.connection = connection;
 		this.sqlExceptionHelper = sqlExceptionHelper;
+		this.metrics = metrics;
+		this.preparedStatementWarmup = preparedStatementWarmup;
+		this.acquiredAt = metrics.isEnabled() ? System.nanoTime() : 0;
 		LOG.tracef( "Connection created for %1$s associated to context %2$s: ", connection, connectionContext );
 	}
 
@@ -91,9 +101,13 @@ public boolean isTransactionInProgress() {
 		return connection.transaction() != null;
 	}
 
+	@Override
+	public ReactiveConnectionMetrics getMetrics() {
+		return metrics;
+	}
+
 	@Override
 	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
-		translateNulls( paramValues );
 		return update( sql, Tuple.wrap( paramValues ) );
 	}
 
@@ -101,12 +115,17 @@ public CompletionStage<Integer> update(String sql, Object[] paramValues) {
 	public CompletionStage<int[]> update(String sql, List<Object[]> batchParamValues) {
 		final List<Tuple> tuples = new ArrayList<>( batchParamValues.size() );
 		for ( Object[] paramValues : batchParamValues ) {
-			translateNulls( paramValues );
 			tuples.add( Tuple.wrap( paramValues ) );
 		}
 		return updateBatch( sql, tuples );
 	}
 
+	@Override
+	public boolean supportsPipelinedUpdates() {
+		// The Vert.x client queues the statements, and executes them in order
+		return true;
+	}
+
 	@Override
 	public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
 		return update( sql, paramValues )
@@ -115,7 +134,6 @@ public CompletionStage<Void> update(String sql, Object[] paramValues, boolean al
 
 	@Override
 	public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues, Class<T> idClass) {
-		translateNulls( paramValues );
 		return preparedQuery( sql, Tuple.wrap( paramValues ) )
 				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) )
 				.thenApply( rowSet -> {
@@ -126,6 +144,14 @@ public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues,
 				} );
 	}
 
+	@Override
+	public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues, int fetchSize) {
+		feedback( sql );
+		return client().prepare( sql ).toCompletionStage()
+				.handle( (statement, throwable) -> convertException( statement, sql, throwable ) )
+				.thenApply( statement -> new SqlClientCursor( sql, statement, Tuple.wrap( paramValues ), fetchSize ) );
+	}
+
 	@Override
 	public CompletionStage<Result> select(String sql) {
 		return preparedQuery( sql )
@@ -134,14 +160,12 @@ public CompletionStage<Result> select(String sql) {
 
 	@Override
 	public CompletionStage<Result> select(String sql, Object[] paramValues) {
-		translateNulls( paramValues );
 		return preparedQuery( sql, Tuple.wrap( paramValues ) )
 				.thenApply( RowSetResult::new );
 	}
 
 	@Override
 	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
-		translateNulls( paramValues );
 		return preparedQuery( sql, Tuple.wrap( paramValues ) )
 				.thenApply( ResultSetAdaptor::new );
 	}
@@ -161,7 +185,8 @@ public CompletionStage<Void> execute(String sql) {
 	@Override
 	public CompletionStage<Void> executeUnprepared(String sql) {
 		feedback( sql );
-		return client().query( sql ).execute().toCompletionStage()
+		final long start = startTime();
+		return recordExecution( sql, start, client().query( sql ).execute().toCompletionStage() )
 				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) )
 				.thenCompose( CompletionStages::voidFuture );
 	}
@@ -227,7 +252,6 @@ public CompletionStage<int[]> updateBatch(String sql, List<Tuple> parametersBatc
 
 	@Override
 	public <T> CompletionStage<T> insertAndSelectIdentifier(String sql, Object[] paramValues, Class<T> idClass, String idColumnName) {
-		translateNulls( paramValues );
 		return insertAndSelectIdentifier( sql, Tuple.wrap( paramValues ), idClass, idColumnName );
 	}
 
@@ -285,7 +309,6 @@ public CompletionStage<ResultSet> executeAndSelectGeneratedValues(
 		JsonObject options = new JsonObject()
 				.put( "autoGeneratedKeysIndexes", autoGeneratedKeysIndexes );
 
-		translateNulls( parameters );
 		return preparedQuery( sql, Tuple.wrap( parameters ), new PrepareOptions( options ) )
 				.thenApply( rows -> {
 					RowIterator<Row> iterator = rows.iterator();
@@ -321,31 +344,39 @@ private ResultSet getLastInsertedGeneratedValuesAsResultSet(
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters) {
 		feedback( sql );
-		return client().preparedQuery( sql ).execute( parameters ).toCompletionStage()
+		preparedStatementWarmup.statementExecuted( sql );
+		final long start = startTime();
+		return recordExecution( sql, start, client().preparedQuery( sql ).execute( parameters ).toCompletionStage() )
 				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters, PrepareOptions options) {
 		feedback( sql );
-		return client().preparedQuery( sql, options ).execute( parameters ).toCompletionStage()
+		preparedStatementWarmup.statementExecuted( sql );
+		final long start = startTime();
+		return recordExecution( sql, start, client().preparedQuery( sql, options ).execute( parameters ).toCompletionStage() )
 				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryBatch(String sql, List<Tuple> parameters) {
 		feedback( sql );
-		return client().preparedQuery( sql ).executeBatch( parameters ).toCompletionStage()
+		preparedStatementWarmup.statementExecuted( sql );
+		final long start = startTime();
+		return recordExecution( sql, start, client().preparedQuery( sql ).executeBatch( parameters ).toCompletionStage() )
 				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql) {
 		feedback( sql );
-		return client().preparedQuery( sql ).execute().toCompletionStage()
+		final long start = startTime();
+		return recordExecution( sql, start, client().preparedQuery( sql ).execute().toCompletionStage() )
 				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryOutsideTransaction(String sql) {
 		feedback( sql );
-		return pool.preparedQuery( sql ).execute().toCompletionStage()
+		final long start = startTime();
+		return recordExecution( sql, start, pool.preparedQuery( sql ).execute().toCompletionStage() )
 				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
 	}
 
@@ -360,6 +391,35 @@ private void feedback(String sql) {
 		sqlStatementLogger.logStatement( sql, formatStyle.getFormatter() );
 	}
 
+	private long startTime() {
+		return metrics.isEnabled() ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Record the latency and the number of rows of the execution of
+	 * a statement, when metrics are enabled.
+	 */
+	private <T extends SqlResult<?>> CompletionStage<T> recordExecution(String sql, long start, CompletionStage<T> execution) {
+		if ( !metrics.isEnabled() ) {
+			return execution;
+		}
+		return execution.whenComplete( (result, throwable) -> metrics.statementExecuted(
+				ReactiveConnectionMetrics.fingerprint( sql ),
+				System.nanoTime() - start,
+				throwable == null ? rows( result ) : 0,
+				throwable != null
+		) );
+	}
+
+	// The number of rows returned by a query, or affected by a mutation, for all the results of a batch
+	private static int rows(SqlResult<?> result) {
+		int rows = 0;
+		for ( SqlResult<?> next = result; next != null; next = next.next() ) {
+			rows += Math.max( next.size(), next.rowCount() );
+		}
+		return rows;
+	}
+
 	private SqlConnection client() {
 		return connection;
 	}
@@ -419,6 +479,9 @@ public CompletionStage<Void> close() {
 							}
 							if ( !closed ) {
 								closed = true;
+								if ( metrics.isEnabled() ) {
+									metrics.connectionReleased( System.nanoTime() - acquiredAt );
+								}
 								LOG.tracef( "Connection closed: %s", connection );
 							}
 							else {
@@ -480,6 +543,40 @@ public Object[] next() {
 		}
 	}
 
+	private class SqlClientCursor implements Cursor {
+		private final String sql;
+		private final PreparedStatement statement;
+		private final io.vertx.sqlclient.Cursor cursor;
+		private final int fetchSize;
+
+		SqlClientCursor(String sql, PreparedStatement statement, Tuple parameters, int fetchSize) {
+			this.sql = sql;
+			this.statement = statement;
+			this.cursor = statement.cursor( parameters );
+			this.fetchSize = fetchSize;
+		}
+
+		@Override
+		public CompletionStage<ResultSet> read() {
+			final long start = startTime();
+			return recordExecution( sql, start, cursor.read( fetchSize ).toCompletionStage() )
+					.handle( (rows, throwable) -> convertException( rows, sql, throwable ) )
+					.thenApply( ResultSetAdaptor::new );
+		}
+
+		@Override
+		public boolean hasMore() {
+			return cursor.hasMore();
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			return cursor.close()
+					.eventually( () -> statement.close() )
+					.toCompletionStage();
+		}
+	}
+
 	@Override
 	public ReactiveConnection withBatchSize(int batchSize) {
 		return batchSize <= 1
@@ -491,13 +588,4 @@ public ReactiveConnection withBatchSize(int batchSize) {
 	public CompletionStage<Void> executeBatch() {
 		return voidFuture();
 	}
-
-	private static void translateNulls(Object[] paramValues) {
-		for ( int i = 0; i < paramValues.length; i++ ) {
-			Object arg = paramValues[i];
-			if ( arg instanceof JdbcNull ) {
-				paramValues[i] = ( (JdbcNull) arg ).toNullValue();
-			}
-		}
-	}
 }
@@ -13,6 +13,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.hibernate.engine.jdbc.internal.FormatStyle;
@@ -21,8 +22,11 @@
 import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.BatchingConnection;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionMetrics;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.util.impl.CompletionStages;
 
 import io.vertx.core.Future;
 import io.vertx.core.internal.ContextInternal;
@@ -75,6 +79,22 @@ public abstract class SqlClientPool implements ReactiveConnectionPool {
 	 */
 	protected abstract SqlExceptionHelper getSqlExceptionHelper();
 
+	/**
+	 * @return the {@link ReactiveConnectionMetrics} recording the activity
+	 * of the connections, {@link ReactiveConnectionMetrics#NONE} by default
+	 */
+	protected ReactiveConnectionMetrics getMetrics() {
+		return ReactiveConnectionMetrics.NONE;
+	}
+
+	/**
+	 * @return the {@link PreparedStatementWarmup} tracking the statements
+	 * executed by the connections, {@link PreparedStatementWarmup#NONE} by default
+	 */
+	protected PreparedStatementWarmup getPreparedStatementWarmup() {
+		return PreparedStatementWarmup.NONE;
+	}
+
 	/**
 	 * Get a {@link Pool} for the specified tenant.
 	 * <p>
@@ -92,19 +112,26 @@ protected Pool getTenantPool(String tenantId) {
 
 	@Override
 	public ReactiveConnection getProxyConnection() {
-		return new ProxyConnection( this::getConnection );
+		return new ProxyConnection( this::getConnection, getMetrics() );
 	}
 
 	@Override
 	public ReactiveConnection getProxyConnection(String tenantId) {
 		return tenantId == null
-				? new ProxyConnection( this::getConnection )
-				: new ProxyConnection( () -> getConnection( tenantId ) );
+				? new ProxyConnection( this::getConnection, getMetrics() )
+				: new ProxyConnection( () -> getConnection( tenantId ), getMetrics() );
+	}
+
+	@Override
+	public ReactiveConnection getReleasingProxyConnection(String tenantId) {
+		return tenantId == null
+				? new ReleasingProxyConnection( this::getConnection, getMetrics() )
+				: new ReleasingProxyConnection( () -> getConnection( tenantId ), getMetrics() );
 	}
 
 	@Override
 	public ReactiveConnection getProxyConnection(SqlExceptionHelper sqlExceptionHelper) {
-		return new ProxyConnection( () -> getConnection( sqlExceptionHelper ) );
+		return new ProxyConnection( () -> getConnection( sqlExceptionHelper ), getMetrics() );
 	}
 
 	@Override
@@ -127,21 +154,37 @@ public CompletionStage<ReactiveConnection> getConnection(String tenantId, SqlExc
 		return getConnectionFromPool( getTenantPool( tenantId ), sqlExceptionHelper );
 	}
 
-	private CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool) {
+	/**
+	 * Get a connection from the given {@link Pool}.
+	 */
+	protected CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool) {
 		return completeFuture(
-				pool.getConnection().map( this::newConnection ),
+				recordAcquisition( pool.getConnection() ).map( this::newConnection ),
 				ReactiveConnection::close
 		);
 	}
 
-	private CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool, SqlExceptionHelper sqlExceptionHelper) {
+	/**
+	 * Get a connection from the given {@link Pool}, converting the
+	 * exceptions with the given {@link SqlExceptionHelper}.
+	 */
+	protected CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool, SqlExceptionHelper sqlExceptionHelper) {
 		return completeFuture(
-				pool.getConnection()
+				recordAcquisition( pool.getConnection() )
 						.map( sqlConnection -> newConnection( sqlConnection, sqlExceptionHelper ) ),
 				ReactiveConnection::close
 		);
 	}
 
+	private Future<SqlConnection> recordAcquisition(Future<SqlConnection> connection) {
+		final ReactiveConnectionMetrics metrics = getMetrics();
+		if ( !metrics.isEnabled() ) {
+			return connection;
+		}
+		final long start = System.nanoTime();
+		return connection.onSuccess( c -> metrics.connectionAcquired( System.nanoTime() - start ) );
+	}
+
 	/**
 	 * This method is intended to be used only for queries returning
 	 * a ResultSet that must be executed outside any "current"
@@ -224,7 +267,9 @@ private SqlClientConnection newConnection(SqlConnection connection, SqlException
 				getPool(),
 				getSqlStatementLogger(),
 				sqlExceptionHelper,
-				ContextInternal.current()
+				ContextInternal.current(),
+				getMetrics(),
+				getPreparedStatementWarmup()
 		);
 	}
 
@@ -245,12 +290,16 @@ private static class ProxyConnection implements ReactiveConnection {
 		}
 
 		private final Supplier<CompletionStage<ReactiveConnection>> connectionSupplier;
+		private final ReactiveConnectionMetrics metrics;
 		private final CompletableFuture<ReactiveConnection> connectionFuture = new CompletableFuture<>();
 		private volatile boolean opened = false;
 		private volatile boolean closed = false;
 
-		public ProxyConnection(Supplier<CompletionStage<ReactiveConnection>> connectionSupplier) {
+		public ProxyConnection(
+				Supplier<CompletionStage<ReactiveConnection>> connectionSupplier,
+				ReactiveConnectionMetrics metrics) {
 			this.connectionSupplier = connectionSupplier;
+			this.metrics = metrics;
 		}
 
 		/**
@@ -282,6 +331,18 @@ public boolean isTransactionInProgress() {
 			return reactiveConnection != null && reactiveConnection.isTransactionInProgress();
 		}
 
+		@Override
+		public ReactiveConnectionMetrics getMetrics() {
+			return metrics;
+		}
+
+		@Override
+		public boolean supportsPipelinedUpdates() {
+			// Once the connection is open, the statements are passed to it in order
+			ReactiveConnection reactiveConnection = connectionFuture.getNow( null );
+			return !closed && reactiveConnection != null && reactiveConnection.supportsPipelinedUpdates();
+		}
+
 		@Override
 		public DatabaseMetadata getDatabaseMetadata() {
 			if ( closed ) {
@@ -383,6 +444,11 @@ public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues,
 			return connection().thenCompose( conn -> conn.selectIdentifier( sql, paramValues, idClass ) );
 		}
 
+		@Override
+		public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues, int fetchSize) {
+			return connection().thenCompose( conn -> conn.selectJdbcCursor( sql, paramValues, fetchSize ) );
+		}
+
 		@Override
 		public CompletionStage<Void> beginTransaction() {
 			return connection().thenCompose( ReactiveConnection::beginTransaction );
@@ -412,7 +478,7 @@ public ReactiveConnection withBatchSize(int batchSize) {
 						// Connection has been requested but not created yet
 						? connectionFuture.thenApply( c -> c.withBatchSize( batchSize ) )
 						// Connection has not been requested
-						: connectionSupplier.get().thenApply( c -> c.withBatchSize( batchSize ) ) );
+						: connectionSupplier.get().thenApply( c -> c.withBatchSize( batchSize ) ), metrics );
 			}
 		}
 
@@ -429,4 +495,294 @@ public CompletionStage<Void> close() {
 					: voidFuture();
 		}
 	}
+
+	/**
+	 * A lazily-initializing connection that obtains a connection from
+	 * the pool when a statement is executed, and returns it to the pool
+	 * as soon as no statement is running, and no transaction or cursor
+	 * is open.
+	 * <p>
+	 * Like the session using it, this connection must be used by a
+	 * single Vert.x context.
+	 */
+	private static class ReleasingProxyConnection implements ReactiveConnection {
+
+		private static final Log LOG = LoggerFactory.make( Log.class, lookup() );
+
+		private final Supplier<CompletionStage<ReactiveConnection>> connectionSupplier;
+		private final ReactiveConnectionMetrics metrics;
+
+		// The connection currently held, null if it has been returned to the pool
+		private CompletionStage<ReactiveConnection> connection;
+		// The number of running statements and open cursors using the connection
+		private int inUse;
+		private DatabaseMetadata databaseMetadata;
+		private boolean closed;
+
+		ReleasingProxyConnection(
+				Supplier<CompletionStage<ReactiveConnection>> connectionSupplier,
+				ReactiveConnectionMetrics metrics) {
+			this.connectionSupplier = connectionSupplier;
+			this.metrics = metrics;
+		}
+
+		private CompletionStage<ReactiveConnection> acquire() {
+			inUse++;
+			if ( connection == null ) {
+				connection = connectionSupplier.get()
+						.thenApply( reactiveConnection -> {
+							databaseMetadata = reactiveConnection.getDatabaseMetadata();
+							return reactiveConnection;
+						} );
+			}
+			return connection;
+		}
+
+		/**
+		 * Return the connection to the pool, unless it's still needed
+		 */
+		private CompletionStage<Void> release(CompletionStage<ReactiveConnection> used) {
+			inUse--;
+			if ( inUse > 0 || connection != used ) {
+				return voidFuture();
+			}
+			final CompletableFuture<ReactiveConnection> future = used.toCompletableFuture();
+			if ( future.isCompletedExceptionally() ) {
+				// We couldn't get a connection, we will try again with the next statement
+				connection = null;
+				return voidFuture();
+			}
+			final ReactiveConnection reactiveConnection = future.join();
+			if ( reactiveConnection.isTransactionInProgress() ) {
+				return voidFuture();
+			}
+			connection = null;
+			return reactiveConnection.close();
+		}
+
+		private <T> CompletionStage<T> withConnection(Function<ReactiveConnection, CompletionStage<T>> operation) {
+			if ( closed ) {
+				return failedFuture( LOG.connectionIsClosed() );
+			}
+			final CompletionStage<ReactiveConnection> used = acquire();
+			return used.thenCompose( operation )
+					.handle( CompletionStages::handle )
+					.thenCompose( handler -> release( used )
+							.thenCompose( handler::getResultAsCompletionStage ) );
+		}
+
+		@Override
+		public ReactiveConnectionMetrics getMetrics() {
+			return metrics;
+		}
+
+		@Override
+		public boolean isTransactionInProgress() {
+			if ( connection == null ) {
+				return false;
+			}
+			final ReactiveConnection reactiveConnection = connection.toCompletableFuture().getNow( null );
+			return reactiveConnection != null && reactiveConnection.isTransactionInProgress();
+		}
+
+		@Override
+		public DatabaseMetadata getDatabaseMetadata() {
+			if ( closed ) {
+				throw LOG.connectionIsClosed();
+			}
+			return Objects.requireNonNull( databaseMetadata, "Database metadata not available until a connection has been created" );
+		}
+
+		@Override
+		public CompletionStage<Void> execute(String sql) {
+			return withConnection( conn -> conn.execute( sql ) );
+		}
+
+		@Override
+		public CompletionStage<Void> executeOutsideTransaction(String sql) {
+			return withConnection( conn -> conn.executeOutsideTransaction( sql ) );
+		}
+
+		@Override
+		public CompletionStage<Void> executeUnprepared(String sql) {
+			return withConnection( conn -> conn.executeUnprepared( sql ) );
+		}
+
+		@Override
+		public CompletionStage<Integer> update(String sql) {
+			return withConnection( conn -> conn.update( sql ) );
+		}
+
+		@Override
+		public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+			return withConnection( conn -> conn.update( sql, paramValues ) );
+		}
+
+		@Override
+		public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
+			return withConnection( conn -> conn.update( sql, paramValues, allowBatching, expectation ) );
+		}
+
+		@Override
+		public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+			return withConnection( conn -> conn.update( sql, paramValues ) );
+		}
+
+		@Override
+		public CompletionStage<Result> select(String sql) {
+			return withConnection( conn -> conn.select( sql ) );
+		}
+
+		@Override
+		public CompletionStage<Result> select(String sql, Object[] paramValues) {
+			return withConnection( conn -> conn.select( sql, paramValues ) );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+			return withConnection( conn -> conn.selectJdbc( sql, paramValues ) );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> selectJdbc(String sql) {
+			return withConnection( conn -> conn.selectJdbc( sql ) );
+		}
+
+		@Override
+		public <T> CompletionStage<T> insertAndSelectIdentifier(
+				String sql,
+				Object[] paramValues,
+				Class<T> idClass,
+				String idColumnName) {
+			return withConnection( conn -> conn
+					.insertAndSelectIdentifier( sql, paramValues, idClass, idColumnName ) );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> insertAndSelectIdentifierAsResultSet(
+				String sql,
+				Object[] paramValues,
+				Class<?> idClass,
+				String idColumnName) {
+			return withConnection( conn -> conn
+					.insertAndSelectIdentifierAsResultSet( sql, paramValues, idClass, idColumnName ) );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> executeAndSelectGeneratedValues(
+				String sql,
+				Object[] paramValues,
+				List<Class<?>> idClass,
+				List<String> generatedColumnName) {
+			return withConnection( conn -> conn
+					.executeAndSelectGeneratedValues( sql, paramValues, idClass, generatedColumnName ) );
+		}
+
+		@Override
+		public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues, Class<T> idClass) {
+			return withConnection( conn -> conn.selectIdentifier( sql, paramValues, idClass ) );
+		}
+
+		@Override
+		public CompletionStage<Cursor> selectJdbcCursor(String sql, Object[] paramValues, int fetchSize) {
+			if ( closed ) {
+				return failedFuture( LOG.connectionIsClosed() );
+			}
+			final CompletionStage<ReactiveConnection> used = acquire();
+			return used.thenCompose( conn -> conn.selectJdbcCursor( sql, paramValues, fetchSize ) )
+					.handle( CompletionStages::handle )
+					.thenCompose( handler -> {
+						if ( handler.hasFailed() ) {
+							return release( used ).thenCompose( handler::getResultAsCompletionStage );
+						}
+						// The connection is held until the cursor is closed
+						return handler.getResultAsCompletionStage()
+								.thenApply( cursor -> new ReleasingCursor( cursor, used ) );
+					} );
+		}
+
+		@Override
+		public CompletionStage<Void> beginTransaction() {
+			return withConnection( ReactiveConnection::beginTransaction );
+		}
+
+		@Override
+		public CompletionStage<Void> commitTransaction() {
+			return withConnection( ReactiveConnection::commitTransaction );
+		}
+
+		@Override
+		public CompletionStage<Void> rollbackTransaction() {
+			return connection == null
+					// Without a connection, there's no transaction to roll back
+					? voidFuture()
+					: withConnection( ReactiveConnection::rollbackTransaction );
+		}
+
+		@Override
+		public ReactiveConnection withBatchSize(int batchSize) {
+			if ( closed ) {
+				throw LOG.connectionIsClosed();
+			}
+			return batchSize <= 1
+					? this
+					: new BatchingConnection( this, batchSize );
+		}
+
+		@Override
+		public CompletionStage<Void> executeBatch() {
+			return connection == null
+					? voidFuture()
+					: withConnection( ReactiveConnection::executeBatch );
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			closed = true;
+			if ( connection == null ) {
+				return voidFuture();
+			}
+			final CompletionStage<ReactiveConnection> held = connection;
+			connection = null;
+			return held.handle( (reactiveConnection, throwable) -> reactiveConnection )
+					.thenCompose( reactiveConnection -> reactiveConnection == null
+							// We never got the connection, there's nothing to close
+							? voidFuture()
+							: reactiveConnection.close() );
+		}
+
+		private class ReleasingCursor implements Cursor {
+			private final Cursor delegate;
+			private final CompletionStage<ReactiveConnection> used;
+			private boolean released;
+
+			ReleasingCursor(Cursor delegate, CompletionStage<ReactiveConnection> used) {
+				this.delegate = delegate;
+				this.used = used;
+			}
+
+			@Override
+			public CompletionStage<ResultSet> read() {
+				return delegate.read();
+			}
+
+			@Override
+			public boolean hasMore() {
+				return delegate.hasMore();
+			}
+
+			@Override
+			public CompletionStage<Void> close() {
+				return delegate.close()
+						.handle( CompletionStages::handle )
+						.thenCompose( handler -> {
+							if ( released ) {
+								return handler.getResultAsCompletionStage();
+							}
+							released = true;
+							return release( used ).thenCompose( handler::getResultAsCompletionStage );
+						} );
+			}
+		}
+	}
 }
@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Computes the fingerprint of a SQL statement, used to group the
+ * {@linkplain org.hibernate.reactive.pool.ReactiveConnectionMetrics
+ * metrics} of statements with the same shape. For example:
+ * <pre>
+ * select b1_0.id from Book b1_0 where b1_0.id in ($1,$2,$3)
+ * </pre>
+ * and
+ * <pre>
+ * select b1_0.id from Book b1_0 where b1_0.id in ($1,$2)
+ * </pre>
+ * both have the fingerprint:
+ * <pre>
+ * select b1_0.id from Book b1_0 where b1_0.id in (?)
+ * </pre>
+ * The same applies to the rows of a multi-row insert.
+ */
+public final class StatementFingerprint {
+
+	// The parameter markers used by the supported databases
+	private static final Pattern MARKER = Pattern.compile( "\\?|\\$\\d+|@P\\d+|(?<!:):\\d+" );
+	private static final Pattern IN_LIST = Pattern.compile( "(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)" );
+	private static final Pattern ADDITIONAL_ROWS = Pattern.compile( "\\)(?:\\s*,\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\))+" );
+	private static final Pattern WHITESPACE = Pattern.compile( "\\s+" );
+
+	// Hibernate generates a limited number of statements, so this
+	// is normally enough to avoid computing the same fingerprint twice
+	private static final int MAX_CACHED = 2048;
+	private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+	private StatementFingerprint() {
+	}
+
+	public static String of(String sql) {
+		final String cached = CACHE.get( sql );
+		if ( cached != null ) {
+			return cached;
+		}
+		final String fingerprint = compute( sql );
+		if ( CACHE.size() < MAX_CACHED ) {
+			CACHE.put( sql, fingerprint );
+		}
+		return fingerprint;
+	}
+
+	private static String compute(String sql) {
+		String fingerprint = WHITESPACE.matcher( sql.trim() ).replaceAll( " " );
+		fingerprint = MARKER.matcher( fingerprint ).replaceAll( "?" );
+		fingerprint = IN_LIST.matcher( fingerprint ).replaceAll( "in (?)" );
+		return ADDITIONAL_ROWS.matcher( fingerprint ).replaceAll( ")" );
+	}
+}
@@ -28,6 +28,16 @@ public interface Settings extends AvailableSettings {
 	 */
 	String PREPARED_STATEMENT_CACHE_MAX_SIZE = "hibernate.vertx.prepared_statement_cache.max_size";
 
+	/**
+	 * The number of the most frequently executed statements to prepare on
+	 * each new connection, before it's added to the pool, so that it enters
+	 * the pool with a warm prepared statement cache. Disabled by default,
+	 * and ignored when the prepared statement cache is disabled.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.PreparedStatementWarmup
+	 */
+	String PREPARED_STATEMENT_CACHE_WARMUP_SIZE = "hibernate.vertx.prepared_statement_cache.warmup_size";
+
 	/**
 	 * Property for configuring the Vert.x connection pool.
 	 *
@@ -65,4 +75,218 @@ public interface Settings extends AvailableSettings {
 	 * Specifies a {@link org.hibernate.reactive.pool.ReactiveConnectionPool} class.
 	 */
 	String SQL_CLIENT_POOL = "hibernate.vertx.pool.class";
+
+	/**
+	 * A comma-separated list of JDBC URLs, or database URIs, of read
+	 * replicas of the database. When set, and no other
+	 * {@linkplain #SQL_CLIENT_POOL pool} is specified, the queries of
+	 * read-only sessions, read-only queries, and the queries of stateless
+	 * sessions, are executed by a replica when no transaction is in
+	 * progress.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.ReplicaRoutingSqlClientPool
+	 */
+	String REPLICA_URLS = "hibernate.vertx.pool.replica_urls";
+
+	/**
+	 * Enables a single pool of connections shared by all the tenants,
+	 * instead of a separate pool for each tenant, when the
+	 * {@link org.hibernate.reactive.pool.impl.MultiTenantSqlClientPool}
+	 * is used. The current schema of a connection is set to the schema
+	 * of the tenant when it's obtained from the pool. Defaults to
+	 * {@code false}.
+	 */
+	String TENANT_POOL_SHARED = "hibernate.vertx.pool.tenant.shared";
+
+	/**
+	 * The maximum number of pools, one for each tenant, kept open by the
+	 * {@link org.hibernate.reactive.pool.impl.MultiTenantSqlClientPool}.
+	 * When a pool is needed for a new tenant, the pool of the least
+	 * recently used tenant without connections in use is closed.
+	 * Defaults to {@code 100}.
+	 */
+	String TENANT_POOL_MAX_POOLS = "hibernate.vertx.pool.tenant.max_pools";
+
+	/**
+	 * The time, in milliseconds, after which the pool of a tenant
+	 * without connections in use is closed by the
+	 * {@link org.hibernate.reactive.pool.impl.MultiTenantSqlClientPool}.
+	 * Defaults to 10 minutes. A value of {@code 0} disables the eviction
+	 * of idle pools.
+	 */
+	String TENANT_POOL_IDLE_TIMEOUT = "hibernate.vertx.pool.tenant.idle_timeout";
+
+	/**
+	 * The maximum number of connections that a single tenant might use
+	 * at the same time, when the
+	 * {@link org.hibernate.reactive.pool.impl.MultiTenantSqlClientPool}
+	 * is used. By default, a tenant might use as many connections as
+	 * the size of the pool, set by {@value #POOL_SIZE}.
+	 */
+	String TENANT_POOL_MAX_SIZE = "hibernate.vertx.pool.tenant.max_size";
+
+	/**
+	 * Enables the translation of the named HQL queries, when the
+	 * session factory is created, on a Vert.x worker thread. The
+	 * startup isn't delayed, and the first execution of a query
+	 * doesn't need to parse it. Defaults to {@code false}.
+	 *
+	 * @see org.hibernate.reactive.query.internal.QueryWarmup
+	 */
+	String QUERY_WARMUP = "hibernate.vertx.query.warmup";
+
+	/**
+	 * A list of HQL queries, separated by semicolons, or a
+	 * {@link java.util.Collection} of HQL queries, translated when
+	 * the session factory is created, on a Vert.x worker thread.
+	 *
+	 * @see #QUERY_WARMUP
+	 */
+	String QUERY_WARMUP_HQL = "hibernate.vertx.query.warmup_hql";
+
+	/**
+	 * Enables pipelining of batches of statements with different SQL
+	 * during a flush: when the SQL changes, the current batch is sent
+	 * to the database without waiting for its result. Only applies
+	 * when a transaction is in progress and
+	 * {@value org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE}
+	 * is set. Defaults to {@code false}.
+	 *
+	 * @see org.hibernate.reactive.pool.BatchingConnection
+	 */
+	String BATCH_PIPELINING = "hibernate.vertx.batch_pipelining";
+
+	/**
+	 * Enables the adaptive sizing of batches: the maximum number of
+	 * executions of a statement in a batch is chosen, for each SQL
+	 * statement, to maximize the number of rows written per second,
+	 * within the bounds set by {@value #BATCH_SIZE_MIN} and
+	 * {@value #BATCH_SIZE_MAX}. The batch size configured for the
+	 * session is the starting point. Only applies to the sessions
+	 * created when
+	 * {@value org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE}
+	 * is set, and not to stateless sessions. Defaults to {@code false}.
+	 *
+	 * @see org.hibernate.reactive.pool.AdaptiveBatchSizing
+	 */
+	String BATCH_SIZE_ADAPTIVE = "hibernate.vertx.batch_size.adaptive";
+
+	/**
+	 * The minimum size of a batch chosen by adaptive sizing. Defaults
+	 * to {@code 2}.
+	 *
+	 * @see #BATCH_SIZE_ADAPTIVE
+	 */
+	String BATCH_SIZE_MIN = "hibernate.vertx.batch_size.min";
+
+	/**
+	 * The maximum size of a batch chosen by adaptive sizing. Defaults
+	 * to {@code 1000}.
+	 *
+	 * @see #BATCH_SIZE_ADAPTIVE
+	 */
+	String BATCH_SIZE_MAX = "hibernate.vertx.batch_size.max";
+
+	/**
+	 * Enables the rewriting of batched inserts executed by a stateless
+	 * session, for example using {@code insertMultiple()}, into a single
+	 * insert statement with multiple rows in the {@code values} clause.
+	 * Only applies when the database supports it. Defaults to
+	 * {@code false}.
+	 *
+	 * @see org.hibernate.reactive.pool.BatchingConnection
+	 */
+	String MULTI_ROW_INSERT = "hibernate.vertx.multi_row_insert";
+
+	/**
+	 * Enables the lazy acquisition of connections by the sessions opened
+	 * with {@code openSession()}, {@code withSession()}, or
+	 * {@code withTransaction()}: the connection is obtained from the pool
+	 * when the first statement is executed, and returned to the pool after
+	 * each statement executed outside a transaction, so that a session
+	 * waiting for other services doesn't hold a connection. Defaults to
+	 * {@code false}.
+	 *
+	 * @see org.hibernate.reactive.pool.ReactiveConnectionPool#getReleasingProxyConnection(String)
+	 */
+	String LAZY_CONNECTION = "hibernate.vertx.lazy_connection";
+
+	/**
+	 * Enables pipelining of entity updates during a flush: the update
+	 * of each entity is sent to the database without waiting for the
+	 * result of the previous one, and the results are verified once
+	 * all of them have completed. Only applies when a transaction is
+	 * in progress. If {@value org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE}
+	 * is set, it also requires {@link #BATCH_PIPELINING}. Defaults to
+	 * {@code false}.
+	 *
+	 * @see org.hibernate.reactive.engine.ReactiveActionQueue
+	 */
+	String FLUSH_PIPELINING = "hibernate.vertx.flush_pipelining";
+
+	/**
+	 * Enables pipelining of the queries that load entities or collections
+	 * by chunks of keys, for example, when many ids are passed to
+	 * {@code find()}: the query for each chunk is sent to the database
+	 * without waiting for the results of the previous one, and the
+	 * results are processed in order. Defaults to {@code false}.
+	 *
+	 * @see org.hibernate.reactive.loader.ast.internal.ReactiveMultiKeyLoadChunker
+	 */
+	String MULTI_LOAD_PIPELINING = "hibernate.vertx.multi_load_pipelining";
+
+	/**
+	 * The number of pooled connections used to execute the DDL commands
+	 * of the schema export. When it's greater than {@code 1}, consecutive
+	 * commands that don't depend on each other, for example, the creation
+	 * of tables, or of indexes, are executed concurrently. Defaults to
+	 * {@code 1}, and it's limited by the maximum size of the pool.
+	 *
+	 * @see org.hibernate.reactive.provider.service.ReactiveGenerationTarget
+	 */
+	String SCHEMA_EXPORT_CONCURRENCY = "hibernate.vertx.schema_export.concurrency";
+
+	/**
+	 * When enabled, the schema validator and migrator read the columns,
+	 * indexes and foreign keys of all the tables of a schema with a single
+	 * query for each kind of object, and then look up each table in the
+	 * results, instead of running a query for each table. Defaults to
+	 * {@code false}.
+	 *
+	 * @see org.hibernate.reactive.provider.service.AbstractReactiveInformationSchemaBasedExtractorImpl
+	 */
+	String SCHEMA_METADATA_BULK_EXTRACTION = "hibernate.vertx.schema_metadata.bulk_extraction";
+
+	/**
+	 * Enables the allocation of a separate block of identifiers for
+	 * each Vert.x event loop by the sequence and table generators.
+	 * Ids are then generated without any contention between event
+	 * loops. Defaults to {@code false}.
+	 *
+	 * @see org.hibernate.reactive.id.impl.BlockingIdentifierGenerator
+	 */
+	String ID_BLOCK_PER_EVENT_LOOP = "hibernate.vertx.id_generator.block_per_event_loop";
+
+	/**
+	 * The percentage of the current block of identifiers that must be
+	 * used before the next block is fetched in the background, using a
+	 * separate connection. Only applies when
+	 * {@value #ID_BLOCK_PER_EVENT_LOOP} is enabled. Defaults to
+	 * {@code 0}, meaning that the next block is fetched only when the
+	 * current block is exhausted.
+	 *
+	 * @see org.hibernate.reactive.id.impl.BlockingIdentifierGenerator
+	 */
+	String ID_BLOCK_PREFETCH_WATERMARK = "hibernate.vertx.id_generator.prefetch_watermark";
+
+	/**
+	 * Enables fetching, with a single query, all the values that a call to
+	 * {@code persistAll()} or {@code insertMultiple()} needs from each
+	 * sequence with an increment of 1. The values are only used by that
+	 * call, and the ones left over are discarded. Only supported on
+	 * PostgreSQL, CockroachDB and Oracle. Defaults to {@code false}.
+	 *
+	 * @see org.hibernate.reactive.id.impl.ReactiveSequenceIdentifierGenerator#reserveValues
+	 */
+	String ID_SEQUENCE_RESERVE_VALUES = "hibernate.vertx.id_generator.reserve_sequence_values";
 }
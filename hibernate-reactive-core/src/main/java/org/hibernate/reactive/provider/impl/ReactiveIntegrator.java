@@ -27,6 +27,7 @@
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.logging.impl.Version;
+import org.hibernate.reactive.query.internal.QueryWarmup;
 import org.hibernate.service.ServiceRegistry;
 
 /**
@@ -44,6 +45,9 @@ public class ReactiveIntegrator implements Integrator {
 	@Override
 	public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
 		attachEventContextManagingListenersIfRequired( sessionFactory.getServiceRegistry() );
+		if ( ReactiveModeCheck.isReactiveRegistry( sessionFactory.getServiceRegistry() ) ) {
+			sessionFactory.addObserver( new QueryWarmup() );
+		}
 	}
 
 	private void attachEventContextManagingListenersIfRequired(ServiceRegistry serviceRegistry) {
@@ -27,6 +27,7 @@
 import org.hibernate.reactive.context.impl.VertxContextInitiator;
 import org.hibernate.reactive.engine.jdbc.mutation.internal.ReactiveMutationExecutorServiceInitiator;
 import org.hibernate.reactive.loader.ast.internal.ReactiveBatchLoaderFactoryInitiator;
+import org.hibernate.reactive.pool.impl.AdaptiveBatchSizingInitiator;
 import org.hibernate.reactive.pool.impl.ReactiveConnectionPoolInitiator;
 import org.hibernate.reactive.pool.impl.SqlClientPoolConfigurationInitiator;
 import org.hibernate.reactive.provider.service.NativeParametersHandling;
@@ -40,6 +41,7 @@
 import org.hibernate.reactive.provider.service.ReactiveSessionFactoryBuilderInitiator;
 import org.hibernate.reactive.provider.service.ReactiveSqmMultiTableMutationStrategyProviderInitiator;
 import org.hibernate.reactive.provider.service.ReactiveValuesMappingProducerProviderInitiator;
+import org.hibernate.reactive.query.internal.QueryPlanCacheStatisticsInitiator;
 import org.hibernate.reactive.vertx.impl.VertxInstanceInitiator;
 import org.hibernate.resource.beans.spi.ManagedBeanRegistryInitiator;
 import org.hibernate.resource.transaction.internal.TransactionCoordinatorBuilderInitiator;
@@ -183,6 +185,12 @@ private static List<StandardServiceInitiator<?>> buildInitialServiceInitiatorLis
 		// ReactiveConnectionPool - Exclusive to Hibernate Reactive:
 		serviceInitiators.add( ReactiveConnectionPoolInitiator.INSTANCE );
 
+		// AdaptiveBatchSizing - Exclusive to Hibernate Reactive:
+		serviceInitiators.add( AdaptiveBatchSizingInitiator.INSTANCE );
+
+		// QueryPlanCacheStatistics - Exclusive to Hibernate Reactive:
+		serviceInitiators.add( QueryPlanCacheStatisticsInitiator.INSTANCE );
+
 		// --- end of custom services.
 
 		serviceInitiators.trimToSize();
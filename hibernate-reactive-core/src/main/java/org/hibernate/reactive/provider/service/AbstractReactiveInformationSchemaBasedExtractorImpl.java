@@ -24,6 +24,11 @@
 /**
  * An implementation of {@link InformationExtractor} that obtains metadata
  * information from a database's information_schema.
+ * <p>
+ * When {@link org.hibernate.reactive.provider.Settings#SCHEMA_METADATA_BULK_EXTRACTION}
+ * is enabled, the queries for the metadata of a single table don't filter
+ * by table name: they are executed only once for all the tables, and each
+ * table is then looked up in the results.
  *
  * @author Gail Badner
  */
@@ -204,6 +209,54 @@ protected String parameterMarker(int pos) {
 		return "?";
 	}
 
+	/**
+	 * Should the metadata of the given table be looked up in the results
+	 * of a query for all the tables?
+	 *
+	 * @param table the table name, or pattern, passed by ORM
+	 * @return {@code true} if the query must not filter by table name
+	 */
+	protected boolean isBulkExtraction(String table) {
+		return table != null && !table.isEmpty() && !table.contains( "%" )
+				&& getExtractionContext() instanceof ReactiveImprovedExtractionContextImpl context
+				&& context.isBulkExtractionEnabled();
+	}
+
+	/**
+	 * Does the database ignore the case when it compares the names of
+	 * the tables in the metadata? If so, the tables are looked up in the
+	 * results of the queries for all the tables ignoring the case.
+	 *
+	 * @return {@code false}, by default
+	 */
+	protected boolean isTableNameCaseInsensitive() {
+		return false;
+	}
+
+	/**
+	 * Process the results of a query for the metadata of a table.
+	 * If {@link #isBulkExtraction(String)} is {@code true}, the query
+	 * must not filter by table name, and must return the name of the
+	 * table with the label {@link #getResultSetTableNameLabel()}.
+	 */
+	protected <T> T getTableQueryResults(
+			String queryString,
+			Object[] parameters,
+			String table,
+			ExtractionContext.ResultSetProcessor<T> processor) throws SQLException {
+		return isBulkExtraction( table )
+				? ( (ReactiveImprovedExtractionContextImpl) getExtractionContext() )
+						.getTableQueryResults(
+								queryString,
+								parameters,
+								getResultSetTableNameLabel(),
+								table,
+								isTableNameCaseInsensitive(),
+								processor
+						)
+				: getExtractionContext().getQueryResults( queryString, parameters, processor );
+	}
+
 	@Override
 	protected <T> T processTableResultSet(
 			String catalog,
@@ -234,7 +287,9 @@ protected <T> T processTableResultSet(
 		List<Object> parameterValues = new ArrayList<>();
 		appendClauseAndParameterIfNotNullOrEmpty( " and " + catalogColumn + " = ", catalog, sb, parameterValues );
 		appendClauseAndParameterIfNotNullOrEmpty( " and " + schemaColumn + " like ", schemaPattern, sb, parameterValues );
-		appendClauseAndParameterIfNotNullOrEmpty( " and table_name like ", tableNamePattern, sb, parameterValues );
+		if ( !isBulkExtraction( tableNamePattern ) ) {
+			appendClauseAndParameterIfNotNullOrEmpty( " and table_name like ", tableNamePattern, sb, parameterValues );
+		}
 
 		if ( types != null && types.length > 0 ) {
 			appendClauseAndParameterIfNotNullOrEmpty(
@@ -253,7 +308,7 @@ protected <T> T processTableResultSet(
 			}
 			sb.append( " ) " );
 		}
-		return getExtractionContext().getQueryResults( sb.toString(), parameterValues.toArray(), processor );
+		return getTableQueryResults( sb.toString(), parameterValues.toArray(), tableNamePattern, processor );
 	}
 
 	@Override
@@ -304,11 +359,13 @@ protected <T> T processColumnsResultSet(
 		);
 		appendClauseAndParameterIfNotNullOrEmpty( " and " + catalogColumn + " = " , catalog, sb, parameterValues );
 		appendClauseAndParameterIfNotNullOrEmpty( " and " + schemaColumn + " like " , schemaPattern, sb, parameterValues );
-		appendClauseAndParameterIfNotNullOrEmpty( " and table_name like " , tableNamePattern, sb, parameterValues );
+		if ( !isBulkExtraction( tableNamePattern ) ) {
+			appendClauseAndParameterIfNotNullOrEmpty( " and table_name like " , tableNamePattern, sb, parameterValues );
+		}
 
 		sb.append(  " order by table_catalog, table_schema, table_name, column_name, ordinal_position" );
 
-		return getExtractionContext().getQueryResults( sb.toString(), parameterValues.toArray(), processor );
+		return getTableQueryResults( sb.toString(), parameterValues.toArray(), tableNamePattern, processor );
 	}
 
 	/**
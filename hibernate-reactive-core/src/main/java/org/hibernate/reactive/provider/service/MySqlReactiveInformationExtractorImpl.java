@@ -31,6 +31,12 @@ public MySqlReactiveInformationExtractorImpl(ExtractionContext extractionContext
 		super( extractionContext );
 	}
 
+	@Override
+	protected boolean isTableNameCaseInsensitive() {
+		// The information_schema uses a case-insensitive collation
+		return true;
+	}
+
 	@Override
 	protected int dataTypeCode(String typeName) {
 		switch ( typeName ) {
@@ -137,6 +143,7 @@ protected <T> T processIndexInfoResultSet(
 				.append("select index_name as " ).append( getResultSetIndexNameLabel() )
 				.append( ", -1 as " ).append( getResultSetIndexTypeLabel() )
 				.append( ", column_name as " ).append( getResultSetColumnNameLabel() )
+				.append( ", table_name as " ).append( getResultSetTableNameLabel() )
 				.append( " from information_schema.statistics where true" );
 
 		final List<Object> parameters = new ArrayList<>();
@@ -145,7 +152,9 @@ protected <T> T processIndexInfoResultSet(
 		// is constrained to be catalog value.
 		assert schema == null || schema.isEmpty();
 		appendClauseAndParameterIfNotNullOrEmpty( " and table_schema = ", catalog, sb, parameters );
-		appendClauseAndParameterIfNotNullOrEmpty( " and table_name = ", table, sb, parameters );
+		if ( !isBulkExtraction( table ) ) {
+			appendClauseAndParameterIfNotNullOrEmpty( " and table_name = ", table, sb, parameters );
+		}
 
 		if ( unique ) {
 			appendClauseAndParameterIfNotNullOrEmpty( " and non_unique = ", 0, sb, parameters );
@@ -153,7 +162,7 @@ protected <T> T processIndexInfoResultSet(
 
 		sb.append( " order by index_name, seq_in_index" );
 
-		return getExtractionContext().getQueryResults( sb.toString(), parameters.toArray(), processor );
+		return getTableQueryResults( sb.toString(), parameters.toArray(), table, processor );
 	}
 
 	@Override
@@ -173,6 +182,7 @@ protected <T> T processImportedKeysResultSet(
 				.append( ", referenced_table_name as " ).append( getResultSetPrimaryKeyTableLabel() )
 				.append( ", referenced_column_name as ").append( getResultSetPrimaryKeyColumnNameLabel() )
 				.append( ", column_name as " ).append( getResultSetForeignKeyColumnNameLabel() )
+				.append( ", table_name as " ).append( getResultSetTableNameLabel() )
 				.append( " from information_schema.key_column_usage" )
 				// Exclude primary keys, which do not have a referenced table.
 				.append( " where referenced_table_name is not null" );
@@ -189,7 +199,8 @@ protected <T> T processImportedKeysResultSet(
 		if ( appendClauseAndParameterIfNotNullOrEmpty( " and table_schema = ", catalog, sb, parameters ) ) {
 			orderByList.add( "table_schema" );
 		}
-		if ( appendClauseAndParameterIfNotNullOrEmpty( " and table_name = ", table, sb, parameters ) ) {
+		if ( !isBulkExtraction( table )
+				&& appendClauseAndParameterIfNotNullOrEmpty( " and table_name = ", table, sb, parameters ) ) {
 			orderByList.add( "table_name" );
 		}
 		orderByList.add( "ordinal_position" );
@@ -199,7 +210,7 @@ protected <T> T processImportedKeysResultSet(
 			sb.append( ", " ).append( orderByList.get( i ) );
 		}
 
-		return getExtractionContext().getQueryResults( sb.toString(), parameters.toArray(), processor );
+		return getTableQueryResults( sb.toString(), parameters.toArray(), table, processor );
 	}
 
 }
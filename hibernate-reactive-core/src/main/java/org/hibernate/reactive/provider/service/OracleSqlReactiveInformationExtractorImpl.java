@@ -47,6 +47,7 @@ protected <T> T processIndexInfoResultSet(
 				.append("select uic.index_name as " ).append( getResultSetIndexNameLabel() )
 				.append( ", -1 as " ).append( getResultSetIndexTypeLabel() )
 				.append( ", uic.column_name as " ).append( getResultSetColumnNameLabel() )
+				.append( ", uic.table_name as " ).append( getResultSetTableNameLabel() )
 				.append( " from user_ind_columns uic join user_indexes ui on ui.table_name = uic.table_name" )
 				.append( " where 1 = 1");
 
@@ -55,9 +56,11 @@ protected <T> T processIndexInfoResultSet(
 		// column names for an index are in USE_IND_COLUMNS
 		assert catalog == null || catalog.isEmpty();
 		appendClauseAndParameterIfNotNullOrEmpty( " and ui.table_owner = ", schema, sb, parameters );
-		appendClauseAndParameterIfNotNullOrEmpty( " and ui.table_name = ", table, sb, parameters );
+		if ( !isBulkExtraction( table ) ) {
+			appendClauseAndParameterIfNotNullOrEmpty( " and ui.table_name = ", table, sb, parameters );
+		}
 
-		return getExtractionContext().getQueryResults( sb.toString(), parameters.toArray(), processor );
+		return getTableQueryResults( sb.toString(), parameters.toArray(), table, processor );
 	}
 
 	@Override
@@ -73,6 +76,9 @@ protected <T> T processImportedKeysResultSet(
 			String table,
 			ExtractionContext.ResultSetProcessor<T> processor
 	) throws SQLException {
+		if ( isBulkExtraction( table ) ) {
+			return processAllImportedKeysResultSet( schema, table, processor );
+		}
 
 		String fkNameSubquery = "(select constraint_name from user_constraints where r_owner = '" + schema + "' and table_name = '" + table + "')";
 		String constraintSubquery =
@@ -93,6 +99,36 @@ protected <T> T processImportedKeysResultSet(
 		return getExtractionContext().getQueryResults( sb.toString(), null, processor );
 	}
 
+	/**
+	 * The foreign keys of all the tables owned by the given schema,
+	 * with the name of the table they belong to.
+	 */
+	private <T> T processAllImportedKeysResultSet(
+			String schema,
+			String table,
+			ExtractionContext.ResultSetProcessor<T> processor) throws SQLException {
+		final StringBuilder sb = new StringBuilder()
+				.append( "select uc.constraint_name as " ).append( getResultSetForeignKeyLabel() )
+				.append( ", null as " ).append( getResultSetPrimaryKeyCatalogLabel() )
+				.append( ", rc.owner as " ).append( getResultSetPrimaryKeySchemaLabel() )
+				.append( ", rcc.table_name as " ).append( getResultSetPrimaryKeyTableLabel() )
+				.append( ", rcc.column_name as ").append( getResultSetPrimaryKeyColumnNameLabel() )
+				.append( ", ucc.column_name as " ).append( getResultSetForeignKeyColumnNameLabel() )
+				.append( ", uc.table_name as " ).append( getResultSetTableNameLabel() )
+				.append( " from user_constraints uc" )
+				.append( " join user_cons_columns ucc on ucc.constraint_name = uc.constraint_name" )
+				.append( " join all_constraints rc on rc.owner = uc.r_owner and rc.constraint_name = uc.r_constraint_name" )
+				.append( " join all_cons_columns rcc on rcc.owner = rc.owner and rcc.constraint_name = rc.constraint_name" )
+				.append( " and rcc.position = ucc.position" )
+				.append( " where uc.constraint_type = 'R'" );
+
+		final List<Object> parameters = new ArrayList<>();
+		appendClauseAndParameterIfNotNullOrEmpty( " and uc.owner = ", schema, sb, parameters );
+		sb.append( " order by uc.table_name, uc.constraint_name, ucc.position" );
+
+		return getTableQueryResults( sb.toString(), parameters.toArray(), table, processor );
+	}
+
 	@Override
 	protected <T> T processTableResultSet(
 			String catalog,
@@ -120,9 +156,11 @@ protected <T> T processTableResultSet(
 				.append( " from sys.all_tables sat join sys.all_tab_comments satc on sat.TABLE_NAME = satc.TABLE_NAME where 1 = 1" );
 		List<Object> parameterValues = new ArrayList<>();
 		appendClauseAndParameterIfNotNullOrEmpty( " and " + schemaColumn + " like ", schemaPattern, sb, parameterValues );
-		appendClauseAndParameterIfNotNullOrEmpty( " and sat.table_name like ", tableNamePattern, sb, parameterValues );
-		appendClauseAndParameterIfNotNullOrEmpty( " and satc.table_name like ", tableNamePattern, sb, parameterValues );
-		return getExtractionContext().getQueryResults( sb.toString(), parameterValues.toArray(), processor );
+		if ( !isBulkExtraction( tableNamePattern ) ) {
+			appendClauseAndParameterIfNotNullOrEmpty( " and sat.table_name like ", tableNamePattern, sb, parameterValues );
+			appendClauseAndParameterIfNotNullOrEmpty( " and satc.table_name like ", tableNamePattern, sb, parameterValues );
+		}
+		return getTableQueryResults( sb.toString(), parameterValues.toArray(), tableNamePattern, processor );
 	}
 
 	@Override
@@ -169,11 +207,13 @@ protected <T> T processColumnsResultSet(
 				"table_schema"
 		);
 		appendClauseAndParameterIfNotNullOrEmpty( " and " + catalogColumn + " = " , catalog, sb, parameterValues );
-		appendClauseAndParameterIfNotNullOrEmpty( " and table_name like " , tableNamePattern, sb, parameterValues );
+		if ( !isBulkExtraction( tableNamePattern ) ) {
+			appendClauseAndParameterIfNotNullOrEmpty( " and table_name like " , tableNamePattern, sb, parameterValues );
+		}
 
 		sb.append(  " order by table_name, column_name, column_id" );
 
-		return getExtractionContext().getQueryResults( sb.toString(), parameterValues.toArray(), processor );
+		return getTableQueryResults( sb.toString(), parameterValues.toArray(), tableNamePattern, processor );
 	}
 
 	protected String getDatabaseSchemaColumnName(String catalogColumnName, String schemaColumnName ) {
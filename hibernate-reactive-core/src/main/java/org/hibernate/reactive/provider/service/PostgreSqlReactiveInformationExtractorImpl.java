@@ -71,6 +71,7 @@ protected <T> T processIndexInfoResultSet(
 				.append( " end as index_type" )
 				.append( " , (information_schema._pg_expandarray(i.indkey)).n as position" )
 				.append( " , ci.oid as ci_iod" )
+				.append( " , ct.relname as table_name" )
 				.append( " from pg_catalog.pg_class ct" )
 				.append( " join pg_catalog.pg_namespace n on (ct.relnamespace = n.oid)" )
 				.append( " join pg_catalog.pg_index i on (ct.oid = i.indrelid)" )
@@ -81,19 +82,23 @@ protected <T> T processIndexInfoResultSet(
 		final List<Object> parameterValues = new ArrayList<>();
 
 		appendClauseAndParameterIfNotNullOrEmpty( " and n.nspname = ", schema, innerQuery, parameterValues );
-		appendClauseAndParameterIfNotNullOrEmpty( " and ct.relname = ", table, innerQuery, parameterValues );
+		if ( !isBulkExtraction( table ) ) {
+			appendClauseAndParameterIfNotNullOrEmpty( " and ct.relname = ", table, innerQuery, parameterValues );
+		}
 
 		if ( unique ) {
 			innerQuery.append( " AND i.indisunique = true" );
 		}
 
-		return getExtractionContext().getQueryResults(
+		return getTableQueryResults(
 				"select tmp.index_name as " + getResultSetIndexNameLabel() +
 						", tmp.index_type as " + getResultSetIndexTypeLabel() +
 						", trim(both '\"' from pg_catalog.pg_get_indexdef(tmp.ci_iod, tmp.position, false)) as " + getResultSetColumnNameLabel() +
+						", tmp.table_name as " + getResultSetTableNameLabel() +
 						" from ( " + innerQuery + " ) tmp" +
 						" order by " + getResultSetIndexNameLabel() + ", tmp.position",
 				parameterValues.toArray(),
+				table,
 				processor
 		);
 	}
@@ -123,6 +128,7 @@ protected <T> T processImportedKeysResultSet(
 				.append( ", fka.attname as " ).append( getResultSetForeignKeyColumnNameLabel() )
 				.append( ", pos.n as " ).append( getResultSetColumnPositionColumn() )
 				.append( ", con.conname as " ).append( getResultSetForeignKeyLabel() )
+				.append( ", fkc.relname as " ).append( getResultSetTableNameLabel() )
 				.append( " from pg_catalog.pg_namespace pkn, pg_catalog.pg_class pkc, pg_catalog.pg_attribute pka" )
 				.append( ",  pg_catalog.pg_namespace fkn, pg_catalog.pg_class fkc, pg_catalog.pg_attribute fka" )
 				.append( ", pg_catalog.pg_constraint con" )
@@ -134,11 +140,13 @@ protected <T> T processImportedKeysResultSet(
 		final List<Object> parameterValues = new ArrayList<>();
 
 		appendClauseAndParameterIfNotNullOrEmpty( " and fkn.nspname = ", schema, sb, parameterValues );
-		appendClauseAndParameterIfNotNullOrEmpty( " and fkc.relname = ", table, sb, parameterValues );
+		if ( !isBulkExtraction( table ) ) {
+			appendClauseAndParameterIfNotNullOrEmpty( " and fkc.relname = ", table, sb, parameterValues );
+		}
 
 		// No need to order by catalog since it is always null.
 		sb.append( " order by pkn.nspname, pkc.relname, con.conname, pos.n" );
-		return getExtractionContext().getQueryResults( sb.toString(), parameterValues.toArray(), processor );
+		return getTableQueryResults( sb.toString(), parameterValues.toArray(), table, processor );
 	}
 
 	@Override
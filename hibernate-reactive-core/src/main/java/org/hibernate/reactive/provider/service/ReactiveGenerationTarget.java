@@ -8,23 +8,43 @@
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.pool.impl.SqlClientPoolConfiguration;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.vertx.VertxInstance;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.tool.schema.spi.GenerationTarget;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.falseFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.whileLoop;
 
 /**
  * Adaptor that redirects DDL generated by the schema export
  * tool to the reactive connection.
+ * <p>
+ * When {@link Settings#SCHEMA_EXPORT_CONCURRENCY} is greater than
+ * {@code 1}, the commands are split in phases: each phase is a run of
+ * consecutive commands of the same {@link Kind}. The commands of a phase
+ * that don't depend on each other, like the creation of tables, are
+ * executed concurrently using multiple connections from the pool, the
+ * other ones are executed one at a time. The phases are executed in the
+ * order of the commands, so a table is always created before its indexes.
  */
 public class ReactiveGenerationTarget implements GenerationTarget {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
@@ -34,6 +54,7 @@ public class ReactiveGenerationTarget implements GenerationTarget {
 	private ReactiveConnectionPool service;
 	private Set<String> statements;
 	private final List<String> commands = new ArrayList<>();
+	private int concurrency;
 
 	private volatile CountDownLatch done;
 
@@ -47,6 +68,18 @@ public void prepare() {
 		vertxSupplier = registry.getService( VertxInstance.class );
 		statements = new HashSet<>();
 		done = new CountDownLatch( 1 );
+		concurrency = concurrency( registry );
+	}
+
+	private static int concurrency(ServiceRegistry registry) {
+		final int concurrency = registry.requireService( ConfigurationService.class )
+				.getSetting( Settings.SCHEMA_EXPORT_CONCURRENCY, StandardConverters.INTEGER, 1 );
+		final SqlClientPoolConfiguration poolConfiguration = registry.getService( SqlClientPoolConfiguration.class );
+		// There's no point in asking for more connections than the pool has,
+		// but Connections doesn't rely on it: it doesn't wait for the ones it can't get
+		return poolConfiguration == null
+				? Math.max( 1, concurrency )
+				: Math.max( 1, Math.min( concurrency, poolConfiguration.poolOptions().getMaxSize() ) );
 	}
 
 	@Override
@@ -63,13 +96,19 @@ public void accept(String command) {
 	public void release() {
 		statements = null;
 		if ( !commands.isEmpty() ) {
-			vertxSupplier.getVertx().getOrCreateContext().runOnContext( v1 ->
+			vertxSupplier.getVertx().getOrCreateContext().runOnContext( v1 -> {
+				if ( concurrency > 1 ) {
+					executeCommandsConcurrently()
+							.thenAccept( v -> done.countDown() );
+				}
+				else {
 					service.getConnection()
-						.thenCompose( this::executeCommands )
-						// An error could have happened getting the connection (executeCommands will hide all other exceptions)
-						.handle( ReactiveGenerationTarget::logCommandFailure )
-						.thenAccept( v -> done.countDown() )
-			);
+							.thenCompose( this::executeCommands )
+							// An error could have happened getting the connection (executeCommands will hide all other exceptions)
+							.handle( ReactiveGenerationTarget::logCommandFailure )
+							.thenAccept( v -> done.countDown() );
+				}
+			} );
 
 			if ( done != null ) {
 				try {
@@ -101,6 +140,213 @@ private CompletionStage<Void> executeCommands(ReactiveConnection reactiveConnect
 				.handle( ReactiveGenerationTarget::logCommandFailure );
 	}
 
+	/**
+	 * Execute all commands, phase by phase, using up to {@link #concurrency}
+	 * connections, and log exceptions without propagating them.
+	 * This method never fails.
+	 */
+	private CompletionStage<Void> executeCommandsConcurrently() {
+		final long start = System.nanoTime();
+		final Connections connections = new Connections();
+		return loop( phases( commands ), connections::execute )
+				.thenAccept( ignore -> log.schemaExportCompleted(
+						commands.size(),
+						TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ),
+						connections.size()
+				) )
+				.handle( ReactiveGenerationTarget::logCommandFailure )
+				.thenCompose( v -> connections.close() )
+				// In case there is a failure closing the connections
+				.handle( ReactiveGenerationTarget::logCommandFailure );
+	}
+
+	private static List<Phase> phases(List<String> commands) {
+		final List<Phase> phases = new ArrayList<>();
+		Phase phase = null;
+		for ( String command : commands ) {
+			final Kind kind = Kind.of( command );
+			if ( phase == null || phase.kind != kind ) {
+				phase = new Phase( kind );
+				phases.add( phase );
+			}
+			phase.commands.add( command );
+		}
+		return phases;
+	}
+
+	/**
+	 * The kinds of DDL commands that can be executed concurrently with
+	 * other commands of the same kind. Two tables, or two indexes,
+	 * can be created at the same time, but an index can only be created
+	 * after its table.
+	 * <p>
+	 * Foreign keys, and the drop of tables, are never executed concurrently,
+	 * because they lock more than one table, and the database might detect
+	 * a deadlock.
+	 */
+	private enum Kind {
+		CREATE_TABLE( "create table " ),
+		CREATE_SEQUENCE( "create sequence " ),
+		CREATE_INDEX( "create index ", "create unique index " ),
+		DROP_SEQUENCE( "drop sequence " ),
+		OTHER;
+
+		private final String[] prefixes;
+
+		Kind(String... prefixes) {
+			this.prefixes = prefixes;
+		}
+
+		static Kind of(String command) {
+			final String sql = command.stripLeading().toLowerCase( Locale.ROOT );
+			for ( Kind kind : values() ) {
+				for ( String prefix : kind.prefixes ) {
+					if ( sql.startsWith( prefix ) ) {
+						return kind;
+					}
+				}
+			}
+			return OTHER;
+		}
+	}
+
+	/**
+	 * The connections used by the phases. They are acquired lazily, when a
+	 * phase can use more connections than the ones we already have, and a
+	 * phase never waits for a connection: it starts with the connections
+	 * available, and the other ones join it when the pool gives them to us.
+	 * This way we don't need to know the size of the pool, and we never wait
+	 * for connections that are only going to be released at the end.
+	 */
+	private class Connections {
+		// The connections might be acquired on different threads
+		private final List<ReactiveConnection> connections = new ArrayList<>( concurrency );
+		private int pending;
+		private boolean closed;
+		private Phase current;
+
+		CompletionStage<Void> execute(Phase phase) {
+			final List<ReactiveConnection> available;
+			final int missing;
+			synchronized ( this ) {
+				current = phase;
+				available = new ArrayList<>( connections );
+				missing = Math.max( 0, Math.min( phase.maxWorkers(), concurrency ) - connections.size() - pending );
+				pending += missing;
+			}
+			for ( int i = 0; i < missing; i++ ) {
+				service.getConnection().whenComplete( this::acquired );
+			}
+			for ( ReactiveConnection connection : available ) {
+				phase.join( connection );
+			}
+			return phase.completed;
+		}
+
+		private void acquired(ReactiveConnection connection, Throwable throwable) {
+			final Phase phase;
+			final boolean close;
+			final boolean giveUp;
+			synchronized ( this ) {
+				pending--;
+				phase = current;
+				close = closed;
+				if ( throwable == null && !closed ) {
+					connections.add( connection );
+				}
+				giveUp = connections.isEmpty() && pending == 0;
+			}
+			if ( throwable != null ) {
+				logCommandFailure( null, throwable );
+				// There's no connection left to execute the commands
+				if ( giveUp ) {
+					phase.completed.completeExceptionally( throwable );
+				}
+			}
+			else if ( close ) {
+				// We've already finished, and the pool gave us the connection
+				// only because we've released the other ones
+				connection.close().handle( ReactiveGenerationTarget::logCommandFailure );
+			}
+			else {
+				phase.join( connection );
+			}
+		}
+
+		synchronized int size() {
+			return connections.size();
+		}
+
+		CompletionStage<Void> close() {
+			final List<ReactiveConnection> toClose;
+			synchronized ( this ) {
+				closed = true;
+				toClose = new ArrayList<>( connections );
+			}
+			return loop( toClose, ReactiveConnection::close );
+		}
+	}
+
+	private static class Phase {
+		private final Kind kind;
+		private final List<String> commands = new ArrayList<>();
+		private final CompletableFuture<Void> completed = new CompletableFuture<>();
+		private Queue<String> queue;
+		private int workers;
+		private int running;
+		private long start;
+
+		Phase(Kind kind) {
+			this.kind = kind;
+		}
+
+		int maxWorkers() {
+			return kind == Kind.OTHER ? 1 : commands.size();
+		}
+
+		/**
+		 * The connection executes the next command in the queue, until the
+		 * queue is empty, unless the phase already has enough connections.
+		 */
+		void join(ReactiveConnection connection) {
+			synchronized ( this ) {
+				if ( queue == null ) {
+					queue = new ConcurrentLinkedQueue<>( commands );
+					start = System.nanoTime();
+				}
+				if ( completed.isDone() || queue.isEmpty() || running >= maxWorkers() ) {
+					return;
+				}
+				running++;
+				workers++;
+			}
+			whileLoop( () -> {
+				final String command = queue.poll();
+				return command == null
+						? falseFuture()
+						: connection.execute( command )
+								.handle( ReactiveGenerationTarget::logCommandFailure )
+								.thenApply( v -> true );
+			} ).whenComplete( (v, throwable) -> leave() );
+		}
+
+		private void leave() {
+			synchronized ( this ) {
+				if ( --running > 0 || !queue.isEmpty() ) {
+					return;
+				}
+			}
+			log.debugf(
+					"Executed %1$s DDL commands of kind %2$s in %3$s ms using %4$s connections",
+					commands.size(),
+					kind,
+					TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ),
+					workers
+			);
+			completed.complete( null );
+		}
+	}
+
 	private static <U> U logCommandFailure(Void ignore, Throwable throwable) {
 		if ( throwable != null ) {
 			log.ddlCommandFailed( throwable.getMessage() );
@@ -30,24 +30,38 @@
 import java.sql.Struct;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.resource.transaction.spi.DdlTransactionIsolator;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.tool.schema.internal.exec.ImprovedExtractionContextImpl;
 import org.hibernate.tool.schema.internal.exec.JdbcContext;
 
+import io.vertx.sqlclient.Row;
+
 import static org.hibernate.reactive.util.impl.CompletionStages.logSqlException;
 
 public class ReactiveImprovedExtractionContextImpl extends ImprovedExtractionContextImpl {
 
 	private final ReactiveConnectionPool connectionPool;
+	private final boolean bulkExtraction;
+	private final Map<List<Object>, Snapshot> snapshots = new HashMap<>();
 
 	public ReactiveImprovedExtractionContextImpl(
 			ServiceRegistry registry,
@@ -61,6 +75,72 @@ public ReactiveImprovedExtractionContextImpl(
 				databaseObjectAccess
 		);
 		connectionPool = registry.getService( ReactiveConnectionPool.class );
+		bulkExtraction = registry.requireService( ConfigurationService.class )
+				.getSetting( Settings.SCHEMA_METADATA_BULK_EXTRACTION, StandardConverters.BOOLEAN, false );
+	}
+
+	/**
+	 * @return {@code true} if the metadata of all the tables should be read at once
+	 *
+	 * @see Settings#SCHEMA_METADATA_BULK_EXTRACTION
+	 */
+	public boolean isBulkExtractionEnabled() {
+		return bulkExtraction;
+	}
+
+	/**
+	 * Process the rows of a single table, out of the results of a query
+	 * that returns the rows of all the tables. The query is executed only
+	 * the first time, the results are kept in memory for the following
+	 * tables.
+	 *
+	 * @param queryString a query that doesn't filter by table name
+	 * @param positionalParameters the parameters of the query
+	 * @param tableNameLabel the label of the column with the table name
+	 * @param tableName the name of the table
+	 * @param caseInsensitive whether the database ignores the case of the table names
+	 * @param resultSetProcessor the processor of the rows of the table
+	 */
+	public <T> T getTableQueryResults(
+			String queryString,
+			Object[] positionalParameters,
+			String tableNameLabel,
+			String tableName,
+			boolean caseInsensitive,
+			ResultSetProcessor<T> resultSetProcessor) throws SQLException {
+		final Object[] parametersToUse = positionalParameters != null ? positionalParameters : new Object[0];
+		final List<Object> key = new ArrayList<>( parametersToUse.length + 1 );
+		key.add( queryString );
+		key.addAll( Arrays.asList( parametersToUse ) );
+		Snapshot snapshot = snapshots.get( key );
+		if ( snapshot == null ) {
+			snapshot = snapshot( queryString, parametersToUse, tableNameLabel, caseInsensitive );
+			snapshots.put( key, snapshot );
+		}
+		try (final ResultSet resultSet = snapshot.getResultSet( tableName )) {
+			return resultSetProcessor.process( resultSet );
+		}
+	}
+
+	private Snapshot snapshot(String queryString, Object[] parameters, String tableNameLabel, boolean caseInsensitive)
+			throws SQLException {
+		try {
+			return connectionPool
+					.selectJdbcOutsideTransaction( queryString, parameters )
+					.whenComplete( (resultSet, err) -> logSqlException( err, () -> "could not execute query ", queryString ) )
+					// Unlike the other queries, we don't ignore the errors here:
+					// it would look like all the tables are empty
+					.thenApply( resultSet -> new Snapshot( (ResultSetAdaptor) resultSet, tableNameLabel, caseInsensitive ) )
+					.toCompletableFuture()
+					.join();
+		}
+		catch (CompletionException e) {
+			final Throwable cause = e.getCause() != null ? e.getCause() : e;
+			if ( cause instanceof SQLException sqlException ) {
+				throw sqlException;
+			}
+			throw new SQLException( "could not execute query: " + queryString, cause );
+		}
 	}
 
 	@Override
@@ -95,6 +175,35 @@ private static <T> T ignoreException(T result, Throwable throwable) {
 		return result;
 	}
 
+	/**
+	 * The rows returned by a query, grouped by table name. The names are
+	 * compared the same way the database compares them.
+	 */
+	private static class Snapshot {
+		private final ResultSetAdaptor resultSet;
+		private final boolean caseInsensitive;
+		private final Map<String, List<Row>> rowsByTable = new HashMap<>();
+
+		Snapshot(ResultSetAdaptor resultSet, String tableNameLabel, boolean caseInsensitive) {
+			this.resultSet = resultSet;
+			this.caseInsensitive = caseInsensitive;
+			while ( resultSet.next() ) {
+				rowsByTable
+						.computeIfAbsent( key( resultSet.getString( tableNameLabel ) ), table -> new ArrayList<>() )
+						.add( resultSet.getCurrentRow() );
+			}
+		}
+
+		private String key(String tableName) {
+			return caseInsensitive && tableName != null ? tableName.toLowerCase( Locale.ROOT ) : tableName;
+		}
+
+		ResultSet getResultSet(String tableName) {
+			final List<Row> rows = rowsByTable.getOrDefault( key( tableName ), List.of() );
+			return new ResultSetWorkaround( new ResultSetAdaptor( resultSet, rows ) );
+		}
+	}
+
 	private static class NoopDdlTransactionIsolator implements DdlTransactionIsolator {
 		static final NoopDdlTransactionIsolator INSTANCE = new NoopDdlTransactionIsolator();
 
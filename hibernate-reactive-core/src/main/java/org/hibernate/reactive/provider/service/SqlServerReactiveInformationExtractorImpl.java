@@ -25,6 +25,12 @@ public SqlServerReactiveInformationExtractorImpl(ExtractionContext extractionCon
 		super( extractionContext );
 	}
 
+	@Override
+	protected boolean isTableNameCaseInsensitive() {
+		// The default collation of SQL Server is case-insensitive
+		return true;
+	}
+
 	// #processSchemaResultSet in the superclass is OK as is
 	// because it uses information_schema.schemata and it is the
 	// schema itself that is the data object. Documentation says
@@ -70,7 +76,9 @@ protected <T> T processTableResultSet(
 
 		appendClauseAndParameterIfNotNullOrEmpty( " and t.table_catalog = ", catalog, sb, parameterValues );
 		appendClauseAndParameterIfNotNullOrEmpty( " and OBJECT_SCHEMA_NAME( o.object_id ) like ", schemaPattern, sb, parameterValues );
-		appendClauseAndParameterIfNotNullOrEmpty( " and t.table_name like ", tableNamePattern, sb, parameterValues );
+		if ( !isBulkExtraction( tableNamePattern ) ) {
+			appendClauseAndParameterIfNotNullOrEmpty( " and t.table_name like ", tableNamePattern, sb, parameterValues );
+		}
 
 		if ( types != null && types.length > 0 ) {
 			appendClauseAndParameterIfNotNullOrEmpty(
@@ -89,7 +97,7 @@ protected <T> T processTableResultSet(
 			}
 			sb.append( " ) " );
 		}
-		return getExtractionContext().getQueryResults( sb.toString(), parameterValues.toArray(), processor );
+		return getTableQueryResults( sb.toString(), parameterValues.toArray(), tableNamePattern, processor );
 	}
 
 
@@ -145,11 +153,13 @@ protected <T> T processColumnsResultSet(
 		final List<Object> parameterValues = new ArrayList<>();
 		appendClauseAndParameterIfNotNullOrEmpty( " and c.table_catalog = " , catalog, sb, parameterValues );
 		appendClauseAndParameterIfNotNullOrEmpty( " and OBJECT_SCHEMA_NAME( o.object_id ) like " , schemaPattern, sb, parameterValues );
-		appendClauseAndParameterIfNotNullOrEmpty( " and c.table_name like " , tableNamePattern, sb, parameterValues );
+		if ( !isBulkExtraction( tableNamePattern ) ) {
+			appendClauseAndParameterIfNotNullOrEmpty( " and c.table_name like " , tableNamePattern, sb, parameterValues );
+		}
 
 		sb.append(  " order by c.table_catalog, OBJECT_SCHEMA_NAME( o.object_id ), c.table_name, c.column_name, c.ordinal_position" );
 
-		return getExtractionContext().getQueryResults( sb.toString(), parameterValues.toArray(), processor );
+		return getTableQueryResults( sb.toString(), parameterValues.toArray(), tableNamePattern, processor );
 	}
 
 	@Override
@@ -183,6 +193,7 @@ protected <T> T processIndexInfoResultSet(
 				.append( "select i.name as " ).append( getResultSetIndexNameLabel() )
 				.append( " , i.type as " ).append( getResultSetIndexTypeLabel() )
 				.append( " , COL_NAME(ic.object_id, ic.column_id) as " ).append( getResultSetColumnNameLabel() )
+				.append( " , OBJECT_NAME( i.object_id ) as " ).append( getResultSetTableNameLabel() )
 				.append( " from sys.indexes i inner join sys.index_columns ic" )
 				.append( " on ic.object_id = i.object_id and ic.index_id = i.index_id" )
 				.append( " where i.index_id > 0" )
@@ -193,7 +204,9 @@ protected <T> T processIndexInfoResultSet(
 		final List<Object> parameterValues = new ArrayList<>();
 
 		appendClauseAndParameterIfNotNullOrEmpty( " and DB_NAME() = ", catalog, sb, parameterValues );
-		appendClauseAndParameterIfNotNullOrEmpty( " and OBJECT_NAME( i.object_id ) = ", table, sb, parameterValues );
+		if ( !isBulkExtraction( table ) ) {
+			appendClauseAndParameterIfNotNullOrEmpty( " and OBJECT_NAME( i.object_id ) = ", table, sb, parameterValues );
+		}
 		appendClauseAndParameterIfNotNullOrEmpty( " and OBJECT_SCHEMA_NAME( i.object_id) = ", schema, sb, parameterValues );
 
 		if ( unique ) {
@@ -202,8 +215,7 @@ protected <T> T processIndexInfoResultSet(
 
 		sb.append( " order by OBJECT_SCHEMA_NAME( i.object_id), OBJECT_NAME( i.object_id ), ic.key_ordinal" );
 
-		return getExtractionContext()
-				.getQueryResults( sb.toString(), parameterValues.toArray(), processor );
+		return getTableQueryResults( sb.toString(), parameterValues.toArray(), table, processor );
 	}
 
 	@Override
@@ -231,6 +243,7 @@ protected <T> T processImportedKeysResultSet(
 				.append( ", OBJECT_NAME( referenced_object_id ) as " ).append( getResultSetPrimaryKeyTableLabel() )
 				.append( ", COL_NAME( parent_object_id, parent_column_id ) as ").append( getResultSetForeignKeyColumnNameLabel() )
 				.append( ", COL_NAME( referenced_object_id, referenced_column_id) as ").append( getResultSetPrimaryKeyColumnNameLabel() )
+				.append( ", OBJECT_NAME( parent_object_id ) as " ).append( getResultSetTableNameLabel() )
 				.append( " from sys.foreign_key_columns" )
 				.append( " where 1 = 1" );
 
@@ -245,7 +258,8 @@ protected <T> T processImportedKeysResultSet(
 		if ( appendClauseAndParameterIfNotNullOrEmpty( " and OBJECT_SCHEMA_NAME( parent_object_id ) = ", schema, sb, parameters ) ) {
 			orderByList.add( "OBJECT_SCHEMA_NAME( parent_object_id )" );
 		}
-		if ( appendClauseAndParameterIfNotNullOrEmpty( " and OBJECT_NAME( parent_object_id ) = ", table, sb, parameters ) ) {
+		if ( !isBulkExtraction( table )
+				&& appendClauseAndParameterIfNotNullOrEmpty( " and OBJECT_NAME( parent_object_id ) = ", table, sb, parameters ) ) {
 			orderByList.add( "OBJECT_NAME( parent_object_id )" );
 		}
 		orderByList.add( "constraint_column_id" );
@@ -255,7 +269,7 @@ protected <T> T processImportedKeysResultSet(
 			sb.append( ", " ).append( orderByList.get( i ) );
 		}
 
-		return getExtractionContext().getQueryResults( sb.toString(), parameters.toArray(), processor );
+		return getTableQueryResults( sb.toString(), parameters.toArray(), table, processor );
 	}
 
 	@Override
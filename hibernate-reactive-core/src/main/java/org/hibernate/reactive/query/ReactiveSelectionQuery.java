@@ -13,6 +13,8 @@
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.query.CommonQueryContract;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.sql.results.spi.ReactiveStreamResultsConsumer.RowSink;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -20,6 +22,7 @@
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.Parameter;
 import jakarta.persistence.TemporalType;
+import java.lang.invoke.MethodHandles;
 import java.time.Instant;
 import java.util.Calendar;
 import java.util.Collection;
@@ -29,6 +32,9 @@
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 
+import static org.hibernate.reactive.logging.impl.LoggerFactory.make;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+
 /**
  * @see org.hibernate.query.SelectionQuery
  */
@@ -52,6 +58,22 @@ default CompletionStage<List<R>> getReactiveResultList() {
 
 	CompletionStage<Optional<R>> reactiveUniqueResultOptional();
 
+	/**
+	 * Execute the query using a server-side cursor, passing each row
+	 * of the results to the given {@link RowSink} as soon as it has
+	 * been read.
+	 *
+	 * @param fetchSize the maximum number of rows to read with a single
+	 *                  round trip, or a non-positive value to use the
+	 *                  fetch size of the query
+	 * @param sink the consumer of the rows
+	 *
+	 * @return a stage that completes when all the rows have been read
+	 */
+	default CompletionStage<Void> reactiveStream(int fetchSize, RowSink<? super R> sink) {
+		return failedFuture( make( Log.class, MethodHandles.lookup() ).streamingNotSupported( getQueryString() ) );
+	}
+
 	@Override
 	ReactiveSelectionQuery<R> setHint(String hintName, Object value);
 
@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.query.internal;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.reactive.query.spi.QueryPlanCacheStatistics;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A Hibernate {@linkplain StandardServiceInitiator service initiator} for
+ * the {@link QueryPlanCacheStatistics}.
+ */
+public class QueryPlanCacheStatisticsInitiator implements StandardServiceInitiator<QueryPlanCacheStatistics> {
+
+	public static final QueryPlanCacheStatisticsInitiator INSTANCE = new QueryPlanCacheStatisticsInitiator();
+
+	@Override
+	public QueryPlanCacheStatistics initiateService(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+		return new QueryPlanCacheStatistics();
+	}
+
+	@Override
+	public Class<QueryPlanCacheStatistics> getServiceInitiated() {
+		return QueryPlanCacheStatistics.class;
+	}
+}
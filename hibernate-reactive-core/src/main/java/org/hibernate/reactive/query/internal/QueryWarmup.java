@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.query.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.creation.internal.SessionBuilderImpl;
+import org.hibernate.engine.creation.internal.SessionCreationOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.internal.SessionImpl;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.query.spi.QueryPlanCacheStatistics;
+import org.hibernate.reactive.query.sqm.internal.ReactiveSqmSelectionQueryImpl;
+import org.hibernate.reactive.session.impl.ReactiveStatelessSessionImpl;
+import org.hibernate.reactive.vertx.VertxInstance;
+
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Translates the named HQL queries, and the HQL queries listed by
+ * {@link Settings#QUERY_WARMUP_HQL}, when the session factory is created,
+ * so that the first execution of a query doesn't need to parse it, or to
+ * build its plan.
+ * <p>
+ * The queries are translated to SQM, and their plans are built for the
+ * default query options, and stored in the
+ * {@linkplain QueryInterpretationCache interpretation cache}, on a Vert.x
+ * worker thread, without delaying the startup. The plans are built by a
+ * temporary stateless session, which never opens a connection.
+ * <p>
+ * The result type of a named query is the one it declares. For the other
+ * queries, it's the type of the selection: the entity, or the type of the
+ * single item of the {@code select} clause, or {@code Object[]} for more
+ * than one item. The plan of a query executed with a different result
+ * type, or different options, is still built on the first execution.
+ * Native queries don't need to be translated.
+ *
+ * @see Settings#QUERY_WARMUP
+ * @see Settings#QUERY_WARMUP_HQL
+ */
+public class QueryWarmup implements SessionFactoryObserver {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory sessionFactory) {
+		final SessionFactoryImplementor factory = (SessionFactoryImplementor) sessionFactory;
+		final Map<String, Class<?>> queries = queries( factory );
+		if ( !queries.isEmpty() ) {
+			factory.getServiceRegistry().requireService( VertxInstance.class ).getVertx()
+					.executeBlocking( () -> warmUp( factory, queries ), false );
+		}
+	}
+
+	/**
+	 * @return the HQL of the queries, and their result types, if declared
+	 */
+	private static Map<String, Class<?>> queries(SessionFactoryImplementor factory) {
+		final Map<String, Object> settings = factory.getServiceRegistry()
+				.requireService( ConfigurationService.class )
+				.getSettings();
+		final Map<String, Class<?>> queries = new LinkedHashMap<>();
+		if ( ConfigurationHelper.getBoolean( Settings.QUERY_WARMUP, settings, false ) ) {
+			factory.getQueryEngine().getNamedObjectRepository()
+					.visitSqmQueryMementos( memento -> queries.put( memento.getHqlString(), memento.getResultType() ) );
+		}
+		final Object hql = settings.get( Settings.QUERY_WARMUP_HQL );
+		if ( hql instanceof Collection<?> collection ) {
+			for ( Object query : collection ) {
+				queries.putIfAbsent( query.toString(), null );
+			}
+		}
+		else if ( hql != null ) {
+			for ( String query : hql.toString().split( ";" ) ) {
+				if ( !query.isBlank() ) {
+					queries.putIfAbsent( query.trim(), null );
+				}
+			}
+		}
+		return queries;
+	}
+
+	private static Void warmUp(SessionFactoryImplementor factory, Map<String, Class<?>> queries) {
+		final long start = System.nanoTime();
+		final QueryEngine queryEngine = factory.getQueryEngine();
+		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+		final ReactiveStatelessSessionImpl session = openSession( factory );
+		int count = 0;
+		try {
+			for ( Map.Entry<String, Class<?>> query : queries.entrySet() ) {
+				if ( factory.isClosed() ) {
+					break;
+				}
+				final String hql = query.getKey();
+				try {
+					final HqlInterpretation<?> interpretation =
+							interpretationCache.resolveHqlInterpretation( hql, null, queryEngine.getHqlTranslator() );
+					final Class<?> resultType = query.getValue() == null || query.getValue() == Object.class
+							? resultType( interpretation )
+							: query.getValue();
+					if ( session != null && resultType != null ) {
+						buildQueryPlan( session, hql, resultType );
+					}
+					count++;
+				}
+				catch (RuntimeException e) {
+					LOG.queryWarmupFailed( hql, e );
+				}
+			}
+		}
+		finally {
+			if ( session != null ) {
+				// The connection has never been opened, so this completes immediately
+				session.close( new CompletableFuture<>() );
+			}
+		}
+		final QueryPlanCacheStatistics statistics = factory.getServiceRegistry().getService( QueryPlanCacheStatistics.class );
+		if ( statistics != null ) {
+			statistics.queriesWarmedUp( count );
+		}
+		LOG.queryWarmupCompleted( count, TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ) );
+		return null;
+	}
+
+	/**
+	 * Create the query, with the given result type, and store its plan
+	 * in the interpretation cache, without executing it.
+	 */
+	private static void buildQueryPlan(ReactiveStatelessSessionImpl session, String hql, Class<?> resultType) {
+		if ( session.createReactiveSelectionQuery( hql, resultType ) instanceof ReactiveSqmSelectionQueryImpl<?> query ) {
+			query.resolveQueryPlan();
+		}
+	}
+
+	/**
+	 * @return the type of the selection of a {@code select} statement,
+	 *         or {@code null} for other statements
+	 */
+	private static Class<?> resultType(HqlInterpretation<?> interpretation) {
+		if ( interpretation.getSqmStatement() instanceof SqmSelectStatement<?> statement ) {
+			final Selection<?> selection = statement.getSelection();
+			return selection == null ? null : selection.getJavaType();
+		}
+		return null;
+	}
+
+	/**
+	 * A stateless session with the default options, used to build the
+	 * query plans. It never opens a connection. It can't be created when
+	 * a tenant identifier is required, and then only the HQL is translated.
+	 */
+	private static ReactiveStatelessSessionImpl openSession(SessionFactoryImplementor factory) {
+		try {
+			final SessionFactoryImpl delegate = (SessionFactoryImpl) factory;
+			final SessionCreationOptions options = new SessionBuilderImpl( delegate ) {
+				@Override
+				protected SessionImplementor createSession() {
+					return new SessionImpl( delegate, this );
+				}
+			};
+			final ReactiveConnectionPool pool = factory.getServiceRegistry().requireService( ReactiveConnectionPool.class );
+			return new ReactiveStatelessSessionImpl( delegate, options, pool.getProxyConnection() );
+		}
+		catch (RuntimeException e) {
+			LOG.debugf( e, "Query plans won't be built by the warm-up" );
+			return null;
+		}
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.query.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.hibernate.reactive.sql.results.spi.ReactiveStreamResultsConsumer.RowSink;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Adapts the execution of a streaming query to a {@link Flow.Publisher}.
+ * <p>
+ * The query is executed when the subscriber requests the first row, and
+ * the next row is read only when there is outstanding demand. When the
+ * demand drops to zero, the execution resumes when the subscriber calls
+ * {@link Flow.Subscription#request(long)}, always on the Vert.x context
+ * of the session, even when the subscriber requests more rows from
+ * another thread.
+ * <p>
+ * Cancelling the subscription stops the execution and releases the
+ * underlying cursor.
+ *
+ * @param <R> the type of the rows
+ *
+ * @see org.hibernate.reactive.query.ReactiveSelectionQuery#reactiveStream(int, RowSink)
+ */
+public class ReactiveResultsPublisher<R> implements Flow.Publisher<R> {
+
+	private final Function<RowSink<R>, CompletionStage<Void>> stream;
+	private final AtomicBoolean subscribed = new AtomicBoolean();
+	// The context in which the query has been created
+	private final Context creationContext = Vertx.currentContext();
+
+	/**
+	 * @param stream starts the execution of the query, passing each row
+	 * to the given {@link RowSink}
+	 */
+	public ReactiveResultsPublisher(Function<RowSink<R>, CompletionStage<Void>> stream) {
+		this.stream = stream;
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super R> subscriber) {
+		if ( subscriber == null ) {
+			throw new NullPointerException( "Subscriber cannot be null" );
+		}
+		if ( subscribed.compareAndSet( false, true ) ) {
+			final Context context = Vertx.currentContext();
+			subscriber.onSubscribe( new RowSubscription( subscriber, context == null ? creationContext : context ) );
+		}
+		else {
+			// The query can only be executed once
+			subscriber.onSubscribe( new Flow.Subscription() {
+				@Override
+				public void request(long n) {
+				}
+
+				@Override
+				public void cancel() {
+				}
+			} );
+			subscriber.onError( new IllegalStateException( "Query results can only be consumed by one subscriber" ) );
+		}
+	}
+
+	/**
+	 * Used to stop the execution of the query after a cancellation
+	 */
+	private static final class CancelledException extends RuntimeException {
+		private CancelledException() {
+			super( "Subscription cancelled", null, false, false );
+		}
+	}
+
+	private final class RowSubscription implements Flow.Subscription, RowSink<R> {
+
+		private final Flow.Subscriber<? super R> subscriber;
+		// The query is executed, and resumed, on this context
+		private final Context context;
+
+		// Guarded by this
+		private long demand;
+		private boolean started;
+		private boolean cancelled;
+		private CompletableFuture<Void> waitingForDemand;
+
+		private RowSubscription(Flow.Subscriber<? super R> subscriber, Context context) {
+			this.subscriber = subscriber;
+			this.context = context;
+		}
+
+		@Override
+		public void request(long n) {
+			if ( n <= 0 ) {
+				cancel();
+				subscriber.onError( new IllegalArgumentException( "Requested rows must be positive: " + n ) );
+				return;
+			}
+
+			final boolean start;
+			final CompletableFuture<Void> waiting;
+			synchronized ( this ) {
+				if ( cancelled ) {
+					return;
+				}
+				demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+				start = !started;
+				started = true;
+				waiting = waitingForDemand;
+				waitingForDemand = null;
+			}
+
+			if ( start ) {
+				runOnContext( this::execute );
+			}
+			else if ( waiting != null ) {
+				runOnContext( () -> waiting.complete( null ) );
+			}
+		}
+
+		/**
+		 * Run the action on the context of the subscription, if the
+		 * current thread is not already running it.
+		 */
+		private void runOnContext(Runnable action) {
+			if ( context == null || Vertx.currentContext() == context ) {
+				action.run();
+			}
+			else {
+				context.runOnContext( v -> action.run() );
+			}
+		}
+
+		@Override
+		public void cancel() {
+			final CompletableFuture<Void> waiting;
+			synchronized ( this ) {
+				cancelled = true;
+				waiting = waitingForDemand;
+				waitingForDemand = null;
+			}
+			if ( waiting != null ) {
+				// The cursor is closed on the context of the subscription
+				runOnContext( () -> waiting.completeExceptionally( new CancelledException() ) );
+			}
+		}
+
+		@Override
+		public CompletionStage<Void> accept(R row) {
+			synchronized ( this ) {
+				if ( cancelled ) {
+					return failedFuture( new CancelledException() );
+				}
+				demand--;
+			}
+
+			subscriber.onNext( row );
+
+			synchronized ( this ) {
+				if ( cancelled ) {
+					return failedFuture( new CancelledException() );
+				}
+				if ( demand > 0 ) {
+					return voidFuture();
+				}
+				waitingForDemand = new CompletableFuture<>();
+				return waitingForDemand;
+			}
+		}
+
+		private void execute() {
+			final CompletionStage<Void> execution;
+			try {
+				execution = stream.apply( this );
+			}
+			catch (Throwable t) {
+				terminate( t );
+				return;
+			}
+			execution.whenComplete( (v, t) -> terminate( t ) );
+		}
+
+		private void terminate(Throwable failure) {
+			synchronized ( this ) {
+				if ( cancelled ) {
+					// No signals after the cancellation
+					return;
+				}
+				cancelled = true;
+			}
+			if ( failure == null ) {
+				subscriber.onComplete();
+			}
+			else {
+				subscriber.onError( unwrap( failure ) );
+			}
+		}
+
+		private Throwable unwrap(Throwable failure) {
+			Throwable cause = failure;
+			while ( cause instanceof CompletionException && cause.getCause() != null ) {
+				cause = cause.getCause();
+			}
+			return cause;
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.query.spi;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.Incubating;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.service.Service;
+
+/**
+ * A Hibernate {@link Service} that counts the hits, misses, and evictions
+ * of the query plans of reactive queries in the
+ * {@linkplain QueryInterpretationCache interpretation cache}, and the
+ * queries translated by the warm-up at startup.
+ * <p>
+ * A miss for a query plan that was already built means that the plan was
+ * evicted from the cache, and it's counted as an eviction. Evictions are
+ * only detected for the first {@value #MAX_TRACKED_PLANS} distinct plans.
+ *
+ * @see org.hibernate.reactive.provider.Settings#QUERY_WARMUP
+ * @see org.hibernate.reactive.provider.Settings#QUERY_WARMUP_HQL
+ */
+@Incubating
+public class QueryPlanCacheStatistics implements Service {
+
+	/**
+	 * The maximum number of plans tracked to detect evictions
+	 */
+	public static final int MAX_TRACKED_PLANS = 10_000;
+
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder warmedUpQueries = new LongAdder();
+
+	// The keys of the plans built so far
+	private final Set<QueryInterpretationCache.Key> builtPlans = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * A query plan has been requested from the cache.
+	 */
+	public void planRequested() {
+		requests.increment();
+	}
+
+	/**
+	 * A query plan wasn't in the cache, and it has been built.
+	 *
+	 * @param key the key of the plan in the cache
+	 */
+	public void planBuilt(QueryInterpretationCache.Key key) {
+		misses.increment();
+		if ( builtPlans.contains( key ) ) {
+			evictions.increment();
+		}
+		else if ( builtPlans.size() < MAX_TRACKED_PLANS ) {
+			// Like the cache, keep a copy that can't be changed by the query
+			builtPlans.add( key.prepareForStore() );
+		}
+	}
+
+	/**
+	 * Queries have been translated by the warm-up.
+	 *
+	 * @param count the number of queries
+	 */
+	public void queriesWarmedUp(int count) {
+		warmedUpQueries.add( count );
+	}
+
+	/**
+	 * @return the number of plans found in the cache
+	 */
+	public long getHitCount() {
+		return Math.max( 0, requests.sum() - misses.sum() );
+	}
+
+	/**
+	 * @return the number of plans not found in the cache
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return the number of plans built again after being evicted from the cache
+	 */
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	/**
+	 * @return the number of queries translated by the warm-up
+	 */
+	public long getWarmedUpQueryCount() {
+		return warmedUpQueries.sum();
+	}
+
+	/**
+	 * Reset all the counters.
+	 */
+	public void clear() {
+		requests.reset();
+		misses.reset();
+		evictions.reset();
+		warmedUpQueries.reset();
+		builtPlans.clear();
+	}
+}
@@ -39,6 +39,8 @@
 import org.hibernate.reactive.query.sqm.internal.ConcreteSqmSelectReactiveQueryPlan;
 import org.hibernate.reactive.query.sqm.spi.ReactiveSelectQueryPlan;
 import org.hibernate.reactive.sql.results.spi.ReactiveSingleResultConsumer;
+import org.hibernate.reactive.sql.results.spi.ReactiveStreamResultsConsumer;
+import org.hibernate.reactive.sql.results.spi.ReactiveStreamResultsConsumer.RowSink;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.results.internal.TupleMetadata;
 
@@ -59,6 +61,12 @@
 
 	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	/**
+	 * The number of rows read with each round trip when streaming the results
+	 * and no fetch size has been specified.
+	 */
+	private static final int DEFAULT_STREAM_FETCH_SIZE = 100;
+
 	private final Supplier<QueryOptions> queryOptionsSupplier;
 
 	private final SharedSessionContractImplementor session;
@@ -199,12 +207,52 @@ private LockOptions getLockOptions() {
 	}
 
 	public CompletionStage<List<R>> reactiveList() {
+		return execute( this::doReactiveList );
+	}
+
+	/**
+	 * Execute the query, passing the rows to a {@link ReactiveStreamResultsConsumer}
+	 * created by the given function.
+	 *
+	 * @param doStream executes the query with the given consumer
+	 * @param fetchSize the requested fetch size, if positive
+	 * @param sink the consumer of the rows
+	 */
+	public CompletionStage<Void> reactiveStream(
+			Function<ReactiveStreamResultsConsumer<R>, CompletionStage<Void>> doStream,
+			int fetchSize,
+			RowSink<? super R> sink) {
+		return execute( () -> doStream
+				.apply( new ReactiveStreamResultsConsumer<>( resolveStreamFetchSize( fetchSize ), sink ) ) );
+	}
+
+	/**
+	 * The fetch size to use when streaming the results: the one requested
+	 * explicitly, or the one of the query, or the value of
+	 * {@value org.hibernate.cfg.AvailableSettings#STATEMENT_FETCH_SIZE}.
+	 */
+	private int resolveStreamFetchSize(int fetchSize) {
+		if ( fetchSize > 0 ) {
+			return fetchSize;
+		}
+		final Integer queryFetchSize = getQueryOptions().getFetchSize();
+		if ( queryFetchSize != null && queryFetchSize > 0 ) {
+			return queryFetchSize;
+		}
+		final Integer jdbcFetchSize = getSession().getFactory().getSessionFactoryOptions().getJdbcFetchSize();
+		if ( jdbcFetchSize != null && jdbcFetchSize > 0 ) {
+			return jdbcFetchSize;
+		}
+		return DEFAULT_STREAM_FETCH_SIZE;
+	}
+
+	private <T> CompletionStage<T> execute(Supplier<CompletionStage<T>> doExecute) {
 		final Set<String> profiles = applyProfiles();
 		return beforeQuery.get()
-				.thenCompose( v -> doReactiveList() )
-				.handle( (list, error) -> {
+				.thenCompose( v -> doExecute.get() )
+				.handle( (result, error) -> {
 					handleException( error );
-					return list;
+					return result;
 				} )
 				.whenComplete( (rs, throwable) -> {
 					afterQuery.accept( throwable == null );
@@ -258,16 +306,30 @@ private void handleException(Throwable e) {
 	public ReactiveSelectQueryPlan<R> resolveSelectReactiveQueryPlan() {
 		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.createInterpretationsKey( interpretationsKeySource );
 		if ( cacheKey != null ) {
+			final QueryPlanCacheStatistics statistics = getSession().getFactory().getServiceRegistry()
+					.getService( QueryPlanCacheStatistics.class );
+			if ( statistics != null ) {
+				statistics.planRequested();
+			}
 			return (ReactiveSelectQueryPlan<R>) getSession().getFactory()
 					.getQueryEngine()
 					.getInterpretationCache()
-					.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
+					.resolveSelectQueryPlan( cacheKey, () -> buildSelectQueryPlan( cacheKey, statistics ) );
 		}
 		else {
 			return buildSelectQueryPlan();
 		}
 	}
 
+	private ReactiveSelectQueryPlan<R> buildSelectQueryPlan(
+			QueryInterpretationCache.Key cacheKey,
+			QueryPlanCacheStatistics statistics) {
+		if ( statistics != null ) {
+			statistics.planBuilt( cacheKey );
+		}
+		return buildSelectQueryPlan();
+	}
+
 	private ReactiveSelectQueryPlan<R> buildSelectQueryPlan() {
 		final SqmSelectStatement<R>[] concreteSqmStatements = QuerySplitter
 				.split( (SqmSelectStatement<R>) getSqmStatement() );
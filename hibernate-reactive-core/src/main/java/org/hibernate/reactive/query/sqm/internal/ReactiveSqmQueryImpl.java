@@ -55,12 +55,15 @@
 import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.query.spi.QueryPlanCacheStatistics;
 import org.hibernate.reactive.query.spi.ReactiveAbstractSelectionQuery;
 import org.hibernate.reactive.query.sql.spi.ReactiveNonSelectQueryPlan;
 import org.hibernate.reactive.query.sqm.mutation.spi.ReactiveSqmMultiTableInsertStrategy;
 import org.hibernate.reactive.query.sqm.mutation.spi.ReactiveSqmMultiTableMutationStrategy;
 import org.hibernate.reactive.query.sqm.spi.ReactiveSelectQueryPlan;
 import org.hibernate.reactive.session.ReactiveSqmQueryImplementor;
+import org.hibernate.reactive.sql.results.spi.ReactiveStreamResultsConsumer;
+import org.hibernate.reactive.sql.results.spi.ReactiveStreamResultsConsumer.RowSink;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.transform.ResultTransformer;
 
@@ -179,6 +182,11 @@ public CompletionStage<List<R>> reactiveList() {
 		return selectionQueryDelegate.reactiveList();
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveStream(int fetchSize, RowSink<? super R> sink) {
+		return selectionQueryDelegate.reactiveStream( this::doReactiveStream, fetchSize, sink );
+	}
+
 	@Override
 	public R getSingleResult() {
 		return selectionQueryDelegate.getSingleResult();
@@ -234,6 +242,19 @@ private CompletionStage<List<R>> doReactiveList() {
 				);
 	}
 
+	private CompletionStage<Void> doReactiveStream(ReactiveStreamResultsConsumer<R> resultsConsumer) {
+		verifySelect();
+		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
+
+		final SqmSelectStatement<?> sqmStatement = (SqmSelectStatement<?>) getSqmStatement();
+		if ( sqmStatement.containsCollectionFetches() ) {
+			// The rows for the same entity could be split across different chunks
+			throw LOG.streamingWithCollectionFetch( getQueryString() );
+		}
+		return resolveSelectReactiveQueryPlan()
+				.reactiveExecuteQuery( this, resultsConsumer );
+	}
+
 	private List<R> applyDistinct(SqmSelectStatement<?> sqmStatement, boolean hasLimit, List<R> list) {
 		final int first = !hasLimit || getQueryOptions().getLimit().getFirstRow() == null
 				? getIntegerLiteral( sqmStatement.getOffset(), 0 )
@@ -254,16 +275,30 @@ private List<R> applyDistinct(SqmSelectStatement<?> sqmStatement, boolean hasLim
 	private ReactiveSelectQueryPlan<R> resolveSelectReactiveQueryPlan() {
 		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.createInterpretationsKey( this );
 		if ( cacheKey != null ) {
+			final QueryPlanCacheStatistics statistics = getSession().getFactory().getServiceRegistry()
+					.getService( QueryPlanCacheStatistics.class );
+			if ( statistics != null ) {
+				statistics.planRequested();
+			}
 			return (ReactiveSelectQueryPlan<R>) getSession().getFactory()
 					.getQueryEngine()
 					.getInterpretationCache()
-					.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
+					.resolveSelectQueryPlan( cacheKey, () -> buildSelectQueryPlan( cacheKey, statistics ) );
 		}
 		else {
 			return buildSelectQueryPlan();
 		}
 	}
 
+	private ReactiveSelectQueryPlan<R> buildSelectQueryPlan(
+			QueryInterpretationCache.Key cacheKey,
+			QueryPlanCacheStatistics statistics) {
+		if ( statistics != null ) {
+			statistics.planBuilt( cacheKey );
+		}
+		return buildSelectQueryPlan();
+	}
+
 	@Override
 	protected ReactiveSelectQueryPlan<R> buildSelectQueryPlan() {
 		final SqmSelectStatement<R>[] concreteSqmStatements =
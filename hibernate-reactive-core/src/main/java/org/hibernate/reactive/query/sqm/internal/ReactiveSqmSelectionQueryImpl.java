@@ -23,8 +23,12 @@
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.sqm.internal.SqmSelectionQueryImpl;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.query.spi.ReactiveAbstractSelectionQuery;
 import org.hibernate.reactive.query.sqm.ReactiveSqmSelectionQuery;
+import org.hibernate.reactive.sql.results.spi.ReactiveStreamResultsConsumer;
+import org.hibernate.reactive.sql.results.spi.ReactiveStreamResultsConsumer.RowSink;
 import org.hibernate.sql.exec.spi.Callback;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -35,6 +39,7 @@
 import jakarta.persistence.TemporalType;
 import jakarta.persistence.metamodel.Type;
 
+import java.lang.invoke.MethodHandles;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Calendar;
@@ -56,6 +61,8 @@
  */
 public class ReactiveSqmSelectionQueryImpl<R> extends SqmSelectionQueryImpl<R> implements ReactiveSqmSelectionQuery<R> {
 
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ReactiveAbstractSelectionQuery<R> selectionQueryDelegate;
 
 	public ReactiveSqmSelectionQueryImpl(
@@ -151,6 +158,16 @@ public QueryOptions getQueryOptions() {
 				);
 	}
 
+	/**
+	 * Build the plan of this query, and store it in the interpretation
+	 * cache, without executing the query.
+	 *
+	 * @see org.hibernate.reactive.query.internal.QueryWarmup
+	 */
+	public void resolveQueryPlan() {
+		selectionQueryDelegate.resolveSelectReactiveQueryPlan();
+	}
+
 	// I would expect this to be the same as the one in ReactiveSqmQueryImpl.
 	// But in ORM the code is not exactly the same, see SqmSelectionQueryImpl and SqmQueryImpl
 	private List<R> applyDistinct(SqmSelectStatement<?> sqmStatement, boolean hasLimit, List<R> list) {
@@ -197,6 +214,21 @@ public CompletionStage<List<R>> reactiveList() {
 		return selectionQueryDelegate.reactiveList();
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveStream(int fetchSize, RowSink<? super R> sink) {
+		return selectionQueryDelegate.reactiveStream( this::doReactiveStream, fetchSize, sink );
+	}
+
+	private CompletionStage<Void> doReactiveStream(ReactiveStreamResultsConsumer<R> resultsConsumer) {
+		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
+		if ( getSqmStatement().containsCollectionFetches() ) {
+			// The rows for the same entity could be split across different chunks
+			throw LOG.streamingWithCollectionFetch( getQueryString() );
+		}
+		return selectionQueryDelegate.resolveSelectReactiveQueryPlan()
+				.reactiveExecuteQuery( this, resultsConsumer );
+	}
+
 	@Override
 	public CompletionStage<R> getReactiveSingleResultOrNull() {
 		return selectionQueryDelegate.getReactiveSingleResultOrNull();
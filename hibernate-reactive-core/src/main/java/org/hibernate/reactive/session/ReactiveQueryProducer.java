@@ -22,8 +22,11 @@
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.CriteriaUpdate;
+import java.util.Collection;
 import java.util.concurrent.CompletionStage;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
 
 /**
  * Executes queries in a non-blocking fashion.
@@ -42,6 +45,14 @@ public interface ReactiveQueryProducer extends ReactiveConnectionSupplier {
 
 	<T> CompletionStage<T> reactiveFetch(T association, boolean unproxy);
 
+	/**
+	 * Fetch the given lazy associations. By default, they're fetched one
+	 * at a time, but an implementation may fetch them in bulk.
+	 */
+	default CompletionStage<Void> reactiveFetchAll(Collection<?> associations) {
+		return loop( associations, association -> reactiveFetch( association, false ) );
+	}
+
 	CompletionStage<Object> reactiveInternalLoad(String entityName, Object id, boolean eager, boolean nullable);
 
 	<T> EntityGraph<T> createEntityGraph(Class<T> entity);
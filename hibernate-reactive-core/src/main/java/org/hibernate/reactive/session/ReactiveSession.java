@@ -54,6 +54,8 @@ public interface ReactiveSession extends ReactiveQueryProducer, ReactiveSharedSe
 
 	CompletionStage<Void> reactivePersist(Object object, PersistContext copiedAlready);
 
+	CompletionStage<Void> reactivePersistAll(Object... entities);
+
 	CompletionStage<Void> reactivePersistOnFlush(Object entity, PersistContext copiedAlready);
 
 	CompletionStage<Void> reactiveRemove(Object entity);
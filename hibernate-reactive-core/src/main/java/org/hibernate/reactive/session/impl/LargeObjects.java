@@ -0,0 +1,229 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.reactive.query.internal.ReactiveResultsPublisher;
+import org.hibernate.reactive.session.ReactiveQueryProducer;
+import org.hibernate.reactive.sql.results.spi.ReactiveStreamResultsConsumer.RowSink;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Creates, reads, and deletes PostgreSQL large objects with the
+ * server-side functions {@code lo_create()}, {@code lo_put()},
+ * {@code lo_get()}, and {@code lo_unlink()}, one chunk at a time,
+ * so that the content of a large object is never held in memory.
+ * <p>
+ * The statements are executed with the connection of the session, and
+ * so they are part of its transaction, if any.
+ *
+ * @see org.hibernate.reactive.stage.Stage.QueryProducer#createLargeObject(Flow.Publisher)
+ * @see org.hibernate.reactive.mutiny.Mutiny.QueryProducer#createLargeObject(io.smallrye.mutiny.Multi)
+ */
+public final class LargeObjects {
+
+	private static final String CREATE = "select cast(lo_create(0) as bigint)";
+	// lo_put() returns void, which the client can't decode
+	private static final String WRITE = "select cast(lo_put(cast($1 as oid), $2, $3) as text)";
+	private static final String READ = "select lo_get(cast($1 as oid), $2, $3)";
+	private static final String DELETE = "select lo_unlink(cast($1 as oid))";
+
+	private LargeObjects() {
+	}
+
+	/**
+	 * Create a large object, and write to it the chunks emitted by the
+	 * publisher. A chunk is requested only after the previous one has
+	 * been written. If the content can't be written, the large object
+	 * is deleted.
+	 *
+	 * @return a stage with the OID of the new large object
+	 */
+	public static CompletionStage<Long> create(ReactiveQueryProducer session, Flow.Publisher<byte[]> content) {
+		if ( !isSupported( session ) ) {
+			return failedFuture( unsupported( session ) );
+		}
+		return session.getReactiveConnection()
+				.select( CREATE )
+				.thenCompose( result -> {
+					final long oid = (Long) result.next()[0];
+					final LargeObjectWriter writer = new LargeObjectWriter( session, oid );
+					content.subscribe( writer );
+					return writer.result
+							.exceptionallyCompose( throwable -> delete( session, oid )
+									// Report the failure of the write, even if the delete fails too
+									.handle( (v, t) -> null )
+									.thenCompose( v -> failedFuture( throwable ) ) )
+							.thenApply( v -> oid );
+				} );
+	}
+
+	/**
+	 * Read a large object, a chunk of the given size at a time. A chunk
+	 * is read only when the subscriber has requested it.
+	 */
+	public static Flow.Publisher<byte[]> read(ReactiveQueryProducer session, long oid, int chunkSize) {
+		if ( chunkSize < 1 ) {
+			return new ReactiveResultsPublisher<>( sink -> failedFuture( new IllegalArgumentException( "Chunk size must be positive: " + chunkSize ) ) );
+		}
+		if ( !isSupported( session ) ) {
+			return new ReactiveResultsPublisher<>( sink -> failedFuture( unsupported( session ) ) );
+		}
+		return new ReactiveResultsPublisher<>( sink -> read( session, oid, 0, chunkSize, sink ) );
+	}
+
+	/**
+	 * Delete a large object.
+	 */
+	public static CompletionStage<Void> delete(ReactiveQueryProducer session, long oid) {
+		if ( !isSupported( session ) ) {
+			return failedFuture( unsupported( session ) );
+		}
+		return session.getReactiveConnection()
+				.select( DELETE, new Object[] { oid } )
+				.thenCompose( result -> voidFuture() );
+	}
+
+	private static CompletionStage<Void> read(ReactiveQueryProducer session, long oid, long offset, int chunkSize, RowSink<byte[]> sink) {
+		return session.getReactiveConnection()
+				.select( READ, new Object[] { oid, offset, chunkSize } )
+				.thenCompose( result -> {
+					final byte[] chunk = bytes( result.next()[0] );
+					if ( chunk.length == 0 ) {
+						return voidFuture();
+					}
+					final CompletionStage<Void> accepted = sink.accept( chunk );
+					// A shorter chunk is the last one
+					return chunk.length < chunkSize
+							? accepted
+							: accepted.thenCompose( v -> read( session, oid, offset + chunk.length, chunkSize, sink ) );
+				} );
+	}
+
+	private static byte[] bytes(Object value) {
+		if ( value instanceof Buffer buffer ) {
+			return buffer.getBytes();
+		}
+		return value == null ? new byte[0] : (byte[]) value;
+	}
+
+	private static boolean isSupported(ReactiveQueryProducer session) {
+		return session.getDialect() instanceof PostgreSQLDialect;
+	}
+
+	private static UnsupportedOperationException unsupported(ReactiveQueryProducer session) {
+		return new UnsupportedOperationException( "Large objects are only supported on PostgreSQL, not with "
+				+ session.getDialect().getClass().getSimpleName() );
+	}
+
+	/**
+	 * Writes the chunks emitted by a {@link Flow.Publisher} to a large
+	 * object, on the Vert.x context of the session, even when the
+	 * publisher emits them from another thread.
+	 */
+	private static final class LargeObjectWriter implements Flow.Subscriber<byte[]> {
+
+		private final ReactiveQueryProducer session;
+		private final long oid;
+		private final CompletableFuture<Void> result = new CompletableFuture<>();
+		// The context in which the session is used
+		private final Context context = Vertx.currentContext();
+
+		// The signals of the publisher are serialized, so these fields
+		// are never updated concurrently
+		private Flow.Subscription subscription;
+		private long offset;
+		// Completes when the last chunk has been written
+		private CompletionStage<Void> written = voidFuture();
+
+		LargeObjectWriter(ReactiveQueryProducer session, long oid) {
+			this.session = session;
+			this.oid = oid;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			if ( this.subscription != null ) {
+				subscription.cancel();
+				return;
+			}
+			this.subscription = subscription;
+			subscription.request( 1 );
+		}
+
+		@Override
+		public void onNext(byte[] chunk) {
+			final long chunkOffset = offset;
+			offset += chunk.length;
+			written = onContext( () -> chunk.length == 0
+					? voidFuture()
+					: session.getReactiveConnection()
+							.select( WRITE, new Object[] { oid, chunkOffset, Buffer.buffer( chunk ) } )
+							.thenCompose( r -> voidFuture() ) )
+					.whenComplete( (v, throwable) -> {
+						if ( throwable == null ) {
+							subscription.request( 1 );
+						}
+						else {
+							subscription.cancel();
+							fail( throwable );
+						}
+					} );
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			// Don't leave a write running after the result has completed
+			written.whenComplete( (v, t) -> fail( throwable ) );
+		}
+
+		@Override
+		public void onComplete() {
+			written.whenComplete( (v, throwable) -> {
+				if ( throwable == null ) {
+					result.complete( null );
+				}
+				else {
+					fail( throwable );
+				}
+			} );
+		}
+
+		private void fail(Throwable throwable) {
+			result.completeExceptionally( throwable instanceof CompletionException && throwable.getCause() != null
+					? throwable.getCause()
+					: throwable );
+		}
+
+		private CompletionStage<Void> onContext(Supplier<CompletionStage<Void>> write) {
+			if ( context == null || context == Vertx.currentContext() ) {
+				return write.get();
+			}
+			final CompletableFuture<Void> future = new CompletableFuture<>();
+			context.runOnContext( ignored -> write.get()
+					.whenComplete( (v, throwable) -> {
+						if ( throwable == null ) {
+							future.complete( null );
+						}
+						else {
+							future.completeExceptionally( throwable );
+						}
+					} ) );
+			return future;
+		}
+	}
+}
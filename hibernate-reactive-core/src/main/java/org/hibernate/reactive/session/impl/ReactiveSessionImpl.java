@@ -5,6 +5,9 @@
 package org.hibernate.reactive.session.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -31,7 +34,10 @@
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.creation.internal.SessionCreationOptions;
+import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.EffectiveEntityGraph;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
@@ -109,9 +115,12 @@
 import org.hibernate.reactive.loader.ast.spi.ReactiveNaturalIdLoader;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.persister.collection.impl.ReactiveAbstractCollectionPersister;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
+import org.hibernate.reactive.pool.AdaptiveBatchSizing;
 import org.hibernate.reactive.pool.BatchingConnection;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.query.ReactiveMutationQuery;
 import org.hibernate.reactive.query.ReactiveNativeQuery;
 import org.hibernate.reactive.query.ReactiveQuery;
@@ -142,10 +151,13 @@
 import static org.hibernate.internal.util.StringHelper.isEmpty;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 import static org.hibernate.reactive.common.InternalStateAssertions.assertUseOnEventLoop;
+import static org.hibernate.reactive.id.impl.IdentifierGeneration.withReservedSequenceValues;
 import static org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister.forceInitialize;
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
+import static org.hibernate.reactive.util.impl.CompletionStages.applyToAll;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.rethrow;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnNullorRethrow;
@@ -173,7 +185,23 @@ public ReactiveSessionImpl(SessionFactoryImpl delegate, SessionCreationOptions o
 		Integer batchSize = getConfiguredJdbcBatchSize();
 		reactiveConnection = batchSize == null || batchSize < 2
 				? connection
-				: new BatchingConnection( connection, batchSize );
+				: new BatchingConnection(
+						connection,
+						batchSize,
+						isBatchPipeliningEnabled( delegate ),
+						false,
+						adaptiveBatchSizing( delegate )
+				);
+	}
+
+	private static AdaptiveBatchSizing adaptiveBatchSizing(SessionFactoryImpl factory) {
+		final AdaptiveBatchSizing adaptiveBatchSizing = factory.getServiceRegistry().getService( AdaptiveBatchSizing.class );
+		return adaptiveBatchSizing == null ? AdaptiveBatchSizing.NONE : adaptiveBatchSizing;
+	}
+
+	private static boolean isBatchPipeliningEnabled(SessionFactoryImpl factory) {
+		return factory.getServiceRegistry().requireService( ConfigurationService.class )
+				.getSetting( Settings.BATCH_PIPELINING, StandardConverters.BOOLEAN, false );
 	}
 
 	@Override
@@ -360,6 +388,98 @@ else if ( isPersistentAttributeInterceptable( association ) ) {
 		}
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveFetchAll(Collection<?> associations) {
+		checkOpen();
+		// Group the uninitialized proxies by entity name, and the collections
+		// by role, so that each group can be initialized with a single query
+		final Map<String, List<HibernateProxy>> proxiesByEntityName = new LinkedHashMap<>();
+		final Map<String, List<PersistentCollection<?>>> collectionsByRole = new LinkedHashMap<>();
+		final List<Object> others = new ArrayList<>();
+		for ( Object association : associations ) {
+			if ( association instanceof HibernateProxy proxy ) {
+				final LazyInitializer initializer = proxy.getHibernateLazyInitializer();
+				if ( initializer.isUninitialized() ) {
+					// Proxies not associated with this session are initialized one
+					// at a time, with the same checks as fetch()
+					if ( initializer.getSession() == this ) {
+						proxiesByEntityName.computeIfAbsent( initializer.getEntityName(), name -> new ArrayList<>() )
+								.add( proxy );
+					}
+					else {
+						others.add( proxy );
+					}
+				}
+			}
+			else if ( association instanceof PersistentCollection<?> collection ) {
+				if ( !collection.wasInitialized() ) {
+					final CollectionEntry entry = getPersistenceContextInternal().getCollectionEntry( collection );
+					// Collections not associated with this session, or that might be
+					// in the second-level cache, are initialized one at a time
+					if ( entry != null
+							&& entry.getLoadedPersister() instanceof ReactiveAbstractCollectionPersister persister
+							&& !persister.hasCache() ) {
+						collectionsByRole.computeIfAbsent( persister.getRole(), role -> new ArrayList<>() )
+								.add( collection );
+					}
+					else {
+						others.add( collection );
+					}
+				}
+			}
+			else if ( association != null ) {
+				others.add( association );
+			}
+		}
+		return loop( proxiesByEntityName.values(), this::fetchAllProxies )
+				.thenCompose( v -> loop( collectionsByRole.values(), this::fetchAllCollections ) )
+				.thenCompose( v -> loop( others, association -> reactiveFetch( association, false ) ) );
+	}
+
+	private CompletionStage<Void> fetchAllProxies(List<HibernateProxy> proxies) {
+		if ( proxies.size() == 1 ) {
+			return reactiveFetch( proxies.get( 0 ), false )
+					.thenCompose( CompletionStages::voidFuture );
+		}
+
+		final String entityName = proxies.get( 0 ).getHibernateLazyInitializer().getEntityName();
+		final Object[] ids = new Object[proxies.size()];
+		for ( int i = 0; i < ids.length; i++ ) {
+			ids[i] = proxies.get( i ).getHibernateLazyInitializer().getIdentifier();
+		}
+		final EntityPersister persister = getFactory().getMappingMetamodel().getEntityDescriptor( entityName );
+		return new ReactiveMultiIdentifierLoadAccessImpl<>( persister )
+				.enableSessionCheck( true )
+				.multiLoad( ids )
+				.thenAccept( entities -> {
+					for ( int i = 0; i < ids.length; i++ ) {
+						final Object entity = entities.get( i );
+						checkEntityFound( this, entityName, ids[i], entity );
+						final LazyInitializer initializer = proxies.get( i ).getHibernateLazyInitializer();
+						initializer.setSession( this );
+						initializer.setImplementation( entity );
+					}
+				} );
+	}
+
+	private CompletionStage<Void> fetchAllCollections(List<PersistentCollection<?>> collections) {
+		if ( collections.size() == 1 ) {
+			return reactiveInitializeCollection( collections.get( 0 ), false );
+		}
+
+		final PersistenceContext persistenceContext = getPersistenceContextInternal();
+		final CollectionEntry firstEntry = persistenceContext.getCollectionEntry( collections.get( 0 ) );
+		final ReactiveAbstractCollectionPersister persister =
+				(ReactiveAbstractCollectionPersister) firstEntry.getLoadedPersister();
+		final Object[] keys = new Object[collections.size()];
+		for ( int i = 0; i < keys.length; i++ ) {
+			keys[i] = persistenceContext.getCollectionEntry( collections.get( i ) ).getLoadedKey();
+		}
+		pulseTransactionCoordinator();
+		return persister.reactiveInitializeAll( keys, this )
+				.whenComplete( (v, e) -> delayedAfterCompletion() );
+	}
+
 	@Override
 	public <E, T> CompletionStage<T> reactiveFetch(E entity, Attribute<E, T> field) {
 		final ReactiveEntityPersister entityPersister = (ReactiveEntityPersister) getEntityPersister( null, entity );
@@ -867,6 +987,17 @@ public CompletionStage<Void> reactivePersist(String entityName, Object entity) {
 		return firePersist( new PersistEvent( entityName, entity, this ) );
 	}
 
+	@Override
+	public CompletionStage<Void> reactivePersistAll(Object... entities) {
+		checkOpen();
+		// Fetch the ids generated by sequences with fewer round trips
+		return supplyStage( () -> withReservedSequenceValues(
+				this,
+				entities,
+				() -> applyToAll( this::reactivePersist, entities )
+		) );
+	}
+
 	@Override
 	public CompletionStage<Void> reactivePersist(Object object, PersistContext copiedAlready) {
 		checkOpenOrWaitingForAutoClose();
@@ -19,6 +19,8 @@
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.creation.internal.SessionCreationOptions;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
@@ -66,6 +68,7 @@
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.pool.BatchingConnection;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.query.ReactiveMutationQuery;
 import org.hibernate.reactive.query.ReactiveNativeQuery;
 import org.hibernate.reactive.query.ReactiveQuery;
@@ -108,6 +111,7 @@
 import static org.hibernate.pretty.MessageHelper.infoString;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 import static org.hibernate.reactive.id.impl.IdentifierGeneration.castToIdentifierType;
+import static org.hibernate.reactive.id.impl.IdentifierGeneration.withReservedSequenceValues;
 import static org.hibernate.reactive.logging.impl.LoggerFactory.make;
 import static org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister.forceInitialize;
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
@@ -159,11 +163,17 @@ private ReactiveStatelessSessionImpl(
 		// write-behind and be confusing. For this reason, the default batch size is always set to 0.
 		// When a user calls the CRUD operations for batching, we set the batch size to the same number of
 		// objects to process, therefore, there is no write-behind behavior.
-		reactiveConnection = new BatchingConnection( connection, 0 );
+		reactiveConnection = new BatchingConnection( connection, 0, false, isMultiRowInsertEnabled( factory ) );
 		batchingHelperSession = this;
 		influencers = new LoadQueryInfluencers( factory );
 	}
 
+	private static boolean isMultiRowInsertEnabled(SessionFactoryImpl factory) {
+		return factory.getJdbcServices().getDialect().supportsValuesListForInsert()
+				&& factory.getServiceRegistry().requireService( ConfigurationService.class )
+						.getSetting( Settings.MULTI_ROW_INSERT, StandardConverters.BOOLEAN, false );
+	}
+
 	private LockMode getNullSafeLockMode(LockMode lockMode) {
 		return lockMode == null ? LockMode.NONE : lockMode;
 	}
@@ -695,8 +705,11 @@ public CompletionStage<Void> reactiveUpsertAll(int batchSize, Object... entities
 
 	@Override
 	public CompletionStage<Void> reactiveInsertAll(Object... entities) {
-		return loop( entities, batchingHelperSession::reactiveInsert )
-				.thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() );
+		return supplyStage( () -> withReservedSequenceValues(
+				batchingHelperSession,
+				entities,
+				() -> loop( entities, batchingHelperSession::reactiveInsert )
+		) ).thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() );
 	}
 
 	@Override
@@ -704,7 +717,11 @@ public CompletionStage<Void> reactiveInsertAll(int batchSize, Object... entities
 		final Integer jdbcBatchSize = batchingHelperSession.getJdbcBatchSize();
 		batchingHelperSession.setJdbcBatchSize( batchSize );
 		final ReactiveConnection connection = batchingConnection( batchSize );
-		return loop( entities, batchingHelperSession::reactiveInsert )
+		return supplyStage( () -> withReservedSequenceValues(
+				batchingHelperSession,
+				entities,
+				() -> loop( entities, batchingHelperSession::reactiveInsert )
+		) )
 				.thenCompose( v -> connection.executeBatch() )
 				.whenComplete( (v, throwable) -> batchingHelperSession.setJdbcBatchSize( jdbcBatchSize ) );
 	}
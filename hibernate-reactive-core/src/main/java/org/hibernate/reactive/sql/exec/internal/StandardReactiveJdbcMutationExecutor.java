@@ -61,7 +61,7 @@ public CompletionStage<Integer> executeReactive(
 			final String finalSql = finalSql( jdbcMutation, executionContext, jdbcServices, queryOptions );
 
 			Object[] parameters = PreparedStatementAdaptor
-					.bind( statement -> prepareStatement( jdbcMutation, statement, jdbcParameterBindings, executionContext ) );
+					.bind( finalSql, statement -> prepareStatement( jdbcMutation, statement, jdbcParameterBindings, executionContext ) );
 
 			session.getEventListenerManager().jdbcExecuteStatementStart();
 			return connection( executionContext )
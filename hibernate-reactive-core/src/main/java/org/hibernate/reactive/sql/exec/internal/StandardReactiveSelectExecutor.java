@@ -27,12 +27,14 @@
 import org.hibernate.reactive.sql.exec.spi.ReactiveRowProcessingState;
 import org.hibernate.reactive.sql.exec.spi.ReactiveSelectExecutor;
 import org.hibernate.reactive.sql.exec.spi.ReactiveValuesResultSet;
+import org.hibernate.reactive.sql.results.internal.ReactiveCursorResultSetAccess;
 import org.hibernate.reactive.sql.results.internal.ReactiveDeferredResultSetAccess;
 import org.hibernate.reactive.sql.results.internal.ReactiveResultSetAccess;
 import org.hibernate.reactive.sql.results.internal.ReactiveResultsHelper;
 import org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer;
 import org.hibernate.reactive.sql.results.spi.ReactiveResultsConsumer;
 import org.hibernate.reactive.sql.results.spi.ReactiveRowReader;
+import org.hibernate.reactive.sql.results.spi.ReactiveStreamResultsConsumer;
 import org.hibernate.reactive.sql.results.spi.ReactiveValuesMappingProducer;
 import org.hibernate.sql.exec.internal.StandardStatementCreator;
 import org.hibernate.sql.exec.spi.ExecutionContext;
@@ -117,6 +119,35 @@ public  <R> CompletionStage<List<R>> list(
 		);
 	}
 
+	/**
+	 * Send the query to the database immediately, but only process
+	 * the results once the given stage has completed. This way the
+	 * queries for several chunks of keys can be pipelined, while
+	 * their results are still processed one at a time, in order.
+	 *
+	 * @param processAfter the stage to wait for before processing the results,
+	 * usually the load of the previous chunk
+	 */
+	public <R> CompletionStage<List<R>> list(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			ReactiveListResultsConsumer.UniqueSemantic uniqueSemantic,
+			CompletionStage<?> processAfter) {
+		return executeQuery(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				rowTransformer,
+				null,
+				-1,
+				StandardStatementCreator.getStatementCreator( null ),
+				ReactiveListResultsConsumer.instance( uniqueSemantic ),
+				processAfter
+		);
+	}
+
 	/**
 	 * @since 2.4 (and Hibernate ORM 6.6)
 	 */
@@ -150,6 +181,29 @@ public <T, R> CompletionStage<T> executeQuery(
 			int resultCountEstimate,
 			JdbcSelectExecutor.StatementCreator statementCreator,
 			ReactiveResultsConsumer<T, R> resultsConsumer) {
+		return executeQuery(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				rowTransformer,
+				domainResultType,
+				resultCountEstimate,
+				statementCreator,
+				resultsConsumer,
+				null
+		);
+	}
+
+	private <T, R> CompletionStage<T> executeQuery(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			int resultCountEstimate,
+			JdbcSelectExecutor.StatementCreator statementCreator,
+			ReactiveResultsConsumer<T, R> resultsConsumer,
+			CompletionStage<?> processAfter) {
 
 		final PersistenceContext persistenceContext = executionContext.getSession().getPersistenceContext();
 		final boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
@@ -160,7 +214,7 @@ public <T, R> CompletionStage<T> executeQuery(
 			persistenceContext.setDefaultReadOnly( readOnly );
 		}
 
- 		return doExecuteQuery( jdbcSelect, jdbcParameterBindings, executionContext, rowTransformer, domainResultType, resultCountEstimate, statementCreator, resultsConsumer )
+ 		return doExecuteQuery( jdbcSelect, jdbcParameterBindings, executionContext, rowTransformer, domainResultType, resultCountEstimate, statementCreator, resultsConsumer, processAfter )
 				.thenCompose( list -> ( (ReactivePersistenceContextAdapter) persistenceContext )
 						// only initialize non-lazy collections after everything else has been refreshed
 						.reactiveInitializeNonLazyCollections()
@@ -181,17 +235,40 @@ private <T, R> CompletionStage<T> doExecuteQuery(
 			Class<R> domainResultType,
 			int resultCountEstimate,
 			JdbcSelectExecutor.StatementCreator statementCreator,
-			ReactiveResultsConsumer<T, R> resultsConsumer) {
+			ReactiveResultsConsumer<T, R> resultsConsumer,
+			CompletionStage<?> processAfter) {
 
 		final ReactiveDeferredResultSetAccess deferredResultSetAccess =
-				new ReactiveDeferredResultSetAccess( jdbcSelect, jdbcParameterBindings, executionContext, statementCreator, resultCountEstimate );
+				resultsConsumer instanceof ReactiveStreamResultsConsumer<?> streamResultsConsumer
+						? new ReactiveCursorResultSetAccess( jdbcSelect, jdbcParameterBindings, executionContext, statementCreator, streamResultsConsumer.getFetchSize() )
+						: new ReactiveDeferredResultSetAccess( jdbcSelect, jdbcParameterBindings, executionContext, statementCreator, resultCountEstimate );
+
+		final CompletionStage<ReactiveValuesResultSet> jdbcValuesStage;
+		if ( processAfter == null ) {
+			jdbcValuesStage = resolveJdbcValuesSource(
+					executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
+					jdbcSelect,
+					resultsConsumer.canResultsBeCached(),
+					executionContext,
+					deferredResultSetAccess
+			);
+		}
+		else {
+			// The pre-actions must run before the query, so we can't send it now
+			if ( !( jdbcSelect instanceof ReactiveJdbcSelect ) ) {
+				// The result set is kept by the access until the results are processed
+				deferredResultSetAccess.getReactiveResultSet();
+			}
+			jdbcValuesStage = processAfter.thenCompose( v -> resolveJdbcValuesSource(
+					executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
+					jdbcSelect,
+					resultsConsumer.canResultsBeCached(),
+					executionContext,
+					deferredResultSetAccess
+			) );
+		}
 
-		return resolveJdbcValuesSource(
-				executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
-				jdbcSelect,
-				resultsConsumer.canResultsBeCached(),
-				executionContext,
-				deferredResultSetAccess )
+		return jdbcValuesStage
 				.thenCompose( jdbcValues -> {
 					final RowTransformer<R> rowTransformer = rowTransformer( executionContext, transformer, jdbcValues );
 					final Statistics statistics = new Statistics( executionContext, jdbcValues );
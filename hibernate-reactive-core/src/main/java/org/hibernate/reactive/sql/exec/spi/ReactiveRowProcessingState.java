@@ -52,6 +52,13 @@ public CompletionStage<Boolean> next() {
 		return jdbcValues.next();
 	}
 
+	/**
+	 * @see ReactiveValuesResultSet#nextIfAvailable()
+	 */
+	public boolean nextIfAvailable() {
+		return jdbcValues.nextIfAvailable();
+	}
+
 	@Override
 	public JdbcValuesSourceProcessingState getJdbcValuesSourceProcessingState() {
 		return resultSetProcessingState;
@@ -21,6 +21,7 @@
 import org.hibernate.exception.LockTimeoutException;
 import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
 import org.hibernate.reactive.sql.results.internal.ReactiveResultSetAccess;
 import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.exec.ExecutionException;
@@ -31,10 +32,24 @@
 import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.java.DoubleJavaType;
+import org.hibernate.type.descriptor.java.IntegerJavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
+import org.hibernate.type.descriptor.java.ShortJavaType;
+import org.hibernate.type.descriptor.java.StringJavaType;
+import org.hibernate.type.descriptor.jdbc.BasicExtractor;
+import org.hibernate.type.descriptor.jdbc.BigIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.DoubleJdbcType;
+import org.hibernate.type.descriptor.jdbc.IntegerJdbcType;
+import org.hibernate.type.descriptor.jdbc.SmallIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.VarcharJdbcType;
+
+import io.vertx.sqlclient.Row;
 
-import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.falseFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.trueFuture;
 
 /**
  * @see org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl
@@ -49,6 +64,8 @@ public class ReactiveValuesResultSet {
 	private final boolean usesFollowOnLocking;
 	private final int resultCountEstimate;
 	private final SqlSelection[] sqlSelections;
+	// The readers of the values that don't need the JdbcValueExtractor, by position in the row
+	private final RowValueReader[] rowValueReaders;
 	private final BitSet initializedIndexes;
 	private final Object[] currentRowJdbcValues;
 	private final int[] valueIndexesToCacheIndexes;
@@ -82,9 +99,11 @@ public ReactiveValuesResultSet(
 
 		final int rowSize = valuesMapping.getRowSize();
 		this.sqlSelections = new SqlSelection[rowSize];
+		this.rowValueReaders = new RowValueReader[rowSize];
 		for ( SqlSelection selection : valuesMapping.getSqlSelections() ) {
 			int valuesArrayPosition = selection.getValuesArrayPosition();
 			this.sqlSelections[valuesArrayPosition] = selection;
+			this.rowValueReaders[valuesArrayPosition] = rowValueReader( selection.getJdbcValueExtractor() );
 		}
 		this.initializedIndexes = new BitSet( rowSize );
 		this.currentRowJdbcValues = new Object[rowSize];
@@ -168,6 +187,30 @@ public final CompletionStage<Boolean> next() {
 		return processNext();
 	}
 
+	/**
+	 * Advance to the next row without creating a {@link CompletionStage},
+	 * if the rows of the current {@link ResultSet} are already available.
+	 * <p>
+	 * A {@code false} result doesn't mean that there are no more rows:
+	 * the caller must use {@link #next()} to find out.
+	 *
+	 * @return {@code true} if the values of the next row have been read
+	 */
+	public final boolean nextIfAvailable() {
+		final ResultSet resultSet = resultSetAccess.getResultSetIfAvailable();
+		if ( resultSet == null ) {
+			return false;
+		}
+		try {
+			// When this is false, we could be at the end of a chunk of rows
+			// read from a cursor, and next() will take care of it
+			return resultSet.next() && extractCurrentRowValues( resultSet );
+		}
+		catch (SQLException e) {
+			throw makeExecutionException( "Error advancing (next) ResultSet position", e );
+		}
+	}
+
 	protected final CompletionStage<Boolean> processNext() {
 		return advance( () -> resultSetAccess
 				.getReactiveResultSet()
@@ -177,8 +220,13 @@ protected final CompletionStage<Boolean> processNext() {
 
 	private CompletionStage<Boolean> doNext(ResultSet resultSet) {
 		try {
-			boolean next = resultSet.next();
-			return completedFuture( next );
+			return resultSet.next()
+					? trueFuture()
+					// The current chunk is exhausted, check if a cursor can give us more rows
+					: resultSetAccess.getNextReactiveResultSet()
+							.thenCompose( nextResultSet -> nextResultSet == null
+									? falseFuture()
+									: doNext( nextResultSet ) );
 		}
 		catch (SQLException e) {
 			return failedFuture( makeExecutionException( "Error advancing (next) ResultSet position", e ) );
@@ -265,23 +313,69 @@ private CompletionStage<Boolean> readCurrentRowValues(boolean hasResults) {
 		}
 
 		return resultSetAccess.getReactiveResultSet()
-				.thenApply( resultSet -> {
-					final SharedSessionContractImplementor session = executionContext.getSession();
-					for ( final SqlSelection sqlSelection : sqlSelections ) {
-						try {
-							currentRowJdbcValues[sqlSelection.getValuesArrayPosition()] = sqlSelection
-									.getJdbcValueExtractor()
-									.extract( resultSet, sqlSelection.getJdbcResultSetIndex(), session );
-						}
-						catch (Exception e) {
-							throw new HibernateException( "Unable to extract JDBC value for position `" + sqlSelection.getJdbcResultSetIndex() + "`", e );
-						}
-					}
-					return true;
-				} );
+				.thenApply( this::extractCurrentRowValues );
+	}
+
+	private boolean extractCurrentRowValues(ResultSet resultSet) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final Row row = resultSet instanceof ResultSetAdaptor adaptor ? adaptor.getCurrentRow() : null;
+		for ( final SqlSelection sqlSelection : sqlSelections ) {
+			final int position = sqlSelection.getValuesArrayPosition();
+			final RowValueReader rowValueReader = row == null ? null : rowValueReaders[position];
+			try {
+				currentRowJdbcValues[position] = rowValueReader == null
+						? sqlSelection.getJdbcValueExtractor().extract( resultSet, sqlSelection.getJdbcResultSetIndex(), session )
+						// Vert.x rows are 0-based
+						: rowValueReader.read( row, sqlSelection.getJdbcResultSetIndex() - 1 );
+			}
+			catch (Exception e) {
+				throw new HibernateException( "Unable to extract JDBC value for position `" + sqlSelection.getJdbcResultSetIndex() + "`", e );
+			}
+		}
+		return true;
 	}
 
 	public int getResultCountEstimate() {
 		return resultCountEstimate;
 	}
+
+	/**
+	 * Reads a value directly from the Vert.x {@link Row}, skipping the
+	 * {@link ResultSetAdaptor} and the {@link ValueExtractor}.
+	 */
+	@FunctionalInterface
+	private interface RowValueReader {
+		Object read(Row row, int position);
+	}
+
+	/**
+	 * A {@link RowValueReader} for the values of the basic types that the
+	 * {@link ValueExtractor} would read with the same {@link Row} getter
+	 * used by the {@link ResultSetAdaptor}, without any conversion.
+	 *
+	 * @return the reader, or {@code null} if the value must be read with the extractor
+	 */
+	private static RowValueReader rowValueReader(ValueExtractor<?> extractor) {
+		if ( extractor instanceof BasicExtractor<?> basicExtractor ) {
+			// We compare the exact classes because subclasses might read or convert the value differently
+			final Class<?> jdbcType = basicExtractor.getJdbcType().getClass();
+			final Class<?> javaType = basicExtractor.getJavaType().getClass();
+			if ( jdbcType == IntegerJdbcType.class && javaType == IntegerJavaType.class ) {
+				return Row::getInteger;
+			}
+			if ( jdbcType == BigIntJdbcType.class && javaType == LongJavaType.class ) {
+				return Row::getLong;
+			}
+			if ( jdbcType == SmallIntJdbcType.class && javaType == ShortJavaType.class ) {
+				return Row::getShort;
+			}
+			if ( jdbcType == VarcharJdbcType.class && javaType == StringJavaType.class ) {
+				return Row::getString;
+			}
+			if ( jdbcType == DoubleJdbcType.class && javaType == DoubleJavaType.class ) {
+				return Row::getDouble;
+			}
+		}
+		return null;
+	}
 }
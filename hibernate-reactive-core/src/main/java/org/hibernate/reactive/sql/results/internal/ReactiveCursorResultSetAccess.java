@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.sql.results.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.sql.ResultSet;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
+
+/**
+ * A {@link ReactiveDeferredResultSetAccess} that reads the results
+ * of the query from a server-side cursor, one chunk of at most
+ * {@code fetchSize} rows at a time, instead of loading the whole
+ * result set in memory.
+ *
+ * @see ReactiveConnection#selectJdbcCursor(String, Object[], int)
+ */
+public class ReactiveCursorResultSetAccess extends ReactiveDeferredResultSetAccess {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final int fetchSize;
+	private ReactiveConnection.Cursor cursor;
+
+	public ReactiveCursorResultSetAccess(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			JdbcSelectExecutor.StatementCreator statementCreator,
+			int fetchSize) {
+		super( jdbcSelect, jdbcParameterBindings, executionContext, statementCreator, -1 );
+		this.fetchSize = fetchSize;
+	}
+
+	@Override
+	protected CompletionStage<ResultSet> executeSelect(ReactiveConnection connection, Object[] parameters) {
+		return connection.selectJdbcCursor( getFinalSql(), parameters, fetchSize )
+				.thenCompose( openedCursor -> {
+					cursor = openedCursor;
+					return openedCursor.read();
+				} );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> getNextReactiveResultSet() {
+		return cursor != null && cursor.hasMore()
+				? cursor.read().thenApply( this::replaceResultSet )
+				: nullFuture();
+	}
+
+	@Override
+	public void release() {
+		if ( cursor != null ) {
+			final ReactiveConnection.Cursor toClose = cursor;
+			cursor = null;
+			// The close command is queued on the connection,
+			// so there's no need to wait for it here
+			toClose.close().whenComplete( (v, throwable) -> {
+				if ( throwable != null ) {
+					LOG.errorClosingCursor( getFinalSql(), throwable );
+				}
+			} );
+		}
+		super.release();
+	}
+}
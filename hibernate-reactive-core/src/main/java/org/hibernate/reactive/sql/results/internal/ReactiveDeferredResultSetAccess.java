@@ -12,6 +12,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.JDBCException;
+import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
@@ -24,6 +25,7 @@
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.session.ReactiveStatelessSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
@@ -98,6 +100,11 @@ public ResultSet getResultSet() {
 		return resultSet;
 	}
 
+	@Override
+	public ResultSet getResultSetIfAvailable() {
+		return resultSet;
+	}
+
 	@Override
 	public CompletionStage<ResultSet> getReactiveResultSet() {
 		if ( resultSetStage == null ) {
@@ -169,7 +176,7 @@ private CompletionStage<ResultSet> executeQuery() {
 		return completedFuture( logicalConnection )
 				.thenCompose( lg -> {
 					LOG.tracef( "Executing query to retrieve ResultSet : %s", getFinalSql() );
-					Object[] parameters = PreparedStatementAdaptor.bind( super::bindParameters );
+					Object[] parameters = PreparedStatementAdaptor.bind( getFinalSql(), super::bindParameters );
 
 					final SessionEventListenerManager eventListenerManager = executionContext
 							.getSession().getEventListenerManager();
@@ -177,8 +184,7 @@ private CompletionStage<ResultSet> executeQuery() {
 					final long executeStartNanos = executionStartNanos();
 
 					eventListenerManager.jdbcExecuteStatementStart();
-					return connection()
-							.selectJdbc( getFinalSql(), parameters )
+					return executeSelect( isReadOnly() ? connection().readOnly() : connection(), parameters )
 							.thenCompose( this::validateResultSet )
 							.whenComplete( (resultSet, throwable) -> {
 								// FIXME: I don't know if this event makes sense for Vert.x
@@ -196,6 +202,25 @@ private CompletionStage<ResultSet> executeQuery() {
 				.whenComplete( (o, throwable) -> logicalConnection.afterStatement() );
 	}
 
+	/**
+	 * Send the query to the database.
+	 *
+	 * @param connection the connection of the current session
+	 * @param parameters the values of the parameters of the query
+	 */
+	protected CompletionStage<ResultSet> executeSelect(ReactiveConnection connection, Object[] parameters) {
+		return connection.selectJdbc( getFinalSql(), parameters );
+	}
+
+	/**
+	 * Replace the current {@link ResultSet}, for example with the next
+	 * chunk of rows read from a cursor.
+	 */
+	protected ResultSet replaceResultSet(ResultSet resultSet) {
+		resultSetStage = completedFuture( resultSet );
+		return saveResultSet( resultSet );
+	}
+
 	private CompletionStage<ResultSet> validateResultSet(ResultSet resultSet) {
 		try {
 			return resultSet.getMetaData().getColumnCount() == 0
@@ -222,6 +247,22 @@ private ReactiveConnection connection() {
 		return ( (ReactiveConnectionSupplier) executionContext.getSession() ).getReactiveConnection();
 	}
 
+	/**
+	 * A query only reads data if it doesn't lock any row, and if it's
+	 * read-only, or it's executed by a stateless session.
+	 *
+	 * @see ReactiveConnection#readOnly()
+	 */
+	private boolean isReadOnly() {
+		final LockOptions lockOptions = executionContext.getQueryOptions().getLockOptions();
+		if ( lockOptions != null && lockOptions.getLockMode().greaterThan( LockMode.READ ) ) {
+			return false;
+		}
+		// The executor sets the default to the read-only mode of the query, if any
+		return executionContext.getSession() instanceof ReactiveStatelessSession
+				|| executionContext.getSession().getPersistenceContextInternal().isDefaultReadOnly();
+	}
+
 	private <T> CompletionStage<T> convertException(T object, Throwable throwable) {
 		if ( throwable != null ) {
 			Throwable cause = throwable;
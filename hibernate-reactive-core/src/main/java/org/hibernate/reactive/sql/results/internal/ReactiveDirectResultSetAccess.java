@@ -93,4 +93,9 @@ public CompletionStage<JdbcValuesMetadata> resolveJdbcValueMetadata() {
 	public ResultSet getResultSet() {
 		return resultSet;
 	}
+
+	@Override
+	public ResultSet getResultSetIfAvailable() {
+		return resultSet;
+	}
 }
@@ -21,6 +21,8 @@
 
 import jakarta.persistence.EnumType;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
+
 /**
  * @see org.hibernate.sql.results.jdbc.internal.ResultSetAccess
  */
@@ -30,8 +32,30 @@ public interface ReactiveResultSetAccess extends JdbcValuesMetadata {
 
 	CompletionStage<JdbcValuesMetadata> resolveJdbcValueMetadata();
 
+	/**
+	 * Move to the next chunk of results, when the results are read
+	 * using a cursor.
+	 *
+	 * @return the {@link ResultSet} for the next chunk, or {@code null}
+	 *         if there are no more results
+	 */
+	default CompletionStage<ResultSet> getNextReactiveResultSet() {
+		return nullFuture();
+	}
+
 	ResultSet getResultSet();
 
+	/**
+	 * The current {@link ResultSet}, if the query has already been
+	 * executed.
+	 *
+	 * @return the {@link ResultSet}, or {@code null} if it's only
+	 *         available via {@link #getReactiveResultSet()}
+	 */
+	default ResultSet getResultSetIfAvailable() {
+		return null;
+	}
+
 	JdbcServices getJdbcServices();
 
 	void release();
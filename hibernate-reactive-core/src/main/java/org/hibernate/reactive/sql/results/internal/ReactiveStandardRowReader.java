@@ -54,6 +54,9 @@
 
 	private final int assemblerCount;
 
+	// True if there are no initializers and none of the assemblers is reactive
+	private final boolean synchronous;
+
 	public ReactiveStandardRowReader(
 			JdbcValuesMappingResolution jdbcValuesMappingResolution,
 			RowTransformer<R> rowTransformer,
@@ -101,6 +104,20 @@ public ReactiveStandardRowReader(
 			this.resultElementClass = domainResultJavaType.getComponentType();
 			this.componentType = ComponentType.determineComponentType( domainResultJavaType );
 		}
+		this.synchronous = componentType == ComponentType.OBJECT
+				&& resultInitializers.length == 0
+				&& initializers.length == 0
+				&& sortedForResolveInitializers.length == 0
+				&& !hasReactiveAssembler( resultAssemblers );
+	}
+
+	private static boolean hasReactiveAssembler(DomainResultAssembler<?>[] resultAssemblers) {
+		for ( DomainResultAssembler<?> assembler : resultAssemblers ) {
+			if ( assembler instanceof ReactiveDomainResultsAssembler ) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@Override
@@ -113,9 +130,26 @@ public boolean hasCollectionInitializers() {
 		return hasCollectionInitializers;
 	}
 
+	@Override
+	public boolean canReadRowsSynchronously() {
+		return synchronous;
+	}
+
+	/**
+	 * Read the current row without the overhead of a {@link CompletionStage}.
+	 * Only supported when {@link #canReadRowsSynchronously()} is {@code true}.
+	 */
 	@Override
 	public R readRow(RowProcessingState processingState) {
-		throw LOG.nonReactiveMethodCall( "reactiveReadRow" );
+		if ( !synchronous ) {
+			throw LOG.nonReactiveMethodCall( "reactiveReadRow" );
+		}
+		final Object[] resultRow = (Object[]) Array.newInstance( resultElementClass, assemblerCount );
+		for ( int i = 0; i < assemblerCount; i++ ) {
+			resultRow[i] = resultAssemblers[i].assemble( processingState );
+		}
+		afterRow( processingState );
+		return rowTransformer.transformRow( resultRow );
 	}
 
 	@Override
@@ -9,6 +9,7 @@
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
@@ -31,6 +32,7 @@
 import static org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer.UniqueSemantic.ASSERT;
 import static org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer.UniqueSemantic.FILTER;
 import static org.hibernate.reactive.util.impl.CompletionStages.falseFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.isCompletedNormally;
 import static org.hibernate.reactive.util.impl.CompletionStages.whileLoop;
 
 /**
@@ -82,27 +84,36 @@ public CompletionStage<List<R>> consume(
 						? new EntityResult<>( domainResultJavaType )
 						: new Results<>( domainResultJavaType );
 
-		Supplier<CompletionStage<Boolean>> addToResultsSupplier = addToResultsSupplier(
-				results,
-				rowReader,
-				rowProcessingState,
-				processingOptions,
-				isEntityResultType
-		);
+		final Function<R, Boolean> addToResults = addToResultsFunction( results, rowReader, isEntityResultType );
+		final Supplier<CompletionStage<Boolean>> addToResultsSupplier = () -> rowReader
+				.reactiveReadRow( rowProcessingState, processingOptions )
+				.thenApply( addToResults );
 		final int[] readRows = {0};
-		return whileLoop( () -> rowProcessingState.next()
-				.thenCompose( hasNext -> {
-					if ( hasNext ) {
-						return addToResultsSupplier.get()
-								.thenApply( added -> {
-									rowProcessingState.finishRowProcessing( added );
-									readRows[0]++;
-									return true;
-								} );
-
+		return whileLoop( () -> {
+					// Fast path: as long as the rows are available and can be read
+					// without waiting, we don't need to create a stage for each one
+					while ( rowProcessingState.nextIfAvailable() ) {
+						if ( rowReader.canReadRowsSynchronously() ) {
+							finishRowProcessing( rowProcessingState, addToResults.apply( rowReader.readRow( rowProcessingState ) ), readRows );
+						}
+						else {
+							final CompletionStage<Boolean> addedStage = addToResultsSupplier.get();
+							if ( !isCompletedNormally( addedStage ) ) {
+								// The first row that actually needs to wait
+								return addedStage.thenApply( added -> finishRowProcessing( rowProcessingState, added, readRows ) );
+							}
+							finishRowProcessing( rowProcessingState, addedStage.toCompletableFuture().join(), readRows );
+						}
 					}
-					return falseFuture();
-				} ) )
+					return rowProcessingState.next()
+							.thenCompose( hasNext -> {
+								if ( hasNext ) {
+									return addToResultsSupplier.get()
+											.thenApply( added -> finishRowProcessing( rowProcessingState, added, readRows ) );
+								}
+								return falseFuture();
+							} );
+				} )
 				.thenCompose( v -> finishUp( rowReader, rowProcessingState, jdbcValuesSourceProcessingState, results, readRows, queryOptions ) )
 				.handle( CompletionStages::handle )
 				.thenCompose( handler -> {
@@ -111,6 +122,15 @@ public CompletionStage<List<R>> consume(
 				} );
 	}
 
+	/**
+	 * @return always {@code true}, so that the loop reading the rows continues
+	 */
+	private static boolean finishRowProcessing(ReactiveRowProcessingState rowProcessingState, boolean added, int[] readRows) {
+		rowProcessingState.finishRowProcessing( added );
+		readRows[0]++;
+		return true;
+	}
+
 	private CompletionStage<List<R>> finishUp(
 			ReactiveRowReader<R> rowReader,
 			ReactiveRowProcessingState rowProcessingState,
@@ -144,32 +164,23 @@ private static CompletionStage<Void> finishUp(
 	}
 
 	/**
-	 * The boolean in the CompletionStage is true if the element has been added to the results
+	 * The function returns true if the element has been added to the results
 	 */
-	private Supplier<CompletionStage<Boolean>> addToResultsSupplier(
+	private Function<R, Boolean> addToResultsFunction(
 			ReactiveListResultsConsumer.Results<R> results,
 			ReactiveRowReader<R> rowReader,
-			ReactiveRowProcessingState rowProcessingState,
-			JdbcValuesSourceProcessingOptions processingOptions,
 			boolean isEntityResultType) {
 		if ( this.uniqueSemantic == FILTER
 				|| this.uniqueSemantic == ASSERT && rowReader.hasCollectionInitializers()
 				|| this.uniqueSemantic == ALLOW && isEntityResultType ) {
-			return () -> rowReader
-					.reactiveReadRow( rowProcessingState, processingOptions )
-					.thenApply( results::addUnique );
+			return results::addUnique;
 		}
 
 		if ( this.uniqueSemantic == ASSERT ) {
-			return () -> rowReader
-					.reactiveReadRow( rowProcessingState, processingOptions )
-					.thenApply( results::addUnique )
-					.thenApply( ReactiveListResultsConsumer::validateUniqueResult );
+			return row -> validateUniqueResult( results.addUnique( row ) );
 		}
 
-		return () -> rowReader
-				.reactiveReadRow( rowProcessingState, processingOptions )
-				.thenApply( results::add );
+		return results::add;
 	}
 
 
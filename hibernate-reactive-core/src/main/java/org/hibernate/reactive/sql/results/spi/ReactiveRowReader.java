@@ -8,9 +8,19 @@
 
 import org.hibernate.reactive.sql.exec.spi.ReactiveRowProcessingState;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.sql.results.spi.RowReader;
 
 public interface ReactiveRowReader<R> extends RowReader<R> {
 
 	CompletionStage<R> reactiveReadRow(ReactiveRowProcessingState processingState, JdbcValuesSourceProcessingOptions options);
+
+	/**
+	 * Whether reading a row never requires an asynchronous operation,
+	 * for example when the query only selects scalar values.
+	 * In this case, rows can be read with {@link #readRow(RowProcessingState)}.
+	 */
+	default boolean canReadRowsSynchronously() {
+		return false;
+	}
 }
@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.sql.results.spi;
+
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
+import org.hibernate.reactive.sql.exec.spi.ReactiveRowProcessingState;
+import org.hibernate.reactive.sql.exec.spi.ReactiveValuesResultSet;
+import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.falseFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.whileLoop;
+
+/**
+ * A {@link ReactiveResultsConsumer} that passes each row to a
+ * {@link RowSink} as soon as it has been read, instead of
+ * collecting the results in a list. The next row isn't read
+ * until the stage returned by the sink completes, so that the
+ * consumer of the rows can apply backpressure.
+ * <p>
+ * The query is executed using a server-side cursor that reads
+ * at most {@link #getFetchSize() fetchSize} rows at a time.
+ * The entities read by a stateful session are still added to its
+ * persistence context, so the memory used is only bounded for a
+ * stateless session.
+ *
+ * @see org.hibernate.query.spi.ScrollableResultsImplementor
+ * @see org.hibernate.reactive.sql.results.internal.ReactiveCursorResultSetAccess
+ */
+@Incubating
+public class ReactiveStreamResultsConsumer<R> implements ReactiveResultsConsumer<Void, R> {
+
+	/**
+	 * Receives the rows of the query, one at a time.
+	 */
+	@FunctionalInterface
+	public interface RowSink<R> {
+		/**
+		 * @param row the current row
+		 * @return a stage that completes when the sink is ready to
+		 *         accept the next row
+		 */
+		CompletionStage<Void> accept(R row);
+	}
+
+	private final int fetchSize;
+	private final RowSink<? super R> sink;
+
+	public ReactiveStreamResultsConsumer(int fetchSize, RowSink<? super R> sink) {
+		this.fetchSize = fetchSize;
+		this.sink = sink;
+	}
+
+	/**
+	 * @return the maximum number of rows to read with a single round trip
+	 */
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
+	@Override
+	public CompletionStage<Void> consume(
+			ReactiveValuesResultSet jdbcValues,
+			SharedSessionContractImplementor session,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			ReactiveRowProcessingState rowProcessingState,
+			ReactiveRowReader<R> rowReader) {
+		return whileLoop( () -> rowProcessingState.next()
+				.thenCompose( hasNext -> hasNext
+						? readRow( session, processingOptions, jdbcValuesSourceProcessingState, rowProcessingState, rowReader )
+								.thenCompose( sink::accept )
+								.thenApply( v -> true )
+						: falseFuture()
+				) )
+				.thenAccept( v -> rowReader.finishUp( rowProcessingState ) )
+				.handle( CompletionStages::handle )
+				.thenCompose( handler -> {
+					jdbcValues.finishUp( session );
+					return handler.getResultAsCompletionStage();
+				} );
+	}
+
+	/**
+	 * Read a single row, the same way {@code ScrollableResultsImpl}
+	 * does it: the persistence context only keeps track of the entities
+	 * loaded by the current row.
+	 */
+	private static <R> CompletionStage<R> readRow(
+			SharedSessionContractImplementor session,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			ReactiveRowProcessingState rowProcessingState,
+			ReactiveRowReader<R> rowReader) {
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		persistenceContext.getLoadContexts().register( jdbcValuesSourceProcessingState );
+		persistenceContext.beforeLoad();
+		return rowReader.reactiveReadRow( rowProcessingState, processingOptions )
+				.thenCompose( row -> {
+					rowProcessingState.finishRowProcessing( true );
+					jdbcValuesSourceProcessingState.finishLoadingCollections();
+					return ( (ReactivePersistenceContextAdapter) session.getPersistenceContextInternal() )
+							.reactivePostLoad( jdbcValuesSourceProcessingState, null )
+							.thenApply( v -> row );
+				} )
+				.whenComplete( (row, throwable) -> {
+					persistenceContext.afterLoad();
+					persistenceContext.getLoadContexts().deregister( jdbcValuesSourceProcessingState );
+				} );
+	}
+
+	@Override
+	public boolean canResultsBeCached() {
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return ReactiveStreamResultsConsumer.class.getSimpleName() + "(" + fetchSize + ")";
+	}
+}
@@ -6,8 +6,10 @@
 
 import jakarta.persistence.TypedQueryReference;
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -218,6 +220,47 @@ interface AbstractQuery {
 		 */
 		CompletionStage<List<R>> getResultList();
 
+		/**
+		 * Execute this query, returning the query results as a
+		 * {@link Flow.Publisher} that emits each row as soon as it has
+		 * been read. The rows are read from a server-side cursor, a
+		 * chunk at a time, as they are requested by the subscriber, so
+		 * that the whole result set never needs to be held in memory.
+		 * <p>
+		 * The size of the chunks is the value of
+		 * {@value org.hibernate.cfg.AvailableSettings#STATEMENT_FETCH_SIZE},
+		 * if set, or 100 rows.
+		 * <p>
+		 * The publisher accepts a single subscriber. The session must
+		 * not be used for other operations until the publisher
+		 * completes or the subscription is cancelled. On PostgreSQL,
+		 * the query must be executed inside a transaction. Queries
+		 * with collection fetches cannot be streamed.
+		 * <p>
+		 * Only a {@link StatelessSession} keeps the memory used by the
+		 * stream bounded. A {@link Session} keeps every entity it has
+		 * read in its persistence context, until it is cleared or closed,
+		 * so it eventually holds the whole result set.
+		 *
+		 * @return the resulting rows as a {@link Flow.Publisher}
+		 *
+		 * @see jakarta.persistence.Query#getResultStream()
+		 */
+		@Incubating
+		Flow.Publisher<R> getResultStream();
+
+		/**
+		 * Execute this query, returning the query results as a
+		 * {@link Flow.Publisher}, reading at most the given number of
+		 * rows from the cursor with each round trip to the database.
+		 *
+		 * @param fetchSize the number of rows to read with each round trip
+		 *
+		 * @see #getResultStream()
+		 */
+		@Incubating
+		Flow.Publisher<R> getResultStream(int fetchSize);
+
 		/**
 		 * Set the read-only/modifiable mode for entities and proxies
 		 * loaded by this Query. This setting overrides the default setting
@@ -804,6 +847,53 @@ sealed interface QueryProducer extends Closeable permits Session, StatelessSessi
 		 * @since 3
 		 */
 		CriteriaBuilder getCriteriaBuilder();
+
+		/**
+		 * Create a PostgreSQL large object, and write to it the chunks
+		 * emitted by the given {@link Flow.Publisher}. The next chunk is
+		 * requested only after the previous one has been written, so
+		 * the whole content is never held in memory.
+		 * <p>
+		 * The large object is written with the connection of this
+		 * session, as part of its transaction, if any. If the content
+		 * can't be written, the large object is deleted.
+		 * <p>
+		 * An entity refers to a large object by storing the returned
+		 * OID in a column of type {@code oid} or {@code bigint}.
+		 *
+		 * @param content the chunks of the content
+		 *
+		 * @return the OID of the new large object
+		 *
+		 * @throws UnsupportedOperationException if the database is not PostgreSQL
+		 */
+		@Incubating
+		CompletionStage<Long> createLargeObject(Flow.Publisher<byte[]> content);
+
+		/**
+		 * Read the content of a PostgreSQL large object, a chunk of the
+		 * given size at a time. A chunk is read from the database only
+		 * when it has been requested by the subscriber.
+		 *
+		 * @param oid the OID of the large object
+		 * @param chunkSize the maximum number of bytes in a chunk
+		 *
+		 * @return the chunks of the content
+		 *
+		 * @throws UnsupportedOperationException if the database is not PostgreSQL
+		 */
+		@Incubating
+		Flow.Publisher<byte[]> readLargeObject(long oid, int chunkSize);
+
+		/**
+		 * Delete a PostgreSQL large object.
+		 *
+		 * @param oid the OID of the large object
+		 *
+		 * @throws UnsupportedOperationException if the database is not PostgreSQL
+		 */
+		@Incubating
+		CompletionStage<Void> deleteLargeObject(long oid);
 	}
 
 	/**
@@ -1202,6 +1292,24 @@ default CompletionStage<Void> lock(Object entity, LockModeType lockModeType) {
 		 */
 		<E,T> CompletionStage<T> fetch(E entity, Attribute<E,T> field);
 
+		/**
+		 * Asynchronously fetch many associations configured for lazy loading.
+		 * Uninitialized proxies are grouped by entity type and uninitialized
+		 * collections by role, and each group is fetched with a single query,
+		 * where the dialect supports array parameters, or with a query per
+		 * chunk of identifiers otherwise.
+		 *
+		 * <pre>
+		 * {@code session.fetchAll(books.stream().map(Book::getAuthor).toList())}
+		 * </pre>
+		 *
+		 * @param associations lazy-loaded associations, or proxies
+		 *
+		 * @see #fetch(Object)
+		 * @see Stage#fetchAll(Collection)
+		 */
+		CompletionStage<Void> fetchAll(Collection<?> associations);
+
 		/**
 		 * Asynchronously fetch an association that's configured for lazy loading,
 		 * and unwrap the underlying entity implementation from any proxy.
@@ -1653,6 +1761,22 @@ default <T> CompletionStage<T> get(Class<T> entityClass, Object id, LockModeType
 		 */
 		CompletionStage<Void> insertMultiple(List<?> entities);
 
+		/**
+		 * Insert the entities emitted by the given {@link Flow.Publisher}, in
+		 * batches of the given size. The next batch is requested from the
+		 * publisher only after the previous batch has been inserted, so that
+		 * no more than one batch of entities is held in memory at any time.
+		 * <p>
+		 * Each batch can be sent to the database as a single statement by
+		 * enabling {@value org.hibernate.reactive.provider.Settings#MULTI_ROW_INSERT}.
+		 *
+		 * @param entities a stream of new transient instances
+		 * @param batchSize the batch size
+		 *
+		 * @see org.hibernate.StatelessSession#insert(Object)
+		 */
+		CompletionStage<Void> insertMultiple(Flow.Publisher<?> entities, int batchSize);
+
 		/**
 		 * Delete a row.
 		 *
@@ -2409,6 +2533,71 @@ static <T> CompletionStage<T> fetch(T association) {
 			return CompletionStages.nullFuture();
 		}
 
+		final SharedSessionContractImplementor session = lazySession( association );
+		if ( session == null ) {
+			return CompletionStages.completedFuture( association );
+		}
+		return ReactiveQueryExecutorLookup.extract( session ).reactiveFetch( association, false );
+	}
+
+	/**
+	 * Asynchronously fetch many associations configured for lazy loading.
+	 * Proxies of the same entity type, and collections with the same role,
+	 * are fetched together, using a single query when possible.
+	 *
+	 * <pre>
+	 * {@code Stage.fetchAll(books.stream().map(Book::getAuthor).toList())}
+	 * </pre>
+	 *
+	 * @param associations lazy-loaded associations belonging to the same session
+	 *
+	 * @return a {@link CompletionStage} that fails with an
+	 *         {@link IllegalArgumentException} if the associations belong
+	 *         to different sessions
+	 *
+	 * @see Session#fetchAll(Collection)
+	 */
+	static CompletionStage<Void> fetchAll(Collection<?> associations) {
+		final SharedSessionContractImplementor session;
+		try {
+			session = fetchAllSession( associations );
+		}
+		catch (IllegalArgumentException e) {
+			return CompletionStages.failedFuture( e );
+		}
+		return session == null
+				? CompletionStages.voidFuture()
+				: ReactiveQueryExecutorLookup.extract( session ).reactiveFetchAll( associations );
+	}
+
+	/**
+	 * @return the session of the lazy associations, or {@code null} if
+	 *         none of them is a lazy association
+	 *
+	 * @throws IllegalArgumentException if the lazy associations belong
+	 *         to different sessions
+	 */
+	private static SharedSessionContractImplementor fetchAllSession(Collection<?> associations) {
+		SharedSessionContractImplementor result = null;
+		for ( Object association : associations ) {
+			final SharedSessionContractImplementor session = lazySession( association );
+			if ( session != null ) {
+				if ( result == null ) {
+					result = session;
+				}
+				else if ( result != session ) {
+					throw LoggerFactory.make( Log.class, MethodHandles.lookup() ).fetchAllWithDifferentSessions();
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the session of a lazy association, or {@code null} if it
+	 *         isn't a lazy association
+	 */
+	private static SharedSessionContractImplementor lazySession(Object association) {
 		final SharedSessionContractImplementor session;
 		if ( association instanceof HibernateProxy proxy ) {
 			session = proxy.getHibernateLazyInitializer().getSession();
@@ -2423,15 +2612,15 @@ else if ( isPersistentAttributeInterceptable( association ) ) {
 				session = lazinessInterceptor.getLinkedSession();
 			}
 			else {
-				return CompletionStages.completedFuture( association );
+				return null;
 			}
 		}
 		else {
-			return CompletionStages.completedFuture( association );
+			return null;
 		}
 		if ( session == null ) {
 			throw LoggerFactory.make( Log.class, MethodHandles.lookup() ).sessionClosedLazyInitializationException();
 		}
-		return ReactiveQueryExecutorLookup.extract( session ).reactiveFetch( association, false );
+		return session;
 	}
 }
@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stage.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+import org.hibernate.reactive.session.ReactiveStatelessSession;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Inserts the entities emitted by a {@link Flow.Publisher} in batches.
+ * <p>
+ * A batch is requested from the publisher only after the previous batch
+ * has been inserted, so that only one batch is held in memory. The batches
+ * are inserted on the Vert.x context of the session, even when the
+ * publisher emits the entities from another thread.
+ *
+ * @see org.hibernate.reactive.stage.Stage.StatelessSession#insertMultiple(Flow.Publisher, int)
+ */
+class InsertBatchSubscriber implements Flow.Subscriber<Object> {
+
+	private final ReactiveStatelessSession session;
+	private final int batchSize;
+	private final CompletableFuture<Void> result = new CompletableFuture<>();
+	// The context in which the session is used
+	private final Context context = Vertx.currentContext();
+
+	// The signals of the publisher are serialized, so these fields
+	// are never updated concurrently
+	private Flow.Subscription subscription;
+	private List<Object> batch;
+	// Completes when the last batch sent to the session has been inserted
+	private CompletionStage<Void> inserted = voidFuture();
+
+	InsertBatchSubscriber(ReactiveStatelessSession session, int batchSize) {
+		this.session = session;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * @return a stage that completes when all the entities have been inserted
+	 */
+	CompletionStage<Void> getResult() {
+		return result;
+	}
+
+	@Override
+	public void onSubscribe(Flow.Subscription subscription) {
+		if ( this.subscription != null ) {
+			subscription.cancel();
+			return;
+		}
+		this.subscription = subscription;
+		batch = new ArrayList<>( batchSize );
+		subscription.request( batchSize );
+	}
+
+	@Override
+	public void onNext(Object entity) {
+		batch.add( entity );
+		if ( batch.size() == batchSize ) {
+			inserted = insert( batch )
+					.whenComplete( (v, throwable) -> {
+						if ( throwable == null ) {
+							subscription.request( batchSize );
+						}
+						else {
+							subscription.cancel();
+							fail( throwable );
+						}
+					} );
+			batch = new ArrayList<>( batchSize );
+		}
+	}
+
+	@Override
+	public void onError(Throwable throwable) {
+		// Don't leave an insert running after the result has completed
+		inserted.whenComplete( (v, t) -> fail( throwable ) );
+	}
+
+	@Override
+	public void onComplete() {
+		final List<Object> remaining = batch;
+		inserted
+				.thenCompose( v -> remaining.isEmpty() ? voidFuture() : insert( remaining ) )
+				.whenComplete( (v, throwable) -> {
+					if ( throwable == null ) {
+						result.complete( null );
+					}
+					else {
+						fail( throwable );
+					}
+				} );
+	}
+
+	private void fail(Throwable throwable) {
+		result.completeExceptionally( throwable instanceof CompletionException && throwable.getCause() != null
+				? throwable.getCause()
+				: throwable );
+	}
+
+	private CompletionStage<Void> insert(List<Object> entities) {
+		final Object[] array = entities.toArray();
+		if ( context == null || context == Vertx.currentContext() ) {
+			return session.reactiveInsertAll( batchSize, array );
+		}
+		final CompletableFuture<Void> future = new CompletableFuture<>();
+		context.runOnContext( ignored -> session
+				.reactiveInsertAll( batchSize, array )
+				.whenComplete( (v, throwable) -> {
+					if ( throwable == null ) {
+						future.complete( null );
+					}
+					else {
+						future.completeExceptionally( throwable );
+					}
+				} ) );
+		return future;
+	}
+}
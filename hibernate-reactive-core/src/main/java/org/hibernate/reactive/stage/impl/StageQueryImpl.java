@@ -6,6 +6,7 @@
 
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -14,6 +15,7 @@
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.query.Page;
 import org.hibernate.reactive.query.ReactiveQuery;
+import org.hibernate.reactive.query.internal.ReactiveResultsPublisher;
 import org.hibernate.reactive.stage.Stage;
 import org.hibernate.reactive.stage.Stage.Query;
 
@@ -46,6 +48,16 @@ public CompletionStage<List<R>> getResultList() {
 		return delegate.getReactiveResultList();
 	}
 
+	@Override
+	public Flow.Publisher<R> getResultStream() {
+		return getResultStream( 0 );
+	}
+
+	@Override
+	public Flow.Publisher<R> getResultStream(int fetchSize) {
+		return new ReactiveResultsPublisher<R>( sink -> delegate.reactiveStream( fetchSize, sink ) );
+	}
+
 	@Override
 	public FlushMode getFlushMode() {
 		return delegate.getHibernateFlushMode();
@@ -6,6 +6,7 @@
 
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -14,6 +15,7 @@
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.query.Page;
 import org.hibernate.reactive.query.ReactiveSelectionQuery;
+import org.hibernate.reactive.query.internal.ReactiveResultsPublisher;
 import org.hibernate.reactive.stage.Stage.SelectionQuery;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -45,6 +47,16 @@ public CompletionStage<List<T>> getResultList() {
 		return delegate.getReactiveResultList();
 	}
 
+	@Override
+	public Flow.Publisher<T> getResultStream() {
+		return getResultStream( 0 );
+	}
+
+	@Override
+	public Flow.Publisher<T> getResultStream(int fetchSize) {
+		return new ReactiveResultsPublisher<T>( sink -> delegate.reactiveStream( fetchSize, sink ) );
+	}
+
 	@Override
 	public FlushMode getFlushMode() {
 		return delegate.getHibernateFlushMode();
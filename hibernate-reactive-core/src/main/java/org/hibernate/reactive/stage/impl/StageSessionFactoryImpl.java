@@ -12,12 +12,15 @@
 import java.util.function.Supplier;
 
 import org.hibernate.Cache;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.creation.internal.SessionBuilderImpl;
 import org.hibernate.engine.creation.internal.SessionCreationOptions;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.internal.SessionImpl;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.reactive.cache.impl.ReactiveSecondLevelCache;
 import org.hibernate.reactive.common.spi.Implementor;
 import org.hibernate.reactive.context.Context;
 import org.hibernate.reactive.context.impl.BaseKey;
@@ -26,6 +29,7 @@
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.session.ReactiveStatelessSession;
 import org.hibernate.reactive.session.impl.ReactiveSessionImpl;
 import org.hibernate.reactive.session.impl.ReactiveStatelessSessionImpl;
@@ -50,6 +54,7 @@ public class StageSessionFactoryImpl implements Stage.SessionFactory, Implemento
 
 	private final SessionFactoryImpl delegate;
 	private final ReactiveConnectionPool connectionPool;
+	private final boolean lazyConnection;
 	private final Context context;
 	private final BaseKey<Stage.Session> contextKeyForSession;
 	private final BaseKey<Stage.StatelessSession> contextKeyForStatelessSession;
@@ -58,6 +63,8 @@ public StageSessionFactoryImpl(SessionFactoryImpl delegate) {
 		this.delegate = delegate;
 		context = delegate.getServiceRegistry().getService( Context.class );
 		connectionPool = delegate.getServiceRegistry().getService( ReactiveConnectionPool.class );
+		lazyConnection = delegate.getServiceRegistry().requireService( ConfigurationService.class )
+				.getSetting( Settings.LAZY_CONNECTION, StandardConverters.BOOLEAN, false );
 		contextKeyForSession = new BaseKey<>( Stage.Session.class, delegate.getUuid() );
 		contextKeyForStatelessSession = new BaseKey<>( Stage.StatelessSession.class, delegate.getUuid() );
 	}
@@ -177,6 +184,10 @@ public Object getTenantIdentifierValue() {
 	}
 
 	private CompletionStage<ReactiveConnection> connection(String tenantId) {
+		if ( lazyConnection ) {
+			// The connection is obtained from the pool when the first statement is executed
+			return completedFuture( connectionPool.getReleasingProxyConnection( tenantId ) );
+		}
 		return tenantId == null
 				? connectionPool.getConnection()
 				: connectionPool.getConnection( tenantId );
@@ -309,7 +320,7 @@ public Metamodel getMetamodel() {
 
 	@Override
 	public Cache getCache() {
-		return delegate.getCache();
+		return ReactiveSecondLevelCache.cache( delegate );
 	}
 
 	@Override
@@ -23,6 +23,7 @@
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.reactive.session.ReactiveQueryProducer;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.session.impl.LargeObjects;
 import org.hibernate.reactive.stage.Stage;
 import org.hibernate.reactive.stage.Stage.MutationQuery;
 import org.hibernate.reactive.stage.Stage.Query;
@@ -40,8 +41,10 @@
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.CriteriaUpdate;
 import jakarta.persistence.metamodel.Attribute;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.function.Function;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.applyToAll;
@@ -76,6 +79,11 @@ public <E,T> CompletionStage<T> fetch(E entity, Attribute<E,T> field) {
 		return delegate.reactiveFetch( entity, field );
 	}
 
+	@Override
+	public CompletionStage<Void> fetchAll(Collection<?> associations) {
+		return delegate.reactiveFetchAll( associations );
+	}
+
 	@Override
 	public <T> CompletionStage<T> unproxy(T association) {
 		return delegate.reactiveFetch( association, true );
@@ -181,7 +189,7 @@ public CompletionStage<Void> persist(String entityName, Object entity) {
 
 	@Override
 	public CompletionStage<Void> persist(Object... entity) {
-		return applyToAll( delegate::reactivePersist, entity );
+		return delegate.reactivePersistAll( entity );
 	}
 
 	@Override
@@ -496,6 +504,21 @@ public CriteriaBuilder getCriteriaBuilder() {
 		return getFactory().getCriteriaBuilder();
 	}
 
+	@Override
+	public CompletionStage<Long> createLargeObject(Flow.Publisher<byte[]> content) {
+		return LargeObjects.create( delegate, content );
+	}
+
+	@Override
+	public Flow.Publisher<byte[]> readLargeObject(long oid, int chunkSize) {
+		return LargeObjects.read( delegate, oid, chunkSize );
+	}
+
+	@Override
+	public CompletionStage<Void> deleteLargeObject(long oid) {
+		return LargeObjects.delete( delegate, oid );
+	}
+
 	@Override
 	public <T> ResultSetMapping<T> getResultSetMapping(Class<T> resultType, String mappingName) {
 		return delegate.getResultSetMapping( resultType, mappingName );
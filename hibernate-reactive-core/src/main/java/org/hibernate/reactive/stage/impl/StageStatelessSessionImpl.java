@@ -12,6 +12,7 @@
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.query.ReactiveQuery;
 import org.hibernate.reactive.session.ReactiveStatelessSession;
+import org.hibernate.reactive.session.impl.LargeObjects;
 import org.hibernate.reactive.stage.Stage;
 import org.hibernate.reactive.stage.Stage.MutationQuery;
 import org.hibernate.reactive.stage.Stage.Query;
@@ -26,8 +27,10 @@
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.function.Function;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
@@ -83,6 +86,16 @@ public CompletionStage<Void> insertMultiple(List<?> entities) {
 		return delegate.reactiveInsertAll( entities.size(), entities.toArray() );
 	}
 
+	@Override
+	public CompletionStage<Void> insertMultiple(Flow.Publisher<?> entities, int batchSize) {
+		if ( batchSize < 1 ) {
+			return failedFuture( new IllegalArgumentException( "Batch size must be positive: " + batchSize ) );
+		}
+		final InsertBatchSubscriber subscriber = new InsertBatchSubscriber( delegate, batchSize );
+		entities.subscribe( subscriber );
+		return subscriber.getResult();
+	}
+
 	@Override
 	public CompletionStage<Void> delete(Object entity) {
 		return delegate.reactiveDelete( entity );
@@ -217,6 +230,21 @@ public CriteriaBuilder getCriteriaBuilder() {
 		return getFactory().getCriteriaBuilder();
 	}
 
+	@Override
+	public CompletionStage<Long> createLargeObject(Flow.Publisher<byte[]> content) {
+		return LargeObjects.create( delegate, content );
+	}
+
+	@Override
+	public Flow.Publisher<byte[]> readLargeObject(long oid, int chunkSize) {
+		return LargeObjects.read( delegate, oid, chunkSize );
+	}
+
+	@Override
+	public CompletionStage<Void> deleteLargeObject(long oid) {
+		return LargeObjects.delete( delegate, oid );
+	}
+
 	private Transaction<?> currentTransaction;
 
 	@Override
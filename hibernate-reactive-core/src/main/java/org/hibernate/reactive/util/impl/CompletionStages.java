@@ -110,6 +110,16 @@ public static <T> CompletionStage<T> supplyStage(Supplier<CompletionStage<T>> su
 				.thenCompose( v -> supplier.get() );
 	}
 
+	/**
+	 * @return {@code true} if the stage has already completed without
+	 *         errors, and its result can be read without blocking
+	 */
+	public static boolean isCompletedNormally(CompletionStage<?> stage) {
+		return stage instanceof CompletableFuture<?> future
+				&& future.isDone()
+				&& !future.isCompletedExceptionally();
+	}
+
 	public static <T> CompletionStage<T> failedFuture(Throwable t) {
 		CompletableFuture<T> ret = new CompletableFuture<>();
 		ret.completeExceptionally( t );
@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.pool.impl.DefaultAdaptiveBatchSizing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the search of the batch size with the highest throughput
+ * by {@link DefaultAdaptiveBatchSizing}.
+ */
+public class AdaptiveBatchSizingTest {
+
+	private static final String SQL = "insert into Pig (name, id) values (?, ?)";
+
+	@Test
+	public void testInitialSizeIsTheConfiguredSize() {
+		DefaultAdaptiveBatchSizing sizing = new DefaultAdaptiveBatchSizing( 2, 100 );
+		assertThat( sizing.batchSize( SQL, 10 ) ).isEqualTo( 10 );
+		assertThat( sizing.getBatchSizes() ).containsEntry( SQL, 10 );
+	}
+
+	@Test
+	public void testInitialSizeWithinBounds() {
+		DefaultAdaptiveBatchSizing sizing = new DefaultAdaptiveBatchSizing( 20, 100 );
+		assertThat( sizing.batchSize( SQL, 10 ) ).isEqualTo( 20 );
+		assertThat( sizing.batchSize( "delete from Pig where id = ?", 500 ) ).isEqualTo( 100 );
+	}
+
+	@Test
+	public void testPartialBatchesAreIgnored() {
+		DefaultAdaptiveBatchSizing sizing = new DefaultAdaptiveBatchSizing( 2, 100 );
+		int size = sizing.batchSize( SQL, 10 );
+		for ( int i = 0; i < 100; i++ ) {
+			sizing.batchExecuted( SQL, size - 1, TimeUnit.MILLISECONDS.toNanos( 1 ) );
+		}
+		assertThat( sizing.batchSize( SQL, 10 ) ).isEqualTo( size );
+	}
+
+	@Test
+	public void testSizeConvergesToBestThroughput() {
+		DefaultAdaptiveBatchSizing sizing = new DefaultAdaptiveBatchSizing( 2, 1000 );
+		// The throughput grows with the size of the batch up to 100 rows,
+		// then each additional row costs much more
+		for ( int i = 0; i < 400; i++ ) {
+			int size = sizing.batchSize( SQL, 10 );
+			long micros = size <= 100 ? 1000 + 10L * size : 2000 + 100L * ( size - 100 );
+			sizing.batchExecuted( SQL, size, TimeUnit.MICROSECONDS.toNanos( micros ) );
+		}
+		assertThat( sizing.batchSize( SQL, 10 ) ).isBetween( 40, 250 );
+	}
+
+	@Test
+	public void testSizeStaysWithinBounds() {
+		DefaultAdaptiveBatchSizing sizing = new DefaultAdaptiveBatchSizing( 2, 50 );
+		// The throughput always grows with the size of the batch
+		for ( int i = 0; i < 400; i++ ) {
+			int size = sizing.batchSize( SQL, 10 );
+			sizing.batchExecuted( SQL, size, TimeUnit.MILLISECONDS.toNanos( 1 ) );
+		}
+		assertThat( sizing.batchSize( SQL, 10 ) ).isLessThanOrEqualTo( 50 );
+	}
+}
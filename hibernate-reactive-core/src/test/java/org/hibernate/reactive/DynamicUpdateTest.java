@@ -66,6 +66,45 @@ public void test(VertxTestContext context) {
 		);
 	}
 
+	@Test
+	public void testSameShapeWithDifferentValues(VertxTestContext context) {
+		Record first = new Record();
+		first.text = "first";
+		first.number = 1.0;
+		Record second = new Record();
+		second.text = "second";
+		second.moreText = "more text";
+		test(
+				context,
+				getMutinySessionFactory()
+						.withTransaction( session -> session.persistAll( first, second ) )
+						// The updates have the same dirty attributes, but different old values
+						.chain( () -> getMutinySessionFactory()
+								.withTransaction( session -> session.find( Record.class, first.id )
+										.invoke( result -> result.moreText = "first more text" )
+										.chain( () -> session.find( Record.class, second.id ) )
+										.invoke( result -> result.moreText = "second more text" )
+								) )
+						// Set a value to null, and then update the same attribute again
+						.chain( () -> getMutinySessionFactory()
+								.withTransaction( session -> session.find( Record.class, first.id )
+										.invoke( result -> result.number = null )
+								) )
+						.chain( () -> getMutinySessionFactory()
+								.withTransaction( session -> session.find( Record.class, first.id )
+										.invoke( result -> result.number = 2.0 )
+								) )
+						.chain( () -> getMutinySessionFactory()
+								.withSession( session -> session.find( Record.class, first.id, second.id ) )
+						)
+						.invoke( results -> {
+							assertEquals( "first more text", results.get( 0 ).moreText );
+							assertEquals( 2.0, results.get( 0 ).number );
+							assertEquals( "second more text", results.get( 1 ).moreText );
+						} )
+		);
+	}
+
 	@Entity(name = "Record")
 	@Table(name = "BigRecord")
 	@DynamicInsert
@@ -0,0 +1,237 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.testing.ReactiveAssertions.assertThrown;
+
+/**
+ * Test that {@link Mutiny.Session#fetchAll(Collection)} initializes
+ * the proxies of the same entity, and the collections with the same
+ * role, with a single query.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class FetchAllTest extends BaseReactiveTest {
+
+	private static SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Novel.class, Publisher.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		sqlTracker = new SqlStatementTracker( FetchAllTest::isSelectQuery, configuration.getProperties() );
+		return configuration;
+	}
+
+	private static boolean isSelectQuery(String s) {
+		return s.toLowerCase().startsWith( "select" );
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		final List<Object> entities = new ArrayList<>();
+		for ( int i = 1; i <= 3; i++ ) {
+			Publisher publisher = new Publisher( i, "Publisher " + i );
+			entities.add( publisher );
+			entities.add( new Novel( i * 10, "Novel " + i * 10, publisher ) );
+			entities.add( new Novel( i * 10 + 1, "Novel " + ( i * 10 + 1 ), publisher ) );
+		}
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( entities.toArray() ) ) );
+	}
+
+	@Test
+	public void testFetchAllProxies(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s
+						.createSelectionQuery( "from Novel", Novel.class )
+						.getResultList()
+						.chain( novels -> {
+							final List<Publisher> publishers = novels.stream().map( Novel::getPublisher ).toList();
+							assertThat( publishers ).noneMatch( Hibernate::isInitialized );
+							sqlTracker.clear();
+							return s.fetchAll( publishers )
+									.invoke( () -> {
+										assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+										assertThat( publishers ).allMatch( Hibernate::isInitialized );
+										assertThat( publishers )
+												.extracting( Publisher::getName )
+												.containsOnly( "Publisher 1", "Publisher 2", "Publisher 3" );
+									} );
+						} )
+				)
+		);
+	}
+
+	@Test
+	public void testFetchAllCollections(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s
+						.createSelectionQuery( "from Publisher", Publisher.class )
+						.getResultList()
+						.chain( publishers -> {
+							final List<List<Novel>> novels = publishers.stream().map( Publisher::getNovels ).toList();
+							assertThat( novels ).noneMatch( Hibernate::isInitialized );
+							sqlTracker.clear();
+							return Mutiny.fetchAll( novels )
+									.invoke( () -> {
+										assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+										assertThat( novels ).allMatch( Hibernate::isInitialized );
+										assertThat( novels ).allSatisfy( list -> assertThat( list ).hasSize( 2 ) );
+									} );
+						} )
+				)
+		);
+	}
+
+	@Test
+	public void testFetchAllProxiesOfAnotherSession(VertxTestContext context) {
+		test( context, getMutinySessionFactory().openSession()
+				.chain( other -> getMutinySessionFactory()
+						.withSession( s -> publishers( other )
+								.chain( publishers -> {
+									sqlTracker.clear();
+									// The proxies of the 3 publishers are fetched one at a time, like with fetch()
+									return s.fetchAll( publishers )
+											.invoke( () -> {
+												assertThat( sqlTracker.getLoggedQueries() ).hasSize( 3 );
+												assertThat( publishers ).allMatch( Hibernate::isInitialized );
+											} );
+								} )
+						)
+						.eventually( other::close )
+				)
+		);
+	}
+
+	@Test
+	public void testFetchAllWithDifferentSessions(VertxTestContext context) {
+		test( context, getMutinySessionFactory().openSession()
+				.chain( first -> getMutinySessionFactory().openSession()
+						.chain( second -> publishers( first )
+								.chain( firstPublishers -> publishers( second )
+										.chain( secondPublishers -> {
+											final List<Publisher> publishers = new ArrayList<>( firstPublishers );
+											publishers.addAll( secondPublishers );
+											return assertThrown( IllegalArgumentException.class, Mutiny.fetchAll( publishers ) )
+													.invoke( () -> assertThat( publishers ).noneMatch( Hibernate::isInitialized ) );
+										} )
+								)
+								.eventually( second::close )
+						)
+						.eventually( first::close )
+				)
+		);
+	}
+
+	/**
+	 * @return the uninitialized proxies of the publishers of the novels
+	 */
+	private static Uni<List<Publisher>> publishers(Mutiny.Session session) {
+		return session.createSelectionQuery( "from Novel", Novel.class )
+				.getResultList()
+				.map( novels -> novels.stream().map( Novel::getPublisher ).toList() )
+				.invoke( publishers -> assertThat( publishers ).noneMatch( Hibernate::isInitialized ) );
+	}
+
+	@Entity(name = "Publisher")
+	@Table(name = "FetchAllPublisher")
+	public static class Publisher {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "publisher")
+		private List<Novel> novels = new ArrayList<>();
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Novel> getNovels() {
+			return novels;
+		}
+	}
+
+	@Entity(name = "Novel")
+	@Table(name = "FetchAllNovel")
+	public static class Novel {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Publisher publisher;
+
+		public Novel() {
+		}
+
+		public Novel(Integer id, String title, Publisher publisher) {
+			this.id = id;
+			this.title = title;
+			this.publisher = publisher;
+			publisher.novels.add( this );
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public Publisher getPublisher() {
+			return publisher;
+		}
+	}
+}
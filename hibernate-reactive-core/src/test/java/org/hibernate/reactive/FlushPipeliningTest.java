@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.testing.ReactiveAssertions.assertThrown;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Tests the updates of a flush with {@link Settings#FLUSH_PIPELINING}
+ * enabled, when the updates of two entity types are interleaved, so
+ * that each update interrupts the current batch.
+ * <p>
+ * Batches aren't pipelined here, so the updates must not be pipelined
+ * either.
+ *
+ * @see FlushPipeliningWithBatchPipeliningTest
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class FlushPipeliningTest extends BaseReactiveTest {
+
+	private static final int SIZE = 6;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Cat.class, Dog.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.FLUSH_PIPELINING, "true" );
+		configuration.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+		return configuration;
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		List<Object> animals = new ArrayList<>();
+		for ( int id = 1; id <= SIZE; id++ ) {
+			animals.add( new Cat( id, "Cat " + id ) );
+			animals.add( new Dog( id, "Dog " + id ) );
+		}
+		test( context, getSessionFactory().withTransaction( s -> s.persist( animals.toArray() ) ) );
+	}
+
+	@Test
+	public void testInterleavedUpdates(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> loadInterleaved( s )
+						.thenAccept( animals -> animals.forEach( FlushPipeliningTest::rename ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createSelectionQuery( "select name from Cat", String.class ).getResultList()
+						.thenAccept( names -> assertThat( names ).hasSize( SIZE ).allMatch( name -> name.endsWith( "updated" ) ) )
+						.thenCompose( vv -> s.createSelectionQuery( "select name from Dog", String.class ).getResultList() )
+						.thenAccept( names -> assertThat( names ).hasSize( SIZE ).allMatch( name -> name.endsWith( "updated" ) ) )
+				) )
+		);
+	}
+
+	@Test
+	public void testFailedRowCountCheck(VertxTestContext context) {
+		test( context, assertThrown( StaleStateException.class, getSessionFactory()
+				.withTransaction( s -> loadInterleaved( s )
+						.thenAccept( animals -> animals.forEach( FlushPipeliningTest::rename ) )
+						// Another session changes the version of one of the dogs
+						.thenCompose( v -> getSessionFactory().openSession() )
+						.thenCompose( other -> other
+								.withTransaction( t -> other
+										.createMutationQuery( "update Dog set version = version + 1 where id = :id" )
+										.setParameter( "id", SIZE / 2 )
+										.executeUpdate() )
+								.thenCompose( count -> other.close() ) )
+				) )
+				// The transaction has been rolled back
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createSelectionQuery( "select name from Cat", String.class ).getResultList()
+						.thenAccept( names -> assertThat( names ).hasSize( SIZE ).noneMatch( name -> name.endsWith( "updated" ) ) )
+						.thenCompose( vv -> s.createSelectionQuery( "select name from Dog", String.class ).getResultList() )
+						.thenAccept( names -> assertThat( names ).hasSize( SIZE ).noneMatch( name -> name.endsWith( "updated" ) ) )
+				) )
+		);
+	}
+
+	/**
+	 * Load a cat, then a dog, then a cat, and so on, so that the updates
+	 * of the flush alternate between the two tables.
+	 */
+	private static CompletionStage<List<Object>> loadInterleaved(Stage.Session s) {
+		List<Object> animals = new ArrayList<>();
+		return loop( 1, SIZE + 1, id -> s
+				.find( Cat.class, id )
+				.thenAccept( animals::add )
+				.thenCompose( v -> s.find( Dog.class, id ) )
+				.thenAccept( animals::add )
+		).thenApply( v -> animals );
+	}
+
+	private static void rename(Object animal) {
+		if ( animal instanceof Cat cat ) {
+			cat.name = cat.name + " updated";
+		}
+		else {
+			Dog dog = (Dog) animal;
+			dog.name = dog.name + " updated";
+		}
+	}
+
+	@Entity(name = "Cat")
+	@Table(name = "PipelinedCat")
+	static class Cat {
+		@Id
+		Integer id;
+		String name;
+		@Version
+		Integer version;
+
+		Cat() {
+		}
+
+		Cat(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Dog")
+	@Table(name = "PipelinedDog")
+	static class Dog {
+		@Id
+		Integer id;
+		String name;
+		@Version
+		Integer version;
+
+		Dog() {
+		}
+
+		Dog(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,294 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.reactive.id.ReactiveIdentifierGenerator;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.impl.DefaultSqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.reactive.stage.impl.StageSessionImpl;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Test the generation of ids when each event loop uses its own block,
+ * and the next block is fetched in the background.
+ *
+ * @see Settings#ID_BLOCK_PER_EVENT_LOOP
+ * @see Settings#ID_BLOCK_PREFETCH_WATERMARK
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class IdBlockPerEventLoopTest extends BaseReactiveTest {
+
+	private static final int BLOCK_SIZE = 10;
+
+	// The next block is fetched when the id with lo value 5 is generated
+	private static final int WATERMARK = 50;
+
+	private static final int EVENT_LOOPS = 4;
+
+	private static final int IDS_PER_EVENT_LOOP = 3 * BLOCK_SIZE + 5;
+
+	private static final String PREFETCH_TABLE = "PrefetchItemIds";
+
+	private static final String RECOVERY_TABLE = "RecoveryItemIds";
+
+	private static SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( LoopItem.class, PrefetchItem.class, RecoveryItem.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.ID_BLOCK_PER_EVENT_LOOP, "true" );
+		configuration.setProperty( Settings.ID_BLOCK_PREFETCH_WATERMARK, String.valueOf( WATERMARK ) );
+		configuration.setProperty( Settings.SQL_CLIENT_POOL, FailingConnectionPool.class.getName() );
+		sqlTracker = new SqlStatementTracker( IdBlockPerEventLoopTest::isHiValueQuery, configuration.getProperties() );
+		return configuration;
+	}
+
+	// The tracker isn't thread-safe, so we don't track the queries of the test using several event loops
+	private static boolean isHiValueQuery(String s) {
+		final String sql = s.toLowerCase( Locale.ROOT );
+		return sql.startsWith( "select" )
+				&& ( sql.contains( PREFETCH_TABLE.toLowerCase( Locale.ROOT ) ) || sql.contains( RECOVERY_TABLE.toLowerCase( Locale.ROOT ) ) );
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	@BeforeEach
+	public void resetFailures() {
+		FailingConnectionPool.failures.set( 0 );
+	}
+
+	@Test
+	public void testUniqueIdsAcrossEventLoops(VertxTestContext context) {
+		final ReactiveIdentifierGenerator<Long> generator = generator( LoopItem.class );
+		final Queue<Long> ids = new ConcurrentLinkedQueue<>();
+		final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		final Vertx vertx = testOnContext.vertx();
+		test( context, vertx
+				.deployVerticle(
+						() -> new GeneratorVerticle( generator, ids, threads ),
+						new DeploymentOptions().setInstances( EVENT_LOOPS )
+				)
+				.compose( vertx::undeploy )
+				.toCompletionStage()
+				.thenAccept( v -> {
+					assertThat( threads ).hasSizeGreaterThan( 1 );
+					assertThat( ids )
+							.hasSize( EVENT_LOOPS * IDS_PER_EVENT_LOOP )
+							.doesNotHaveDuplicates();
+				} )
+		);
+	}
+
+	@Test
+	public void testPrefetchedBlockIsUsed(VertxTestContext context) {
+		final ReactiveIdentifierGenerator<Long> generator = generator( PrefetchItem.class );
+		final List<Long> ids = new ArrayList<>();
+		test( context, getSessionFactory().withSession( s -> generate( generator, s, ids, 5 )
+				// The watermark hasn't been reached yet
+				.thenAccept( v -> assertThat( hiValueQueries( PREFETCH_TABLE ) ).isEqualTo( 1 ) )
+				// Generating the id with lo value 5 starts the prefetch
+				.thenCompose( v -> generate( generator, s, ids, 1 ) )
+				.thenCompose( v -> eventually( () -> hiValueQueries( PREFETCH_TABLE ) == 2 ) )
+				// The last ids of the block, and the first one of the prefetched block
+				.thenCompose( v -> generate( generator, s, ids, BLOCK_SIZE - 6 + 1 ) )
+				.thenAccept( v -> {
+					assertThat( hiValueQueries( PREFETCH_TABLE ) ).isEqualTo( 2 );
+					assertThat( ids ).hasSize( BLOCK_SIZE + 1 ).doesNotHaveDuplicates();
+					// The first id of a block is the hi value
+					assertThat( ids.get( BLOCK_SIZE ) ).isGreaterThanOrEqualTo( ids.get( 0 ) + BLOCK_SIZE );
+				} )
+		) );
+	}
+
+	@Test
+	public void testRecoveryWhenPrefetchFails(VertxTestContext context) {
+		final ReactiveIdentifierGenerator<Long> generator = generator( RecoveryItem.class );
+		final List<Long> ids = new ArrayList<>();
+		test( context, getSessionFactory().withSession( s -> generate( generator, s, ids, 5 )
+				// The connection of the session is already open, so only the prefetch is going to fail
+				.thenAccept( v -> FailingConnectionPool.failures.set( 1 ) )
+				.thenCompose( v -> generate( generator, s, ids, 1 ) )
+				.thenAccept( v -> assertThat( FailingConnectionPool.failures.get() ).isEqualTo( 0 ) )
+				// The next block is fetched using the connection of the session
+				.thenCompose( v -> generate( generator, s, ids, BLOCK_SIZE - 6 + 1 ) )
+				.thenAccept( v -> {
+					assertThat( hiValueQueries( RECOVERY_TABLE ) ).isEqualTo( 2 );
+					assertThat( ids ).hasSize( BLOCK_SIZE + 1 ).doesNotHaveDuplicates();
+				} )
+				// The prefetch of the new block works again
+				.thenCompose( v -> generate( generator, s, ids, 5 ) )
+				.thenCompose( v -> eventually( () -> hiValueQueries( RECOVERY_TABLE ) == 3 ) )
+		) );
+	}
+
+	private static long hiValueQueries(String table) {
+		return sqlTracker.getLoggedQueries().stream()
+				.filter( query -> query.toLowerCase( Locale.ROOT ).contains( table.toLowerCase( Locale.ROOT ) ) )
+				.count();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ReactiveIdentifierGenerator<Long> generator(Class<?> entityClass) {
+		return (ReactiveIdentifierGenerator<Long>) ( (SessionFactoryImplementor) factoryManager.getHibernateSessionFactory() )
+				.getMappingMetamodel()
+				.getEntityDescriptor( entityClass )
+				.getGenerator();
+	}
+
+	private static CompletionStage<Void> generate(
+			ReactiveIdentifierGenerator<Long> generator,
+			Stage.Session session,
+			Collection<Long> ids,
+			int count) {
+		final ReactiveConnectionSupplier connectionSupplier = ( (StageSessionImpl) session )
+				.unwrap( ReactiveConnectionSupplier.class );
+		return loop( 0, count, i -> generator.generate( connectionSupplier, null ).thenAccept( ids::add ) );
+	}
+
+	/**
+	 * Check the condition periodically, without leaving the current event loop
+	 */
+	private static CompletionStage<Void> eventually(BooleanSupplier condition) {
+		final CompletableFuture<Void> result = new CompletableFuture<>();
+		poll( Vertx.currentContext().owner(), condition, result, 500 );
+		return result;
+	}
+
+	private static void poll(Vertx vertx, BooleanSupplier condition, CompletableFuture<Void> result, int attempts) {
+		if ( condition.getAsBoolean() ) {
+			result.complete( null );
+		}
+		else if ( attempts == 0 ) {
+			result.completeExceptionally( new AssertionError( "The condition is still false" ) );
+		}
+		else {
+			vertx.setTimer( 10, id -> poll( vertx, condition, result, attempts - 1 ) );
+		}
+	}
+
+	private static class GeneratorVerticle extends AbstractVerticle {
+
+		private final ReactiveIdentifierGenerator<Long> generator;
+		private final Queue<Long> ids;
+		private final Set<Thread> threads;
+
+		GeneratorVerticle(ReactiveIdentifierGenerator<Long> generator, Queue<Long> ids, Set<Thread> threads) {
+			this.generator = generator;
+			this.ids = ids;
+			this.threads = threads;
+		}
+
+		@Override
+		public void start(Promise<Void> startPromise) {
+			final Thread thread = Thread.currentThread();
+			threads.add( thread );
+			getSessionFactory()
+					.withSession( s -> generate( generator, s, ids, IDS_PER_EVENT_LOOP ) )
+					.whenComplete( (v, throwable) -> {
+						if ( throwable != null ) {
+							startPromise.fail( throwable );
+						}
+						else if ( thread != Thread.currentThread() ) {
+							startPromise.fail( "Thread switch detected!" );
+						}
+						else {
+							startPromise.complete();
+						}
+					} );
+		}
+	}
+
+	/**
+	 * A pool that can fail the next requests for a new connection.
+	 * The prefetch of a block is the only operation in these tests
+	 * that opens a connection while the session is using its own.
+	 */
+	public static class FailingConnectionPool extends DefaultSqlClientPool {
+
+		static final AtomicInteger failures = new AtomicInteger();
+
+		@Override
+		public CompletionStage<ReactiveConnection> getConnection() {
+			return failures.getAndUpdate( n -> Math.max( 0, n - 1 ) ) > 0
+					? failedFuture( new IllegalStateException( "Connection refused by the test" ) )
+					: super.getConnection();
+		}
+	}
+
+	@Entity(name = "LoopItem")
+	@Table(name = "LoopItem")
+	public static class LoopItem {
+		@Id
+		@GeneratedValue(strategy = GenerationType.TABLE, generator = "loop_item")
+		@TableGenerator(name = "loop_item", table = "LoopItemIds", allocationSize = BLOCK_SIZE)
+		Long id;
+	}
+
+	@Entity(name = "PrefetchItem")
+	@Table(name = "PrefetchItem")
+	public static class PrefetchItem {
+		@Id
+		@GeneratedValue(strategy = GenerationType.TABLE, generator = "prefetch_item")
+		@TableGenerator(name = "prefetch_item", table = PREFETCH_TABLE, allocationSize = BLOCK_SIZE)
+		Long id;
+	}
+
+	@Entity(name = "RecoveryItem")
+	@Table(name = "RecoveryItem")
+	public static class RecoveryItem {
+		@Id
+		@GeneratedValue(strategy = GenerationType.TABLE, generator = "recovery_item")
+		@TableGenerator(name = "recovery_item", table = RECOVERY_TABLE, allocationSize = BLOCK_SIZE)
+		Long id;
+	}
+}
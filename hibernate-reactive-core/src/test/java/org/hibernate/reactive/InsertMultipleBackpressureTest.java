@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.reactive.pool.ReactiveConnectionMetrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.testing.ReactiveAssertions.assertThrown;
+
+/**
+ * Test that {@code insertMultiple} only requests the next batch of
+ * entities from the stream once the previous batch has been inserted.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class InsertMultipleBackpressureTest extends BaseReactiveTest {
+
+	private static final int BATCH_SIZE = 2;
+	private static final int GERBILS = 5;
+	private static final String COUNT_GERBILS = "select count(*) from Gerbil";
+
+	private static final InsertedRows insertedRows = new InsertedRows();
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Gerbil.class );
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		builder.addService( ReactiveConnectionMetrics.class, insertedRows );
+	}
+
+	@BeforeEach
+	public void clearInsertedRows() {
+		insertedRows.count.set( 0 );
+	}
+
+	@Test
+	public void testMutinyInsertMultiple(VertxTestContext context) {
+		final RecordingSource source = new RecordingSource();
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( s -> s.insertMultiple( source.gerbils(), BATCH_SIZE ) )
+				.invoke( source::assertBackpressure )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> s
+						.createSelectionQuery( COUNT_GERBILS, Long.class )
+						.getSingleResult() ) )
+				.invoke( count -> assertThat( count ).isEqualTo( (long) GERBILS ) )
+		);
+	}
+
+	@Test
+	public void testStageInsertMultiple(VertxTestContext context) {
+		final RecordingSource source = new RecordingSource();
+		test( context, getSessionFactory()
+				// Multi is also a Flow.Publisher
+				.withStatelessTransaction( s -> s.insertMultiple( source.gerbils(), BATCH_SIZE ) )
+				.thenAccept( v -> {
+					source.assertBackpressure();
+					// The subscriber only asks for one batch at a time
+					assertThat( source.requests ).containsExactly( "2 after 0", "2 after 2", "2 after 4" );
+				} )
+				.thenCompose( v -> getSessionFactory().withStatelessSession( s -> s
+						.createSelectionQuery( COUNT_GERBILS, Long.class )
+						.getSingleResult() ) )
+				.thenAccept( count -> assertThat( count ).isEqualTo( (long) GERBILS ) )
+		);
+	}
+
+	@Test
+	public void testMutinyInvalidBatchSize(VertxTestContext context) {
+		test( context, assertThrown( IllegalArgumentException.class, getMutinySessionFactory()
+				.withStatelessSession( s -> s.insertMultiple( new RecordingSource().gerbils(), 0 ) ) )
+		);
+	}
+
+	@Test
+	public void testStageInvalidBatchSize(VertxTestContext context) {
+		test( context, assertThrown( IllegalArgumentException.class, getSessionFactory()
+				.withStatelessSession( s -> s.insertMultiple( new RecordingSource().gerbils(), 0 ) ) )
+		);
+	}
+
+	/**
+	 * A stream of entities that records, for each request, how many
+	 * rows had been inserted and how many entities had been emitted.
+	 */
+	private static class RecordingSource {
+		final AtomicInteger emitted = new AtomicInteger();
+		final Queue<String> requests = new ConcurrentLinkedQueue<>();
+		final Queue<String> pendingInserts = new ConcurrentLinkedQueue<>();
+
+		Multi<Gerbil> gerbils() {
+			return Multi.createFrom().range( 1, GERBILS + 1 )
+					.map( id -> new Gerbil( id, "Gerbil " + id ) )
+					.onItem().invoke( emitted::incrementAndGet )
+					.onRequest().invoke( n -> {
+						final int inserted = insertedRows.count.get();
+						requests.add( n + " after " + inserted );
+						if ( inserted != emitted.get() ) {
+							pendingInserts.add( emitted.get() - inserted + " entities not inserted when " + n + " were requested" );
+						}
+					} );
+		}
+
+		void assertBackpressure() {
+			assertThat( pendingInserts ).isEmpty();
+			// The whole stream wasn't requested at once
+			assertThat( requests ).hasSizeGreaterThanOrEqualTo( GERBILS / BATCH_SIZE );
+		}
+	}
+
+	/**
+	 * Counts the rows inserted by the statements that have completed
+	 */
+	private static class InsertedRows implements ReactiveConnectionMetrics {
+		final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public void statementExecuted(String fingerprint, long durationNanos, int rows, boolean failed) {
+			if ( !failed && fingerprint.startsWith( "insert into Gerbil " ) ) {
+				count.addAndGet( rows );
+			}
+		}
+	}
+
+	@Entity(name = "Gerbil")
+	@Table(name = "Gerbil")
+	public static class Gerbil {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Gerbil() {
+		}
+
+		public Gerbil(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
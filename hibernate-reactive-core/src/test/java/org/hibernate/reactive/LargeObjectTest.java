@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.hibernate.reactive.annotations.EnabledFor;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+import static org.hibernate.reactive.testing.ReactiveAssertions.assertThrown;
+
+/**
+ * Test that the content of a PostgreSQL large object is written and
+ * read a chunk at a time, and that an entity can refer to it.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+@EnabledFor(value = POSTGRESQL, reason = "Large objects are only supported on PostgreSQL")
+public class LargeObjectTest extends BaseReactiveTest {
+
+	private static final int CHUNK_SIZE = 1024;
+	// Not a multiple of the size of the chunks
+	private static final byte[] CONTENT = "It was the best of times, it was the worst of times. "
+			.repeat( 200 )
+			.getBytes( StandardCharsets.UTF_8 );
+	private static final String COUNT_LARGE_OBJECTS = "select count(*) from pg_largeobject_metadata";
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Document.class );
+	}
+
+	@Test
+	public void testMutinyRoundTrip(VertxTestContext context) {
+		final Queue<Long> requests = new ConcurrentLinkedQueue<>();
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s
+						.createLargeObject( chunks( CONTENT, 500 ).onRequest().invoke( requests::add ) )
+						.chain( oid -> s.persist( new Document( 1, "Tale of two cities", oid ) ) ) )
+				// The writer only asks for one chunk at a time
+				.invoke( () -> assertThat( requests ).containsOnly( 1L ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.find( Document.class, 1 )
+						.chain( document -> s
+								.readLargeObject( document.content, CHUNK_SIZE )
+								.collect().asList() ) ) )
+				.invoke( chunks -> {
+					assertThat( chunks ).hasSize( CONTENT.length / CHUNK_SIZE + 1 );
+					assertThat( chunks.subList( 0, chunks.size() - 1 ) ).allSatisfy( chunk -> assertThat( chunk ).hasSize( CHUNK_SIZE ) );
+					assertThat( concat( chunks ) ).isEqualTo( CONTENT );
+				} )
+		);
+	}
+
+	@Test
+	public void testStageRoundTrip(VertxTestContext context) {
+		test( context, getSessionFactory()
+				// Multi is also a Flow.Publisher
+				.withTransaction( s -> s.createLargeObject( chunks( CONTENT, 700 ) ) )
+				.thenCompose( oid -> getSessionFactory()
+						.withSession( s -> Uni.createFrom().publisher( s.readLargeObject( oid, CHUNK_SIZE ) )
+								.subscribeAsCompletionStage() )
+						// Only the first chunk is read
+						.thenAccept( chunk -> assertThat( chunk ).isEqualTo( Arrays.copyOf( CONTENT, CHUNK_SIZE ) ) )
+						.thenCompose( v -> getSessionFactory().withTransaction( s -> s.deleteLargeObject( oid ) ) )
+						.thenCompose( v -> assertThrown( Exception.class, getSessionFactory()
+								.withSession( s -> Multi.createFrom().publisher( s.readLargeObject( oid, CHUNK_SIZE ) )
+										.collect().asList()
+										.subscribeAsCompletionStage() ) ) ) )
+		);
+	}
+
+	@Test
+	public void testEmptyContent(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.createLargeObject( Multi.createFrom().empty() ) )
+				.chain( oid -> getMutinySessionFactory().withSession( s -> s
+						.readLargeObject( oid, CHUNK_SIZE )
+						.collect().asList() ) )
+				.invoke( chunks -> assertThat( chunks ).isEmpty() )
+		);
+	}
+
+	@Test
+	public void testFailedWriteDeletesLargeObject(VertxTestContext context) {
+		final Multi<byte[]> failing = Multi.createBy().concatenating()
+				.streams( chunks( CONTENT, 500 ), Multi.createFrom().<byte[]>failure( new IllegalStateException( "Unreadable" ) ) );
+		test( context, countLargeObjects()
+				.chain( before -> getMutinySessionFactory()
+						.withTransaction( s -> assertThrown( IllegalStateException.class, s.createLargeObject( failing ) ) )
+						.invoke( e -> assertThat( e ).hasMessage( "Unreadable" ) )
+						.chain( () -> countLargeObjects() )
+						.invoke( after -> assertThat( after ).isEqualTo( before ) ) )
+		);
+	}
+
+	@Test
+	public void testInvalidChunkSize(VertxTestContext context) {
+		test( context, assertThrown( IllegalArgumentException.class, getMutinySessionFactory()
+				.withSession( s -> s.readLargeObject( 1L, 0 ).collect().asList() ) )
+		);
+	}
+
+	private Uni<Long> countLargeObjects() {
+		return getMutinySessionFactory().withSession( s -> s
+				.createNativeQuery( COUNT_LARGE_OBJECTS, Long.class )
+				.getSingleResult() );
+	}
+
+	private static Multi<byte[]> chunks(byte[] content, int chunkSize) {
+		return Multi.createFrom().range( 0, ( content.length + chunkSize - 1 ) / chunkSize )
+				.map( i -> Arrays.copyOfRange( content, i * chunkSize, Math.min( content.length, ( i + 1 ) * chunkSize ) ) );
+	}
+
+	private static byte[] concat(List<byte[]> chunks) {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		chunks.forEach( out::writeBytes );
+		return out.toByteArray();
+	}
+
+	@Entity(name = "Document")
+	@Table(name = "LargeObjectDocument")
+	public static class Document {
+		@Id
+		Integer id;
+
+		String title;
+
+		// The OID of the large object
+		Long content;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String title, Long content) {
+			this.id = id;
+			this.title = title;
+			this.content = content;
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test that, with {@link Settings#LAZY_CONNECTION} enabled, an open
+ * session doesn't hold a connection between statements, unless a
+ * transaction is in progress.
+ * <p>
+ * The pool has a single connection, so any test would hang if the
+ * connection wasn't returned to the pool.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class LazyConnectionAcquisitionTest extends BaseReactiveTest {
+
+	private static final Lizard GECKO = new Lizard( 1, "Gecko" );
+	private static final Lizard IGUANA = new Lizard( 2, "Iguana" );
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Lizard.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.LAZY_CONNECTION, "true" );
+		configuration.setProperty( Settings.POOL_SIZE, "1" );
+		return configuration;
+	}
+
+	@Test
+	public void testConnectionReleasedBetweenStatements(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( GECKO, IGUANA ) )
+				.chain( () -> getMutinySessionFactory().openSession() )
+				.chain( session -> session.find( Lizard.class, GECKO.id )
+						// The first session is still open, and the second one needs a connection
+						.chain( gecko -> getMutinySessionFactory()
+								.withStatelessSession( other -> other.get( Lizard.class, IGUANA.id ) )
+								.invoke( iguana -> assertThat( iguana.name ).isEqualTo( IGUANA.name ) )
+								.replaceWith( gecko ) )
+						.invoke( gecko -> assertThat( gecko.name ).isEqualTo( GECKO.name ) )
+						.eventually( session::close ) )
+		);
+	}
+
+	@Test
+	public void testConnectionHeldDuringTransaction(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persist( GECKO ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( s -> s
+						.find( Lizard.class, GECKO.id )
+						.invoke( gecko -> gecko.name = "Leopard Gecko" )
+						.call( s::flush )
+						// Same transaction, so the update must be visible
+						.chain( () -> s.createSelectionQuery( "select name from Lizard where id = :id", String.class )
+								.setParameter( "id", GECKO.id )
+								.getSingleResult() )
+				) )
+				.invoke( name -> assertThat( name ).isEqualTo( "Leopard Gecko" ) )
+		);
+	}
+
+	@Entity(name = "Lizard")
+	@Table(name = "Lizard")
+	public static class Lizard {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Lizard() {
+		}
+
+		public Lizard(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Test the results of queries read by the {@link org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer}:
+ * when all the rows can be read without waiting, when the consumer
+ * has to wait for a row after reading the first ones synchronously,
+ * when there are no rows, and when reading a row fails.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class ListResultsFastPathTest extends BaseReactiveTest {
+
+	private static final int POEMS = 100;
+	private static final String UNREADABLE = "Unreadable";
+
+	private static final Writer ATWOOD = new Writer( 1, "Margaret Atwood" );
+	private static final Writer LE_GUIN = new Writer( 2, "Ursula K. Le Guin" );
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Writer.class, Novel.class, Poem.class );
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		final List<Object> entities = new ArrayList<>();
+		entities.add( ATWOOD );
+		entities.add( LE_GUIN );
+		entities.add( new Novel( 1, "The Handmaid's Tale", ATWOOD ) );
+		entities.add( new Novel( 2, "Oryx and Crake", ATWOOD ) );
+		entities.add( new Novel( 3, "The Blind Assassin", ATWOOD ) );
+		entities.add( new Novel( 4, "The Dispossessed", LE_GUIN ) );
+		entities.add( new Novel( 5, "The Lathe of Heaven", LE_GUIN ) );
+		for ( int id = 1; id <= POEMS; id++ ) {
+			entities.add( new Poem( id, "Poem " + id ) );
+		}
+		test( context, getSessionFactory().withTransaction( s -> s.persist( entities.toArray() ) ) );
+	}
+
+	@Override
+	protected CompletionStage<Void> cleanDb() {
+		// Loading the poems would fail when one can't be read
+		return getSessionFactory().withTransaction( s -> loop(
+				List.of( "delete from Poem", "delete from Novel", "delete from Writer" ),
+				delete -> s.createMutationQuery( delete ).executeUpdate()
+		) );
+	}
+
+	@Test
+	public void testSynchronousRows(VertxTestContext context) {
+		// Basic values only: every row is read synchronously
+		test( context, getSessionFactory().withSession( s -> s
+				.createSelectionQuery( "from Poem order by id", Poem.class )
+				.getResultList()
+				.thenAccept( poems -> {
+					assertThat( poems ).hasSize( POEMS );
+					for ( int i = 0; i < POEMS; i++ ) {
+						assertThat( poems.get( i ).id ).isEqualTo( i + 1 );
+						assertThat( poems.get( i ).title ).isEqualTo( "Poem " + ( i + 1 ) );
+					}
+				} )
+				.thenCompose( v -> s
+						.createSelectionQuery( "select title from Poem where id <= 3 order by id", String.class )
+						.getResultList() )
+				.thenAccept( titles -> assertThat( titles ).containsExactly( "Poem 1", "Poem 2", "Poem 3" ) )
+		) );
+	}
+
+	@Test
+	public void testFallbackToAsyncPartWay(VertxTestContext context) {
+		// The first novels have a writer that's already in the persistence context,
+		// so they are read without waiting. The writer of the last novels must
+		// be loaded from the database, and the consumer has to wait.
+		test( context, getSessionFactory().withSession( s -> s
+				.find( Writer.class, ATWOOD.id )
+				.thenCompose( writer -> s
+						.createSelectionQuery( "from Novel order by id", Novel.class )
+						.getResultList()
+						.thenAccept( novels -> {
+							assertThat( novels ).extracting( novel -> novel.id ).containsExactly( 1, 2, 3, 4, 5 );
+							assertThat( novels.subList( 0, 3 ) ).allSatisfy( novel -> assertThat( novel.writer ).isSameAs( writer ) );
+							assertThat( novels.subList( 3, 5 ) ).allSatisfy( novel -> assertThat( novel.writer.name ).isEqualTo( LE_GUIN.name ) );
+							assertThat( novels.get( 3 ).writer ).isSameAs( novels.get( 4 ).writer );
+						} )
+				)
+		) );
+	}
+
+	@Test
+	public void testEmptyResult(VertxTestContext context) {
+		test( context, getSessionFactory().withSession( s -> s
+				.createSelectionQuery( "from Poem where id > :id", Poem.class )
+				.setParameter( "id", POEMS )
+				.getResultList()
+				.thenAccept( poems -> assertThat( poems ).isEmpty() )
+				.thenCompose( v -> s
+						.createSelectionQuery( "from Novel where writer.id = :id", Novel.class )
+						.setParameter( "id", -1 )
+						.getResultList() )
+				.thenAccept( novels -> assertThat( novels ).isEmpty() )
+		) );
+	}
+
+	@Test
+	public void testErrorWhileReadingRowsSynchronously(VertxTestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s
+						.createMutationQuery( "update Poem set title = :title where id = :id" )
+						.setParameter( "title", UNREADABLE )
+						.setParameter( "id", POEMS / 2 )
+						.executeUpdate() )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createSelectionQuery( "select title from Poem order by id", String.class )
+						.getResultList()
+						.handle( (titles, throwable) -> {
+							assertThat( throwable ).hasStackTraceContaining( UNREADABLE );
+							return null;
+						} )
+						// The session can still be used after the failure
+						.thenCompose( ignored -> s
+								.createSelectionQuery( "from Novel where id = :id", Novel.class )
+								.setParameter( "id", 1 )
+								.getSingleResult() )
+						.thenAccept( novel -> assertThat( novel.writer.name ).isEqualTo( ATWOOD.name ) )
+				) )
+		);
+	}
+
+	/**
+	 * Fails to read the titles of the poems that can't be read
+	 */
+	public static class TitleConverter implements AttributeConverter<String, String> {
+		@Override
+		public String convertToDatabaseColumn(String title) {
+			return title;
+		}
+
+		@Override
+		public String convertToEntityAttribute(String title) {
+			if ( UNREADABLE.equals( title ) ) {
+				throw new IllegalStateException( UNREADABLE );
+			}
+			return title;
+		}
+	}
+
+	@Entity(name = "Writer")
+	@Table(name = "FastPathWriter")
+	public static class Writer {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Writer() {
+		}
+
+		public Writer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Novel")
+	@Table(name = "FastPathNovel")
+	public static class Novel {
+		@Id
+		Integer id;
+
+		String title;
+
+		// Eager, but not joined by the queries: the writer is loaded
+		// while the row is read, if it's not already in the session
+		@ManyToOne
+		Writer writer;
+
+		public Novel() {
+		}
+
+		public Novel(Integer id, String title, Writer writer) {
+			this.id = id;
+			this.title = title;
+			this.writer = writer;
+		}
+	}
+
+	@Entity(name = "Poem")
+	@Table(name = "FastPathPoem")
+	public static class Poem {
+		@Id
+		Integer id;
+
+		@Convert(converter = TitleConverter.class)
+		String title;
+
+		public Poem() {
+		}
+
+		public Poem(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.buffer.Buffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test that the values bound with the stream and LOB setters of
+ * {@link PreparedStatementAdaptor} can be read back with the stream
+ * and LOB getters of {@link ResultSetAdaptor}.
+ */
+public class LobStreamAdaptorTest {
+
+	// Bigger than the chunks read from the streams
+	private static final String TEXT = "It was the best of times, it was the worst of times. ".repeat( 500 );
+	private static final byte[] BYTES = TEXT.getBytes( StandardCharsets.UTF_8 );
+
+	@Test
+	public void testBinaryStreamWithIntLength() throws Exception {
+		Object[] params = PreparedStatementAdaptor.bind( statement -> statement
+				.setBinaryStream( 1, new ByteArrayInputStream( BYTES ), BYTES.length ) );
+		assertThat( readBlob( params ) ).isEqualTo( BYTES );
+	}
+
+	@Test
+	public void testBinaryStreamWithLongLength() throws Exception {
+		Object[] params = PreparedStatementAdaptor.bind( statement -> statement
+				.setBinaryStream( 1, new ByteArrayInputStream( BYTES ), (long) BYTES.length ) );
+		assertThat( readBlob( params ) ).isEqualTo( BYTES );
+	}
+
+	@Test
+	public void testBinaryStreamWithoutLength() throws Exception {
+		Object[] params = PreparedStatementAdaptor.bind( statement -> statement
+				.setBinaryStream( 1, new ByteArrayInputStream( BYTES ) ) );
+		assertThat( readBlob( params ) ).isEqualTo( BYTES );
+	}
+
+	@Test
+	public void testBinaryStreamLongerThanLength() throws Exception {
+		Object[] params = PreparedStatementAdaptor.bind( statement -> statement
+				.setBinaryStream( 1, new ByteArrayInputStream( BYTES ), 10_000L ) );
+		assertThat( readBlob( params ) ).hasSize( 10_000 ).startsWith( BYTES[0], BYTES[1] );
+	}
+
+	@Test
+	public void testBlobStreamWithLength() throws Exception {
+		Object[] params = PreparedStatementAdaptor.bind( statement -> statement
+				.setBlob( 1, new ByteArrayInputStream( BYTES ), BYTES.length ) );
+		assertThat( readBlob( params ) ).isEqualTo( BYTES );
+	}
+
+	@Test
+	public void testBlobStreamWithoutLength() throws Exception {
+		Object[] params = PreparedStatementAdaptor.bind( statement -> statement
+				.setBlob( 1, new ByteArrayInputStream( BYTES ) ) );
+		assertThat( readBlob( params ) ).isEqualTo( BYTES );
+	}
+
+	@Test
+	public void testCharacterStreamWithIntLength() throws Exception {
+		Object[] params = PreparedStatementAdaptor.bind( statement -> statement
+				.setCharacterStream( 1, new StringReader( TEXT ), TEXT.length() ) );
+		assertThat( readCharacterStream( params ) ).isEqualTo( TEXT );
+	}
+
+	@Test
+	public void testCharacterStreamWithLongLength() throws Exception {
+		Object[] params = PreparedStatementAdaptor.bind( statement -> statement
+				.setCharacterStream( 1, new StringReader( TEXT ), (long) TEXT.length() ) );
+		assertThat( readCharacterStream( params ) ).isEqualTo( TEXT );
+	}
+
+	@Test
+	public void testCharacterStreamWithoutLength() throws Exception {
+		Object[] params = PreparedStatementAdaptor.bind( statement -> statement
+				.setCharacterStream( 1, new StringReader( TEXT ) ) );
+		assertThat( readCharacterStream( params ) ).isEqualTo( TEXT );
+	}
+
+	@Test
+	public void testClobStreamWithLength() throws Exception {
+		Object[] params = PreparedStatementAdaptor.bind( statement -> statement
+				.setClob( 1, new StringReader( TEXT ), TEXT.length() ) );
+		assertThat( readClob( params ) ).isEqualTo( TEXT );
+	}
+
+	@Test
+	public void testClobStreamWithoutLength() throws Exception {
+		Object[] params = PreparedStatementAdaptor.bind( statement -> statement
+				.setClob( 1, new StringReader( TEXT ) ) );
+		assertThat( readClob( params ) ).isEqualTo( TEXT );
+	}
+
+	@Test
+	public void testClobByColumnLabel() throws Exception {
+		Object[] params = PreparedStatementAdaptor.bind( statement -> statement
+				.setClob( 1, new StringReader( TEXT ) ) );
+		ResultSet resultSet = resultSet( params, String.class );
+		Clob clob = resultSet.getClob( "VALUE" );
+		assertThat( resultSet.wasNull() ).isFalse();
+		assertThat( clob.getSubString( 1, (int) clob.length() ) ).isEqualTo( TEXT );
+		assertThat( read( resultSet.getCharacterStream( "value" ) ) ).isEqualTo( TEXT );
+	}
+
+	private static byte[] readBlob(Object[] params) throws SQLException {
+		assertThat( params ).hasSize( 1 );
+		assertThat( params[0] ).isInstanceOf( Buffer.class );
+		ResultSet resultSet = resultSet( params, Buffer.class );
+		Blob blob = resultSet.getBlob( 1 );
+		assertThat( resultSet.wasNull() ).isFalse();
+		return blob.getBytes( 1, (int) blob.length() );
+	}
+
+	private static String readCharacterStream(Object[] params) throws SQLException, IOException {
+		assertThat( params ).hasSize( 1 );
+		assertThat( params[0] ).isInstanceOf( String.class );
+		return read( resultSet( params, String.class ).getCharacterStream( 1 ) );
+	}
+
+	private static String readClob(Object[] params) throws SQLException {
+		assertThat( params ).hasSize( 1 );
+		ResultSet resultSet = resultSet( params, String.class );
+		Clob clob = resultSet.getClob( 1 );
+		assertThat( resultSet.wasNull() ).isFalse();
+		return clob.getSubString( 1, (int) clob.length() );
+	}
+
+	/**
+	 * A result set with a single row, containing the bound value
+	 */
+	private static ResultSet resultSet(Object[] params, Class<?> type) throws SQLException {
+		ResultSet resultSet = new ResultSetAdaptor( params[0], type, "value" );
+		assertThat( resultSet.next() ).isTrue();
+		return resultSet;
+	}
+
+	private static String read(Reader reader) throws IOException {
+		StringBuilder builder = new StringBuilder();
+		char[] chars = new char[1024];
+		int n;
+		while ( ( n = reader.read( chars ) ) != -1 ) {
+			builder.append( chars, 0, n );
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test the load of more entities than fit in a single query
+ * when {@link Settings#MULTI_LOAD_PIPELINING} is enabled.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class MultiLoadPipeliningTest extends BaseReactiveTest {
+
+	// Enough ids to need more than one query on the databases that limit the size of the in predicate
+	private static final int SIZE = 2500;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Card.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.MULTI_LOAD_PIPELINING, "true" );
+		return configuration;
+	}
+
+	@Test
+	public void testFindInOrder(VertxTestContext context) {
+		final List<Card> cards = new ArrayList<>( SIZE );
+		for ( int i = 0; i < SIZE; i++ ) {
+			cards.add( new Card( i, "Card " + i ) );
+		}
+		// Reversed, and with an id that doesn't exist
+		final Object[] ids = new Object[SIZE + 1];
+		for ( int i = 0; i < SIZE; i++ ) {
+			ids[i] = SIZE - 1 - i;
+		}
+		ids[SIZE] = SIZE;
+
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( s -> s.insertMultiple( cards ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Card.class, ids ) ) )
+				.invoke( found -> {
+					assertThat( found ).hasSize( SIZE + 1 );
+					for ( int i = 0; i < SIZE; i++ ) {
+						assertThat( found.get( i ).getId() ).isEqualTo( ids[i] );
+						assertThat( found.get( i ).getName() ).isEqualTo( "Card " + ids[i] );
+					}
+					assertThat( found.get( SIZE ) ).isNull();
+				} )
+		);
+	}
+
+	@Entity(name = "Card")
+	@Table(name = "Card")
+	public static class Card {
+
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Card() {
+		}
+
+		public Card(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
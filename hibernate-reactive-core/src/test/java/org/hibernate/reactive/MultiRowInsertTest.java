@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.annotations.EnabledFor;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+
+/**
+ * Test that batched inserts in a stateless session are sent as
+ * a single insert with multiple rows, and the insertion of the
+ * entities emitted by a {@link Multi}.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+@EnabledFor(value = POSTGRESQL, reason = "We check the queries generated for PostgreSQL")
+public class MultiRowInsertTest extends BaseReactiveTest {
+
+	private static final Hamster[] HAMSTERS = {
+			new Hamster( 1, "One" ),
+			new Hamster( 2, "Two" ),
+			new Hamster( 3, "Three" ),
+			new Hamster( 4, "Four" ),
+			new Hamster( 5, "Five" )
+	};
+
+	private static SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Hamster.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.MULTI_ROW_INSERT, "true" );
+		sqlTracker = new SqlStatementTracker( MultiRowInsertTest::isInsert, configuration.getProperties() );
+		return configuration;
+	}
+
+	private static boolean isInsert(String s) {
+		return s.toLowerCase().startsWith( "insert " );
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	@BeforeEach
+	public void clearTracker() {
+		sqlTracker.clear();
+	}
+
+	@Test
+	public void testInsertAllWithBatchSize(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( s -> s.insertAll( 10, (Object[]) HAMSTERS ) )
+				.invoke( () -> {
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+					assertThat( sqlTracker.getLoggedQueries().get( 0 ) )
+							.matches( "insert into Hamster \\(.*\\) values \\(\\$1,\\$2\\)(,\\(\\$\\d+,\\$\\d+\\)){4}" );
+				} )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> s
+						.createSelectionQuery( "from Hamster order by id", Hamster.class )
+						.getResultList() ) )
+				.invoke( results -> assertThat( results ).containsExactly( HAMSTERS ) )
+		);
+	}
+
+	@Test
+	public void testInsertMultipleFromMulti(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( s -> s.insertMultiple( Multi.createFrom().items( (Object[]) HAMSTERS ), 2 ) )
+				// Two batches of 2 rows, and one with a single row
+				.invoke( () -> assertThat( sqlTracker.getLoggedQueries() ).hasSize( 3 ) )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> s
+						.createSelectionQuery( "from Hamster order by id", Hamster.class )
+						.getResultList() ) )
+				.invoke( results -> assertThat( results ).containsExactly( HAMSTERS ) )
+		);
+	}
+
+	@Test
+	public void testInsertWithoutBatching(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( s -> s.insert( HAMSTERS[0] ) )
+				.invoke( () -> assertThat( sqlTracker.getLoggedQueries() )
+						.containsExactly( "insert into Hamster (name,id) values ($1,$2)" ) )
+		);
+	}
+
+	@Entity(name = "Hamster")
+	@Table(name = "Hamster")
+	public static class Hamster {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Hamster() {
+		}
+
+		public Hamster(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			Hamster hamster = (Hamster) o;
+			return Objects.equals( id, hamster.id ) && Objects.equals( name, hamster.name );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( id, name );
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.MyCurrentTenantIdentifierResolver.Tenant;
+import org.hibernate.reactive.annotations.EnabledFor;
+import org.hibernate.reactive.containers.DatabaseConfiguration;
+import org.hibernate.reactive.pool.impl.MultiTenantSqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.MultiTenantSqlClientPoolTest.assertNotInterleaved;
+import static org.hibernate.reactive.MultiTenantSqlClientPoolTest.useConnection;
+import static org.hibernate.reactive.MyCurrentTenantIdentifierResolver.Tenant.TENANT_1;
+import static org.hibernate.reactive.MyCurrentTenantIdentifierResolver.Tenant.TENANT_2;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+
+/**
+ * Test that the {@link MultiTenantSqlClientPool}, when the tenants
+ * share a single pool, sets the schema of each tenant on the connections,
+ * and limits the number of connections used by a tenant.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+@EnabledFor(value = POSTGRESQL, reason = "Native queries for this test are targeted for PostgreSQL")
+public class MultiTenantSharedSqlClientPoolTest extends BaseReactiveTest {
+
+	private static final String CURRENT_SCHEMA = "select current_schema()";
+	private static final String CURRENT_DATABASE = "select current_database()";
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER, "anything" );
+		// Contains the SQL scripts for the creation of the schemas of the tenants
+		configuration.setProperty( Settings.HBM2DDL_IMPORT_FILES, "/multitenancy-schema-test.sql" );
+		configuration.setProperty( Settings.SQL_CLIENT_POOL, SharedTenantPool.class.getName() );
+		configuration.setProperty( Settings.TENANT_POOL_SHARED, "true" );
+		configuration.setProperty( Settings.TENANT_POOL_MAX_SIZE, "1" );
+		return configuration;
+	}
+
+	@Test
+	public void testTenantSchema(VertxTestContext context) {
+		test( context, currentSchema( TENANT_1 )
+				.invoke( result -> assertThat( result ).isEqualTo( "tenantschema1" ) )
+				.chain( () -> currentSchema( TENANT_2 ) )
+				.invoke( result -> assertThat( result ).isEqualTo( "tenantschema2" ) )
+				// The connection returned by the second tenant is reused
+				.chain( () -> currentSchema( TENANT_1 ) )
+				.invoke( result -> assertThat( result ).isEqualTo( "tenantschema1" ) )
+				// All the tenants share the same database
+				.chain( () -> getMutinySessionFactory().withSession( TENANT_2.name(), s -> s
+						.createNativeQuery( CURRENT_DATABASE, String.class ).getSingleResult() ) )
+				.invoke( result -> assertThat( result ).isEqualTo( DatabaseConfiguration.DB_NAME ) )
+		);
+	}
+
+	@Test
+	public void testTenantConnectionLimit(VertxTestContext context) {
+		// The shared pool has more than one connection, but a tenant
+		// can only use one at the time
+		final List<String> events = Collections.synchronizedList( new ArrayList<>() );
+		test( context, Uni.combine().all()
+				.unis( useConnection( TENANT_1, "first", events ), useConnection( TENANT_1, "second", events ) )
+				.discardItems()
+				.invoke( () -> assertNotInterleaved( events ) )
+		);
+	}
+
+	@Test
+	public void testConnectionLimitIsPerTenant(VertxTestContext context) {
+		// Different tenants can use a connection at the same time
+		final List<String> events = Collections.synchronizedList( new ArrayList<>() );
+		test( context, Uni.combine().all()
+				.unis( useConnection( TENANT_1, "first", events ), useConnection( TENANT_2, "second", events ) )
+				.discardItems()
+				.invoke( () -> assertThat( events ).hasSize( 4 ).containsSubsequence( "first", "second", "first" ) )
+		);
+	}
+
+	private Uni<String> currentSchema(Tenant tenant) {
+		return getMutinySessionFactory()
+				.withSession( tenant.name(), s -> s.createNativeQuery( CURRENT_SCHEMA, String.class ).getSingleResult() );
+	}
+
+	public static class SharedTenantPool extends MultiTenantSqlClientPool {
+		@Override
+		protected String tenantSchema(String tenantId) {
+			return Tenant.valueOf( tenantId ) == TENANT_1 ? "tenantschema1" : "tenantschema2";
+		}
+	}
+}
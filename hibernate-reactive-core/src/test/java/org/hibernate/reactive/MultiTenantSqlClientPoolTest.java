@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.MyCurrentTenantIdentifierResolver.Tenant;
+import org.hibernate.reactive.annotations.EnabledFor;
+import org.hibernate.reactive.pool.impl.MultiTenantSqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnectOptions;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.MyCurrentTenantIdentifierResolver.Tenant.TENANT_1;
+import static org.hibernate.reactive.MyCurrentTenantIdentifierResolver.Tenant.TENANT_2;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+
+/**
+ * Test that the {@link MultiTenantSqlClientPool} connects each tenant
+ * to its own database, that it closes the pool of the least recently
+ * used tenant when the maximum number of pools is reached, and that
+ * it limits the number of connections used by a tenant.
+ *
+ * @see MultiTenantSharedSqlClientPoolTest
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+@EnabledFor(value = POSTGRESQL, reason = "Native queries for this test are targeted for PostgreSQL")
+public class MultiTenantSqlClientPoolTest extends BaseReactiveTest {
+
+	private static final String CURRENT_DATABASE = "select current_database()";
+
+	// The databases of the pools created by TenantPool, in order
+	private static final List<String> createdPools = Collections.synchronizedList( new ArrayList<>() );
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER, "anything" );
+		// Contains the SQL scripts for the creation of the additional databases
+		configuration.setProperty( Settings.HBM2DDL_IMPORT_FILES, "/multitenancy-test.sql" );
+		configuration.setProperty( Settings.SQL_CLIENT_POOL, TenantPool.class.getName() );
+		configuration.setProperty( Settings.TENANT_POOL_MAX_POOLS, "1" );
+		configuration.setProperty( Settings.TENANT_POOL_MAX_SIZE, "1" );
+		return configuration;
+	}
+
+	@BeforeEach
+	public void clearCreatedPools() {
+		createdPools.clear();
+	}
+
+	@Test
+	public void testTenantSelection(VertxTestContext context) {
+		test( context, currentDatabase( TENANT_1 )
+				.invoke( result -> assertThat( result ).isEqualTo( TENANT_1.getDbName() ) )
+				.chain( () -> currentDatabase( TENANT_1 ) )
+				.invoke( result -> assertThat( result ).isEqualTo( TENANT_1.getDbName() ) )
+				// The pool of the tenant is reused
+				.invoke( () -> assertThat( createdPools ).containsExactly( TENANT_1.getDbName() ) )
+		);
+	}
+
+	@Test
+	public void testLeastRecentlyUsedTenantEviction(VertxTestContext context) {
+		test( context, currentDatabase( TENANT_1 )
+				.invoke( result -> assertThat( result ).isEqualTo( TENANT_1.getDbName() ) )
+				// Only one pool is kept open, so the pool of the first tenant is closed
+				.chain( () -> currentDatabase( TENANT_2 ) )
+				.invoke( result -> assertThat( result ).isEqualTo( TENANT_2.getDbName() ) )
+				.chain( () -> currentDatabase( TENANT_1 ) )
+				.invoke( result -> assertThat( result ).isEqualTo( TENANT_1.getDbName() ) )
+				// ... and it must be created again
+				.invoke( () -> assertThat( createdPools )
+						.containsExactly( TENANT_1.getDbName(), TENANT_2.getDbName(), TENANT_1.getDbName() ) )
+		);
+	}
+
+	@Test
+	public void testTenantInUseIsNotEvicted(VertxTestContext context) {
+		// The first tenant keeps using its connection while the second one
+		// needs a pool, so there are two pools open for a while
+		test( context, getMutinySessionFactory()
+				.withSession( TENANT_1.name(), s -> s
+						.createNativeQuery( CURRENT_DATABASE, String.class ).getSingleResult()
+						.chain( () -> currentDatabase( TENANT_2 ) )
+						.chain( () -> s.createNativeQuery( CURRENT_DATABASE, String.class ).getSingleResult() )
+						.invoke( result -> assertThat( result ).isEqualTo( TENANT_1.getDbName() ) )
+				)
+				// The pool of the first tenant has been kept open
+				.invoke( () -> assertThat( createdPools )
+						.containsExactly( TENANT_1.getDbName(), TENANT_2.getDbName() ) )
+		);
+	}
+
+	@Test
+	public void testTenantConnectionLimit(VertxTestContext context) {
+		// A tenant can only use one connection at the time, so the second
+		// session waits until the first one has returned its connection
+		final List<String> events = Collections.synchronizedList( new ArrayList<>() );
+		test( context, Uni.combine().all()
+				.unis( useConnection( TENANT_1, "first", events ), useConnection( TENANT_1, "second", events ) )
+				.discardItems()
+				.invoke( () -> assertNotInterleaved( events ) )
+		);
+	}
+
+	/**
+	 * Keep the connection of a session of the given tenant for a while
+	 */
+	static Uni<Void> useConnection(Tenant tenant, String name, List<String> events) {
+		return getMutinySessionFactory()
+				.withSession( tenant.name(), s -> s
+						.createNativeQuery( "select 1", Integer.class ).getSingleResult()
+						.invoke( () -> events.add( name ) )
+						.chain( () -> s.createNativeQuery( "select 1 from pg_sleep(0.2)", Integer.class ).getSingleResult() )
+						.invoke( () -> events.add( name ) )
+						.replaceWithVoid()
+				);
+	}
+
+	/**
+	 * The second session can only start using a connection once the first
+	 * one has returned it
+	 */
+	static void assertNotInterleaved(List<String> events) {
+		assertThat( events ).hasSize( 4 );
+		assertThat( events.get( 1 ) ).isEqualTo( events.get( 0 ) );
+		assertThat( events.get( 3 ) ).isEqualTo( events.get( 2 ) );
+	}
+
+	private Uni<String> currentDatabase(Tenant tenant) {
+		return getMutinySessionFactory()
+				.withSession( tenant.name(), s -> s.createNativeQuery( CURRENT_DATABASE, String.class ).getSingleResult() );
+	}
+
+	public static class TenantPool extends MultiTenantSqlClientPool {
+		@Override
+		protected SqlConnectOptions tenantConnectOptions(String tenantId, SqlConnectOptions connectOptions) {
+			return connectOptions.setDatabase( Tenant.valueOf( tenantId ).getDbName() );
+		}
+
+		@Override
+		protected <T extends SqlConnectOptions> Pool createPool(URI uri, T connectOptions, PoolOptions poolOptions, Vertx vertx) {
+			createdPools.add( connectOptions.getDatabase() );
+			return super.createPool( uri, connectOptions, poolOptions, vertx );
+		}
+	}
+}
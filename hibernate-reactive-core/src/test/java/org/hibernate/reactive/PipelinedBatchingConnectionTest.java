@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+import io.vertx.junit5.Timeout;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+/**
+ * Same tests as {@link BatchingConnectionTest}, but batches with
+ * different SQL are pipelined.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class PipelinedBatchingConnectionTest extends BatchingConnectionTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.BATCH_PIPELINING, "true" );
+		return configuration;
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import org.hibernate.reactive.pool.impl.PreparedStatementWarmup;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the selection of the statements to prepare on new connections
+ * by {@link PreparedStatementWarmup}.
+ */
+public class PreparedStatementWarmupTest {
+
+	private static final String INSERT = "insert into Pig (name, id) values (?, ?)";
+	private static final String UPDATE = "update Pig set name = ? where id = ?";
+	private static final String SELECT = "select name from Pig where id = ?";
+
+	@Test
+	public void testMostExecutedStatements() {
+		PreparedStatementWarmup warmup = new PreparedStatementWarmup( 2 );
+		execute( warmup, UPDATE, 1 );
+		execute( warmup, INSERT, 5 );
+		execute( warmup, SELECT, 3 );
+		assertThat( warmup.getStatements() ).containsExactly( INSERT, SELECT );
+	}
+
+	@Test
+	public void testFewerStatementsThanSize() {
+		PreparedStatementWarmup warmup = new PreparedStatementWarmup( 10 );
+		execute( warmup, SELECT, 1 );
+		assertThat( warmup.getStatements() ).containsExactly( SELECT );
+		assertThat( warmup.connectHandler() ).isNotNull();
+	}
+
+	@Test
+	public void testDisabled() {
+		execute( PreparedStatementWarmup.NONE, SELECT, 1 );
+		assertThat( PreparedStatementWarmup.NONE.isEnabled() ).isFalse();
+		assertThat( PreparedStatementWarmup.NONE.getStatements() ).isEmpty();
+		assertThat( PreparedStatementWarmup.NONE.connectHandler() ).isNull();
+	}
+
+	@Test
+	public void testTrackedStatementsAreBounded() {
+		PreparedStatementWarmup warmup = new PreparedStatementWarmup( PreparedStatementWarmup.MAX_TRACKED_STATEMENTS + 10 );
+		for ( int i = 0; i < PreparedStatementWarmup.MAX_TRACKED_STATEMENTS + 10; i++ ) {
+			execute( warmup, SELECT + " and " + i + " = " + i, 1 );
+		}
+		assertThat( warmup.getStatements() ).hasSize( PreparedStatementWarmup.MAX_TRACKED_STATEMENTS );
+	}
+
+	private static void execute(PreparedStatementWarmup warmup, String sql, int times) {
+		for ( int i = 0; i < times; i++ ) {
+			warmup.statementExecuted( sql );
+		}
+	}
+}
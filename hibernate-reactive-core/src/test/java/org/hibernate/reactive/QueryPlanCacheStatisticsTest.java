@@ -0,0 +1,197 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.common.spi.Implementor;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.query.spi.QueryPlanCacheStatistics;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test the {@link QueryPlanCacheStatistics} with the warm-up of the queries enabled.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class QueryPlanCacheStatisticsTest extends BaseReactiveTest {
+
+	private static final String FIND_BY_NAME = "from Planet where name = :name";
+	private static final String FIND_NAMES = "select name from Planet order by name";
+
+	// The named query, and the two queries in the settings
+	private static final int WARMED_UP_QUERIES = 3;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Planet.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.QUERY_WARMUP, "true" );
+		configuration.setProperty( Settings.QUERY_WARMUP_HQL, FIND_BY_NAME + "; " + FIND_NAMES );
+		return configuration;
+	}
+
+	@Test
+	public void testPlanCacheHit(VertxTestContext context) {
+		final Planet earth = new Planet( 3, "Earth" );
+		final long[] misses = new long[1];
+		final long[] hits = new long[1];
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persist( earth ) )
+				.chain( QueryPlanCacheStatisticsTest::warmUpCompleted )
+				.invoke( () -> {
+					misses[0] = statistics().getMissCount();
+					hits[0] = statistics().getHitCount();
+				} )
+				// The plan for the typed query has been built by the warm-up
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createSelectionQuery( FIND_BY_NAME, Planet.class )
+						.setParameter( "name", "Earth" )
+						.getSingleResult() ) )
+				.invoke( result -> assertThat( result ).isEqualTo( earth ) )
+				.invoke( () -> {
+					assertThat( statistics().getMissCount() ).isEqualTo( misses[0] );
+					assertThat( statistics().getHitCount() ).isEqualTo( hits[0] + 1 );
+				} )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( FIND_NAMES, String.class )
+						.getResultList() ) )
+				.invoke( result -> assertThat( result ).containsExactly( "Earth" ) )
+				.invoke( () -> {
+					assertThat( statistics().getMissCount() ).isEqualTo( misses[0] );
+					assertThat( statistics().getHitCount() ).isEqualTo( hits[0] + 2 );
+					assertThat( statistics().getEvictionCount() ).isEqualTo( 0L );
+				} )
+		);
+	}
+
+	@Test
+	public void testPlanCacheMissForAnotherResultType(VertxTestContext context) {
+		final Planet venus = new Planet( 2, "Venus" );
+		final long[] misses = new long[1];
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persist( venus ) )
+				.chain( QueryPlanCacheStatisticsTest::warmUpCompleted )
+				.invoke( () -> misses[0] = statistics().getMissCount() )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createSelectionQuery( FIND_NAMES, Object.class )
+						.getResultList() ) )
+				.invoke( result -> assertThat( result ).containsExactly( "Venus" ) )
+				.invoke( () -> {
+					assertThat( statistics().getMissCount() ).isEqualTo( misses[0] + 1 );
+					assertThat( statistics().getEvictionCount() ).isEqualTo( 0L );
+				} )
+		);
+	}
+
+	@Test
+	public void testNamedQuery(VertxTestContext context) {
+		final Planet mars = new Planet( 4, "Mars" );
+		final long[] misses = new long[1];
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persist( mars ) )
+				.chain( QueryPlanCacheStatisticsTest::warmUpCompleted )
+				.invoke( () -> misses[0] = statistics().getMissCount() )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createNamedQuery( Planet.FIND_ALL, Planet.class )
+						.getResultList() ) )
+				.invoke( list -> assertThat( list ).containsExactly( mars ) )
+				.invoke( () -> assertThat( statistics().getMissCount() ).isEqualTo( misses[0] ) )
+		);
+	}
+
+	/**
+	 * The warm-up runs on a worker thread, and it might still be running
+	 * when the test starts.
+	 */
+	private static Uni<Void> warmUpCompleted() {
+		return Uni.createFrom().item( () -> statistics().getWarmedUpQueryCount() )
+				.invoke( count -> {
+					if ( count < WARMED_UP_QUERIES ) {
+						throw new IllegalStateException( "The warm-up hasn't completed yet" );
+					}
+				} )
+				.onFailure().retry().withBackOff( Duration.ofMillis( 10 ) ).atMost( 500 )
+				.replaceWithVoid();
+	}
+
+	private static QueryPlanCacheStatistics statistics() {
+		return ( (Implementor) getSessionFactory() ).getServiceRegistry()
+				.getService( QueryPlanCacheStatistics.class );
+	}
+
+	@Entity(name = "Planet")
+	@Table(name = "Planet")
+	@NamedQuery(name = Planet.FIND_ALL, query = "from Planet order by id")
+	public static class Planet {
+
+		public static final String FIND_ALL = "Planet.findAll";
+
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Planet() {
+		}
+
+		public Planet(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			Planet planet = (Planet) o;
+			return Objects.equals( name, planet.name );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( name );
+		}
+	}
+}
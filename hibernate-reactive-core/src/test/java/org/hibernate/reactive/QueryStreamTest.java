@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+
+import org.hibernate.reactive.annotations.EnabledFor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.MARIA;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.MYSQL;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+
+/**
+ * Test streaming the results of a query using a cursor
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+@EnabledFor(value = { POSTGRESQL, MYSQL, MARIA }, reason = "Other databases haven't been tested with cursors")
+public class QueryStreamTest extends BaseReactiveTest {
+
+	private static final int ROWS = 25;
+
+	private final ExecutorService requester = Executors.newSingleThreadExecutor();
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Flour.class );
+	}
+
+	@AfterEach
+	public void shutdownRequester() {
+		requester.shutdownNow();
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		final List<Flour> flours = new ArrayList<>();
+		for ( int i = 0; i < ROWS; i++ ) {
+			flours.add( new Flour( i, "Flour " + i ) );
+		}
+		test( context, getMutinySessionFactory().withTransaction( s -> s.persistAll( flours.toArray() ) ) );
+	}
+
+	@Test
+	public void testResultMulti(VertxTestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( s -> s
+				.createSelectionQuery( "from Flour order by id", Flour.class )
+				// Smaller than the number of rows, so that we need more than one round trip
+				.getResultMulti( 4 )
+				.collect().asList()
+		).invoke( results -> {
+			assertThat( results ).hasSize( ROWS );
+			for ( int i = 0; i < ROWS; i++ ) {
+				assertThat( results.get( i ).getId() ).isEqualTo( i );
+			}
+		} ) );
+	}
+
+	@Test
+	public void testResultMultiWithCancellation(VertxTestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( s -> s
+				.createSelectionQuery( "from Flour order by id", Flour.class )
+				.getResultMulti( 4 )
+				.select().first( 6 )
+				.collect().asList()
+				// The session can be used again after the cancellation
+				.call( list -> s.createSelectionQuery( "select count(*) from Flour", Long.class ).getSingleResult()
+						.invoke( count -> assertThat( count ).isEqualTo( ROWS ) ) )
+		).invoke( results -> assertThat( results ).extracting( Flour::getId ).containsExactly( 0, 1, 2, 3, 4, 5 ) ) );
+	}
+
+	@Test
+	public void testResultStream(VertxTestContext context) {
+		test( context, getSessionFactory().withTransaction( s -> collect( s
+				.createSelectionQuery( "select name from Flour order by id", String.class )
+				.getResultStream( 7 ) )
+		).thenAccept( results -> {
+			assertThat( results ).hasSize( ROWS );
+			assertThat( results.get( 0 ) ).isEqualTo( "Flour 0" );
+			assertThat( results.get( ROWS - 1 ) ).isEqualTo( "Flour " + ( ROWS - 1 ) );
+		} ) );
+	}
+
+	@Test
+	public void testResultStreamRequestedFromAnotherThread(VertxTestContext context) {
+		final List<Context> contexts = new ArrayList<>();
+		test( context, getSessionFactory().withTransaction( s -> {
+			final Context sessionContext = Vertx.currentContext();
+			return collect(
+					s.createSelectionQuery( "select name from Flour order by id", String.class ).getResultStream( 3 ),
+					requester,
+					contexts
+			)
+					// The session is still usable on its context
+					.thenCompose( results -> s.createSelectionQuery( "select count(*) from Flour", Long.class )
+							.getSingleResult()
+							.thenAccept( count -> assertThat( count ).isEqualTo( ROWS ) )
+							.thenApply( v -> results ) )
+					.thenAccept( results -> {
+						assertThat( results ).hasSize( ROWS );
+						assertThat( sessionContext ).isNotNull();
+						// The execution always resumed on the context of the session
+						assertThat( contexts ).hasSize( ROWS ).containsOnly( sessionContext );
+					} );
+		} ) );
+	}
+
+	/**
+	 * Collect the elements of the publisher requesting them one at a time
+	 */
+	private static <T> CompletionStage<List<T>> collect(Flow.Publisher<T> publisher) {
+		return collect( publisher, Runnable::run, new ArrayList<>() );
+	}
+
+	/**
+	 * Collect the elements of the publisher requesting them one at a time,
+	 * using the given executor, and record the Vert.x context of each element
+	 */
+	private static <T> CompletionStage<List<T>> collect(Flow.Publisher<T> publisher, Executor requester, List<Context> contexts) {
+		final CompletableFuture<List<T>> result = new CompletableFuture<>();
+		publisher.subscribe( new Flow.Subscriber<>() {
+			private final List<T> elements = new ArrayList<>();
+			private Flow.Subscription subscription;
+
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				this.subscription = subscription;
+				subscription.request( 1 );
+			}
+
+			@Override
+			public void onNext(T item) {
+				elements.add( item );
+				contexts.add( Vertx.currentContext() );
+				requester.execute( () -> subscription.request( 1 ) );
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+				result.completeExceptionally( throwable );
+			}
+
+			@Override
+			public void onComplete() {
+				result.complete( elements );
+			}
+		} );
+		return result;
+	}
+
+	@Entity(name = "Flour")
+	@Table(name = "Flour")
+	public static class Flour {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Flour() {
+		}
+
+		public Flour(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			Flour flour = (Flour) o;
+			return Objects.equals( name, flour.name );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode( name );
+		}
+	}
+}
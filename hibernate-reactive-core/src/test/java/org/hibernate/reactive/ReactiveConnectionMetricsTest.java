@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.ReactiveConnectionMetrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test that the activity of the connections is recorded by
+ * the {@link ReactiveConnectionMetrics} service.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class ReactiveConnectionMetricsTest extends BaseReactiveTest {
+
+	private static final String INSERT_FINGERPRINT = "insert into Parrot (name,id) values (?,?)";
+
+	private static final RecordingMetrics metrics = new RecordingMetrics();
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Parrot.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		builder.addService( ReactiveConnectionMetrics.class, metrics );
+	}
+
+	@BeforeEach
+	public void clearMetrics() {
+		metrics.clear();
+	}
+
+	@Test
+	public void testBatchedInserts(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( new Parrot( 1, "Polly" ), new Parrot( 2, "Kiko" ), new Parrot( 3, "Rio" ) ) )
+				.invoke( () -> {
+					assertThat( metrics.batches ).containsExactly( INSERT_FINGERPRINT + " x 3" );
+					assertThat( metrics.statements ).contains( INSERT_FINGERPRINT );
+					assertThat( metrics.acquired ).hasPositiveValue();
+					assertThat( metrics.released ).hasValue( metrics.acquired.get() );
+				} )
+		);
+	}
+
+	@Test
+	public void testInListsHaveTheSameFingerprint(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( new Parrot( 1, "Polly" ), new Parrot( 2, "Kiko" ), new Parrot( 3, "Rio" ) ) )
+				.invoke( metrics::clear )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createSelectionQuery( "from Parrot where id in :ids", Parrot.class )
+						.setParameter( "ids", List.of( 1, 2 ) )
+						.getResultList()
+						.chain( () -> s.createSelectionQuery( "from Parrot where id in :ids", Parrot.class )
+								.setParameter( "ids", List.of( 1, 2, 3 ) )
+								.getResultList() )
+				) )
+				.invoke( parrots -> {
+					assertThat( parrots ).hasSize( 3 );
+					assertThat( metrics.statements ).hasSize( 2 );
+					assertThat( metrics.statements.peek() )
+							.endsWith( " in (?)" )
+							.isEqualTo( metrics.statements.toArray()[1] );
+					assertThat( metrics.rows ).hasValue( 5 );
+				} )
+		);
+	}
+
+	private static class RecordingMetrics implements ReactiveConnectionMetrics {
+		final Queue<String> statements = new ConcurrentLinkedQueue<>();
+		final Queue<String> batches = new ConcurrentLinkedQueue<>();
+		final AtomicInteger rows = new AtomicInteger();
+		final AtomicInteger acquired = new AtomicInteger();
+		final AtomicInteger released = new AtomicInteger();
+
+		@Override
+		public void statementExecuted(String fingerprint, long durationNanos, int rows, boolean failed) {
+			assertThat( durationNanos ).isNotNegative();
+			statements.add( fingerprint );
+			this.rows.addAndGet( rows );
+		}
+
+		@Override
+		public void batchExecuted(String fingerprint, int batchSize) {
+			batches.add( fingerprint + " x " + batchSize );
+		}
+
+		@Override
+		public void connectionAcquired(long waitNanos) {
+			acquired.incrementAndGet();
+		}
+
+		@Override
+		public void connectionReleased(long heldNanos) {
+			released.incrementAndGet();
+		}
+
+		void clear() {
+			statements.clear();
+			batches.clear();
+			rows.set( 0 );
+			acquired.set( 0 );
+			released.set( 0 );
+		}
+	}
+
+	@Entity(name = "Parrot")
+	@Table(name = "Parrot")
+	public static class Parrot {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Parrot() {
+		}
+
+		public Parrot(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,361 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.annotations.EnabledFor;
+import org.hibernate.reactive.cache.ReactiveRegionAccessFactory;
+import org.hibernate.reactive.cache.impl.LocalReactiveRegionAccessFactory;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.NONSTRICT_READ_WRITE;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+
+/**
+ * Test that the entities in the second-level cache are copied to,
+ * and read from, the {@link ReactiveRegionAccessFactory}, also when
+ * it's shared by two session factories, simulating two nodes.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class ReactiveRegionAccessTest extends BaseReactiveTest {
+
+	private static final String REGION_NAME = "reactive-region";
+
+	private static final LocalReactiveRegionAccessFactory regionAccessFactory =
+			new LocalReactiveRegionAccessFactory( 100, Duration.ofMinutes( 10 ) );
+
+	private static SqlStatementTracker sqlTracker;
+
+	// Another node, with its own local regions
+	private SessionFactoryImplementor secondNodeFactory;
+	private Mutiny.SessionFactory secondNode;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Planet.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "true" );
+		configuration.setProperty( Environment.CACHE_REGION_FACTORY, "org.hibernate.cache.jcache.JCacheRegionFactory" );
+		configuration.setProperty( "hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider" );
+		configuration.setProperty( "hibernate.javax.cache.uri", "/ehcache.xml" );
+		sqlTracker = new SqlStatementTracker( ReactiveRegionAccessTest::isSelectQuery, configuration.getProperties() );
+		return configuration;
+	}
+
+	@AfterEach
+	public void closeSecondNode() {
+		if ( secondNodeFactory != null ) {
+			secondNodeFactory.close();
+			secondNodeFactory = null;
+			secondNode = null;
+		}
+	}
+
+	/**
+	 * A session factory for the same database, with the same
+	 * {@link ReactiveRegionAccessFactory}, but whose local regions
+	 * are in a different cache manager.
+	 */
+	private void startSecondNode() {
+		Configuration configuration = new Configuration();
+		setDefaultProperties( configuration );
+		configuration.addAnnotatedClass( Planet.class );
+		configuration.setProperty( Settings.HBM2DDL_AUTO, "none" );
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "true" );
+		configuration.setProperty( Environment.CACHE_REGION_FACTORY, "org.hibernate.cache.jcache.JCacheRegionFactory" );
+		configuration.setProperty( "hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider" );
+		configuration.setProperty( "hibernate.javax.cache.uri", "/ehcache-second-node.xml" );
+		StandardServiceRegistryBuilder builder = new ReactiveServiceRegistryBuilder()
+				.applySettings( configuration.getProperties() );
+		addServices( builder );
+		StandardServiceRegistry registry = builder.build();
+		secondNodeFactory = (SessionFactoryImplementor) configuration.buildSessionFactory( registry );
+		secondNode = secondNodeFactory.unwrap( Mutiny.SessionFactory.class );
+	}
+
+	private static boolean isSelectQuery(String s) {
+		return s.toLowerCase().startsWith( "select" );
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+		builder.addService( ReactiveRegionAccessFactory.class, regionAccessFactory );
+	}
+
+	@Test
+	public void testFindFromReactiveRegion(VertxTestContext context) {
+		final org.hibernate.Cache cache = localCache();
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persist( new Planet( 1, "Earth" ) ) )
+				// Loading it from the database puts it in both tiers
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Planet.class, 1 ) ) )
+				.invoke( () -> {
+					assertThat( cache.contains( Planet.class, 1 ) ).isTrue();
+					cache.evict( Planet.class );
+					sqlTracker.clear();
+				} )
+				// Now it's only in the reactive region
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Planet.class, 1 ) ) )
+				.invoke( planet -> {
+					assertThat( planet.getName() ).isEqualTo( "Earth" );
+					assertThat( sqlTracker.getLoggedQueries() ).isEmpty();
+					assertThat( cache.contains( Planet.class, 1 ) ).isTrue();
+				} )
+		);
+	}
+
+	@Test
+	public void testUpdateEvictsReactiveRegion(VertxTestContext context) {
+		final org.hibernate.Cache cache = localCache();
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persist( new Planet( 2, "Mars" ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Planet.class, 2 ) ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( s -> s
+						.find( Planet.class, 2 )
+						.invoke( planet -> planet.setName( "Red Planet" ) )
+				) )
+				.invoke( () -> {
+					cache.evict( Planet.class );
+					sqlTracker.clear();
+				} )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Planet.class, 2 ) ) )
+				.invoke( planet -> {
+					assertThat( planet.getName() ).isEqualTo( "Red Planet" );
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testEntitySharedByTwoNodes(VertxTestContext context) {
+		startSecondNode();
+		final org.hibernate.Cache secondNodeCache = secondNodeFactory.getCache();
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persist( new Planet( 3, "Venus" ) ) )
+				// The first node puts it in the shared region
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Planet.class, 3 ) ) )
+				.invoke( () -> sqlTracker.clear() )
+				// The second node reads it from the shared region
+				.chain( () -> secondNode.withSession( s -> s.find( Planet.class, 3 ) ) )
+				.invoke( planet -> {
+					assertThat( planet.getName() ).isEqualTo( "Venus" );
+					assertThat( sqlTracker.getLoggedQueries() ).isEmpty();
+					assertThat( secondNodeCache.contains( Planet.class, 3 ) ).isTrue();
+				} )
+				// The first node updates it, and evicts it from the shared region
+				.chain( () -> getMutinySessionFactory().withTransaction( s -> s
+						.find( Planet.class, 3 )
+						.invoke( planet -> planet.setName( "Morning Star" ) )
+				) )
+				.invoke( () -> assertThat( regionAccessFactory.getRegionAccess( REGION_NAME )
+						.get( secondNodeCacheKey( 3 ) ).toCompletableFuture().join() ).isNull() )
+				// The local region of the second node keeps the stale entry until it expires
+				.chain( () -> secondNode.withSession( s -> s.find( Planet.class, 3 ) ) )
+				.invoke( planet -> assertThat( planet.getName() ).isEqualTo( "Venus" ) )
+				.invoke( () -> secondNodeCache.evict( Planet.class ) )
+				// Then the second node doesn't find a stale entry in the shared region
+				.chain( () -> secondNode.withSession( s -> s.find( Planet.class, 3 ) ) )
+				.invoke( planet -> assertThat( planet.getName() ).isEqualTo( "Morning Star" ) )
+		);
+	}
+
+	@Test
+	@EnabledFor(value = POSTGRESQL, reason = "The second node must read the row while it's being updated, without waiting")
+	public void testEvictAfterCommit(VertxTestContext context) {
+		startSecondNode();
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persist( new Planet( 5, "Ceres" ) ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( s -> s
+						.find( Planet.class, 5 )
+						.invoke( planet -> planet.setName( "Dwarf Planet" ) )
+						.call( s::flush )
+						// Before the commit, the second node reads the previous
+						// state and copies it to the shared region
+						.chain( () -> secondNode.withSession( s2 -> s2.find( Planet.class, 5 ) ) )
+						.invoke( planet -> {
+							assertThat( planet.getName() ).isEqualTo( "Ceres" );
+							assertThat( sharedEntry( 5 ) ).isNotNull();
+						} )
+				) )
+				// The commit evicts the stale entry again
+				.invoke( () -> assertThat( sharedEntry( 5 ) ).isNull() )
+		);
+	}
+
+	@Test
+	public void testBulkUpdateEvictsReactiveRegion(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persist( new Planet( 6, "Saturn" ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Planet.class, 6 ) ) )
+				.invoke( () -> assertThat( sharedEntry( 6 ) ).isNotNull() )
+				.chain( () -> getMutinySessionFactory().withTransaction( s -> s
+						.createMutationQuery( "update Planet set name = :name where id = :id" )
+						.setParameter( "name", "Cronus" )
+						.setParameter( "id", 6 )
+						.executeUpdate()
+				) )
+				.invoke( () -> assertThat( sharedEntry( 6 ) ).isNull() )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Planet.class, 6 ) ) )
+				.invoke( planet -> assertThat( planet.getName() ).isEqualTo( "Cronus" ) )
+		);
+	}
+
+	@Test
+	public void testNativeUpdateEvictsReactiveRegion(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persist( new Planet( 7, "Uranus" ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Planet.class, 7 ) ) )
+				.invoke( () -> assertThat( sharedEntry( 7 ) ).isNotNull() )
+				// Without the affected tables, a native statement evicts all the regions
+				.chain( () -> getMutinySessionFactory().withTransaction( s -> s
+						.createNativeQuery( "update ReactiveRegionPlanet set name = 'Caelus' where id = 7" )
+						.executeUpdate()
+				) )
+				.invoke( () -> assertThat( sharedEntry( 7 ) ).isNull() )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Planet.class, 7 ) ) )
+				.invoke( planet -> assertThat( planet.getName() ).isEqualTo( "Caelus" ) )
+		);
+	}
+
+	@Test
+	public void testCacheEvictsReactiveRegion(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( new Planet( 8, "Neptune" ), new Planet( 9, "Pluto" ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Planet.class, 8 ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Planet.class, 9 ) ) )
+				.invoke( () -> {
+					assertThat( sharedEntry( 8 ) ).isNotNull();
+					assertThat( sharedEntry( 9 ) ).isNotNull();
+
+					// The regions in memory complete the eviction immediately
+					getMutinySessionFactory().getCache().evict( Planet.class, 8 );
+					assertThat( sharedEntry( 8 ) ).isNull();
+					assertThat( sharedEntry( 9 ) ).isNotNull();
+					assertThat( localCache().contains( Planet.class, 8 ) ).isFalse();
+
+					getSessionFactory().getCache().evictAll();
+					assertThat( sharedEntry( 9 ) ).isNull();
+					assertThat( localCache().contains( Planet.class, 9 ) ).isFalse();
+				} )
+		);
+	}
+
+	@Test
+	public void testQueryResultsAreNotShared(VertxTestContext context) {
+		startSecondNode();
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persist( new Planet( 4, "Jupiter" ) ) )
+				// The second node caches the results of the query
+				.chain( () -> secondNode.withSession( s -> planetName( s, 4 ) ) )
+				.invoke( name -> assertThat( name ).isEqualTo( "Jupiter" ) )
+				// Another node updates the planet, so the update timestamps
+				// of the first node don't know about it
+				.chain( () -> secondNode.withTransaction( s -> s
+						.createMutationQuery( "update Planet set name = :name where id = :id" )
+						.setParameter( "name", "Zeus" )
+						.setParameter( "id", 4 )
+						.executeUpdate()
+				) )
+				.invoke( () -> sqlTracker.clear() )
+				// The first node must not read results cached by another node
+				.chain( () -> getMutinySessionFactory().withSession( s -> planetName( s, 4 ) ) )
+				.invoke( name -> {
+					assertThat( name ).isEqualTo( "Zeus" );
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+				} )
+		);
+	}
+
+	private static Uni<String> planetName(Mutiny.Session session, int id) {
+		return session.createSelectionQuery( "select name from Planet where id = :id", String.class )
+				.setParameter( "id", id )
+				.setCacheable( true )
+				.getSingleResult();
+	}
+
+	/**
+	 * @return the cache of the first node, which only evicts the local regions
+	 */
+	private org.hibernate.Cache localCache() {
+		return getSessionFactory().unwrap( SessionFactoryImplementor.class ).getCache();
+	}
+
+	private Object sharedEntry(Object id) {
+		final SessionFactoryImplementor factory = getSessionFactory().unwrap( SessionFactoryImplementor.class );
+		final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( Planet.class );
+		final Object cacheKey = persister.getCacheAccessStrategy().generateCacheKey( id, persister, factory, null );
+		return regionAccessFactory.getRegionAccess( REGION_NAME ).get( cacheKey ).toCompletableFuture().join();
+	}
+
+	private Object secondNodeCacheKey(Object id) {
+		final EntityPersister persister = secondNodeFactory.getMappingMetamodel()
+				.getEntityDescriptor( Planet.class );
+		return persister.getCacheAccessStrategy().generateCacheKey( id, persister, secondNodeFactory, null );
+	}
+
+	@Entity(name = "Planet")
+	@Table(name = "ReactiveRegionPlanet")
+	@Cacheable
+	@Cache(region = REGION_NAME, usage = NONSTRICT_READ_WRITE)
+	public static class Planet {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Planet() {
+		}
+
+		public Planet(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.net.URI;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.annotations.EnabledFor;
+import org.hibernate.reactive.containers.DatabaseConfiguration;
+import org.hibernate.reactive.pool.impl.ReplicaRoutingSqlClientPool;
+import org.hibernate.reactive.pool.impl.SqlClientPoolConfiguration;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnectOptions;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+
+/**
+ * Test that the queries that only read data are executed by the
+ * replica when no transaction is in progress.
+ * <p>
+ * The replica is the same database, but its connections have a
+ * different {@code application_name}.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+@EnabledFor(value = POSTGRESQL, reason = "The test uses the PostgreSQL application_name to identify the replica")
+public class ReplicaRoutingTest extends BaseReactiveTest {
+
+	private static final String REPLICA = "hibernate-reactive-replica";
+	private static final String APPLICATION_NAME = "select current_setting('application_name')";
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.SQL_CLIENT_POOL, ReplicaPool.class.getName() );
+		configuration.setProperty( Settings.REPLICA_URLS, DatabaseConfiguration.getJdbcUrl() );
+		return configuration;
+	}
+
+	@Test
+	public void testReadOnlySession(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s
+						.setDefaultReadOnly( true )
+						.createNativeQuery( APPLICATION_NAME, String.class )
+						.getSingleResult()
+				)
+				.invoke( name -> assertThat( name ).isEqualTo( REPLICA ) )
+		);
+	}
+
+	@Test
+	public void testReadOnlyQuery(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s
+						.createNativeQuery( APPLICATION_NAME, String.class )
+						.setReadOnly( true )
+						.getSingleResult()
+						.invoke( name -> assertThat( name ).isEqualTo( REPLICA ) )
+						.chain( () -> s.createNativeQuery( APPLICATION_NAME, String.class ).getSingleResult() )
+						.invoke( name -> assertThat( name ).isNotEqualTo( REPLICA ) )
+				)
+		);
+	}
+
+	@Test
+	public void testReadOnlySessionInTransaction(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s
+						.setDefaultReadOnly( true )
+						.createNativeQuery( APPLICATION_NAME, String.class )
+						.getSingleResult()
+				)
+				.invoke( name -> assertThat( name ).isNotEqualTo( REPLICA ) )
+		);
+	}
+
+	@Test
+	public void testStatelessSession(VertxTestContext context) {
+		test( context, getMutinySessionFactory()
+				.withStatelessSession( s -> s
+						.createNativeQuery( APPLICATION_NAME, String.class )
+						.getSingleResult()
+				)
+				.invoke( name -> assertThat( name ).isEqualTo( REPLICA ) )
+				.chain( () -> getMutinySessionFactory()
+						.withStatelessTransaction( s -> s
+								.createNativeQuery( APPLICATION_NAME, String.class )
+								.getSingleResult()
+						)
+				)
+				.invoke( name -> assertThat( name ).isNotEqualTo( REPLICA ) )
+		);
+	}
+
+	public static class ReplicaPool extends ReplicaRoutingSqlClientPool {
+		@Override
+		protected SqlClientPoolConfiguration replicaConfiguration(URI uri) {
+			final SqlClientPoolConfiguration configuration = super.replicaConfiguration( uri );
+			return new SqlClientPoolConfiguration() {
+				@Override
+				public PoolOptions poolOptions() {
+					return configuration.poolOptions();
+				}
+
+				@Override
+				public SqlConnectOptions connectOptions(URI uri) {
+					return configuration.connectOptions( uri ).addProperty( "application_name", REPLICA );
+				}
+			};
+		}
+	}
+}
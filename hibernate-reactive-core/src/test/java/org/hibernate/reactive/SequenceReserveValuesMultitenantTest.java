@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.MyCurrentTenantIdentifierResolver.Tenant;
+import org.hibernate.reactive.annotations.EnabledFor;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.MyCurrentTenantIdentifierResolver.Tenant.TENANT_1;
+import static org.hibernate.reactive.MyCurrentTenantIdentifierResolver.Tenant.TENANT_2;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+
+/**
+ * Check that the sequence values reserved by a call to {@code persistAll()}
+ * are never used by another session, or for another tenant.
+ * <p>
+ * Persisting the same entity twice in the same call reserves one value
+ * more than the call uses. Each tenant has its own database, with its
+ * own sequence starting from a different value.
+ *
+ * @see Settings#ID_SEQUENCE_RESERVE_VALUES
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+@EnabledFor(value = POSTGRESQL, reason = "The databases of the tenants are only created for PostgreSQL")
+public class SequenceReserveValuesMultitenantTest extends BaseReactiveTest {
+
+	private static final MyCurrentTenantIdentifierResolver TENANT_RESOLVER = new MyCurrentTenantIdentifierResolver();
+
+	private static final long TENANT_1_START = 1000;
+	private static final long TENANT_2_START = 2000;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Ticket.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.ID_SEQUENCE_RESERVE_VALUES, "true" );
+		configuration.setProperty( AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER, "anything" );
+		configuration.getProperties().put( Settings.MULTI_TENANT_IDENTIFIER_RESOLVER, TENANT_RESOLVER );
+		// Contains the SQL scripts for the creation of the additional databases
+		configuration.setProperty( Settings.HBM2DDL_IMPORT_FILES, "/multitenancy-test.sql" );
+		configuration.setProperty( Settings.SQL_CLIENT_POOL, TenantDependentPool.class.getName() );
+		return configuration;
+	}
+
+	@BeforeEach
+	public void createSequences(VertxTestContext context) {
+		// The schema is only exported to the database of the default tenant
+		test( context, createSequence( TENANT_1, TENANT_1_START )
+				.chain( () -> createSequence( TENANT_2, TENANT_2_START ) ) );
+	}
+
+	private Uni<Integer> createSequence(Tenant tenant, long start) {
+		return getMutinySessionFactory().withSession( tenant.name(), s -> s
+				.createNativeQuery( "drop sequence if exists ticket_tenant_seq" )
+				.executeUpdate()
+				.chain( () -> s
+						.createNativeQuery( "create sequence ticket_tenant_seq start with " + start )
+						.executeUpdate() ) );
+	}
+
+	@Test
+	public void testReservedValuesNotUsedByAnotherTenant(VertxTestContext context) {
+		final Ticket first = new Ticket( "First" );
+		final Ticket second = new Ticket( "Second" );
+		final Ticket other = new Ticket( "Other tenant" );
+		// The entities are never flushed, the tables only exist for the default tenant
+		test( context, getMutinySessionFactory()
+				.withSession( TENANT_1.name(), s -> s.persistAll( first, second, first ) )
+				.chain( () -> getMutinySessionFactory().withSession( TENANT_2.name(), s -> s.persist( other ) ) )
+				.invoke( () -> {
+					assertThat( first.getId() ).isEqualTo( TENANT_1_START );
+					assertThat( second.getId() ).isEqualTo( TENANT_1_START + 1 );
+					assertThat( other.getId() ).isEqualTo( TENANT_2_START );
+				} )
+		);
+	}
+
+	@Test
+	public void testReservedValuesNotUsedByAnotherSession(VertxTestContext context) {
+		final Ticket first = new Ticket( "First" );
+		final Ticket second = new Ticket( "Second" );
+		final Ticket other = new Ticket( "Other session" );
+		test( context, getMutinySessionFactory()
+				.withSession( TENANT_1.name(), s -> s.persistAll( first, second, first ) )
+				.chain( () -> getMutinySessionFactory().withSession( TENANT_1.name(), s -> s.persist( other ) ) )
+				.invoke( () -> {
+					assertThat( first.getId() ).isEqualTo( TENANT_1_START );
+					assertThat( second.getId() ).isEqualTo( TENANT_1_START + 1 );
+					// The value reserved for the duplicate has been discarded
+					assertThat( other.getId() ).isEqualTo( TENANT_1_START + 3 );
+				} )
+		);
+	}
+
+	@Entity(name = "Ticket")
+	@Table(name = "TenantTicket")
+	public static class Ticket {
+		@Id
+		@GeneratedValue(generator = "ticket_tenant_seq")
+		@SequenceGenerator(name = "ticket_tenant_seq", sequenceName = "ticket_tenant_seq", allocationSize = 1)
+		private Long id;
+
+		private String code;
+
+		public Ticket() {
+		}
+
+		public Ticket(String code) {
+			this.code = code;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getCode() {
+			return code;
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.annotations.EnabledFor;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+
+/**
+ * Check that the values of a sequence with allocation size 1 are
+ * fetched with a single query when persisting multiple entities.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+@EnabledFor(value = POSTGRESQL, reason = "We check the queries generated for PostgreSQL")
+public class SequenceReserveValuesTest extends BaseReactiveTest {
+
+	private static final int ENTITIES = 7;
+
+	private static SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Ticket.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.ID_SEQUENCE_RESERVE_VALUES, "true" );
+		sqlTracker = new SqlStatementTracker( SequenceReserveValuesTest::isSequenceQuery, configuration.getProperties() );
+		return configuration;
+	}
+
+	private static boolean isSequenceQuery(String s) {
+		return s.toLowerCase().contains( "nextval" );
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	@Test
+	public void testPersistAll(VertxTestContext context) {
+		final List<Ticket> tickets = tickets();
+		sqlTracker.clear();
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( tickets.toArray() ) )
+				.invoke( () -> {
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+					assertThat( tickets ).extracting( Ticket::getId ).doesNotContainNull().doesNotHaveDuplicates();
+				} )
+		);
+	}
+
+	@Test
+	public void testInsertMultiple(VertxTestContext context) {
+		final List<Ticket> tickets = tickets();
+		sqlTracker.clear();
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( s -> s.insertMultiple( tickets ) )
+				.invoke( () -> {
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+					assertThat( tickets ).extracting( Ticket::getId ).doesNotContainNull().doesNotHaveDuplicates();
+				} )
+		);
+	}
+
+	private static List<Ticket> tickets() {
+		final List<Ticket> tickets = new ArrayList<>();
+		for ( int i = 0; i < ENTITIES; i++ ) {
+			tickets.add( new Ticket( "Ticket " + i ) );
+		}
+		return tickets;
+	}
+
+	@Entity(name = "Ticket")
+	@Table(name = "Ticket")
+	public static class Ticket {
+		@Id
+		@GeneratedValue(generator = "ticket_seq")
+		@SequenceGenerator(name = "ticket_seq", allocationSize = 1)
+		private Long id;
+
+		private String code;
+
+		public Ticket() {
+		}
+
+		public Ticket(String code) {
+			this.code = code;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getCode() {
+			return code;
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.schema;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.reactive.BaseReactiveTest;
+import org.hibernate.reactive.annotations.EnabledFor;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.provider.service.ReactiveImprovedExtractionContextImpl;
+import org.hibernate.reactive.provider.service.SqlServerReactiveInformationExtractorImpl;
+import org.hibernate.reactive.vertx.VertxInstance;
+import org.hibernate.tool.schema.extract.spi.ColumnInformation;
+import org.hibernate.tool.schema.extract.spi.ForeignKeyInformation;
+import org.hibernate.tool.schema.extract.spi.IndexInformation;
+import org.hibernate.tool.schema.extract.spi.TableInformation;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.SQLSERVER;
+
+/**
+ * Check that reading the metadata of all the tables at once gives the
+ * same result as reading the metadata of each table, when the database
+ * ignores the case of the table names. The tables are looked up with
+ * names that don't have the case used when they were created.
+ *
+ * @see Settings#SCHEMA_METADATA_BULK_EXTRACTION
+ */
+@EnabledFor(SQLSERVER)
+@Timeout(value = 10, timeUnit = MINUTES)
+public class BulkExtractionCaseInsensitiveTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Author.class, Book.class );
+	}
+
+	@Test
+	public void testSameMetadata(VertxTestContext context) {
+		final SessionFactoryImplementor factory = getSessionFactory().unwrap( SessionFactoryImplementor.class );
+		test( context, factory.getServiceRegistry().requireService( VertxInstance.class ).getVertx()
+				// The extraction of the metadata blocks the thread
+				.executeBlocking( () -> {
+					final Set<String> author = describe( factory, "bulkmetadataauthor", false );
+					assertThat( author ).contains(
+							"column id",
+							"column name",
+							"index i_bulk_metadata_author_name (name)"
+					);
+					assertThat( describe( factory, "bulkmetadataauthor", true ) ).isEqualTo( author );
+
+					final Set<String> book = describe( factory, "BULKMETADATABOOK", false );
+					assertThat( book ).contains(
+							"column id",
+							"column title",
+							"column author_id",
+							"foreign key fk_bulk_metadata_book_author (author_id -> id)"
+					);
+					assertThat( describe( factory, "BULKMETADATABOOK", true ) ).isEqualTo( book );
+					return null;
+				}, false )
+				.toCompletionStage()
+		);
+	}
+
+	/**
+	 * @return the columns, primary key, indexes and foreign keys of the table
+	 */
+	private static Set<String> describe(SessionFactoryImplementor factory, String tableName, boolean bulk) {
+		final ReactiveImprovedExtractionContextImpl extractionContext = new ReactiveImprovedExtractionContextImpl(
+				factory.getServiceRegistry(),
+				factory.getSqlStringGenerationContext(),
+				null
+		) {
+			@Override
+			public boolean isBulkExtractionEnabled() {
+				return bulk;
+			}
+		};
+		try {
+			final TableInformation table = new SqlServerReactiveInformationExtractorImpl( extractionContext )
+					.getTable( null, null, Identifier.toIdentifier( tableName ) );
+			assertThat( table ).as( "table " + tableName ).isNotNull();
+
+			final Set<String> description = new TreeSet<>();
+			for ( String column : List.of( "id", "name", "title", "author_id" ) ) {
+				final ColumnInformation information = table.getColumn( Identifier.toIdentifier( column ) );
+				if ( information != null ) {
+					description.add( "column " + column );
+					description.add( "column " + column + " " + information.getTypeName()
+							+ " " + information.getColumnSize() + " " + information.getNullable() );
+				}
+			}
+			if ( table.getPrimaryKey() != null ) {
+				final StringBuilder primaryKey = new StringBuilder( "primary key" );
+				table.getPrimaryKey().getColumns()
+						.forEach( column -> primaryKey.append( ' ' ).append( name( column ) ) );
+				description.add( primaryKey.toString() );
+			}
+			for ( IndexInformation index : table.getIndexes() ) {
+				final StringBuilder columns = new StringBuilder();
+				index.getIndexedColumns().forEach( column -> columns
+						.append( columns.isEmpty() ? "" : ", " )
+						.append( name( column ) ) );
+				description.add( "index " + name( index.getIndexIdentifier() ) + " (" + columns + ")" );
+			}
+			for ( ForeignKeyInformation foreignKey : table.getForeignKeys() ) {
+				final StringBuilder columns = new StringBuilder();
+				foreignKey.getColumnReferenceMappings().forEach( mapping -> columns
+						.append( columns.isEmpty() ? "" : ", " )
+						.append( name( mapping.getReferencingColumnMetadata() ) )
+						.append( " -> " )
+						.append( name( mapping.getReferencedColumnMetadata() ) ) );
+				description.add( "foreign key " + name( foreignKey.getForeignKeyIdentifier() ) + " (" + columns + ")" );
+			}
+			return description;
+		}
+		finally {
+			extractionContext.cleanup();
+		}
+	}
+
+	private static String name(ColumnInformation column) {
+		return name( column.getColumnIdentifier() );
+	}
+
+	private static String name(Identifier identifier) {
+		return identifier.getText().toLowerCase( Locale.ROOT );
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "BulkMetadataAuthor", indexes = @Index(name = "i_bulk_metadata_author_name", columnList = "name"))
+	public static class Author {
+		@Id
+		Integer id;
+
+		String name;
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "BulkMetadataBook")
+	public static class Book {
+		@Id
+		Integer id;
+
+		String title;
+
+		@ManyToOne
+		@JoinColumn(name = "author_id", foreignKey = @ForeignKey(name = "fk_bulk_metadata_book_author"))
+		Author author;
+	}
+}
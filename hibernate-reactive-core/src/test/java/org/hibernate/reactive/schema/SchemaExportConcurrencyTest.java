@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.schema;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.reactive.BaseReactiveTest;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.testing.ReactiveAssertions.assertThrown;
+
+/**
+ * Test the schema export when {@link Settings#SCHEMA_EXPORT_CONCURRENCY}
+ * is greater than {@code 1}: the tables, the indexes, the foreign keys
+ * and the table used as a sequence must be created in the right order,
+ * and dropped when the factory is closed.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class SchemaExportConcurrencyTest extends BaseReactiveTest {
+
+	private static final String AUTHOR_TABLE = "ConcurrentExportAuthor";
+
+	protected Configuration constructConfiguration(String hbm2DdlOption) {
+		Configuration configuration = constructConfiguration();
+		configuration.setProperty( Settings.HBM2DDL_AUTO, hbm2DdlOption );
+		configuration.setProperty( Settings.SCHEMA_EXPORT_CONCURRENCY, "4" );
+		configuration.addAnnotatedClass( Author.class );
+		configuration.addAnnotatedClass( Book.class );
+		configuration.addAnnotatedClass( Review.class );
+		return configuration;
+	}
+
+	@Override
+	public void before(VertxTestContext context) {
+		// Do nothing, each test creates the schema
+	}
+
+	@Test
+	public void testCreateDrop(VertxTestContext context) {
+		final Author author = new Author( "Iain M. Banks" );
+		final Book book = new Book( "Excession", author );
+		final Review review = new Review( "Brilliant", book );
+		test( context, setupSessionFactory( constructConfiguration( "create-drop" ) )
+				// The table used as a sequence has been initialized
+				.thenCompose( v -> getSessionFactory().withTransaction( s -> s.persist( author, book, review ) ) )
+				.thenAccept( v -> assertThat( List.of( author.id, book.id, review.id ) ).doesNotContainNull().doesNotHaveDuplicates() )
+				// The unique index has been created
+				.thenCompose( v -> assertThrown( ConstraintViolationException.class, getSessionFactory()
+						.withTransaction( s -> s.persist( new Author( author.name ) ) ) ) )
+				// The foreign key has been created
+				.thenCompose( v -> assertThrown( ConstraintViolationException.class, getSessionFactory()
+						.withTransaction( s -> s
+								.createNativeQuery( "insert into ConcurrentExportReview (id, content, book_id) values (1000, 'Orphan', 1000)" )
+								.executeUpdate() ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createSelectionQuery( "from Review r join fetch r.book b join fetch b.author", Review.class )
+						.getSingleResult() ) )
+				.thenAccept( result -> {
+					assertThat( result.content ).isEqualTo( review.content );
+					assertThat( result.book.title ).isEqualTo( book.title );
+					assertThat( result.book.author.name ).isEqualTo( author.name );
+				} )
+				// Closing the factory drops the schema
+				.thenCompose( v -> factoryManager.stop() )
+				.thenCompose( v -> setupSessionFactory( constructConfiguration( "none" ) ) )
+				.thenCompose( v -> assertThrown( PersistenceException.class, countAuthors() ) )
+		);
+	}
+
+	private static CompletionStage<Long> countAuthors() {
+		return getSessionFactory().withSession( s -> s
+				.createNativeQuery( "select count(*) from " + AUTHOR_TABLE, Long.class )
+				.getSingleResult() );
+	}
+
+	@Entity(name = "Author")
+	@Table(name = AUTHOR_TABLE, indexes = @Index(name = "u_concurrent_export_author_name", columnList = "name", unique = true))
+	public static class Author {
+		@Id
+		@GeneratedValue(strategy = GenerationType.TABLE, generator = "concurrent_export")
+		@TableGenerator(name = "concurrent_export", table = "ConcurrentExportSequence")
+		Integer id;
+
+		String name;
+
+		public Author() {
+		}
+
+		public Author(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "ConcurrentExportBook", indexes = @Index(name = "i_concurrent_export_book_title", columnList = "title"))
+	public static class Book {
+		@Id
+		@GeneratedValue(strategy = GenerationType.TABLE, generator = "concurrent_export")
+		Integer id;
+
+		String title;
+
+		@ManyToOne
+		@JoinColumn(name = "author_id", foreignKey = @ForeignKey(name = "fk_concurrent_export_book_author"))
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(String title, Author author) {
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Review")
+	@Table(name = "ConcurrentExportReview")
+	public static class Review {
+		@Id
+		@GeneratedValue(strategy = GenerationType.TABLE, generator = "concurrent_export")
+		Integer id;
+
+		String content;
+
+		@ManyToOne
+		@JoinColumn(name = "book_id", foreignKey = @ForeignKey(name = "fk_concurrent_export_review_book"))
+		Book book;
+
+		public Review() {
+		}
+
+		public Review(String content, Book book) {
+			this.content = content;
+			this.book = book;
+		}
+	}
+}
@@ -64,6 +64,18 @@ protected Configuration constructConfiguration(String hbm2DdlOption) {
 		}
 	}
 
+	@Timeout(value = 10, timeUnit = MINUTES)
+	public static class BulkExtractionSchemaUpdatePostgreSqlTest extends SchemaUpdatePostgreSqlTestBase {
+
+		@Override
+		protected Configuration constructConfiguration(String hbm2DdlOption) {
+			final Configuration configuration = super.constructConfiguration( hbm2DdlOption );
+			configuration.setProperty( Settings.HBM2DDL_JDBC_METADATA_EXTRACTOR_STRATEGY, INDIVIDUALLY.toString() );
+			configuration.setProperty( Settings.SCHEMA_METADATA_BULK_EXTRACTION, "true" );
+			return configuration;
+		}
+	}
+
 	protected Configuration constructConfiguration(String hbm2DdlOption) {
 		Configuration configuration = constructConfiguration();
 		configuration.setProperty( Settings.HBM2DDL_AUTO, hbm2DdlOption );
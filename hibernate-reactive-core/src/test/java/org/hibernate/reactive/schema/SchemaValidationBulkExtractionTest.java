@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.schema;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.annotations.DisabledFor;
+import org.hibernate.reactive.provider.Settings;
+
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.DB2;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.MARIA;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.MYSQL;
+
+/**
+ * Same as {@link SchemaValidationTest}, but the metadata of all the tables
+ * is read at once.
+ *
+ * @see Settings#SCHEMA_METADATA_BULK_EXTRACTION
+ */
+@DisabledFor(value = DB2, reason = "We don't have an information extractor. See https://github.com/hibernate/hibernate-reactive/issues/911")
+@DisabledFor(value = { MARIA, MYSQL }, reason = "HHH-18869: Schema creation creates an invalid schema")
+public class SchemaValidationBulkExtractionTest extends SchemaValidationTest {
+
+	@Override
+	protected Configuration constructConfiguration(String action, String strategy, String type) {
+		Configuration configuration = super.constructConfiguration( action, strategy, type );
+		configuration.setProperty( Settings.SCHEMA_METADATA_BULK_EXTRACTION, "true" );
+		return configuration;
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.types;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.reactive.BaseReactiveTest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test the values of the basic types that are read directly from the
+ * Vert.x row, without the JDBC value extractors: integer, bigint,
+ * smallint, varchar and double. Each column has a value that can't be
+ * mistaken for the value of another column, or read with the wrong type.
+ */
+@Timeout(value = 10, timeUnit = MINUTES)
+public class BasicValuesFromRowTest extends BaseReactiveTest {
+
+	private static final RowValues VALUES = new RowValues( 1, Integer.MAX_VALUE, Long.MIN_VALUE, Short.MIN_VALUE, "Quarantine", -1234.125 );
+	private static final RowValues OTHER_VALUES = new RowValues( 2, -7, 31L, (short) 4, "Permutation City", 0.5 );
+	private static final RowValues NULL_VALUES = new RowValues( 3, null, null, null, null, null );
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( RowValues.class );
+	}
+
+	@BeforeEach
+	public void populateDb(VertxTestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( s -> s.persistAll(
+				new RowValues( VALUES ),
+				new RowValues( OTHER_VALUES ),
+				new RowValues( NULL_VALUES )
+		) ) );
+	}
+
+	@Test
+	public void testFind(VertxTestContext context) {
+		test( context, getMutinySessionFactory().withSession( s -> s
+				.find( RowValues.class, VALUES.id )
+				.invoke( result -> assertValues( result, VALUES ) )
+				.chain( () -> s.find( RowValues.class, NULL_VALUES.id ) )
+				.invoke( result -> assertValues( result, NULL_VALUES ) )
+		) );
+	}
+
+	@Test
+	public void testSelectEntities(VertxTestContext context) {
+		test( context, getMutinySessionFactory().withSession( s -> s
+				.createSelectionQuery( "from RowValues order by id", RowValues.class )
+				.getResultList()
+				.invoke( list -> {
+					assertThat( list ).hasSize( 3 );
+					assertValues( list.get( 0 ), VALUES );
+					assertValues( list.get( 1 ), OTHER_VALUES );
+					assertValues( list.get( 2 ), NULL_VALUES );
+				} )
+		) );
+	}
+
+	@Test
+	public void testSelectScalars(VertxTestContext context) {
+		// The columns are in a different order from the table, and one is repeated
+		final String query = "select doubleValue, stringValue, shortValue, longValue, intValue, id, doubleValue"
+				+ " from RowValues order by id";
+		test( context, getMutinySessionFactory().withSession( s -> s
+				.createSelectionQuery( query, Object[].class )
+				.getResultList()
+				.invoke( list -> {
+					assertThat( list ).hasSize( 3 );
+					assertRow( list.get( 0 ), VALUES );
+					assertRow( list.get( 1 ), OTHER_VALUES );
+					assertThat( list.get( 2 ) ).containsExactly( null, null, null, null, null, NULL_VALUES.id, null );
+				} )
+		) );
+	}
+
+	@Test
+	public void testSelectSingleColumns(VertxTestContext context) {
+		test( context, getMutinySessionFactory().withSession( s -> s
+				.createSelectionQuery( "select intValue from RowValues order by id", Integer.class )
+				.getResultList()
+				.invoke( list -> assertThat( list ).containsExactly( VALUES.intValue, OTHER_VALUES.intValue, null ) )
+				.chain( () -> s.createSelectionQuery( "select longValue from RowValues order by id", Long.class ).getResultList() )
+				.invoke( list -> assertThat( list ).containsExactly( VALUES.longValue, OTHER_VALUES.longValue, null ) )
+				.chain( () -> s.createSelectionQuery( "select shortValue from RowValues order by id", Short.class ).getResultList() )
+				.invoke( list -> assertThat( list ).containsExactly( VALUES.shortValue, OTHER_VALUES.shortValue, null ) )
+				.chain( () -> s.createSelectionQuery( "select stringValue from RowValues order by id", String.class ).getResultList() )
+				.invoke( list -> assertThat( list ).containsExactly( VALUES.stringValue, OTHER_VALUES.stringValue, null ) )
+				.chain( () -> s.createSelectionQuery( "select doubleValue from RowValues order by id", Double.class ).getResultList() )
+				.invoke( list -> assertThat( list ).containsExactly( VALUES.doubleValue, OTHER_VALUES.doubleValue, null ) )
+		) );
+	}
+
+	private static void assertRow(Object[] row, RowValues expected) {
+		assertThat( row ).containsExactly(
+				expected.doubleValue,
+				expected.stringValue,
+				expected.shortValue,
+				expected.longValue,
+				expected.intValue,
+				expected.id,
+				expected.doubleValue
+		);
+		// Reading a value with the getter for another type would change its class
+		assertThat( row[0] ).isExactlyInstanceOf( Double.class );
+		assertThat( row[1] ).isExactlyInstanceOf( String.class );
+		assertThat( row[2] ).isExactlyInstanceOf( Short.class );
+		assertThat( row[3] ).isExactlyInstanceOf( Long.class );
+		assertThat( row[4] ).isExactlyInstanceOf( Integer.class );
+	}
+
+	private static void assertValues(RowValues actual, RowValues expected) {
+		assertThat( actual ).isNotNull();
+		assertThat( actual.id ).isEqualTo( expected.id );
+		assertThat( actual.intValue ).isEqualTo( expected.intValue );
+		assertThat( actual.longValue ).isEqualTo( expected.longValue );
+		assertThat( actual.shortValue ).isEqualTo( expected.shortValue );
+		assertThat( actual.stringValue ).isEqualTo( expected.stringValue );
+		assertThat( actual.doubleValue ).isEqualTo( expected.doubleValue );
+	}
+
+	@Entity(name = "RowValues")
+	@Table(name = "BasicValuesFromRow")
+	public static class RowValues {
+		@Id
+		Integer id;
+
+		Integer intValue;
+
+		Long longValue;
+
+		Short shortValue;
+
+		String stringValue;
+
+		Double doubleValue;
+
+		public RowValues() {
+		}
+
+		public RowValues(Integer id, Integer intValue, Long longValue, Short shortValue, String stringValue, Double doubleValue) {
+			this.id = id;
+			this.intValue = intValue;
+			this.longValue = longValue;
+			this.shortValue = shortValue;
+			this.stringValue = stringValue;
+			this.doubleValue = doubleValue;
+		}
+
+		public RowValues(RowValues values) {
+			this( values.id, values.intValue, values.longValue, values.shortValue, values.stringValue, values.doubleValue );
+		}
+	}
+}
@@ -0,0 +1,6 @@
+-- For PostgreSQL. We use these additional schemas to test multitenancy with a shared pool.
+DROP SCHEMA IF EXISTS tenantschema1 CASCADE;
+DROP SCHEMA IF EXISTS tenantschema2 CASCADE;
+
+CREATE SCHEMA tenantschema1;
+CREATE SCHEMA tenantschema2;
@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.micrometer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.pool.ReactiveConnectionMetrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * A {@link ReactiveConnectionMetrics} recording the activity of the
+ * connections with Micrometer. The meters are:
+ * <ul>
+ *     <li>{@value #STATEMENT}: a timer for the execution of statements,
+ *     tagged with the fingerprint of the statement and the outcome
+ *     <li>{@value #STATEMENT_ROWS}: the number of rows returned or
+ *     affected by a statement, tagged with the fingerprint
+ *     <li>{@value #BATCH_SIZE}: the size of the batches sent to the
+ *     database, tagged with the fingerprint
+ *     <li>{@value #CONNECTION_ACQUIRE}: a timer for the wait for a
+ *     connection from the pool
+ *     <li>{@value #CONNECTION_USAGE}: a timer for the time a connection
+ *     is held by a session
+ * </ul>
+ * At most {@value #MAX_STATEMENTS} distinct fingerprints are used as tags.
+ * The statements with other fingerprints share the tag {@value #OTHER_STATEMENTS}.
+ * <p>
+ * This service is registered automatically, using the
+ * {@linkplain io.micrometer.core.instrument.Metrics#globalRegistry global registry},
+ * when this module is on the classpath. A different registry can be
+ * selected with {@link org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder#addService}:
+ *
+ * <pre>
+ * new ReactiveServiceRegistryBuilder()
+ *     .applySettings( properties )
+ *     .addService( ReactiveConnectionMetrics.class, new MicrometerConnectionMetrics( meterRegistry ) )
+ *     .build();
+ * </pre>
+ */
+public class MicrometerConnectionMetrics implements ReactiveConnectionMetrics {
+
+	public static final String STATEMENT = "hibernate.reactive.statement";
+	public static final String STATEMENT_ROWS = "hibernate.reactive.statement.rows";
+	public static final String BATCH_SIZE = "hibernate.reactive.batch.size";
+	public static final String CONNECTION_ACQUIRE = "hibernate.reactive.connection.acquire";
+	public static final String CONNECTION_USAGE = "hibernate.reactive.connection.usage";
+
+	/**
+	 * The maximum number of distinct fingerprints used as tags
+	 */
+	public static final int MAX_STATEMENTS = 2048;
+
+	/**
+	 * The tag of the statements exceeding {@link #MAX_STATEMENTS}
+	 */
+	public static final String OTHER_STATEMENTS = "other";
+
+	private static final String STATEMENT_TAG = "statement";
+	private static final String OUTCOME_TAG = "outcome";
+
+	private final MeterRegistry registry;
+	private final Timer connectionAcquire;
+	private final Timer connectionUsage;
+
+	// Looking up the meters in the registry is comparatively expensive.
+	// The number of statements generated by Hibernate is limited, but
+	// the native queries might not be, so this is capped
+	private final Map<String, StatementMeters> statements = new ConcurrentHashMap<>();
+
+	public MicrometerConnectionMetrics(MeterRegistry registry) {
+		this.registry = registry;
+		this.connectionAcquire = Timer.builder( CONNECTION_ACQUIRE )
+				.description( "Time spent waiting for a connection from the pool" )
+				.register( registry );
+		this.connectionUsage = Timer.builder( CONNECTION_USAGE )
+				.description( "Time a connection is held before being returned to the pool" )
+				.register( registry );
+	}
+
+	@Override
+	public void statementExecuted(String fingerprint, long durationNanos, int rows, boolean failed) {
+		final StatementMeters meters = meters( fingerprint );
+		if ( failed ) {
+			meters.failure.record( durationNanos, TimeUnit.NANOSECONDS );
+		}
+		else {
+			meters.success.record( durationNanos, TimeUnit.NANOSECONDS );
+			meters.rows.record( rows );
+		}
+	}
+
+	@Override
+	public void batchExecuted(String fingerprint, int batchSize) {
+		meters( fingerprint ).batchSize.record( batchSize );
+	}
+
+	@Override
+	public void connectionAcquired(long waitNanos) {
+		connectionAcquire.record( waitNanos, TimeUnit.NANOSECONDS );
+	}
+
+	@Override
+	public void connectionReleased(long heldNanos) {
+		connectionUsage.record( heldNanos, TimeUnit.NANOSECONDS );
+	}
+
+	private StatementMeters meters(String fingerprint) {
+		final StatementMeters meters = statements.get( fingerprint );
+		if ( meters != null ) {
+			return meters;
+		}
+		return statements.size() < MAX_STATEMENTS
+				? statements.computeIfAbsent( fingerprint, this::createMeters )
+				: statements.computeIfAbsent( OTHER_STATEMENTS, this::createMeters );
+	}
+
+	private StatementMeters createMeters(String fingerprint) {
+		return new StatementMeters(
+				Timer.builder( STATEMENT )
+						.description( "Execution of a SQL statement, including the round trip to the database" )
+						.tags( STATEMENT_TAG, fingerprint, OUTCOME_TAG, "success" )
+						.register( registry ),
+				Timer.builder( STATEMENT )
+						.description( "Execution of a SQL statement, including the round trip to the database" )
+						.tags( STATEMENT_TAG, fingerprint, OUTCOME_TAG, "failure" )
+						.register( registry ),
+				DistributionSummary.builder( STATEMENT_ROWS )
+						.description( "Rows returned by a query, or affected by a mutation" )
+						.tags( STATEMENT_TAG, fingerprint )
+						.register( registry ),
+				DistributionSummary.builder( BATCH_SIZE )
+						.description( "Executions of a statement sent to the database in a single batch" )
+						.tags( STATEMENT_TAG, fingerprint )
+						.register( registry )
+		);
+	}
+
+	private record StatementMeters(Timer success, Timer failure, DistributionSummary rows, DistributionSummary batchSize) {
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.micrometer;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.reactive.pool.ReactiveConnectionMetrics;
+import org.hibernate.service.spi.ServiceContributor;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Registers a {@link MicrometerConnectionMetrics} using the global
+ * Micrometer registry, unless a different {@link ReactiveConnectionMetrics}
+ * has been provided.
+ */
+public class MicrometerServiceContributor implements ServiceContributor {
+
+	@Override
+	public void contribute(StandardServiceRegistryBuilder serviceRegistryBuilder) {
+		serviceRegistryBuilder.addInitiator( MicrometerConnectionMetricsInitiator.INSTANCE );
+	}
+
+	private static class MicrometerConnectionMetricsInitiator implements StandardServiceInitiator<ReactiveConnectionMetrics> {
+		private static final MicrometerConnectionMetricsInitiator INSTANCE = new MicrometerConnectionMetricsInitiator();
+
+		@Override
+		public ReactiveConnectionMetrics initiateService(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+			return new MicrometerConnectionMetrics( Metrics.globalRegistry );
+		}
+
+		@Override
+		public Class<ReactiveConnectionMetrics> getServiceInitiated() {
+			return ReactiveConnectionMetrics.class;
+		}
+	}
+}
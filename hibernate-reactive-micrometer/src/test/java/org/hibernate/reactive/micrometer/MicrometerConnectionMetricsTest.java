@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.micrometer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.reactive.pool.ReactiveConnectionMetrics;
+import org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.micrometer.MicrometerConnectionMetrics.BATCH_SIZE;
+import static org.hibernate.reactive.micrometer.MicrometerConnectionMetrics.CONNECTION_ACQUIRE;
+import static org.hibernate.reactive.micrometer.MicrometerConnectionMetrics.CONNECTION_USAGE;
+import static org.hibernate.reactive.micrometer.MicrometerConnectionMetrics.MAX_STATEMENTS;
+import static org.hibernate.reactive.micrometer.MicrometerConnectionMetrics.OTHER_STATEMENTS;
+import static org.hibernate.reactive.micrometer.MicrometerConnectionMetrics.STATEMENT;
+import static org.hibernate.reactive.micrometer.MicrometerConnectionMetrics.STATEMENT_ROWS;
+
+/**
+ * Test the meters registered by {@link MicrometerConnectionMetrics},
+ * and the registration of the service.
+ */
+public class MicrometerConnectionMetricsTest {
+
+	private static final String SELECT = "select b1_0.id from Book b1_0 where b1_0.id=?";
+
+	@Test
+	public void testStatementMeters() {
+		final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		final MicrometerConnectionMetrics metrics = new MicrometerConnectionMetrics( registry );
+
+		metrics.statementExecuted( SELECT, TimeUnit.MILLISECONDS.toNanos( 3 ), 1, false );
+		metrics.statementExecuted( SELECT, TimeUnit.MILLISECONDS.toNanos( 5 ), 2, false );
+		metrics.statementExecuted( SELECT, TimeUnit.MILLISECONDS.toNanos( 7 ), 0, true );
+		metrics.batchExecuted( SELECT, 20 );
+
+		final Timer success = registry.get( STATEMENT )
+				.tags( "statement", SELECT, "outcome", "success" )
+				.timer();
+		assertThat( success.count() ).isEqualTo( 2L );
+		assertThat( success.totalTime( TimeUnit.MILLISECONDS ) ).isEqualTo( 8.0 );
+
+		final Timer failure = registry.get( STATEMENT )
+				.tags( "statement", SELECT, "outcome", "failure" )
+				.timer();
+		assertThat( failure.count() ).isEqualTo( 1L );
+
+		// The rows of a failed statement aren't recorded
+		final DistributionSummary rows = registry.get( STATEMENT_ROWS ).tag( "statement", SELECT ).summary();
+		assertThat( rows.count() ).isEqualTo( 2L );
+		assertThat( rows.totalAmount() ).isEqualTo( 3.0 );
+
+		final DistributionSummary batchSize = registry.get( BATCH_SIZE ).tag( "statement", SELECT ).summary();
+		assertThat( batchSize.count() ).isEqualTo( 1L );
+		assertThat( batchSize.totalAmount() ).isEqualTo( 20.0 );
+	}
+
+	@Test
+	public void testConnectionMeters() {
+		final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		final MicrometerConnectionMetrics metrics = new MicrometerConnectionMetrics( registry );
+
+		metrics.connectionAcquired( TimeUnit.MILLISECONDS.toNanos( 2 ) );
+		metrics.connectionReleased( TimeUnit.MILLISECONDS.toNanos( 10 ) );
+		metrics.connectionReleased( TimeUnit.MILLISECONDS.toNanos( 20 ) );
+
+		assertThat( registry.get( CONNECTION_ACQUIRE ).timer().count() ).isEqualTo( 1L );
+		assertThat( registry.get( CONNECTION_USAGE ).timer().count() ).isEqualTo( 2L );
+		assertThat( registry.get( CONNECTION_USAGE ).timer().totalTime( TimeUnit.MILLISECONDS ) ).isEqualTo( 30.0 );
+	}
+
+	@Test
+	public void testMaxStatements() {
+		final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		final MicrometerConnectionMetrics metrics = new MicrometerConnectionMetrics( registry );
+
+		for ( int i = 0; i < MAX_STATEMENTS + 10; i++ ) {
+			metrics.statementExecuted( "select " + i, 1L, 1, false );
+		}
+		// A statement seen before the limit keeps its own tag
+		metrics.statementExecuted( "select 0", 1L, 1, false );
+
+		assertThat( registry.get( STATEMENT ).tag( "outcome", "success" ).timers() )
+				.hasSize( MAX_STATEMENTS + 1 );
+		assertThat( registry.get( STATEMENT ).tags( "statement", "select 0", "outcome", "success" ).timer().count() )
+				.isEqualTo( 2L );
+		assertThat( registry.find( STATEMENT ).tag( "statement", "select " + MAX_STATEMENTS ).timers() )
+				.isEmpty();
+		assertThat( registry.get( STATEMENT ).tags( "statement", OTHER_STATEMENTS, "outcome", "success" ).timer().count() )
+				.isEqualTo( 10L );
+	}
+
+	@Test
+	public void testServiceContributor() {
+		final StandardServiceRegistry serviceRegistry = new ReactiveServiceRegistryBuilder().build();
+		try {
+			assertThat( serviceRegistry.getService( ReactiveConnectionMetrics.class ) )
+					.isInstanceOf( MicrometerConnectionMetrics.class );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	@Test
+	public void testProvidedServiceIsNotReplaced() {
+		final ReactiveConnectionMetrics provided = new ReactiveConnectionMetrics() {
+		};
+		final StandardServiceRegistry serviceRegistry = new ReactiveServiceRegistryBuilder()
+				.addService( ReactiveConnectionMetrics.class, provided )
+				.build();
+		try {
+			assertThat( serviceRegistry.getService( ReactiveConnectionMetrics.class ) ).isSameAs( provided );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+}